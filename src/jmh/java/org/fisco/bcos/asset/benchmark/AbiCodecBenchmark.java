@@ -0,0 +1,143 @@
+package org.fisco.bcos.asset.benchmark;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.fisco.bcos.asset.client.SimulatedLedger;
+import org.fisco.bcos.asset.contract.Authentication;
+import org.fisco.bcos.asset.contract.Authorization;
+import org.fisco.bcos.sdk.abi.EventEncoder;
+import org.fisco.bcos.sdk.abi.FunctionEncoder;
+import org.fisco.bcos.sdk.abi.FunctionReturnDecoder;
+import org.fisco.bcos.sdk.abi.TypeReference;
+import org.fisco.bcos.sdk.abi.datatypes.Function;
+import org.fisco.bcos.sdk.abi.datatypes.Type;
+import org.fisco.bcos.sdk.abi.datatypes.Utf8String;
+import org.fisco.bcos.sdk.abi.datatypes.generated.Int256;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.model.CryptoType;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ABI cost of the generated wrappers without a node: the register call data, the decoding of
+ * select outputs and the parsing of RegisterEvent logs, the same way Authentication and
+ * Authorization do it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AbiCodecBenchmark {
+
+  @Param({"10", "50", "100", "1024", "5120", "10240"})
+  public int payloadSize;
+
+  private String accountId = "1unittest10kB";
+  private String publicKey;
+  private String payload;
+  private String sigData;
+  private FunctionEncoder functionEncoder;
+  private EventEncoder eventEncoder;
+  private Function selectFunction;
+  private String selectOutput;
+  private TransactionReceipt.Logs registerEventLog;
+  private TransactionReceipt registerReceipt;
+  private Authentication authentication;
+
+  @Setup
+  public void setup() {
+    CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+    CryptoKeyPair keyPair = cryptoSuite.createKeyPair();
+    functionEncoder = new FunctionEncoder(cryptoSuite);
+    eventEncoder = new EventEncoder(cryptoSuite);
+    publicKey = keyPair.getHexPublicKey();
+    payload = Payloads.ofSize(payloadSize);
+    sigData = cryptoSuite.sign(cryptoSuite.hash(payload + accountId + publicKey), keyPair).convertToString();
+
+    selectFunction =
+        new Function(
+            Authentication.FUNC_SELECT,
+            Arrays.<Type>asList(new Utf8String(accountId)),
+            Arrays.<TypeReference<?>>asList(
+                new TypeReference<Int256>() {},
+                new TypeReference<Utf8String>() {},
+                new TypeReference<Utf8String>() {},
+                new TypeReference<Utf8String>() {}));
+    List<Type> record =
+        Arrays.<Type>asList(
+            new Int256(BigInteger.ZERO),
+            new Utf8String(publicKey),
+            new Utf8String(payload),
+            new Utf8String(sigData));
+    selectOutput = "0x" + FunctionEncoder.encodeConstructor(record);
+
+    registerEventLog = new TransactionReceipt.Logs();
+    registerEventLog.setData(selectOutput);
+    registerEventLog.setTopics(
+        Arrays.asList(
+            eventEncoder.encode(Authentication.REGISTEREVENT_EVENT),
+            "0x" + cryptoSuite.hash(accountId)));
+    registerReceipt = new TransactionReceipt();
+    registerReceipt.setStatus("0x0");
+    registerReceipt.setLogs(Collections.singletonList(registerEventLog));
+    // the handle only needs a client for its crypto suite, the simulated ledger has no network
+    authentication =
+        Authentication.load(
+            SimulatedLedger.ZERO_ADDRESS, SimulatedLedger.shared().getClient(), keyPair);
+  }
+
+  @Benchmark
+  public String encodeAuthenticationRegister() {
+    Function function =
+        new Function(
+            Authentication.FUNC_REGISTER,
+            Arrays.<Type>asList(
+                new Utf8String(accountId),
+                new Utf8String(publicKey),
+                new Utf8String(payload),
+                new Utf8String(sigData)),
+            Collections.<TypeReference<?>>emptyList());
+    return functionEncoder.encode(function);
+  }
+
+  @Benchmark
+  public String encodeAuthorizationRegister() {
+    Function function =
+        new Function(
+            Authorization.FUNC_REGISTER,
+            Arrays.<Type>asList(
+                new Utf8String(accountId),
+                new Utf8String(publicKey),
+                new Utf8String(payload),
+                new Utf8String(sigData)),
+            Collections.<TypeReference<?>>emptyList());
+    return functionEncoder.encode(function);
+  }
+
+  @Benchmark
+  public List<Type> decodeSelectOutput() {
+    return FunctionReturnDecoder.decode(selectOutput, selectFunction.getOutputParameters());
+  }
+
+  // the wrapper's own parsing, on a receipt with one RegisterEvent log
+  @Benchmark
+  public List<Authentication.RegisterEventEventResponse> parseRegisterEvent() {
+    return authentication.getRegisterEventEvents(registerReceipt);
+  }
+}
@@ -0,0 +1,61 @@
+package org.fisco.bcos.asset.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.crypto.signature.SignatureResult;
+import org.fisco.bcos.sdk.model.CryptoType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** CryptoSuite hash, sign and verify as used by the register, login and grant flows. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CryptoBenchmark {
+
+  @Param({"10", "50", "100", "1024", "5120", "10240"})
+  public int payloadSize;
+
+  private CryptoSuite cryptoSuite;
+  private CryptoKeyPair keyPair;
+  private String dataToBeSigned;
+  private String hashData;
+  private String sigData;
+
+  @Setup
+  public void setup() {
+    cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+    keyPair = cryptoSuite.createKeyPair();
+    dataToBeSigned = Payloads.ofSize(payloadSize) + "1unittest10kB" + keyPair.getHexPublicKey();
+    hashData = cryptoSuite.hash(dataToBeSigned);
+    sigData = cryptoSuite.sign(hashData, keyPair).convertToString();
+  }
+
+  @Benchmark
+  public String hash() {
+    return cryptoSuite.hash(dataToBeSigned);
+  }
+
+  @Benchmark
+  public SignatureResult sign() {
+    return cryptoSuite.sign(hashData, keyPair);
+  }
+
+  @Benchmark
+  public boolean verify() {
+    return cryptoSuite.verify(keyPair.getHexPublicKey(), hashData, sigData);
+  }
+}
@@ -0,0 +1,14 @@
+package org.fisco.bcos.asset.benchmark;
+
+public class Payloads {
+
+  // the same repeated pattern as the resources of AuthorizationClient.unittestReg
+  public static String ofSize(int size) {
+    StringBuilder sb = new StringBuilder(size);
+    while (sb.length() < size) {
+      sb.append("abcdefghij");
+    }
+    sb.setLength(size);
+    return sb.toString();
+  }
+}
@@ -0,0 +1,294 @@
+package org.fisco.bcos.asset.client;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.fisco.bcos.asset.contract.Asset;
+import org.fisco.bcos.asset.contract.Authentication;
+import org.fisco.bcos.asset.contract.Authorization;
+import org.fisco.bcos.sdk.BcosSDK;
+import org.fisco.bcos.sdk.client.Client;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.model.CryptoType;
+import org.fisco.bcos.sdk.utils.Numeric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.ClassPathXmlApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+/**
+ * Spreads the accounts over the groups of -Daagrid.shard.groups (e.g. "1,2,3"), each of which runs
+ * its own Authentication, Authorization and Asset contracts.
+ *
+ * <p>An account belongs to the group at index keccak256(account_id) mod N of that list, the same
+ * digest RegisterEvent indexes the account by, so every process and every language routes it the
+ * same way. The order of the list is part of the routing: changing it, or the number of groups,
+ * moves accounts and needs a migration.
+ *
+ * <p>The contract addresses of each group are kept in contract.properties as
+ * group.&lt;id&gt;.authentication.address, group.&lt;id&gt;.authorization.address and
+ * group.&lt;id&gt;.asset.address. Batch calls are split by group, run on all groups at once and
+ * their results put back in the order of the input.
+ */
+public class AccountShards {
+
+  static Logger logger = LoggerFactory.getLogger(AccountShards.class);
+
+  public static final String AUTHENTICATION = "authentication";
+  public static final String AUTHORIZATION = "authorization";
+  public static final String ASSET = "asset";
+
+  // one call on the accounts of a group, returning one result per account in the same order
+  public interface GroupCall<R> {
+    List<R> call(int groupId, List<String> accountIds) throws Exception;
+  }
+
+  private final int[] groups;
+  private final Map<Integer, Client> clients = new HashMap<Integer, Client>();
+  private final Map<Integer, CryptoKeyPair> keyPairs = new HashMap<Integer, CryptoKeyPair>();
+  private final Map<String, Object> contracts = new HashMap<String, Object>();
+  private final CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+  private final ExecutorService fanOutPool;
+
+  public AccountShards(int[] groups, Map<Integer, Client> clients) {
+    this.groups = groups.clone();
+    for (int groupId : groups) {
+      Client client = clients.get(groupId);
+      CryptoKeyPair cryptoKeyPair = client.getCryptoSuite().createKeyPair();
+      client.getCryptoSuite().setCryptoKeyPair(cryptoKeyPair);
+      this.clients.put(groupId, client);
+      this.keyPairs.put(groupId, cryptoKeyPair);
+      logger.debug("create client for group" + groupId + ", account address is " + cryptoKeyPair.getAddress());
+    }
+    this.fanOutPool = WorkerPools.newWorkerPool(groups.length, "shard-fanout");
+  }
+
+  public static int[] configuredGroups() {
+    String[] ids = System.getProperty("aagrid.shard.groups", "1").split(",");
+    int[] groups = new int[ids.length];
+    for (int i = 0; i < ids.length; i++) {
+      groups[i] = Integer.parseInt(ids[i].trim());
+    }
+    return groups;
+  }
+
+  public static AccountShards initialize() throws Exception {
+    int[] groups = configuredGroups();
+    Map<Integer, Client> clients = new HashMap<Integer, Client>();
+    if (SimulatedLedger.isEnabled()) {
+      for (int groupId : groups) {
+        clients.put(groupId, SimulatedLedger.group(groupId).getClient());
+      }
+    } else {
+      @SuppressWarnings("resource")
+      ApplicationContext context =
+          new ClassPathXmlApplicationContext("classpath:applicationContext.xml");
+      BcosSDK bcosSDK = context.getBean(BcosSDK.class);
+      for (int groupId : groups) {
+        clients.put(groupId, bcosSDK.getClient(groupId));
+      }
+    }
+    logger.info(" shard accounts over groups {}", Arrays.toString(groups));
+    return new AccountShards(groups, clients);
+  }
+
+  public int[] getGroups() {
+    return groups.clone();
+  }
+
+  public Client client(int groupId) {
+    return clients.get(groupId);
+  }
+
+  public CryptoKeyPair keyPair(int groupId) {
+    return keyPairs.get(groupId);
+  }
+
+  public int groupOf(String accountId) {
+    byte[] digest = Numeric.hexStringToByteArray(cryptoSuite.hash(accountId));
+    long value = 0;
+    for (int i = 0; i < 8; i++) {
+      value = (value << 8) | (digest[i] & 0xff);
+    }
+    return groups[(int) Math.floorMod(value, (long) groups.length)];
+  }
+
+  // the positions of the accounts of each group, groups without accounts are left out
+  public Map<Integer, List<Integer>> partition(List<String> accountIds) {
+    Map<Integer, List<Integer>> positions = new LinkedHashMap<Integer, List<Integer>>();
+    for (int i = 0; i < accountIds.size(); i++) {
+      int groupId = groupOf(accountIds.get(i));
+      List<Integer> group = positions.get(groupId);
+      if (group == null) {
+        group = new ArrayList<Integer>();
+        positions.put(groupId, group);
+      }
+      group.add(i);
+    }
+    return positions;
+  }
+
+  // runs call once per group on that group's accounts, all groups at once, and returns the
+  // results in the order of accountIds; the first failed group fails the whole batch
+  public <R> List<R> fanOut(List<String> accountIds, final GroupCall<R> call) throws Exception {
+    Map<Integer, List<Integer>> positions = partition(accountIds);
+    Map<Integer, Future<List<R>>> pending = new LinkedHashMap<Integer, Future<List<R>>>();
+    for (Map.Entry<Integer, List<Integer>> entry : positions.entrySet()) {
+      final int groupId = entry.getKey();
+      final List<String> ids = new ArrayList<String>(entry.getValue().size());
+      for (int position : entry.getValue()) {
+        ids.add(accountIds.get(position));
+      }
+      pending.put(
+          groupId,
+          fanOutPool.submit(
+              new Callable<List<R>>() {
+                @Override
+                public List<R> call() throws Exception {
+                  return call.call(groupId, ids);
+                }
+              }));
+    }
+    List<R> results = new ArrayList<R>(Collections.<R>nCopies(accountIds.size(), null));
+    for (Map.Entry<Integer, Future<List<R>>> entry : pending.entrySet()) {
+      List<R> groupResults;
+      try {
+        groupResults = entry.getValue().get();
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        throw cause instanceof Exception ? (Exception) cause : new Exception(cause);
+      }
+      List<Integer> groupPositions = positions.get(entry.getKey());
+      if (groupResults.size() != groupPositions.size()) {
+        throw new Exception(
+            " group " + entry.getKey() + " returned " + groupResults.size() + " results for " + groupPositions.size() + " accounts");
+      }
+      for (int i = 0; i < groupPositions.size(); i++) {
+        results.set(groupPositions.get(i), groupResults.get(i));
+      }
+    }
+    return results;
+  }
+
+  public static String addressKey(int groupId, String contract) {
+    return "group." + groupId + "." + contract + ".address";
+  }
+
+  public String loadAddress(int groupId, String contract) throws Exception {
+    Properties prop = new Properties();
+    final Resource contractResource = new ClassPathResource("contract.properties");
+    prop.load(contractResource.getInputStream());
+
+    String contractAddress = prop.getProperty(addressKey(groupId, contract));
+    if (contractAddress == null || contractAddress.trim().equals("")) {
+      throw new Exception(" load " + contract + " contract address of group " + groupId + " failed, please deploy it first. ");
+    }
+    logger.info(" load {} address of group {} from contract.properties, address is {}", contract, groupId, contractAddress);
+    return contractAddress;
+  }
+
+  // records the addresses of all groups in one write, so concurrent deploys do not lose keys
+  public synchronized void recordAddresses(Map<String, String> addresses) throws IOException {
+    Properties prop = new Properties();
+    final Resource contractResource = new ClassPathResource("contract.properties");
+    if (contractResource.exists()) {
+      prop.load(contractResource.getInputStream());
+    }
+    for (Map.Entry<String, String> entry : addresses.entrySet()) {
+      prop.setProperty(entry.getKey(), entry.getValue());
+    }
+    FileOutputStream fileOutputStream = new FileOutputStream(contractResource.getFile());
+    try {
+      prop.store(fileOutputStream, "contract address");
+    } finally {
+      fileOutputStream.close();
+    }
+  }
+
+  // the contract handles are loaded once per group and reused
+  public synchronized Authentication authentication(int groupId) throws Exception {
+    String key = addressKey(groupId, AUTHENTICATION);
+    Authentication auth = (Authentication) contracts.get(key);
+    if (auth == null) {
+      auth = Authentication.load(loadAddress(groupId, AUTHENTICATION), client(groupId), keyPair(groupId));
+      contracts.put(key, auth);
+    }
+    return auth;
+  }
+
+  public synchronized Authorization authorization(int groupId) throws Exception {
+    String key = addressKey(groupId, AUTHORIZATION);
+    Authorization auth = (Authorization) contracts.get(key);
+    if (auth == null) {
+      auth = Authorization.load(loadAddress(groupId, AUTHORIZATION), client(groupId), keyPair(groupId));
+      contracts.put(key, auth);
+    }
+    return auth;
+  }
+
+  public synchronized Asset asset(int groupId) throws Exception {
+    String key = addressKey(groupId, ASSET);
+    Asset asset = (Asset) contracts.get(key);
+    if (asset == null) {
+      asset = Asset.load(loadAddress(groupId, ASSET), client(groupId), keyPair(groupId));
+      contracts.put(key, asset);
+    }
+    return asset;
+  }
+
+  // deploys the three contracts in every group, the groups in parallel, and records them
+  public Map<String, String> deployAll() throws Exception {
+    Map<Integer, Future<String[]>> pending = new LinkedHashMap<Integer, Future<String[]>>();
+    for (final int groupId : groups) {
+      pending.put(
+          groupId,
+          fanOutPool.submit(
+              new Callable<String[]>() {
+                @Override
+                public String[] call() throws Exception {
+                  return new String[] {
+                    Authentication.deploy(client(groupId), keyPair(groupId)).getContractAddress(),
+                    Authorization.deploy(client(groupId), keyPair(groupId)).getContractAddress(),
+                    Asset.deploy(client(groupId), keyPair(groupId)).getContractAddress()
+                  };
+                }
+              }));
+    }
+    Map<String, String> addresses = new LinkedHashMap<String, String>();
+    for (Map.Entry<Integer, Future<String[]>> entry : pending.entrySet()) {
+      String[] deployed;
+      try {
+        deployed = entry.getValue().get();
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        throw cause instanceof Exception ? (Exception) cause : new Exception(cause);
+      }
+      addresses.put(addressKey(entry.getKey(), AUTHENTICATION), deployed[0]);
+      addresses.put(addressKey(entry.getKey(), AUTHORIZATION), deployed[1]);
+      addresses.put(addressKey(entry.getKey(), ASSET), deployed[2]);
+    }
+    recordAddresses(addresses);
+    synchronized (this) {
+      contracts.clear();
+    }
+    return addresses;
+  }
+
+  public void shutdown() {
+    fanOutPool.shutdownNow();
+  }
+}
@@ -4,14 +4,22 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 import org.fisco.bcos.asset.contract.Asset;
+import org.fisco.bcos.asset.contract.ParallelAsset;
 import org.fisco.bcos.sdk.BcosSDK;
 import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple2;
 import org.fisco.bcos.sdk.client.Client;
 import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
 import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.fisco.bcos.sdk.model.callback.TransactionCallback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
@@ -24,19 +32,63 @@ public class AssetClient {
 
   static Logger logger = LoggerFactory.getLogger(AssetClient.class);
 
+  public static final long SEED_TIMEOUT_MILLIS = 30 * 1000;
+
   private BcosSDK bcosSDK;
   private Client client;
   private CryptoKeyPair cryptoKeyPair;
+  private Asset asset;
+  private BalanceView balanceView;
+  private HotAccountAsset hotAccounts;
 
   public void initialize() throws Exception {
+    if (SimulatedLedger.isEnabled()) {
+      initialize(SimulatedLedger.shared().getClient());
+      return;
+    }
     @SuppressWarnings("resource")
     ApplicationContext context =
         new ClassPathXmlApplicationContext("classpath:applicationContext.xml");
     bcosSDK = context.getBean(BcosSDK.class);
-    client = bcosSDK.getClient(1);
+    initialize(bcosSDK.getClient(1));
+  }
+
+  // reuse a client that is already connected, e.g. the warm one of AuthServer
+  public void initialize(Client client) {
+    this.client = client;
     cryptoKeyPair = client.getCryptoSuite().createKeyPair();
     client.getCryptoSuite().setCryptoKeyPair(cryptoKeyPair);
-    logger.debug("create client for group1, account address is " + cryptoKeyPair.getAddress());
+    logger.debug("create client for group" + client.getGroupId() + ", account address is " + cryptoKeyPair.getAddress());
+  }
+
+  // the contract handle is loaded once and reused by the later calls of this client
+  public synchronized Asset loadAsset() throws Exception {
+    if (asset == null) {
+      asset = Asset.load(loadAssetAddr(), client, cryptoKeyPair);
+    }
+    return asset;
+  }
+
+  // the event-driven view of the balances with -Daagrid.balanceView=true, null otherwise
+  public synchronized BalanceView balanceView() throws Exception {
+    if (!BalanceView.isEnabled()) {
+      return null;
+    }
+    if (balanceView == null) {
+      balanceView = BalanceView.subscribe(loadAsset(), client);
+      if (!balanceView.awaitSeeded(SEED_TIMEOUT_MILLIS)) {
+        logger.warn(" balance view not seeded within {} ms, queries go to the chain until it is", SEED_TIMEOUT_MILLIS);
+      }
+    }
+    return balanceView;
+  }
+
+  // select and transfer over the shards the Asset contract records for the accounts
+  public synchronized HotAccountAsset hotAccounts() throws Exception {
+    if (hotAccounts == null) {
+      hotAccounts = new HotAccountAsset(loadAsset());
+    }
+    return hotAccounts;
   }
 
   public void deployAssetAndRecordAddr() {
@@ -54,21 +106,62 @@ public class AssetClient {
     }
   }
 
+  // ParallelAsset has the interface of Asset, so the Asset handle of the other commands is used on
+  // it unchanged; only the conflict fields have to be registered once after the deploy
+  public void deployParallelAssetAndRecordAddr() {
+
+    try {
+      ParallelAsset asset = ParallelAsset.deploy(client, cryptoKeyPair);
+      System.out.println(
+          " deploy ParallelAsset success, contract address is " + asset.getContractAddress());
+      TransactionReceipt receipt = asset.enableParallel();
+      if (!receipt.isStatusOK()) {
+        System.out.println(" enable parallel execution failed, status is " + receipt.getStatus());
+        return;
+      }
+      recordAssetAddr(asset.getContractAddress(), true);
+    } catch (Exception e) {
+      System.out.println(" deploy ParallelAsset contract failed, error message is  " + e.getMessage());
+    }
+  }
+
   public void recordAssetAddr(String address) throws FileNotFoundException, IOException {
+    recordAssetAddr(address, false);
+  }
+
+  // asset.parallel is the address when it is a ParallelAsset with its conflict fields registered
+  public void recordAssetAddr(String address, boolean parallel) throws FileNotFoundException, IOException {
     Properties prop = new Properties();
-    prop.setProperty("address", address);
     final Resource contractResource = new ClassPathResource("contract.properties");
+    if (contractResource.exists()) {
+      prop.load(contractResource.getInputStream());
+    }
+    prop.setProperty("address", address);
+    prop.setProperty("asset.address", address);
+    if (parallel) {
+      prop.setProperty("asset.parallel", address);
+    } else {
+      prop.remove("asset.parallel");
+    }
     FileOutputStream fileOutputStream = new FileOutputStream(contractResource.getFile());
     prop.store(fileOutputStream, "contract address");
   }
 
+  public boolean isParallelAsset(String address) throws IOException {
+    Properties prop = new Properties();
+    final Resource contractResource = new ClassPathResource("contract.properties");
+    prop.load(contractResource.getInputStream());
+    return address.equalsIgnoreCase(prop.getProperty("asset.parallel", ""));
+  }
+
   public String loadAssetAddr() throws Exception {
     // load Asset contact address from contract.properties
     Properties prop = new Properties();
     final Resource contractResource = new ClassPathResource("contract.properties");
     prop.load(contractResource.getInputStream());
 
-    String contractAddress = prop.getProperty("address");
+    // a contract specific key lets one process (AuthServer) serve all the contracts
+    String contractAddress = prop.getProperty("asset.address", prop.getProperty("address"));
     if (contractAddress == null || contractAddress.trim().equals("")) {
       throw new Exception(" load Asset contract address failed, please deploy it first. ");
     }
@@ -76,13 +169,19 @@ public class AssetClient {
     return contractAddress;
   }
 
-  public void queryAssetAmount(String assetAccount) {
+  public BigInteger queryAssetAmount(String assetAccount) {
     try {
-      String contractAddress = loadAssetAddr();
-      Asset asset = Asset.load(contractAddress, client, cryptoKeyPair);
-      Tuple2<BigInteger, BigInteger> result = asset.select(assetAccount);
+      HotAccountAsset hot = hotAccounts();
+      BalanceView view = balanceView();
+      Tuple2<BigInteger, BigInteger> result;
+      if (hot.shardsOf(assetAccount) > 1) {
+        result = hot.select(assetAccount);
+      } else {
+        result = view == null ? loadAsset().select(assetAccount) : view.select(assetAccount);
+      }
       if (result.getValue1().compareTo(new BigInteger("0")) == 0) {
         System.out.printf(" asset account %s, value %s \n", assetAccount, result.getValue2());
+        return result.getValue2();
       } else {
         System.out.printf(" %s asset account is not exist \n", assetAccount);
       }
@@ -93,15 +192,20 @@ public class AssetClient {
 
       System.out.printf(" query asset account failed, error message is %s\n", e.getMessage());
     }
+    return null;
   }
 
-  public void registerAssetAccount(String assetAccount, BigInteger amount) {
+  public boolean registerAssetAccount(String assetAccount, BigInteger amount) {
     try {
+      if (HotAccountAsset.isReserved(assetAccount)) {
+        System.out.printf(
+            " register asset account failed, \"%s\" is reserved for the rows of sharded accounts \n",
+            HotAccountAsset.SHARD_SEPARATOR);
+        return false;
+      }
       System.out.println("begin register... ");
       long startTime = System.currentTimeMillis();
-      String contractAddress = loadAssetAddr();
-
-      Asset asset = Asset.load(contractAddress, client, cryptoKeyPair);
+      Asset asset = loadAsset();
       TransactionReceipt receipt = asset.register(assetAccount, amount);
       List<Asset.RegisterEventEventResponse> response = asset.getRegisterEventEvents(receipt);
       if (!response.isEmpty()) {
@@ -111,6 +215,7 @@ public class AssetClient {
           System.out.println("QPS="+ sendSpeed);
           System.out.printf(
               " register asset account success => asset: %s, value: %s \n", assetAccount, amount);
+          return true;
         } else {
           System.out.printf(
               " register asset account failed, ret code is %s \n", response.get(0).ret.toString());
@@ -125,12 +230,24 @@ public class AssetClient {
       logger.error(" registerAssetAccount exception, error message is {}", e.getMessage());
       System.out.printf(" register asset account failed, error message is %s\n", e.getMessage());
     }
+    return false;
   }
 
-  public void transferAsset(String fromAssetAccount, String toAssetAccount, BigInteger amount) {
+  public boolean transferAsset(String fromAssetAccount, String toAssetAccount, BigInteger amount) {
     try {
-      String contractAddress = loadAssetAddr();
-      Asset asset = Asset.load(contractAddress, client, cryptoKeyPair);
+      HotAccountAsset hot = hotAccounts();
+      if (hot.shardsOf(fromAssetAccount) > 1 || hot.shardsOf(toAssetAccount) > 1) {
+        BigInteger ret = hot.transfer(fromAssetAccount, toAssetAccount, amount);
+        if (ret.signum() == 0) {
+          System.out.printf(
+              " transfer success => from_asset: %s, to_asset: %s, amount: %s \n",
+              fromAssetAccount, toAssetAccount, amount);
+          return true;
+        }
+        System.out.printf(" transfer asset account failed, ret code is %s \n", ret.toString());
+        return false;
+      }
+      Asset asset = loadAsset();
       TransactionReceipt receipt = asset.transfer(fromAssetAccount, toAssetAccount, amount);
       List<Asset.TransferEventEventResponse> response = asset.getTransferEventEvents(receipt);
       if (!response.isEmpty()) {
@@ -138,6 +255,7 @@ public class AssetClient {
           System.out.printf(
               " transfer success => from_asset: %s, to_asset: %s, amount: %s \n",
               fromAssetAccount, toAssetAccount, amount);
+          return true;
         } else {
           System.out.printf(
               " transfer asset account failed, ret code is %s \n", response.get(0).ret.toString());
@@ -152,18 +270,311 @@ public class AssetClient {
       logger.error(" registerAssetAccount exception, error message is {}", e.getMessage());
       System.out.printf(" register asset account failed, error message is %s\n", e.getMessage());
     }
+    return false;
+  }
+
+  public boolean shardAssetAccount(String assetAccount, int shards) {
+    try {
+      BigInteger ret = hotAccounts().shard(assetAccount, shards);
+      if (ret.signum() == 0) {
+        System.out.printf(" asset account %s spread over %d shards \n", assetAccount, shards);
+        return true;
+      }
+      System.out.printf(" shard asset account failed, ret code is %s \n", ret.toString());
+    } catch (Exception e) {
+      logger.error(" shardAssetAccount exception, error message is {}", e.getMessage());
+      System.out.printf(" shard asset account failed, error message is %s\n", e.getMessage());
+    }
+    return false;
+  }
+
+  // amount transfers of 1 from the accounts of batchRegisterPipelined to one account, inFlight at
+  // a time; with the account sharded they land on its shards at random and do not conflict
+  public void batchPayPipelined(String merchant, int payers, int amount, int inFlight) {
+    try {
+      System.out.printf(
+          "----Paying %s from %d asset accounts, %d transfers with %d transactions in flight.----\n",
+          merchant, payers, amount, inFlight);
+      final Asset asset = loadAsset();
+      HotAccountAsset hot = hotAccounts();
+      final Semaphore window = new Semaphore(Math.max(1, inFlight));
+      final CountDownLatch finished = new CountDownLatch(amount);
+      final AtomicLong success = new AtomicLong();
+      final AtomicLong rejected = new AtomicLong();
+      long startTime = System.currentTimeMillis();
+
+      for (int i = 0; i < amount; i++) {
+        window.acquire();
+        try {
+          asset.transfer(
+              "assetuser" + (i % payers),
+              hot.creditRow(merchant),
+              BigInteger.ONE,
+              new TransactionCallback() {
+                @Override
+                public void onResponse(TransactionReceipt receipt) {
+                  try {
+                    List<Asset.TransferEventEventResponse> response = asset.getTransferEventEvents(receipt);
+                    if (!response.isEmpty() && response.get(0).ret.signum() == 0) {
+                      success.incrementAndGet();
+                    } else if (!response.isEmpty()) {
+                      rejected.incrementAndGet();
+                    }
+                  } catch (Exception e) {
+                    logger.error(" decode transfer receipt exception, error message is {}", e.getMessage());
+                  } finally {
+                    window.release();
+                    finished.countDown();
+                  }
+                }
+              });
+        } catch (Exception e) {
+          logger.error(" send transfer transaction exception, error message is {}", e.getMessage());
+          window.release();
+          finished.countDown();
+        }
+      }
+      finished.await();
+
+      long elapsed = System.currentTimeMillis() - startTime;
+      System.out.printf(
+          " %d payments over %d shards succeeded, %d rejected by the contract, %d failed. TotalTime=%d ms .\n TPS=%f \n",
+          success.get(), hot.shardsOf(merchant), rejected.get(), amount - success.get() - rejected.get(), elapsed,
+          amount / ((double) Math.max(1, elapsed) / 1000));
+    } catch (Exception e) {
+      logger.error(" batchPayPipelined exception, error message is {}", e.getMessage());
+      System.out.printf(" transfer asset account failed, error message is %s\n", e.getMessage());
+    }
+  }
+
+  // registers assetuser0 .. assetuser<amount-1>, keeping up to inFlight transactions outstanding
+  public void batchRegisterPipelined(int amount, final BigInteger value, int inFlight) {
+    try {
+      System.out.printf("----Registering %d asset accounts with %d transactions in flight.----\n", amount, inFlight);
+      final Asset asset = loadAsset();
+      final Semaphore window = new Semaphore(Math.max(1, inFlight));
+      final CountDownLatch finished = new CountDownLatch(amount);
+      final AtomicLong success = new AtomicLong();
+      long startTime = System.currentTimeMillis();
+
+      for (int i = 0; i < amount; i++) {
+        window.acquire();
+        try {
+          asset.register(
+              "assetuser" + i,
+              value,
+              new TransactionCallback() {
+                @Override
+                public void onResponse(TransactionReceipt receipt) {
+                  try {
+                    List<Asset.RegisterEventEventResponse> response = asset.getRegisterEventEvents(receipt);
+                    if (!response.isEmpty() && response.get(0).ret.signum() == 0) {
+                      success.incrementAndGet();
+                    }
+                  } catch (Exception e) {
+                    logger.error(" decode register receipt exception, error message is {}", e.getMessage());
+                  } finally {
+                    window.release();
+                    finished.countDown();
+                  }
+                }
+              });
+        } catch (Exception e) {
+          logger.error(" send register transaction exception, error message is {}", e.getMessage());
+          window.release();
+          finished.countDown();
+        }
+      }
+      finished.await();
+
+      long elapsed = System.currentTimeMillis() - startTime;
+      System.out.printf(
+          " %d asset accounts registered, %d failed. TotalTime=%d ms .\n TPS=%f \n",
+          success.get(), amount - success.get(), elapsed, amount / ((double) Math.max(1, elapsed) / 1000));
+    } catch (Exception e) {
+      logger.error(" batchRegisterPipelined exception, error message is {}", e.getMessage());
+      System.out.printf(" register asset account failed, error message is %s\n", e.getMessage());
+    }
+  }
+
+  // sends amount transfers of 1 between the accounts of batchRegisterPipelined, inFlight at a time.
+  // The transfers come in rounds of a random pairing of the accounts, so no account appears twice
+  // in accounts/2 consecutive transfers: on a ParallelAsset the transfers sealed into one block do
+  // not conflict and the node can execute them all at once.
+  public void batchTransferPipelined(int accounts, int amount, int inFlight) {
+    try {
+      if (accounts < 2) {
+        System.out.println(" at least 2 asset accounts are needed for transfers ");
+        return;
+      }
+      System.out.printf(
+          "----Transferring between %d asset accounts, %d transfers with %d transactions in flight.----\n",
+          accounts, amount, inFlight);
+      final Asset asset = loadAsset();
+      if (!isParallelAsset(asset.getContractAddress())) {
+        System.out.println(
+            " the contract at " + asset.getContractAddress() + " was not deployed with \"deploy parallel\", this measures serial execution");
+      } else if (SimulatedLedger.isEnabled()) {
+        System.out.println(" the simulated ledger executes blocks one transaction at a time, this measures serial execution");
+      }
+      final Semaphore window = new Semaphore(Math.max(1, inFlight));
+      final CountDownLatch finished = new CountDownLatch(amount);
+      final AtomicLong success = new AtomicLong();
+      final AtomicLong rejected = new AtomicLong();
+      Random r = new Random();
+      int[] order = new int[accounts];
+      for (int i = 0; i < accounts; i++) {
+        order[i] = i;
+      }
+      int pair = accounts / 2;
+      long startTime = System.currentTimeMillis();
+
+      for (int i = 0; i < amount; i++) {
+        if (pair == accounts / 2) {
+          // next round: a fresh Fisher-Yates shuffle
+          for (int j = accounts - 1; j > 0; j--) {
+            int k = r.nextInt(j + 1);
+            int swap = order[j];
+            order[j] = order[k];
+            order[k] = swap;
+          }
+          pair = 0;
+        }
+        String from = "assetuser" + order[2 * pair];
+        String to = "assetuser" + order[2 * pair + 1];
+        pair++;
+        window.acquire();
+        try {
+          asset.transfer(
+              from,
+              to,
+              BigInteger.ONE,
+              new TransactionCallback() {
+                @Override
+                public void onResponse(TransactionReceipt receipt) {
+                  try {
+                    List<Asset.TransferEventEventResponse> response = asset.getTransferEventEvents(receipt);
+                    if (!response.isEmpty() && response.get(0).ret.signum() == 0) {
+                      success.incrementAndGet();
+                    } else if (!response.isEmpty()) {
+                      rejected.incrementAndGet();
+                    }
+                  } catch (Exception e) {
+                    logger.error(" decode transfer receipt exception, error message is {}", e.getMessage());
+                  } finally {
+                    window.release();
+                    finished.countDown();
+                  }
+                }
+              });
+        } catch (Exception e) {
+          logger.error(" send transfer transaction exception, error message is {}", e.getMessage());
+          window.release();
+          finished.countDown();
+        }
+      }
+      finished.await();
+
+      long elapsed = System.currentTimeMillis() - startTime;
+      System.out.printf(
+          " %d transfers succeeded, %d rejected by the contract, %d failed. TotalTime=%d ms .\n TPS=%f \n",
+          success.get(), rejected.get(), amount - success.get() - rejected.get(), elapsed,
+          amount / ((double) Math.max(1, elapsed) / 1000));
+    } catch (Exception e) {
+      logger.error(" batchTransferPipelined exception, error message is {}", e.getMessage());
+      System.out.printf(" transfer asset account failed, error message is %s\n", e.getMessage());
+    }
+  }
+
+  // the random transfers of 1 of batchTransferPipelined, settled through TransferNetting
+  public void batchTransferNetted(int accounts, int amount) {
+    try {
+      if (accounts < 2) {
+        System.out.println(" at least 2 asset accounts are needed for transfers ");
+        return;
+      }
+      System.out.printf("----Netting %d transfers between %d asset accounts.----\n", amount, accounts);
+      Asset asset = loadAsset();
+      TransferNetting netting = TransferNetting.fromSystemProperties(asset);
+      List<CompletableFuture<BigInteger>> results = new ArrayList<CompletableFuture<BigInteger>>(amount);
+      Random r = new Random();
+      long startTime = System.currentTimeMillis();
+      for (int i = 0; i < amount; i++) {
+        int from = r.nextInt(accounts);
+        int to = (from + 1 + r.nextInt(accounts - 1)) % accounts;
+        results.add(netting.transfer("assetuser" + from, "assetuser" + to, BigInteger.ONE));
+      }
+      netting.close();
+      long success = 0;
+      for (CompletableFuture<BigInteger> result : results) {
+        if (result.get().signum() == 0) {
+          success++;
+        }
+      }
+      long elapsed = System.currentTimeMillis() - startTime;
+      System.out.printf(
+          " %d transfers settled, %d failed, in %d transferBatch transactions with %d legs (%d failed batches). TotalTime=%d ms .\n TPS=%f \n",
+          success, amount - success, netting.getBatches(), netting.getLegs(), netting.getFailedBatches(), elapsed,
+          amount / ((double) Math.max(1, elapsed) / 1000));
+    } catch (Exception e) {
+      logger.error(" batchTransferNetted exception, error message is {}", e.getMessage());
+      System.out.printf(" transfer asset account failed, error message is %s\n", e.getMessage());
+    }
+  }
+
+  // random balance queries of the accounts of batchRegisterPipelined
+  public void batchQuery(int accounts, int amount) {
+    try {
+      System.out.printf("----Querying %d random balances of %d asset accounts.----\n", amount, accounts);
+      Asset asset = loadAsset();
+      BalanceView view = balanceView();
+      Random r = new Random();
+      long found = 0;
+      long startTime = System.currentTimeMillis();
+      for (int i = 0; i < amount; i++) {
+        String account = "assetuser" + r.nextInt(accounts);
+        Tuple2<BigInteger, BigInteger> result = view == null ? asset.select(account) : view.select(account);
+        if (result.getValue1().signum() == 0) {
+          found++;
+        }
+      }
+      long elapsed = System.currentTimeMillis() - startTime;
+      System.out.printf(
+          " %d of %d accounts found. TotalTime=%d ms .\n QPS=%f \n",
+          found, amount, elapsed, amount / ((double) Math.max(1, elapsed) / 1000));
+      if (view != null) {
+        System.out.printf(
+            " balance view at block %d with %d accounts, %d ms stale, %d local answers, %d fallbacks to the chain \n",
+            view.getBlockHeight(), view.size(), view.getStalenessMillis(), view.getHits(), view.getFallbacks());
+      }
+    } catch (Exception e) {
+      logger.error(" batchQuery exception, error message is {}", e.getMessage());
+      System.out.printf(" query asset account failed, error message is %s\n", e.getMessage());
+    }
   }
 
   public static void Usage() {
     System.out.println(" Usage:");
     System.out.println(
-        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AssetClient deploy");
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AssetClient deploy [parallel]");
     System.out.println(
         "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AssetClient query account");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AssetClient mquery accounts number");
     System.out.println(
         "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AssetClient register account value");
     System.out.println(
         "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AssetClient transfer from_account to_account amount");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AssetClient shard account shards");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AssetClient mregister number value [inflight]");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AssetClient mtransfer accounts number [inflight]");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AssetClient mtransfernet accounts number");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AssetClient mpay account payers number [inflight]");
     System.exit(0);
   }
 
@@ -177,7 +588,11 @@ public class AssetClient {
 
     switch (args[0]) {
       case "deploy":
-        client.deployAssetAndRecordAddr();
+        if (args.length > 1 && "parallel".equals(args[1])) {
+          client.deployParallelAssetAndRecordAddr();
+        } else {
+          client.deployAssetAndRecordAddr();
+        }
         break;
       case "query":
         if (args.length < 2) {
@@ -185,6 +600,12 @@ public class AssetClient {
         }
         client.queryAssetAmount(args[1]);
         break;
+      case "mquery":
+        if (args.length < 3) {
+          Usage();
+        }
+        client.batchQuery(Integer.valueOf(args[1]).intValue(), Integer.valueOf(args[2]).intValue());
+        break;
       case "register":
         if (args.length < 3) {
           Usage();
@@ -197,6 +618,39 @@ public class AssetClient {
         }
         client.transferAsset(args[1], args[2], new BigInteger(args[3]));
         break;
+      case "shard":
+        if (args.length < 3) {
+          Usage();
+        }
+        client.shardAssetAccount(args[1], Integer.valueOf(args[2]).intValue());
+        break;
+      case "mregister":
+        if (args.length < 3) {
+          Usage();
+        }
+        client.batchRegisterPipelined(
+            Integer.valueOf(args[1]).intValue(), new BigInteger(args[2]), args.length > 3 ? Integer.valueOf(args[3]).intValue() : 100);
+        break;
+      case "mtransfernet":
+        if (args.length < 3) {
+          Usage();
+        }
+        client.batchTransferNetted(Integer.valueOf(args[1]).intValue(), Integer.valueOf(args[2]).intValue());
+        break;
+      case "mpay":
+        if (args.length < 4) {
+          Usage();
+        }
+        client.batchPayPipelined(
+            args[1], Integer.valueOf(args[2]).intValue(), Integer.valueOf(args[3]).intValue(), args.length > 4 ? Integer.valueOf(args[4]).intValue() : 100);
+        break;
+      case "mtransfer":
+        if (args.length < 3) {
+          Usage();
+        }
+        client.batchTransferPipelined(
+            Integer.valueOf(args[1]).intValue(), Integer.valueOf(args[2]).intValue(), args.length > 3 ? Integer.valueOf(args[3]).intValue() : 100);
+        break;
       default:
         {
           Usage();
@@ -0,0 +1,321 @@
+package org.fisco.bcos.asset.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.fisco.bcos.asset.contract.Authentication;
+import org.fisco.bcos.sdk.BcosSDK;
+import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple4;
+import org.fisco.bcos.sdk.client.Client;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.ClassPathXmlApplicationContext;
+
+/**
+ * Long running server that keeps one warm BcosSDK client and the loaded contract handles, and
+ * serves the operations of AuthenticationClient, AuthorizationClient and AssetClient over a local
+ * HTTP endpoint.
+ */
+public class AuthServer {
+
+  static Logger logger = LoggerFactory.getLogger(AuthServer.class);
+
+  public static final int DEFAULT_PORT = 8090;
+
+  private static final String GET = "GET";
+  private static final String POST = "POST";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private BcosSDK bcosSDK;
+  private Client client;
+  private AuthenticationClient authenticationClient;
+  private AuthorizationClient authorizationClient;
+  private AssetClient assetClient;
+  private HttpServer server;
+  private ExecutorService executor;
+
+  private interface Operation {
+    Map<String, Object> execute(Map<String, String> params) throws Exception;
+  }
+
+  public void initialize() throws Exception {
+    if (SimulatedLedger.isEnabled()) {
+      client = SimulatedLedger.shared().getClient();
+    } else {
+      @SuppressWarnings("resource")
+      ApplicationContext context =
+          new ClassPathXmlApplicationContext("classpath:applicationContext.xml");
+      bcosSDK = context.getBean(BcosSDK.class);
+      client = bcosSDK.getClient(1);
+    }
+
+    authenticationClient = new AuthenticationClient();
+    authenticationClient.initialize(client);
+    authorizationClient = new AuthorizationClient();
+    authorizationClient.initialize(client);
+    assetClient = new AssetClient();
+    assetClient.initialize(client);
+
+    // load the contract handles up front, a contract that is not deployed yet is loaded on first use
+    try {
+      authenticationClient.loadAuthentication();
+      authorizationClient.loadAuthorization();
+      assetClient.loadAsset();
+    } catch (Exception e) {
+      logger.warn(" load contract handles failed, error message is {}", e.getMessage());
+    }
+  }
+
+  public void start(int port, int threads) throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+    executor = Executors.newFixedThreadPool(threads, WorkerPools.namedDaemonThreads("auth-server"));
+    server.setExecutor(executor);
+
+    route("/authentication/login", GET, new Operation() {
+      @Override
+      public Map<String, Object> execute(Map<String, String> params) throws Exception {
+        return result(authenticationClient.loginAuthenticationAddress(required(params, "account")));
+      }
+    });
+    route("/authentication/register", POST, new Operation() {
+      @Override
+      public Map<String, Object> execute(Map<String, String> params) throws Exception {
+        return result(
+            authenticationClient.registerAuthenticationAccount(
+                required(params, "account"),
+                required(params, "publicKey"),
+                required(params, "info"),
+                required(params, "sig")));
+      }
+    });
+    route("/authentication/query", GET, new Operation() {
+      @Override
+      public Map<String, Object> execute(Map<String, String> params) throws Exception {
+        Authentication auth = authenticationClient.loadAuthentication();
+        return record(PayloadCodec.decode(auth.select(required(params, "account"))));
+      }
+    });
+    route("/authorization/grant", GET, new Operation() {
+      @Override
+      public Map<String, Object> execute(Map<String, String> params) throws Exception {
+        return result(authorizationClient.grantAuthorizationResource(required(params, "account")));
+      }
+    });
+    route("/authorization/register", POST, new Operation() {
+      @Override
+      public Map<String, Object> execute(Map<String, String> params) throws Exception {
+        return result(
+            authorizationClient.registerAuthorizationResource(
+                required(params, "account"), required(params, "resource")));
+      }
+    });
+    route("/authorization/query", GET, new Operation() {
+      @Override
+      public Map<String, Object> execute(Map<String, String> params) throws Exception {
+        Tuple4<BigInteger, String, String, String> record =
+            authorizationClient.queryAuthorizationAddress(required(params, "account"));
+        return record == null ? result(false) : record(record);
+      }
+    });
+    route("/asset/query", GET, new Operation() {
+      @Override
+      public Map<String, Object> execute(Map<String, String> params) throws Exception {
+        BigInteger amount = assetClient.queryAssetAmount(required(params, "account"));
+        Map<String, Object> response = result(amount != null);
+        response.put("amount", amount);
+        return response;
+      }
+    });
+    route("/asset/register", POST, new Operation() {
+      @Override
+      public Map<String, Object> execute(Map<String, String> params) throws Exception {
+        return result(
+            assetClient.registerAssetAccount(
+                required(params, "account"), new BigInteger(required(params, "amount"))));
+      }
+    });
+    route("/asset/transfer", POST, new Operation() {
+      @Override
+      public Map<String, Object> execute(Map<String, String> params) throws Exception {
+        return result(
+            assetClient.transferAsset(
+                required(params, "from"),
+                required(params, "to"),
+                new BigInteger(required(params, "amount"))));
+      }
+    });
+
+    server.start();
+    System.out.printf(" auth server listening on 127.0.0.1:%d with %d threads \n", port, threads);
+  }
+
+  public void stop() {
+    if (server != null) {
+      server.stop(1);
+    }
+    if (executor != null) {
+      executor.shutdown();
+    }
+    if (bcosSDK != null) {
+      bcosSDK.stopAll();
+    }
+  }
+
+  // the endpoints that change state take POST, with the parameters in a form body or the query
+  // string, so a crawler, a prefetch or a replayed link can not register or transfer; the others GET
+  private void route(String path, final String method, final Operation operation) {
+    server.createContext(
+        path,
+        new HttpHandler() {
+          @Override
+          public void handle(HttpExchange exchange) throws IOException {
+            long startTime = System.currentTimeMillis();
+            int status = 200;
+            Map<String, Object> response;
+            try {
+              if (!method.equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", method);
+                status = 405;
+                response = error("method " + exchange.getRequestMethod() + " not allowed, use " + method);
+              } else {
+                Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+                if (POST.equals(method)) {
+                  params.putAll(parseQuery(readBody(exchange)));
+                }
+                response = operation.execute(params);
+              }
+            } catch (IllegalArgumentException e) {
+              status = 400;
+              response = error(e.getMessage());
+            } catch (Exception e) {
+              logger.error(" serve {} exception, error message is {}", exchange.getRequestURI(), e.getMessage());
+              status = 500;
+              response = error(e.getMessage());
+            }
+            response.put("elapsedMs", System.currentTimeMillis() - startTime);
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            OutputStream out = exchange.getResponseBody();
+            out.write(body);
+            out.close();
+          }
+        });
+  }
+
+  private static String readBody(HttpExchange exchange) throws IOException {
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    InputStream in = exchange.getRequestBody();
+    try {
+      byte[] buffer = new byte[4096];
+      for (int n; (n = in.read(buffer)) > 0; ) {
+        body.write(buffer, 0, n);
+      }
+    } finally {
+      in.close();
+    }
+    return new String(body.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  private static Map<String, String> parseQuery(String rawQuery) throws IOException {
+    Map<String, String> params = new HashMap<String, String>();
+    if (rawQuery == null || rawQuery.isEmpty()) {
+      return params;
+    }
+    for (String pair : rawQuery.split("&")) {
+      int split = pair.indexOf('=');
+      String key = split < 0 ? pair : pair.substring(0, split);
+      String value = split < 0 ? "" : pair.substring(split + 1);
+      params.put(
+          URLDecoder.decode(key, StandardCharsets.UTF_8.name()),
+          URLDecoder.decode(value, StandardCharsets.UTF_8.name()));
+    }
+    return params;
+  }
+
+  // NumberFormatException of a bad amount is an IllegalArgumentException as well and ends up as a 400
+  private static String required(Map<String, String> params, String name) {
+    String value = params.get(name);
+    if (value == null || value.isEmpty()) {
+      throw new IllegalArgumentException("missing parameter " + name);
+    }
+    return value;
+  }
+
+  private static Map<String, Object> result(boolean success) {
+    Map<String, Object> response = new LinkedHashMap<String, Object>();
+    response.put("success", success);
+    return response;
+  }
+
+  private static Map<String, Object> record(Tuple4<BigInteger, String, String, String> record) {
+    Map<String, Object> response = result(RegisteredRecordCache.isFound(record));
+    response.put("ret", record.getValue1());
+    response.put("publicKey", record.getValue2());
+    response.put("data", record.getValue3());
+    response.put("sigData", record.getValue4());
+    return response;
+  }
+
+  private static Map<String, Object> error(String message) {
+    Map<String, Object> response = result(false);
+    response.put("error", message);
+    return response;
+  }
+
+  public static void Usage() {
+    System.out.println(" Usage:");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AuthServer [port] [threads]");
+    System.out.println(" Endpoints (GET with the parameters in the query string; POST with them in a");
+    System.out.println(" form body or the query string, other methods get 405):");
+    System.out.println("\t GET  /authentication/login?account=");
+    System.out.println("\t POST /authentication/register account=&publicKey=&info=&sig=");
+    System.out.println("\t GET  /authentication/query?account=");
+    System.out.println("\t GET  /authorization/grant?account=");
+    System.out.println("\t POST /authorization/register account=&resource=");
+    System.out.println("\t GET  /authorization/query?account=");
+    System.out.println("\t GET  /asset/query?account=");
+    System.out.println("\t POST /asset/register account=&amount=");
+    System.out.println("\t POST /asset/transfer from=&to=&amount=");
+    System.exit(0);
+  }
+
+  public static void main(String[] args) throws Exception {
+    if (args.length > 0 && ("-h".equals(args[0]) || "--help".equals(args[0]))) {
+      Usage();
+    }
+    int port = args.length > 0 ? Integer.valueOf(args[0]) : DEFAULT_PORT;
+    int threads = args.length > 1 ? Integer.valueOf(args[1]) : 2 * Runtime.getRuntime().availableProcessors();
+
+    final AuthServer authServer = new AuthServer();
+    authServer.initialize();
+    authServer.start(port, threads);
+    Runtime.getRuntime()
+        .addShutdownHook(
+            new Thread() {
+              @Override
+              public void run() {
+                authServer.stop();
+              }
+            });
+    // the worker threads are daemons, keep the main thread alive until the process is stopped
+    Thread.currentThread().join();
+  }
+}
@@ -4,9 +4,18 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Random;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.fisco.bcos.asset.contract.Authentication;
 import org.fisco.bcos.sdk.BcosSDK;
 import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple4;
@@ -17,6 +26,7 @@ import org.fisco.bcos.sdk.model.CryptoType;
 import org.fisco.bcos.sdk.crypto.hash.Keccak256;
 import org.fisco.bcos.sdk.crypto.signature.ECDSASignatureResult;
 import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.fisco.bcos.sdk.model.callback.TransactionCallback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
@@ -32,16 +42,79 @@ public class AuthenticationClient {
   private BcosSDK bcosSDK;
   private Client client;
   private CryptoKeyPair cryptoKeyPair;
+  private Authentication authentication;
+  private RegisteredRecordCache identityRecords;
+  private String identityRecordsAddress;
+  private RecordReplica identityReplica;
+  private String identityReplicaAddress;
+  private RegisteredKeyFilter identityFilter;
+  private String identityFilterAddress;
+  private final VerifiedRecordStore verifiedRecords = new VerifiedRecordStore();
 
   public void initialize() throws Exception {
+    if (SimulatedLedger.isEnabled()) {
+      initialize(SimulatedLedger.shared().getClient());
+      return;
+    }
     @SuppressWarnings("resource")
     ApplicationContext context =
         new ClassPathXmlApplicationContext("classpath:applicationContext.xml");
     bcosSDK = context.getBean(BcosSDK.class);
-    client = bcosSDK.getClient(1);
+    initialize(bcosSDK.getClient(1));
+  }
+
+  // reuse a client that is already connected, e.g. the warm one of AuthServer
+  public void initialize(Client client) {
+    this.client = client;
     cryptoKeyPair = client.getCryptoSuite().createKeyPair();
     client.getCryptoSuite().setCryptoKeyPair(cryptoKeyPair);
-    logger.debug("create client for group1, account address is " + cryptoKeyPair.getAddress());
+    logger.debug("create client for group" + client.getGroupId() + ", account address is " + cryptoKeyPair.getAddress());
+  }
+
+  // the contract handle is loaded once and reused by the later calls of this client
+  public synchronized Authentication loadAuthentication() throws Exception {
+    if (authentication == null) {
+      authentication = Authentication.load(loadAuthenticationAddr(), client, cryptoKeyPair);
+    }
+    return authentication;
+  }
+
+  // read-through cache of Authentication.select, kept coherent by the RegisterEvent subscription
+  public synchronized RegisteredRecordCache identityRecords(Authentication auth) {
+    if (identityRecords == null || !auth.getContractAddress().equals(identityRecordsAddress)) {
+      identityRecords = RegisteredRecordCache.subscribe(auth);
+      identityRecordsAddress = auth.getContractAddress();
+    }
+    return identityRecords;
+  }
+
+  // the local replica of the table with -Daagrid.replica.dir, the read-through cache otherwise
+  public synchronized RecordLookup identityLookup(Authentication auth) throws IOException {
+    if (!RecordReplica.isEnabled()) {
+      RegisteredKeyFilter filter = identityFilter(auth);
+      return filter == null ? identityRecords(auth) : filter.guard(identityRecords(auth));
+    }
+    if (identityReplica == null || !auth.getContractAddress().equals(identityReplicaAddress)) {
+      if (identityReplica != null) {
+        // the replica of the previous contract, its subscription stays open but is ignored
+        identityReplica.close();
+      }
+      identityReplica = RecordReplica.subscribe(auth, client);
+      identityReplicaAddress = auth.getContractAddress();
+    }
+    return identityReplica;
+  }
+
+  // membership filter of the registered accounts with -Daagrid.bloom=true, null otherwise
+  public synchronized RegisteredKeyFilter identityFilter(Authentication auth) {
+    if (!RegisteredKeyFilter.isEnabled()) {
+      return null;
+    }
+    if (identityFilter == null || !auth.getContractAddress().equals(identityFilterAddress)) {
+      identityFilter = RegisteredKeyFilter.subscribe(auth, client);
+      identityFilterAddress = auth.getContractAddress();
+    }
+    return identityFilter;
   }
 
   public void deployAuthenticationAndRecordAddr() {
@@ -62,8 +135,12 @@ public class AuthenticationClient {
 
   public void recordAuthenticationAddr(String address) throws FileNotFoundException, IOException {
     Properties prop = new Properties();
-    prop.setProperty("address", address);
     final Resource contractResource = new ClassPathResource("contract.properties");
+    if (contractResource.exists()) {
+      prop.load(contractResource.getInputStream());
+    }
+    prop.setProperty("address", address);
+    prop.setProperty("authentication.address", address);
     FileOutputStream fileOutputStream = new FileOutputStream(contractResource.getFile());
     prop.store(fileOutputStream, "contract address");
   }
@@ -74,7 +151,8 @@ public class AuthenticationClient {
     final Resource contractResource = new ClassPathResource("contract.properties");
     prop.load(contractResource.getInputStream());
 
-    String contractAddress = prop.getProperty("address");
+    // a contract specific key lets one process (AuthServer) serve all the contracts
+    String contractAddress = prop.getProperty("authentication.address", prop.getProperty("address"));
     if (contractAddress == null || contractAddress.trim().equals("")) {
       throw new Exception(" load Authentication contract address failed, please deploy it first. ");
     }
@@ -84,7 +162,7 @@ public class AuthenticationClient {
 
   // generate secp256k1 signature
   public ECDSASignatureResult  generateSigantureWithSecp256k1(String data){
-    CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+    CryptoSuite cryptoSuite = SignatureVerifier.cryptoSuite();
     //CryptoKeyPair cryptoKeyPair = cryptoSuite.createKeyPair();
     String hashData = cryptoSuite.hash(data);
     System.out.println(
@@ -92,21 +170,29 @@ public class AuthenticationClient {
     return (ECDSASignatureResult)(cryptoSuite.sign(hashData, cryptoKeyPair));
   }
 
-  public void loginAuthenticationAddress(String accountId) {
+  public boolean loginAuthenticationAddress(String accountId) {
     try {
       long startTime = System.currentTimeMillis();
-      String contractAddress = loadAuthenticationAddr();
-      Authentication auth = Authentication.load(contractAddress, client, cryptoKeyPair);
-      Tuple4<BigInteger, String, String, String> result = auth.select(accountId);
+      Authentication auth = loadAuthentication();
+      Tuple4<BigInteger, String, String, String> result = identityLookup(auth).select(accountId);
       if (result.getValue1().compareTo(new BigInteger("0")) == 0) {
         System.out.println("---------1. verify the validity of the account data on the blockchain--------");
         String tmpPublicKey =  result.getValue2();
         String UserInfo =  result.getValue3();
         String tmpsigdata =  result.getValue4();
-        CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+        SignatureVerifier verifier = SignatureVerifier.shared();
+        CryptoSuite cryptoSuite = SignatureVerifier.cryptoSuite();
         String tmpdataToBeVrified = accountId +  UserInfo +  tmpPublicKey;
         String hashData = cryptoSuite.hash(tmpdataToBeVrified);
-        boolean nVerification = cryptoSuite.verify(tmpPublicKey, hashData, tmpsigdata);
+        // the record is immutable, a signature proven valid once does not need another ECDSA verify
+        String recordDigest = VerifiedRecordStore.recordDigest(cryptoSuite, tmpPublicKey, hashData, tmpsigdata);
+        boolean nVerification = verifiedRecords.isVerified(accountId, recordDigest);
+        if (!nVerification) {
+          nVerification = verifier.verify(tmpPublicKey, hashData, tmpsigdata);
+          if (nVerification) {
+            verifiedRecords.markVerified(accountId, recordDigest);
+          }
+        }
         if(nVerification){
           long verifyAccountDataTime = System.currentTimeMillis() - startTime;
           System.out.printf("Account data is Valid.verifyAccountDataTime=%d\n",verifyAccountDataTime);
@@ -123,11 +209,12 @@ public class AuthenticationClient {
             System.out.println("Expired. Reject the request. \n");
           }else{
              dataToBeSigned = cryptoSuite.hash(dataToBeSigned);
-             nVerification = cryptoSuite.verify(cryptoKeyPair.getHexPublicKey(), dataToBeSigned, sigdata.convertToString());
+             nVerification = verifier.verify(cryptoKeyPair.getHexPublicKey(), dataToBeSigned, sigdata.convertToString());
              if(nVerification){
               System.out.printf("login success \n");
               long verifyTokenTime = System.currentTimeMillis() - startTime - verifyAccountDataTime - sigTokenTime;
               System.out.printf("verifyTokenTime=%d\n",verifyTokenTime);
+              return true;
              }else{
                System.out.println("token invalid. Reject the login. \n");
              }
@@ -147,6 +234,7 @@ public class AuthenticationClient {
 
       System.out.printf(" login Authentication account failed, error message is %s\n", e.getMessage());
     }
+    return false;
   }
   
   public static String getRandomString(int length){
@@ -162,64 +250,192 @@ public class AuthenticationClient {
 
 
   public void batchloginAuthenticationAddress(int amount){
-     System.out.println("----Experiment on query the users' public key. Qurey for a non-existed account id will fail.----");
+     batchloginAuthenticationAddress(amount, 1);
+  }
+
+  private static final long FILTER_READY_TIMEOUT_MILLIS = 30 * 1000;
+
+  // chunk size of mlogin, 1 (the default) issues one select call per account
+  public static int loginBatchSize() {
+    return Integer.getInteger("aagrid.login.batchSize", 1);
+  }
+
+  public void batchloginAuthenticationAddress(final int amount, int workers){
+     batchloginAuthenticationAddress(amount, workers, loginBatchSize());
+  }
+
+  // issue the select calls from "workers" concurrent workers sharing the SDK client and its peer connections,
+  // each call looks up chunkSize accounts through selectBatch
+  public void batchloginAuthenticationAddress(final int amount, int workers, int chunkSize){
+     System.out.printf("----Experiment on query the users' public key with %d workers. Qurey for a non-existed account id will fail.----\n", workers);
+     ExecutorService executor = null;
      try {
-      String contractAddress = loadAuthenticationAddr();
-      Authentication auth = Authentication.load(contractAddress, client, cryptoKeyPair);
-      Random r = new Random();
-      String [] user = new String[amount];
+      final Authentication auth = loadAuthentication();
+      final RegisteredKeyFilter filter = identityFilter(auth);
+      if (filter != null && !filter.awaitReady(FILTER_READY_TIMEOUT_MILLIS)) {
+        System.out.println(" bloom filter not loaded yet, the lookups go to the chain until it is");
+      }
+      final int chunk = Math.max(1, chunkSize);
+      final AtomicInteger issued = new AtomicInteger();
+      final AtomicLong querySuccess = new AtomicLong();
+      final AtomicLong queryFail = new AtomicLong();
+      final AtomicLong queryTotal = new AtomicLong();
+      int workerCount = Math.max(1, Math.min(workers, (amount + chunk - 1) / chunk));
+      executor = WorkerPools.newWorkerPool(workerCount, "mlogin");
+      List<Future<?>> tasks = new ArrayList<Future<?>>(workerCount);
       long startTime = System.currentTimeMillis();
-      long querySuccess = 0;
-      long queryFail = 0;
-      long queryTotal = 0;
 
-      
-      for(int i=0 ; i< amount;  i++){
-         long istartTime = System.currentTimeMillis();
-         int ran1 = r.nextInt(amount);
-         user[i] = "user" + Integer.toString(ran1);
-         Tuple4<BigInteger, String, String, String> result = auth.select(user[i]);
-          if (result.getValue1().compareTo(new BigInteger("0")) == 0) {
-            System.out.printf(" Authentication accountID %s, PublicKey %s \n", user[i], result.getValue2());
-            long ielapsed = System.currentTimeMillis() - istartTime;
-            double isendSpeed = 1 / ((double) ielapsed / 1000);
-            querySuccess ++;
-          } else {
-            queryFail ++;
-            System.out.printf(" %s Authentication account is not exist \n", user[i]);
+      for(int w=0 ; w< workerCount;  w++){
+        tasks.add(executor.submit(new Runnable() {
+          @Override
+          public void run() {
+            int start;
+            while ((start = issued.getAndAdd(chunk)) < amount) {
+              int n = Math.min(chunk, amount - start);
+              List<String> users = new ArrayList<String>(n);
+              for (int i = 0; i < n; i++) {
+                String user = "user" + Integer.toString(ThreadLocalRandom.current().nextInt(amount));
+                // a definite miss of the filter is answered without a select
+                if (filter == null || filter.mightContain(user)) {
+                  users.add(user);
+                } else {
+                  queryFail.incrementAndGet();
+                  queryTotal.incrementAndGet();
+                  System.out.printf(" %s Authentication account is not exist \n", user);
+                }
+              }
+              n = users.size();
+              if (n == 0) {
+                continue;
+              }
+              try {
+                List<Tuple4<BigInteger, String, String, String>> results =
+                    n == 1 ? Collections.singletonList(auth.select(users.get(0))) : auth.selectBatchRecords(users);
+                for (int i = 0; i < n; i++) {
+                  Tuple4<BigInteger, String, String, String> result = results.get(i);
+                  if (result.getValue1().compareTo(BigInteger.ZERO) == 0) {
+                    System.out.printf(" Authentication accountID %s, PublicKey %s \n", users.get(i), result.getValue2());
+                    querySuccess.incrementAndGet();
+                  } else {
+                    queryFail.incrementAndGet();
+                    System.out.printf(" %s Authentication account is not exist \n", users.get(i));
+                  }
+                }
+              } catch (Exception e) {
+                queryFail.addAndGet(n);
+                logger.error(" select {} exception, error message is {}", users, e.getMessage());
+              }
+              queryTotal.addAndGet(n);
+            }
           }
-          queryTotal ++;
-      
+        }));
+      }
+      for (Future<?> task : tasks) {
+        task.get();
       }
 
       long elapsed = System.currentTimeMillis() - startTime;
-      double sendSpeed = queryTotal / ((double) elapsed / 1000);
-      double reject = ((double)queryFail) / ((double)queryTotal) * 100.0;
-      double accept = ((double)querySuccess) / ((double)queryTotal) * 100.0;
+      double sendSpeed = queryTotal.get() / ((double) elapsed / 1000);
+      double reject = ((double)queryFail.get()) / ((double)queryTotal.get()) * 100.0;
+      double accept = ((double)querySuccess.get()) / ((double)queryTotal.get()) * 100.0;
       System.out.printf(
-        "%s tests in the query experiment. %.1f%% Success. %.1f%% failed because Authentication account is not exist. \n TotalTime=%d ms .\n QPS=%f \n",queryTotal,accept,reject,elapsed,sendSpeed);
-
-
-
+        "%s tests in the query experiment. %.1f%% Success. %.1f%% failed because Authentication account is not exist. \n TotalTime=%d ms .\n QPS=%f \n",queryTotal.get(),accept,reject,elapsed,sendSpeed);
+      if (filter != null) {
+        System.out.println(" " + filter);
+      }
 
-      
     } catch (Exception e) {
       // TODO Auto-generated catch block
       // e.printStackTrace();
       logger.error(" loginAuthenticationAddress exception, error message is {}", e.getMessage());
 
       System.out.printf("login account failed, error message is %s\n", e.getMessage());
+    } finally {
+      if (executor != null) {
+        executor.shutdownNow();
+      }
     }
   }
 
 
 
+  // chunk size of mregister, 1 (the default) sends one register transaction per account
+  public static int registerBatchSize() {
+    return Integer.getInteger("aagrid.register.batchSize", 1);
+  }
+
   public void batchRegister(int amount){
+    batchRegister(amount, registerBatchSize());
+  }
+
+  // registers the random accounts through registerBatch, chunkSize accounts per transaction
+  public void batchRegister(int amount, int chunkSize){
+    if (chunkSize <= 1) {
+      batchRegisterSingly(amount);
+      return;
+    }
+    try {
+      System.out.printf("----Experiment on registering users at random in chunks of %d. Registrations with a existed account id will fail.----\n", chunkSize);
+      Authentication auth = loadAuthentication();
+      System.out.println("Generating account id and its corresponding public key at random.");
+
+      Random r = new Random();
+      String PublicKey = cryptoKeyPair.getHexPublicKey();
+      String UserInfo = "Phone+1667727772;Hobby:Football";
+      long startTime = System.currentTimeMillis();
+      long regSuccess = 0;
+      long regFail = 0;
+      long regTotal = 0;
+
+      for(int offset=0 ; offset< amount;  offset += chunkSize){
+         int n = Math.min(chunkSize, amount - offset);
+         List<String> accountIds = new ArrayList<String>(n);
+         List<String> publicKeys = new ArrayList<String>(n);
+         List<String> userInfos = new ArrayList<String>(n);
+         List<String> sigDatas = new ArrayList<String>(n);
+         for(int i=0 ; i< n;  i++){
+           String accountId = "batchtestuser" + Integer.toString(r.nextInt(amount));
+           String dataToBeSigned =  accountId  + UserInfo + PublicKey;
+           accountIds.add(accountId);
+           publicKeys.add(PublicKey);
+           userInfos.add(PayloadCodec.encode(UserInfo));
+           sigDatas.add(generateSigantureWithSecp256k1(dataToBeSigned).convertToString());
+         }
+         TransactionReceipt receipt = auth.registerBatch(accountIds, publicKeys, userInfos, sigDatas);
+         List<Authentication.RegisterEventEventResponse> response = auth.getRegisterEventEvents(receipt);
+         if (response.isEmpty()) {
+           System.out.printf(" event log not found, maybe transaction not exec. status is %s \n", receipt.getStatus());
+           regFail += n;
+         }
+         // one RegisterEvent per account, in the order of the arrays
+         for (int i = 0; i < response.size(); i++) {
+           if (response.get(i).ret.compareTo(BigInteger.ZERO) == 0) {
+             System.out.printf(
+                 " register Authentication account success => Authentication: %s, value: %s \n", accountIds.get(i), PublicKey);
+             regSuccess ++;
+           } else {
+             regFail ++;
+             System.out.printf(
+                 " register Authentication account failed, ret code is %s \n", response.get(i).ret.toString());
+           }
+         }
+         regTotal += n;
+      }
+
+      long elapsed = System.currentTimeMillis() - startTime;
+      printRegisterReport(regTotal, regSuccess, regFail, elapsed);
+
+    } catch (Exception e) {
+      logger.error(" registeAuthenticationAccount exception, error message is {}", e.getMessage());
+      System.out.printf(" register Authentication account failed, error message is %s\n", e.getMessage());
+    }
+  }
+
+  private void batchRegisterSingly(int amount){
     try {
 
       System.out.println("----Experiment on registering users at random. Registrations with a existed account id will fail.----");
-      String contractAddress = loadAuthenticationAddr();
-      Authentication auth = Authentication.load(contractAddress, client, cryptoKeyPair);
+      Authentication auth = loadAuthentication();
       System.out.println("Generating account id and its corresponding public key at random.");
         
       Random r = new Random();
@@ -237,7 +453,7 @@ public class AuthenticationClient {
          String UserInfo = "Phone+1667727772;Hobby:Football";
          String dataToBeSigned =  user[i]  + UserInfo + PublicKey;
          ECDSASignatureResult sigdata = generateSigantureWithSecp256k1(dataToBeSigned);
-         TransactionReceipt receipt = auth.register(user[i], PublicKey,UserInfo,sigdata.convertToString());
+         TransactionReceipt receipt = auth.register(user[i], PublicKey, PayloadCodec.encode(UserInfo), sigdata.convertToString());
          List<Authentication.RegisterEventEventResponse> response = auth.getRegisterEventEvents(receipt);
          if (!response.isEmpty()) {
             if (response.get(0).ret.compareTo(new BigInteger("0")) == 0) {
@@ -258,11 +474,7 @@ public class AuthenticationClient {
          }
      
       long elapsed = System.currentTimeMillis() - startTime;
-      double sendSpeed = regTotal / ((double) elapsed / 1000);
-      double reject = ((double)regFail) / ((double)regTotal) * 100.0;
-      double accept = ((double)regSuccess) / ((double)regTotal) * 100.0;
-      System.out.printf(
-        "%s tests in the register experiment. %.1f%% Success. %.1f%% failed for using the illegal id. \n TotalTime=%d ms .\n TPS=%f \n",regTotal,accept,reject,elapsed,sendSpeed);
+      printRegisterReport(regTotal, regSuccess, regFail, elapsed);
 
       
     } catch (Exception e) {
@@ -272,23 +484,105 @@ public class AuthenticationClient {
       System.out.printf(" register Authentication account failed, error message is %s\n", e.getMessage());
     }
   }
-  public void registerAuthenticationAccount(String AccountId, String PublicKey, String UserInfo, String SigData) {
+
+  // keep up to inFlight register transactions outstanding and collect the receipts in the callbacks
+  public void batchRegisterPipelined(int amount, int inFlight){
     try {
 
-      System.out.println("begin register... ");
+      System.out.printf("----Experiment on registering users at random with %d transactions in flight. Registrations with a existed account id will fail.----\n", inFlight);
+      final Authentication auth = loadAuthentication();
+      System.out.println("Generating account id and its corresponding public key at random.");
+
+      Random r = new Random();
+      final Semaphore window = new Semaphore(Math.max(1, inFlight));
+      final CountDownLatch finished = new CountDownLatch(amount);
+      final AtomicLong regSuccess = new AtomicLong();
+      final AtomicLong regFail = new AtomicLong();
+      final AtomicLong regTotal = new AtomicLong();
+      final String PublicKey = cryptoKeyPair.getHexPublicKey();
+      final String UserInfo = "Phone+1667727772;Hobby:Football";
       long startTime = System.currentTimeMillis();
-      String contractAddress = loadAuthenticationAddr();
 
-      Authentication auth = Authentication.load(contractAddress, client, cryptoKeyPair);
-      TransactionReceipt receipt = auth.register(AccountId, PublicKey, UserInfo, SigData);
+      for(int i=0 ; i< amount;  i++){
+         final String accountId = "batchtestuser" + Integer.toString(r.nextInt(amount));
+         String dataToBeSigned =  accountId  + UserInfo + PublicKey;
+         ECDSASignatureResult sigdata = generateSigantureWithSecp256k1(dataToBeSigned);
+         window.acquire();
+         try {
+           auth.register(accountId, PublicKey, PayloadCodec.encode(UserInfo), sigdata.convertToString(), new TransactionCallback() {
+             @Override
+             public void onResponse(TransactionReceipt receipt) {
+               try {
+                 List<Authentication.RegisterEventEventResponse> response = auth.getRegisterEventEvents(receipt);
+                 if (!response.isEmpty()) {
+                   if (response.get(0).ret.compareTo(BigInteger.ZERO) == 0) {
+                     System.out.printf(
+                         " register Authentication account success => Authentication: %s, value: %s \n", accountId, PublicKey);
+                     regSuccess.incrementAndGet();
+                   } else {
+                     regFail.incrementAndGet();
+                     System.out.printf(
+                         " register Authentication account failed, ret code is %s \n", response.get(0).ret.toString());
+                   }
+                 } else {
+                   System.out.printf(" event log not found, maybe transaction not exec. status is %s \n", receipt.getStatus());
+                 }
+               } catch (Exception e) {
+                 logger.error(" decode register receipt exception, error message is {}", e.getMessage());
+               } finally {
+                 regTotal.incrementAndGet();
+                 window.release();
+                 finished.countDown();
+               }
+             }
+           });
+         } catch (Exception e) {
+           logger.error(" send register transaction exception, error message is {}", e.getMessage());
+           regTotal.incrementAndGet();
+           window.release();
+           finished.countDown();
+         }
+      }
+      finished.await();
+
+      long elapsed = System.currentTimeMillis() - startTime;
+      printRegisterReport(regTotal.get(), regSuccess.get(), regFail.get(), elapsed);
+
+    } catch (Exception e) {
+      logger.error(" registeAuthenticationAccount exception, error message is {}", e.getMessage());
+      System.out.printf(" register Authentication account failed, error message is %s\n", e.getMessage());
+    }
+  }
+
+  private void printRegisterReport(long regTotal, long regSuccess, long regFail, long elapsed){
+      double sendSpeed = regTotal / ((double) elapsed / 1000);
+      double reject = ((double)regFail) / ((double)regTotal) * 100.0;
+      double accept = ((double)regSuccess) / ((double)regTotal) * 100.0;
+      System.out.printf(
+        "%s tests in the register experiment. %.1f%% Success. %.1f%% failed for using the illegal id. \n TotalTime=%d ms .\n TPS=%f \n",regTotal,accept,reject,elapsed,sendSpeed);
+  }
+  public boolean registerAuthenticationAccount(String AccountId, String PublicKey, String UserInfo, String SigData) {
+    try {
+
+      System.out.println("begin register... ");
+      long startTime = System.currentTimeMillis();
+      Authentication auth = loadAuthentication();
+      TransactionReceipt receipt = auth.register(AccountId, PublicKey, PayloadCodec.encode(UserInfo), SigData);
       List<Authentication.RegisterEventEventResponse> response = auth.getRegisterEventEvents(receipt);
       if (!response.isEmpty()) {
         if (response.get(0).ret.compareTo(new BigInteger("0")) == 0) {
           System.out.printf(
               " register Authentication account success => Authentication: %s, value: %s \n", AccountId, PublicKey);
+          if (identityRecords != null) {
+            identityRecords.invalidate(AccountId);
+          }
+          if (identityFilter != null) {
+            identityFilter.put(AccountId);
+          }
           long elapsed = System.currentTimeMillis() - startTime;
           //double sendSpeed = ((double) elapsed / 1000);
           //System.out.println("TotalTime="+ elapsed);
+          return true;
         } else {
           System.out.printf(
               " register Authentication account failed, ret code is %s \n", response.get(0).ret.toString());
@@ -303,9 +597,34 @@ public class AuthenticationClient {
       logger.error(" registeAuthenticationAccount exception, error message is {}", e.getMessage());
       System.out.printf(" register Authentication account failed, error message is %s\n", e.getMessage());
     }
+    return false;
   }
 
 
+  // registers the pre-signed rows of file, resuming from its checkpoint; see RegisterImport
+  public boolean importRegistrations(String file, int inFlight) {
+    try {
+      System.out.printf("----Importing %s with %d transactions in flight.----\n", file, inFlight);
+      RegisterImport importer = RegisterImport.fromSystemProperties(RegisterImport.authentication(loadAuthentication()), inFlight);
+      long startTime = System.currentTimeMillis();
+      boolean complete = importer.run(file);
+      long elapsed = System.currentTimeMillis() - startTime;
+      long rows = importer.getImported() + importer.getRejected() + importer.getFailed();
+      System.out.printf(
+          " %d rows imported, %d rejected by the contract, %d not executed, %d lines skipped. TotalTime=%d ms .\n TPS=%f \n",
+          importer.getImported(), importer.getRejected(), importer.getFailed(), importer.getSkipped(), elapsed,
+          rows / ((double) Math.max(1, elapsed) / 1000));
+      System.out.printf(
+          " checkpoint at line %d, byte %d of %s%s \n",
+          importer.getCheckpointLine(), importer.getCheckpointOffset(), file, complete ? "" : ", run the import again to resume");
+      return complete;
+    } catch (Exception e) {
+      logger.error(" import Authentication registrations exception, error message is {}", e.getMessage());
+      System.out.printf(" import Authentication registrations failed, error message is %s\n", e.getMessage());
+    }
+    return false;
+  }
+
   public static void Usage() {
     System.out.println(" Usage:");
     System.out.println(
@@ -317,7 +636,13 @@ public class AuthenticationClient {
     System.out.println(
         "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AuthenticationClient mquery number");
     System.out.println(
-        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AuthenticationClient mregister number");
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AuthenticationClient mlogin number [workers] [chunk]");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AuthenticationClient mregister number [chunk]");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AuthenticationClient mregisterasync number inflight");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AuthenticationClient import file [inflight]");
     System.exit(0);
   }
 
@@ -343,7 +668,13 @@ public class AuthenticationClient {
         if (args.length < 2) {
           Usage();
         }
-        client.batchloginAuthenticationAddress(Integer.valueOf(args[1]).intValue());
+        if (args.length > 3) {
+          client.batchloginAuthenticationAddress(Integer.valueOf(args[1]).intValue(), Integer.valueOf(args[2]).intValue(), Integer.valueOf(args[3]).intValue());
+        } else if (args.length > 2) {
+          client.batchloginAuthenticationAddress(Integer.valueOf(args[1]).intValue(), Integer.valueOf(args[2]).intValue());
+        } else {
+          client.batchloginAuthenticationAddress(Integer.valueOf(args[1]).intValue());
+        }
         break;
       case "register":
         if (args.length < 5) {
@@ -355,8 +686,24 @@ public class AuthenticationClient {
          if (args.length < 2) {
           Usage();
          }
-         client.batchRegister(Integer.valueOf(args[1]).intValue());
+         if (args.length > 2) {
+           client.batchRegister(Integer.valueOf(args[1]).intValue(), Integer.valueOf(args[2]).intValue());
+         } else {
+           client.batchRegister(Integer.valueOf(args[1]).intValue());
+         }
+         break;
+      case "mregisterasync":
+         if (args.length < 3) {
+          Usage();
+         }
+         client.batchRegisterPipelined(Integer.valueOf(args[1]).intValue(), Integer.valueOf(args[2]).intValue());
          break;
+      case "import":
+        if (args.length < 2) {
+          Usage();
+        }
+        client.importRegistrations(args[1], args.length > 2 ? Integer.valueOf(args[2]).intValue() : 100);
+        break;
       default:
         {
           Usage();
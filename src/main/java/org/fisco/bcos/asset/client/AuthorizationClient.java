@@ -4,9 +4,14 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Random;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import org.fisco.bcos.asset.contract.Authorization;
 import org.fisco.bcos.sdk.BcosSDK;
 import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple4;
@@ -32,16 +37,100 @@ public class AuthorizationClient {
   private BcosSDK bcosSDK;
   private Client client;
   private CryptoKeyPair cryptoKeyPair;
+  private Authorization authorization;
+  private RegisteredRecordCache resourceRecords;
+  private String resourceRecordsAddress;
+  private RecordReplica resourceReplica;
+  private String resourceReplicaAddress;
+  private RegisteredKeyFilter resourceFilter;
+  private String resourceFilterAddress;
+  private volatile String ownerPublicKey;
+  private final Map<String, AccessToken> accessTokens = new ConcurrentHashMap<String, AccessToken>();
+  private final GrantDecisionCache grantDecisions = GrantDecisionCache.fromSystemProperties();
+
+  // an access token signed by this client, presented again for the account until it expires
+  private static class AccessToken {
+    final long timeStamp;
+    final String ownerPublicKey;
+    final String signedData;
+    final String signature;
+    final String publicKey;
+    // the resource the token was last granted, what the holder presents with the token
+    volatile String resourceData;
+
+    AccessToken(long timeStamp, String ownerPublicKey, String signedData, String signature, String publicKey) {
+      this.timeStamp = timeStamp;
+      this.ownerPublicKey = ownerPublicKey;
+      this.signedData = signedData;
+      this.signature = signature;
+      this.publicKey = publicKey;
+    }
+  }
 
   public void initialize() throws Exception {
+    if (SimulatedLedger.isEnabled()) {
+      initialize(SimulatedLedger.shared().getClient());
+      return;
+    }
     @SuppressWarnings("resource")
     ApplicationContext context =
         new ClassPathXmlApplicationContext("classpath:applicationContext.xml");
     bcosSDK = context.getBean(BcosSDK.class);
-    client = bcosSDK.getClient(1);
+    initialize(bcosSDK.getClient(1));
+  }
+
+  // reuse a client that is already connected, e.g. the warm one of AuthServer
+  public void initialize(Client client) {
+    this.client = client;
     cryptoKeyPair = client.getCryptoSuite().createKeyPair();
     client.getCryptoSuite().setCryptoKeyPair(cryptoKeyPair);
-    logger.debug("create client for group1, account address is " + cryptoKeyPair.getAddress());
+    logger.debug("create client for group" + client.getGroupId() + ", account address is " + cryptoKeyPair.getAddress());
+  }
+
+  // the contract handle is loaded once and reused by the later calls of this client
+  public synchronized Authorization loadAuthorization() throws Exception {
+    if (authorization == null) {
+      authorization = Authorization.load(loadAuthorizationAddr(), client, cryptoKeyPair);
+    }
+    return authorization;
+  }
+
+  // read-through cache of Authorization.select, kept coherent by the RegisterEvent subscription
+  public synchronized RegisteredRecordCache resourceRecords(Authorization auth) {
+    if (resourceRecords == null || !auth.getContractAddress().equals(resourceRecordsAddress)) {
+      resourceRecords = RegisteredRecordCache.subscribe(auth);
+      resourceRecordsAddress = auth.getContractAddress();
+    }
+    return resourceRecords;
+  }
+
+  // the local replica of the table with -Daagrid.replica.dir, the read-through cache otherwise
+  public synchronized RecordLookup resourceLookup(Authorization auth) throws IOException {
+    if (!RecordReplica.isEnabled()) {
+      RegisteredKeyFilter filter = resourceFilter(auth);
+      return filter == null ? resourceRecords(auth) : filter.guard(resourceRecords(auth));
+    }
+    if (resourceReplica == null || !auth.getContractAddress().equals(resourceReplicaAddress)) {
+      if (resourceReplica != null) {
+        // the replica of the previous contract, its subscription stays open but is ignored
+        resourceReplica.close();
+      }
+      resourceReplica = RecordReplica.subscribe(auth, client);
+      resourceReplicaAddress = auth.getContractAddress();
+    }
+    return resourceReplica;
+  }
+
+  // membership filter of the registered accounts with -Daagrid.bloom=true, null otherwise
+  public synchronized RegisteredKeyFilter resourceFilter(Authorization auth) {
+    if (!RegisteredKeyFilter.isEnabled()) {
+      return null;
+    }
+    if (resourceFilter == null || !auth.getContractAddress().equals(resourceFilterAddress)) {
+      resourceFilter = RegisteredKeyFilter.subscribe(auth, client);
+      resourceFilterAddress = auth.getContractAddress();
+    }
+    return resourceFilter;
   }
 
   public CryptoSuite createECDSACryptoSuite(){
@@ -56,7 +145,7 @@ public class AuthorizationClient {
 
   // generate secp256k1 signature
   public ECDSASignatureResult  generateSigantureWithSecp256k1(String data){
-    CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+    CryptoSuite cryptoSuite = SignatureVerifier.cryptoSuite();
     //CryptoKeyPair cryptoKeyPair = cryptoSuite.createKeyPair();
     String hashData = cryptoSuite.hash(data);
     System.out.println(
@@ -66,9 +155,8 @@ public class AuthorizationClient {
 
   // verification
   public boolean verifySignature(ECDSASignatureResult signatureResult, CryptoKeyPair keyPair, String data){
-    CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
-    String hashData = cryptoSuite.hash(data);
-    return cryptoSuite.verify(keyPair.getHexPublicKey(), hashData, signatureResult.convertToString());
+    return SignatureVerifier.shared().verify(
+        SignatureVerifier.Request.forMessage(keyPair.getHexPublicKey(), data, signatureResult.convertToString()));
   }
 
   public void unittestGrant(){
@@ -122,9 +210,13 @@ public class AuthorizationClient {
     final Resource contractResource = new ClassPathResource("publickey.properties");
     FileOutputStream fileOutputStream = new FileOutputStream(contractResource.getFile());
     prop.store(fileOutputStream, "publickey address");
+    ownerPublicKey = publickey;
   }
 
   public String loadOwnerPublicKey() throws Exception {
+    if (ownerPublicKey != null) {
+      return ownerPublicKey;
+    }
     Properties prop = new Properties();
     final Resource contractResource = new ClassPathResource("publickey.properties");
     prop.load(contractResource.getInputStream());
@@ -133,13 +225,18 @@ public class AuthorizationClient {
       throw new Exception(" load Authorization publickey failed, please deploy it first. ");
     }
     logger.info(" load Authorization publickey from publickey.properties, address is {}", publickey);
+    ownerPublicKey = publickey;
     return publickey;
   }
 
   public void recordAuthorizationAddr(String address) throws FileNotFoundException, IOException {
     Properties prop = new Properties();
-    prop.setProperty("address", address);
     final Resource contractResource = new ClassPathResource("contract.properties");
+    if (contractResource.exists()) {
+      prop.load(contractResource.getInputStream());
+    }
+    prop.setProperty("address", address);
+    prop.setProperty("authorization.address", address);
     FileOutputStream fileOutputStream = new FileOutputStream(contractResource.getFile());
     prop.store(fileOutputStream, "contract address");
   }
@@ -150,7 +247,8 @@ public class AuthorizationClient {
     final Resource contractResource = new ClassPathResource("contract.properties");
     prop.load(contractResource.getInputStream());
 
-    String contractAddress = prop.getProperty("address");
+    // a contract specific key lets one process (AuthServer) serve all the contracts
+    String contractAddress = prop.getProperty("authorization.address", prop.getProperty("address"));
     if (contractAddress == null || contractAddress.trim().equals("")) {
       throw new Exception(" load Authorization contract address failed, please deploy it first. ");
     }
@@ -158,7 +256,7 @@ public class AuthorizationClient {
     return contractAddress;
   }
 
-  public void grantAuthorizationResource(String accountId) {
+  public boolean grantAuthorizationResource(String accountId) {
       System.out.println("---------grant a resource--------");
       System.out.println("---------1.generate a access token with the owner's signature--------");
       String PublicKey="";
@@ -173,22 +271,25 @@ public class AuthorizationClient {
       //String grantType = "1";
      
       System.out.println("---------PublicKey:"+PublicKey);
-      long timeStamp = startTime;
-      String dataToBeSigned =  accountId  + timeStamp + PublicKey;
-      ECDSASignatureResult sigdata = generateSigantureWithSecp256k1(dataToBeSigned);
-      System.out.printf(" generate access token success => tokenSignature: %s\n", sigdata.convertToString());
+      AccessToken token = accessToken(accountId, PublicKey);
+      long timeStamp = token.timeStamp;
+      String dataToBeSigned =  token.signedData;
+      String tokenSignature = token.signature;
+      System.out.printf(" generate access token success => tokenSignature: %s\n", tokenSignature);
       long tokenElapsed = System.currentTimeMillis() - startTime;
       System.out.println("generateTokenTime="+ tokenElapsed);
-      String tokenPublickey =cryptoKeyPair.getHexPublicKey();
+      String tokenPublickey = token.publicKey;
       long expireTime = System.currentTimeMillis() - timeStamp;
-      if(expireTime > (5*60*1000)){
+      if(expireTime > GrantDecisionCache.TOKEN_VALIDITY_MILLIS){
             System.out.println("Expired. Reject the request. \n");
+      }else if(isGrantCached(accountId, token)){
+            System.out.printf("Valid. Grant the resource (decision of this token cached) \n");
+            return true;
       }else{
         try {
           System.out.println("---------2.resource server query the owner's information on the blockchain--------");
-          String contractAddress = loadAuthorizationAddr();
-          Authorization auth = Authorization.load(contractAddress, client, cryptoKeyPair);
-          Tuple4<BigInteger, String, String, String> result = auth.select(accountId);
+          Authorization auth = loadAuthorization();
+          Tuple4<BigInteger, String, String, String> result = resourceLookup(auth).select(accountId);
           if (result.getValue1().compareTo(new BigInteger("0")) == 0) {
             System.out.printf(" query success %s \n", accountId);
             String tmpPublicKey =  result.getValue2();
@@ -198,23 +299,29 @@ public class AuthorizationClient {
             long queryElapsed = System.currentTimeMillis() - startTime - tokenElapsed;
             System.out.println("queryResourceTime="+ queryElapsed);
             System.out.println("---------3. vefication--------");
-            CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
             if(tmpPublicKey.equals(PublicKey)){
                 System.out.println("---------3. verify the validity of the access token--------");
-                String hashData = cryptoSuite.hash(dataToBeSigned);
-                boolean nVerification = cryptoSuite.verify(tokenPublickey, hashData, sigdata.convertToString());
+                // the token and the resource signatures are independent, verify them as one batch
+                String tmpdataToBeVrified = resourceData + accountId + tmpPublicKey;
+                boolean[] verifications = SignatureVerifier.shared().verifyAll(Arrays.asList(
+                    SignatureVerifier.Request.forMessage(tokenPublickey, dataToBeSigned, tokenSignature),
+                    SignatureVerifier.Request.forMessage(tmpPublicKey, tmpdataToBeVrified, tmpsigdata)));
+                boolean nVerification = verifications[0];
                 if(nVerification){
                   System.out.printf("The access token is valid  \n");
                   long tokenValidElapsed = System.currentTimeMillis() - startTime - tokenElapsed - queryElapsed;
                   System.out.println("tokenValidTime="+ tokenValidElapsed);
                   System.out.println("---------4. verify the validity of the resource data--------");
-                  String tmpdataToBeVrified = resourceData + accountId + tmpPublicKey;
-                  hashData = cryptoSuite.hash(tmpdataToBeVrified);
-                  nVerification = cryptoSuite.verify(tmpPublicKey, hashData, tmpsigdata);
+                  // an off chain body is only granted when it still matches the signed digest
+                  nVerification = verifications[1] && verifyResource(resourceData);
                   if(nVerification){
                     System.out.printf("Valid. Grant the resource  \n");
                     long resourceValidElapsed = System.currentTimeMillis() - startTime - tokenElapsed - queryElapsed - tokenValidElapsed;
                     System.out.println("resourceValidTime="+ resourceValidElapsed);
+                    String resourceDigest = SignatureVerifier.cryptoSuite().hash(resourceData);
+                    grantDecisions.grant(accountId, tokenSignature, resourceDigest, timeStamp);
+                    token.resourceData = resourceData;
+                    return true;
                   }else{
                     System.out.printf("The resource is invalid  \n");
                     long resourceValidElapsed = System.currentTimeMillis() - startTime - tokenElapsed - queryElapsed - tokenValidElapsed;
@@ -243,20 +350,68 @@ public class AuthorizationClient {
         }
             
       }
-      
+      return false;
+  }
+  // a cached grant holds while the body behind a "cas:" reference still matches its digest; one
+  // that no longer does is dropped and the grant is decided again
+  private boolean isGrantCached(String accountId, AccessToken token) {
+    String resourceData = token.resourceData;
+    String resourceDigest = resourceData == null ? null : SignatureVerifier.cryptoSuite().hash(resourceData);
+    if (!grantDecisions.isGranted(accountId, token.signature, resourceDigest)) {
+      return false;
+    }
+    if (verifyResource(resourceData)) {
+      return true;
+    }
+    grantDecisions.revoke(accountId, token.signature, resourceDigest);
+    return false;
+  }
+
+  // the token of the account issued earlier by this client while it is valid, a new one otherwise
+  private AccessToken accessToken(String accountId, String ownerPublicKey) {
+    AccessToken token = accessTokens.get(accountId);
+    if (token != null
+        && token.ownerPublicKey.equals(ownerPublicKey)
+        && GrantDecisionCache.expiryOf(token.timeStamp) > System.currentTimeMillis()) {
+      return token;
+    }
+    long timeStamp = System.currentTimeMillis();
+    String dataToBeSigned =  accountId  + timeStamp + ownerPublicKey;
+    ECDSASignatureResult sigdata = generateSigantureWithSecp256k1(dataToBeSigned);
+    token = new AccessToken(timeStamp, ownerPublicKey, dataToBeSigned, sigdata.convertToString(), cryptoKeyPair.getHexPublicKey());
+    accessTokens.put(accountId, token);
+    return token;
+  }
+
+  public GrantDecisionCache grantDecisions() {
+    return grantDecisions;
   }
-  public void queryAuthorizationAddress(String accountId) {
+
+  // false when the body behind a "cas:" reference is missing or does not match its digest
+  public boolean verifyResource(String resourceData) {
+    if (!ResourceBlobStore.isReference(resourceData)) {
+      return true;
+    }
+    try {
+      return ResourceBlobStore.shared().verify(ResourceBlobStore.parseReference(resourceData));
+    } catch (Exception e) {
+      logger.error(" verify resource {} exception, error message is {}", resourceData, e.getMessage());
+      return false;
+    }
+  }
+
+  public Tuple4<BigInteger, String, String, String> queryAuthorizationAddress(String accountId) {
     try {
       System.out.println("begin to query a resource on the blockchain... ");
       long startTime = System.currentTimeMillis();
-      String contractAddress = loadAuthorizationAddr();
-      Authorization auth = Authorization.load(contractAddress, client, cryptoKeyPair);
-      Tuple4<BigInteger, String, String, String> result = auth.select(accountId);
+      Authorization auth = loadAuthorization();
+      Tuple4<BigInteger, String, String, String> result = PayloadCodec.decode(auth.select(accountId));
       if (result.getValue1().compareTo(new BigInteger("0")) == 0) {
         System.out.printf(" Authorization account %s, publickey=%s,resourceData=%s,sigData=%s \n", accountId, result.getValue2(), result.getValue3(),result.getValue4());
         long elapsed = System.currentTimeMillis() - startTime;
           //double sendSpeed = ((double) elapsed / 1000);
         System.out.println("queryResourceTime="+ elapsed);
+        return result;
       } else {
         System.out.printf(" %s Authorization account is not exist \n", accountId);
       }
@@ -267,10 +422,11 @@ public class AuthorizationClient {
 
       System.out.printf(" login Authorization account failed, error message is %s\n", e.getMessage());
     }
+    return null;
   }
   
 
-  public void registerAuthorizationResource(String AccountId, String UserResource) {
+  public boolean registerAuthorizationResource(String AccountId, String UserResource) {
    try {
 
       System.out.println("begin to register a resource on the blockchain... ");
@@ -283,25 +439,42 @@ public class AuthorizationClient {
        System.out.println(" record Authorization PublicKey failed, error message is  " + e.getMessage());
       }
       long startTime = System.currentTimeMillis();
-      String contractAddress = loadAuthorizationAddr();
-      Authorization auth = Authorization.load(contractAddress, client, cryptoKeyPair);
+      Authorization auth = loadAuthorization();
       
       
+      // a large body goes to the blob store and only its reference is registered and signed
+      String resourceData = UserResource;
+      long threshold = ResourceBlobStore.offchainThreshold();
+      if (threshold >= 0 && !ResourceBlobStore.isReference(UserResource)) {
+        byte[] body = UserResource.getBytes(StandardCharsets.UTF_8);
+        if (body.length >= threshold) {
+          resourceData = ResourceBlobStore.shared().put(body).toString();
+          System.out.println(" resource stored off chain as " + resourceData);
+        }
+      }
+
       //generate a signature on Hash(AccountId+PublicKey+UserResource)
-      String dataToBeSigned = UserResource + AccountId + PublicKey;
+      String dataToBeSigned = resourceData + AccountId + PublicKey;
       ECDSASignatureResult sigdata = generateSigantureWithSecp256k1(dataToBeSigned);
       long midTime = System.currentTimeMillis();
       long melapsed = midTime - startTime;
       System.out.println("Generate a Resource signature Time="+ melapsed);
-      TransactionReceipt receipt = auth.register(AccountId, PublicKey, UserResource, sigdata.convertToString());
+      TransactionReceipt receipt = auth.register(AccountId, PublicKey, PayloadCodec.encode(resourceData), sigdata.convertToString());
       List<Authorization.RegisterEventEventResponse> response = auth.getRegisterEventEvents(receipt);
       if (!response.isEmpty()) {
         if (response.get(0).ret.compareTo(new BigInteger("0")) == 0) {
           System.out.printf(
               " register Authorization account success => Authorization: %s, value: %s \n", AccountId, PublicKey);
+          if (resourceRecords != null) {
+            resourceRecords.invalidate(AccountId);
+          }
+          if (resourceFilter != null) {
+            resourceFilter.put(AccountId);
+          }
           long elapsed = System.currentTimeMillis() - midTime;
           //double sendSpeed = ((double) elapsed / 1000);
           System.out.println("registerResourceTime="+ elapsed);
+          return true;
         } else {
           System.out.printf(
               " register Authorization account failed, ret code is %s \n", response.get(0).ret.toString());
@@ -313,9 +486,50 @@ public class AuthorizationClient {
       logger.error(" registeAuthorizationAccount exception, error message is {}", e.getMessage());
       System.out.printf(" register Authorization account failed, error message is %s\n", e.getMessage());
     }
+    return false;
   }
 
 
+  // the file is streamed into the blob store, so the heap use does not depend on its size
+  public boolean registerAuthorizationResourceFile(String AccountId, String resourceFile) {
+    try {
+      long startTime = System.currentTimeMillis();
+      ResourceBlobStore.Reference reference = ResourceBlobStore.shared().putFile(Paths.get(resourceFile));
+      System.out.printf(
+          " resource file %s stored off chain as %s, storeTime=%d \n",
+          resourceFile, reference, System.currentTimeMillis() - startTime);
+      return registerAuthorizationResource(AccountId, reference.toString());
+    } catch (Exception e) {
+      logger.error(" register Authorization resource file exception, error message is {}", e.getMessage());
+      System.out.printf(" register Authorization resource file failed, error message is %s\n", e.getMessage());
+    }
+    return false;
+  }
+
+  // registers the pre-signed rows of file, resuming from its checkpoint; see RegisterImport
+  public boolean importRegistrations(String file, int inFlight) {
+    try {
+      System.out.printf("----Importing %s with %d transactions in flight.----\n", file, inFlight);
+      RegisterImport importer = RegisterImport.fromSystemProperties(RegisterImport.authorization(loadAuthorization()), inFlight);
+      long startTime = System.currentTimeMillis();
+      boolean complete = importer.run(file);
+      long elapsed = System.currentTimeMillis() - startTime;
+      long rows = importer.getImported() + importer.getRejected() + importer.getFailed();
+      System.out.printf(
+          " %d rows imported, %d rejected by the contract, %d not executed, %d lines skipped. TotalTime=%d ms .\n TPS=%f \n",
+          importer.getImported(), importer.getRejected(), importer.getFailed(), importer.getSkipped(), elapsed,
+          rows / ((double) Math.max(1, elapsed) / 1000));
+      System.out.printf(
+          " checkpoint at line %d, byte %d of %s%s \n",
+          importer.getCheckpointLine(), importer.getCheckpointOffset(), file, complete ? "" : ", run the import again to resume");
+      return complete;
+    } catch (Exception e) {
+      logger.error(" import Authorization registrations exception, error message is {}", e.getMessage());
+      System.out.printf(" import Authorization registrations failed, error message is %s\n", e.getMessage());
+    }
+    return false;
+  }
+
   public static void Usage() {
     System.out.println(" Usage:");
     System.out.println(
@@ -326,6 +540,12 @@ public class AuthorizationClient {
         "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AuthorizationClient grant account");
     System.out.println(
         "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AuthorizationClient register account resource");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AuthorizationClient registerfile account resource_file");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.AuthorizationClient import file [inflight]");
+    System.out.println(
+        "\t -Daagrid.blobstore.threshold=bytes keeps resources of that size in -Daagrid.blobstore.dir (blobs) and registers only cas:digest:size");
     System.exit(0);
   }
 
@@ -365,6 +585,18 @@ public class AuthorizationClient {
         }
         client.registerAuthorizationResource(args[1], new String(args[2]));
         break;
+      case "registerfile":
+        if (args.length < 3) {
+          Usage();
+        }
+        client.registerAuthorizationResourceFile(args[1], args[2]);
+        break;
+      case "import":
+        if (args.length < 2) {
+          Usage();
+        }
+        client.importRegistrations(args[1], args.length > 2 ? Integer.valueOf(args[2]).intValue() : 100);
+        break;
       default:
         {
           Usage();
@@ -0,0 +1,276 @@
+package org.fisco.bcos.asset.client;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.fisco.bcos.asset.contract.Asset;
+import org.fisco.bcos.sdk.abi.EventEncoder;
+import org.fisco.bcos.sdk.abi.FunctionReturnDecoder;
+import org.fisco.bcos.sdk.abi.TypeReference;
+import org.fisco.bcos.sdk.abi.datatypes.Type;
+import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple2;
+import org.fisco.bcos.sdk.client.Client;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.eventsub.EventCallback;
+import org.fisco.bcos.sdk.eventsub.filter.EventSubNodeRespStatus;
+import org.fisco.bcos.sdk.model.CryptoType;
+import org.fisco.bcos.sdk.model.EventLog;
+import org.fisco.bcos.sdk.transaction.model.exception.ContractException;
+import org.fisco.bcos.sdk.utils.Numeric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local copy of the t_asset balances of an Asset contract, built from its RegisterEvent and
+ * TransferEvent logs.
+ *
+ * <p>t_asset can not be enumerated, so the view is seeded by replaying the events of blocks 1 to
+ * the head and then moved forward block range by block range: every aagrid.balanceView.pollMs the
+ * head is read and the events of the blocks since the last range are fetched with a bounded
+ * subscription. Only when both subscriptions have reported PUSH_COMPLETED are the logs applied, in
+ * block, transaction and log order, so the view always reflects exactly the end of a block, the
+ * one getBlockHeight() returns. Registers and transfers (transferBatch legs included) with a ret
+ * other than 0 changed nothing and are skipped.
+ *
+ * <p>The events only carry keccak256 of the account, which is what the view is keyed by.
+ *
+ * <p>select answers from the view while it reflects a head read at most
+ * aagrid.balanceView.maxStalenessMs ago, and falls back to Asset.select otherwise.
+ */
+public class BalanceView {
+
+  static Logger logger = LoggerFactory.getLogger(BalanceView.class);
+
+  public static final long DEFAULT_POLL_MILLIS = 500;
+  public static final long DEFAULT_MAX_STALENESS_MILLIS = 2000;
+
+  private final Asset asset;
+  private final Client client;
+  private final long maxStalenessMillis;
+  private final CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+  private final String registerTopic;
+  private final String transferTopic;
+  private final List<TypeReference<Type>> retOnly = Asset.REGISTEREVENT_EVENT.getNonIndexedParameters();
+  private final Map<String, BigInteger> balances = new ConcurrentHashMap<String, BigInteger>();
+  private final ScheduledExecutorService poller;
+  private final CountDownLatch seeded = new CountDownLatch(1);
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong fallbacks = new AtomicLong();
+  private volatile long height = 0;
+  // when the head that height was caught up to had been read
+  private volatile long syncedAt = 0;
+  private volatile boolean catchingUp = false;
+
+  public BalanceView(Asset asset, Client client, long pollMillis, long maxStalenessMillis) {
+    this.asset = asset;
+    this.client = client;
+    this.maxStalenessMillis = maxStalenessMillis;
+    EventEncoder eventEncoder = new EventEncoder(cryptoSuite);
+    this.registerTopic = keyOf(eventEncoder.encode(Asset.REGISTEREVENT_EVENT));
+    this.transferTopic = keyOf(eventEncoder.encode(Asset.TRANSFEREVENT_EVENT));
+    this.poller = Executors.newSingleThreadScheduledExecutor(WorkerPools.namedDaemonThreads("balance-view"));
+    poller.scheduleWithFixedDelay(
+        new Runnable() {
+          @Override
+          public void run() {
+            try {
+              poll();
+            } catch (RuntimeException e) {
+              logger.warn(" balance view poll failed, error message is {}", e.getMessage());
+            }
+          }
+        },
+        0,
+        pollMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  public static boolean isEnabled() {
+    return Boolean.getBoolean("aagrid.balanceView");
+  }
+
+  public static BalanceView subscribe(Asset asset, Client client) {
+    return new BalanceView(
+        asset,
+        client,
+        Long.getLong("aagrid.balanceView.pollMs", DEFAULT_POLL_MILLIS),
+        Long.getLong("aagrid.balanceView.maxStalenessMs", DEFAULT_MAX_STALENESS_MILLIS));
+  }
+
+  // starts the range from the view height to the current head, unless one is still running
+  private void poll() {
+    if (catchingUp) {
+      return;
+    }
+    long readAt = System.currentTimeMillis();
+    long head = client.getBlockNumber().getBlockNumber().longValue();
+    if (head <= height) {
+      syncedAt = readAt;
+      seeded.countDown();
+      return;
+    }
+    catchingUp = true;
+    catchUp(height + 1, head, readAt);
+  }
+
+  private void catchUp(final long from, final long to, final long readAt) {
+    final List<EventLog> collected = Collections.synchronizedList(new ArrayList<EventLog>());
+    final AtomicInteger running = new AtomicInteger(2);
+    EventCallback callback =
+        new EventCallback() {
+          private volatile boolean failed = false;
+
+          @Override
+          public void onReceiveLog(int status, List<EventLog> logs) {
+            if (status == EventSubNodeRespStatus.SUCCESS.getStatus()) {
+              if (logs != null) {
+                collected.addAll(logs);
+              }
+              return;
+            }
+            if (status != EventSubNodeRespStatus.PUSH_COMPLETED.getStatus()) {
+              // the range is retried from the same height by a later poll
+              logger.warn(" balance view replay of blocks {}-{} failed, status is {}", from, to, status);
+              failed = true;
+            }
+            if (running.decrementAndGet() == 0) {
+              complete(collected, to, readAt, failed);
+            }
+          }
+        };
+    int made = 0;
+    try {
+      asset.subscribeRegisterEventEvent(String.valueOf(from), String.valueOf(to), null, callback);
+      made++;
+      asset.subscribeTransferEventEvent(String.valueOf(from), String.valueOf(to), null, callback);
+      made++;
+    } catch (RuntimeException e) {
+      // a subscription that was made still completes, but the range is not applied
+      logger.warn(" subscribe the balance view range {}-{} failed, error message is {}", from, to, e.getMessage());
+      for (; made < 2; made++) {
+        callback.onReceiveLog(EventSubNodeRespStatus.OTHER_ERROR.getStatus(), null);
+      }
+    }
+  }
+
+  private void complete(List<EventLog> logs, long to, long readAt, boolean failed) {
+    if (!failed) {
+      List<EventLog> ordered = new ArrayList<EventLog>(logs);
+      Collections.sort(
+          ordered,
+          new Comparator<EventLog>() {
+            @Override
+            public int compare(EventLog a, EventLog b) {
+              int c = a.getBlockNumber().compareTo(b.getBlockNumber());
+              if (c == 0) {
+                c = a.getTransactionIndex().compareTo(b.getTransactionIndex());
+              }
+              return c != 0 ? c : a.getLogIndex().compareTo(b.getLogIndex());
+            }
+          });
+      for (EventLog log : ordered) {
+        apply(log);
+      }
+      height = to;
+      syncedAt = readAt;
+      seeded.countDown();
+      logger.debug(" balance view at block {} with {} accounts", to, balances.size());
+    }
+    catchingUp = false;
+  }
+
+  private void apply(EventLog log) {
+    List<String> topics = log.getTopics();
+    if (topics == null || topics.size() < 3) {
+      return;
+    }
+    List<Type> values = FunctionReturnDecoder.decode(log.getData(), retOnly);
+    if (((BigInteger) values.get(0).getValue()).signum() != 0) {
+      return;
+    }
+    String event = keyOf(topics.get(0));
+    if (registerTopic.equals(event)) {
+      balances.put(keyOf(topics.get(1)), Numeric.toBigInt(topics.get(2)));
+    } else if (transferTopic.equals(event) && topics.size() > 3) {
+      BigInteger amount = Numeric.toBigInt(topics.get(3));
+      String from = keyOf(topics.get(1));
+      String to = keyOf(topics.get(2));
+      BigInteger fromValue = balances.get(from);
+      BigInteger toValue = balances.get(to);
+      if (fromValue == null || toValue == null) {
+        // only possible for a view seeded from a pruned history
+        logger.warn(" transfer between accounts the balance view has not seen, block {}", log.getBlockNumber());
+        return;
+      }
+      balances.put(from, fromValue.subtract(amount));
+      balances.put(to, balances.get(to).add(amount));
+    }
+  }
+
+  private static String keyOf(String topic) {
+    return Numeric.cleanHexPrefix(topic).toLowerCase();
+  }
+
+  // waits for the replay of the history, false if it has not completed within the timeout
+  public boolean awaitSeeded(long timeoutMillis) throws InterruptedException {
+    return seeded.await(timeoutMillis, TimeUnit.MILLISECONDS);
+  }
+
+  // the block whose end the balances reflect
+  public long getBlockHeight() {
+    return height;
+  }
+
+  // how long ago the head the view has caught up to was read, Long.MAX_VALUE before the seed
+  public long getStalenessMillis() {
+    return syncedAt == 0 ? Long.MAX_VALUE : System.currentTimeMillis() - syncedAt;
+  }
+
+  public boolean isFresh() {
+    return getStalenessMillis() <= maxStalenessMillis;
+  }
+
+  // the balance at getBlockHeight(), null if the account was not registered by then
+  public BigInteger balanceOf(String account) {
+    return balances.get(cryptoSuite.hash(account));
+  }
+
+  // Asset.select, answered locally while the view is fresh
+  public Tuple2<BigInteger, BigInteger> select(String account) throws ContractException {
+    if (!isFresh()) {
+      fallbacks.incrementAndGet();
+      return asset.select(account);
+    }
+    hits.incrementAndGet();
+    BigInteger value = balanceOf(account);
+    return value == null
+        ? new Tuple2<BigInteger, BigInteger>(BigInteger.valueOf(-1), BigInteger.ZERO)
+        : new Tuple2<BigInteger, BigInteger>(BigInteger.ZERO, value);
+  }
+
+  public int size() {
+    return balances.size();
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getFallbacks() {
+    return fallbacks.get();
+  }
+
+  public void close() {
+    poller.shutdownNow();
+  }
+}
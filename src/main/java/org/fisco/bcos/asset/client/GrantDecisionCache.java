@@ -0,0 +1,117 @@
+package org.fisco.bcos.asset.client;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Positive grant decisions of AuthorizationClient, keyed by (account id, token signature, resource
+ * digest).
+ *
+ * <p>A decision is kept until the 5-minute validity of the token it was made for runs out, so a
+ * token presented again within its window costs a map lookup instead of a select and two
+ * signature verifications. A t_resource row can not be overwritten once registered, so the chain
+ * side of a decision holds for that long. The body behind a "cas:" reference is in the local blob
+ * store, where it can be removed or damaged; the caller checks it again on every hit and revokes
+ * the entry when it no longer matches.
+ */
+public class GrantDecisionCache {
+
+  public static final long TOKEN_VALIDITY_MILLIS = 5 * 60 * 1000;
+  public static final int DEFAULT_MAX_ENTRIES = 10000;
+
+  private final LinkedHashMap<String, Long> entries;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  public GrantDecisionCache(final int maxEntries) {
+    this.entries =
+        new LinkedHashMap<String, Long>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > maxEntries;
+          }
+        };
+  }
+
+  public static GrantDecisionCache fromSystemProperties() {
+    return new GrantDecisionCache(Integer.getInteger("aagrid.grantCache.maxEntries", DEFAULT_MAX_ENTRIES));
+  }
+
+  // the time a token issued at tokenTimestamp stops being accepted
+  public static long expiryOf(long tokenTimestamp) {
+    return tokenTimestamp + TOKEN_VALIDITY_MILLIS;
+  }
+
+  public boolean isGranted(String accountId, String tokenSignature, String resourceDigest) {
+    if (resourceDigest == null) {
+      misses.incrementAndGet();
+      return false;
+    }
+    String key = keyOf(accountId, tokenSignature, resourceDigest);
+    long now = System.currentTimeMillis();
+    synchronized (entries) {
+      Long expireAt = entries.get(key);
+      if (expireAt != null) {
+        if (expireAt > now) {
+          hits.incrementAndGet();
+          return true;
+        }
+        entries.remove(key);
+      }
+    }
+    misses.incrementAndGet();
+    return false;
+  }
+
+  public void grant(String accountId, String tokenSignature, String resourceDigest, long tokenTimestamp) {
+    long expireAt = expiryOf(tokenTimestamp);
+    if (expireAt <= System.currentTimeMillis()) {
+      return;
+    }
+    synchronized (entries) {
+      entries.put(keyOf(accountId, tokenSignature, resourceDigest), expireAt);
+    }
+  }
+
+  public void revoke(String accountId, String tokenSignature, String resourceDigest) {
+    synchronized (entries) {
+      entries.remove(keyOf(accountId, tokenSignature, resourceDigest));
+    }
+  }
+
+  // drops the entries of expired tokens, the LRU bound alone would keep them until evicted
+  public int purgeExpired() {
+    long now = System.currentTimeMillis();
+    int purged = 0;
+    synchronized (entries) {
+      for (Iterator<Long> it = entries.values().iterator(); it.hasNext(); ) {
+        if (it.next() <= now) {
+          it.remove();
+          purged++;
+        }
+      }
+    }
+    return purged;
+  }
+
+  private static String keyOf(String accountId, String tokenSignature, String resourceDigest) {
+    // the account id is the only free-form part, so it goes last and needs no escaping
+    return tokenSignature + ':' + resourceDigest + ':' + accountId;
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+}
@@ -0,0 +1,189 @@
+package org.fisco.bcos.asset.client;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.fisco.bcos.asset.contract.Asset;
+import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple2;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.fisco.bcos.sdk.transaction.model.exception.ContractException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Asset select and transfer with opt-in sharding of hot accounts.
+ *
+ * <p>A hot account with K shards is stored as the K t_asset rows "account", "account#1" ..
+ * "account#K-1"; the first is the row the account had before, so an existing account is sharded by
+ * adding the other rows and clients that do not know about the shards still see a part of it. Each
+ * row is a conflict field of its own for ParallelAsset and an update of its own for the node, so
+ * transfers into the account are spread over K rows instead of queueing on one.
+ *
+ * <p>Credits go to a random shard. A debit is a plain transfer from a shard that holds the amount
+ * if there is one, otherwise one transferBatch with a leg from each of the largest shards, which
+ * is all-or-nothing like a transfer. select sums the shards.
+ *
+ * <p>The shard counts are kept by the contract in t_asset_shards; Asset.shard adds the rows and
+ * records the count in one transaction, and Asset.register refuses accounts with "#", which is
+ * reserved for the shard rows. A count is read from the contract the first time an account is
+ * used and cached, as it only grows; select reads it again, so a count raised by another client is
+ * seen there.
+ */
+public class HotAccountAsset {
+
+  static Logger logger = LoggerFactory.getLogger(HotAccountAsset.class);
+
+  public static final String SHARD_SEPARATOR = "#";
+
+  private final Asset asset;
+  private final Map<String, Integer> shards = new ConcurrentHashMap<String, Integer>();
+
+  public HotAccountAsset(Asset asset) {
+    this.asset = asset;
+  }
+
+  public static boolean isReserved(String account) {
+    return account.contains(SHARD_SEPARATOR);
+  }
+
+  public int shardsOf(String account) throws ContractException {
+    Integer count = shards.get(account);
+    return count == null ? readShards(account) : count;
+  }
+
+  private int readShards(String account) throws ContractException {
+    int count = asset.shards(account).intValue();
+    shards.put(account, count);
+    return count;
+  }
+
+  public static String rowOf(String account, int shard) {
+    return shard == 0 ? account : account + SHARD_SEPARATOR + shard;
+  }
+
+  public List<String> rowsOf(String account) throws ContractException {
+    int count = shardsOf(account);
+    List<String> rows = new ArrayList<String>(count);
+    for (int i = 0; i < count; i++) {
+      rows.add(rowOf(account, i));
+    }
+    return rows;
+  }
+
+  // the row a credit to account goes to, a random shard of it
+  public String creditRow(String account) throws ContractException {
+    return rowOf(account, ThreadLocalRandom.current().nextInt(shardsOf(account)));
+  }
+
+  // spreads a registered account over count rows, with the codes of Asset.shard; the shard count
+  // can only grow, as the rows of the shards dropped would keep their balance
+  public BigInteger shard(String account, int count) {
+    TransactionReceipt receipt = asset.shard(account, BigInteger.valueOf(count));
+    if (!receipt.isStatusOK()) {
+      logger.warn(" shard {} failed, status is {}, message is {}", account, receipt.getStatus(), receipt.getMessage());
+      return BigInteger.valueOf(-5);
+    }
+    BigInteger ret = asset.getShardOutput(receipt).getValue1();
+    if (ret.signum() == 0) {
+      shards.put(account, count);
+    }
+    return ret;
+  }
+
+  // the shape of Asset.select, with the sum of the shards
+  public Tuple2<BigInteger, BigInteger> select(String account) throws ContractException {
+    readShards(account);
+    List<Tuple2<BigInteger, BigInteger>> rows = selectRows(account);
+    if (rows.get(0).getValue1().signum() != 0) {
+      return rows.get(0);
+    }
+    BigInteger total = BigInteger.ZERO;
+    for (Tuple2<BigInteger, BigInteger> row : rows) {
+      if (row.getValue1().signum() == 0) {
+        total = total.add(row.getValue2());
+      }
+    }
+    return new Tuple2<BigInteger, BigInteger>(BigInteger.ZERO, total);
+  }
+
+  private List<Tuple2<BigInteger, BigInteger>> selectRows(String account) throws ContractException {
+    List<Tuple2<BigInteger, BigInteger>> rows = new ArrayList<Tuple2<BigInteger, BigInteger>>();
+    for (String row : rowsOf(account)) {
+      rows.add(asset.select(row));
+    }
+    return rows;
+  }
+
+  // the codes of Asset.transfer
+  public BigInteger transfer(String from, String to, BigInteger amount) throws ContractException {
+    String toRow = creditRow(to);
+    if (shardsOf(from) == 1) {
+      return transferRows(from, toRow, amount);
+    }
+
+    final List<Tuple2<BigInteger, BigInteger>> balances = selectRows(from);
+    if (balances.get(0).getValue1().signum() != 0) {
+      return BigInteger.valueOf(-1);
+    }
+    // a random shard that holds the whole amount, so concurrent debits do not all pick the same
+    List<Integer> order = new ArrayList<Integer>();
+    BigInteger total = BigInteger.ZERO;
+    for (int i = 0; i < balances.size(); i++) {
+      if (balances.get(i).getValue1().signum() == 0) {
+        order.add(i);
+        total = total.add(balances.get(i).getValue2());
+      }
+    }
+    Collections.shuffle(order, ThreadLocalRandom.current());
+    for (int i : order) {
+      if (balances.get(i).getValue2().compareTo(amount) >= 0) {
+        return transferRows(rowOf(from, i), toRow, amount);
+      }
+    }
+    if (total.compareTo(amount) < 0) {
+      return BigInteger.valueOf(-3);
+    }
+
+    // several shards together, the largest first
+    Collections.sort(
+        order,
+        new Comparator<Integer>() {
+          @Override
+          public int compare(Integer a, Integer b) {
+            return balances.get(b).getValue2().compareTo(balances.get(a).getValue2());
+          }
+        });
+    List<String> froms = new ArrayList<String>();
+    List<String> tos = new ArrayList<String>();
+    List<BigInteger> amounts = new ArrayList<BigInteger>();
+    BigInteger left = amount;
+    for (int i : order) {
+      if (left.signum() == 0) {
+        break;
+      }
+      BigInteger part = left.min(balances.get(i).getValue2());
+      if (part.signum() > 0) {
+        froms.add(rowOf(from, i));
+        tos.add(toRow);
+        amounts.add(part);
+        left = left.subtract(part);
+      }
+    }
+    TransactionReceipt receipt = asset.transferBatch(froms, tos, amounts);
+    if (!receipt.isStatusOK()) {
+      return BigInteger.valueOf(-5);
+    }
+    return asset.getTransferBatchOutput(receipt).getValue1();
+  }
+
+  private BigInteger transferRows(String fromRow, String toRow, BigInteger amount) {
+    TransactionReceipt receipt = asset.transfer(fromRow, toRow, amount);
+    List<Asset.TransferEventEventResponse> response = asset.getTransferEventEvents(receipt);
+    return response.isEmpty() ? BigInteger.valueOf(-5) : response.get(0).ret;
+  }
+}
@@ -0,0 +1,440 @@
+package org.fisco.bcos.asset.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.fisco.bcos.asset.contract.Asset;
+import org.fisco.bcos.asset.contract.Authentication;
+import org.fisco.bcos.asset.contract.Authorization;
+import org.fisco.bcos.sdk.BcosSDK;
+import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple2;
+import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple4;
+import org.fisco.bcos.sdk.client.Client;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.ClassPathXmlApplicationContext;
+
+/**
+ * Load driver for the Authentication, Authorization and Asset wrappers.
+ *
+ * <p>Closed loop runs N users back to back. Open loop issues operations at a fixed arrival rate
+ * and measures each latency from its scheduled start, so queueing in the client is not hidden.
+ * Latencies are recorded in microseconds in an HDR histogram.
+ */
+public class LoadGenerator {
+
+  static Logger logger = LoggerFactory.getLogger(LoadGenerator.class);
+
+  // upper bound of outstanding operations in open loop mode; an arrival that finds all of them
+  // taken waits for one, and the wait is reported (and part of its latency)
+  public static final int OPEN_LOOP_MAX_IN_FLIGHT = 1024;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private BcosSDK bcosSDK;
+  private Client client;
+  private CryptoKeyPair cryptoKeyPair;
+  private Authentication authentication;
+  private Authorization authorization;
+  private Asset asset;
+  private int keySpace = Integer.getInteger("aagrid.load.keyspace", 10000);
+
+  private interface Operation {
+    // returns false for a functional failure (ret code != 0, record not found ...)
+    boolean execute(long seq) throws Exception;
+  }
+
+  public void initialize() throws Exception {
+    if (SimulatedLedger.isEnabled()) {
+      client = SimulatedLedger.shared().getClient();
+    } else {
+      @SuppressWarnings("resource")
+      ApplicationContext context =
+          new ClassPathXmlApplicationContext("classpath:applicationContext.xml");
+      bcosSDK = context.getBean(BcosSDK.class);
+      client = bcosSDK.getClient(1);
+    }
+    cryptoKeyPair = client.getCryptoSuite().createKeyPair();
+    client.getCryptoSuite().setCryptoKeyPair(cryptoKeyPair);
+    logger.debug("create client for group1, account address is " + cryptoKeyPair.getAddress());
+  }
+
+  private synchronized Authentication authentication() throws Exception {
+    if (authentication == null) {
+      AuthenticationClient authenticationClient = new AuthenticationClient();
+      authenticationClient.initialize(client);
+      authentication = Authentication.load(authenticationClient.loadAuthenticationAddr(), client, cryptoKeyPair);
+    }
+    return authentication;
+  }
+
+  private synchronized Authorization authorization() throws Exception {
+    if (authorization == null) {
+      AuthorizationClient authorizationClient = new AuthorizationClient();
+      authorizationClient.initialize(client);
+      authorization = Authorization.load(authorizationClient.loadAuthorizationAddr(), client, cryptoKeyPair);
+    }
+    return authorization;
+  }
+
+  private synchronized Asset asset() throws Exception {
+    if (asset == null) {
+      AssetClient assetClient = new AssetClient();
+      assetClient.initialize(client);
+      asset = Asset.load(assetClient.loadAssetAddr(), client, cryptoKeyPair);
+    }
+    return asset;
+  }
+
+  private String randomAccount(String prefix) {
+    return prefix + ThreadLocalRandom.current().nextInt(keySpace);
+  }
+
+  private Operation operation(String name) throws Exception {
+    final String PublicKey = cryptoKeyPair.getHexPublicKey();
+    final String runId = Long.toString(System.currentTimeMillis(), 36);
+    switch (name) {
+      case "register":
+        final Authentication registerAuth = authentication();
+        return new Operation() {
+          @Override
+          public boolean execute(long seq) throws Exception {
+            String accountId = "load" + runId + "-" + seq;
+            String UserInfo = "Phone+1667727772;Hobby:Football";
+            CryptoSuite cryptoSuite = SignatureVerifier.cryptoSuite();
+            String sigData =
+                cryptoSuite.sign(cryptoSuite.hash(accountId + UserInfo + PublicKey), cryptoKeyPair).convertToString();
+            TransactionReceipt receipt = registerAuth.register(accountId, PublicKey, PayloadCodec.encode(UserInfo), sigData);
+            List<Authentication.RegisterEventEventResponse> response = registerAuth.getRegisterEventEvents(receipt);
+            return !response.isEmpty() && response.get(0).ret.compareTo(BigInteger.ZERO) == 0;
+          }
+        };
+      case "login":
+        final Authentication loginAuth = authentication();
+        return new Operation() {
+          @Override
+          public boolean execute(long seq) throws Exception {
+            String accountId = randomAccount("user");
+            Tuple4<BigInteger, String, String, String> result = PayloadCodec.decode(loginAuth.select(accountId));
+            if (!RegisteredRecordCache.isFound(result)) {
+              return false;
+            }
+            return SignatureVerifier.shared().verify(
+                SignatureVerifier.Request.forMessage(
+                    result.getValue2(), accountId + result.getValue3() + result.getValue2(), result.getValue4()));
+          }
+        };
+      case "grant":
+        final Authorization grantAuth = authorization();
+        return new Operation() {
+          @Override
+          public boolean execute(long seq) throws Exception {
+            String accountId = randomAccount("user");
+            Tuple4<BigInteger, String, String, String> result = PayloadCodec.decode(grantAuth.select(accountId));
+            if (!RegisteredRecordCache.isFound(result)) {
+              return false;
+            }
+            return SignatureVerifier.shared().verify(
+                SignatureVerifier.Request.forMessage(
+                    result.getValue2(), result.getValue3() + accountId + result.getValue2(), result.getValue4()));
+          }
+        };
+      case "asset-query":
+        final Asset queryAsset = asset();
+        return new Operation() {
+          @Override
+          public boolean execute(long seq) throws Exception {
+            Tuple2<BigInteger, BigInteger> result = queryAsset.select(randomAccount("asset"));
+            return result.getValue1().compareTo(BigInteger.ZERO) == 0;
+          }
+        };
+      case "asset-register":
+        final Asset registerAsset = asset();
+        return new Operation() {
+          @Override
+          public boolean execute(long seq) throws Exception {
+            TransactionReceipt receipt = registerAsset.register("asset" + runId + "-" + seq, BigInteger.valueOf(1000000));
+            List<Asset.RegisterEventEventResponse> response = registerAsset.getRegisterEventEvents(receipt);
+            return !response.isEmpty() && response.get(0).ret.compareTo(BigInteger.ZERO) == 0;
+          }
+        };
+      case "asset-transfer":
+        final Asset transferAsset = asset();
+        return new Operation() {
+          @Override
+          public boolean execute(long seq) throws Exception {
+            TransactionReceipt receipt =
+                transferAsset.transfer(randomAccount("asset"), randomAccount("asset"), BigInteger.ONE);
+            List<Asset.TransferEventEventResponse> response = transferAsset.getTransferEventEvents(receipt);
+            return !response.isEmpty() && response.get(0).ret.compareTo(BigInteger.ZERO) == 0;
+          }
+        };
+      default:
+        throw new IllegalArgumentException("unknown operation " + name);
+    }
+  }
+
+  public Map<String, Object> runClosedLoop(
+      String name, int users, final long durationMillis, final long maxOps) throws Exception {
+    checkLength(durationMillis, maxOps);
+    final Operation operation = operation(name);
+    final ConcurrentHistogram histogram = new ConcurrentHistogram(3);
+    final AtomicLong issued = new AtomicLong();
+    final AtomicLong failures = new AtomicLong();
+    final AtomicLong errors = new AtomicLong();
+    ExecutorService executor = WorkerPools.newWorkerPool(users, "load-closed");
+    final long startNanos = System.nanoTime();
+    final long deadline = durationMillis > 0 ? startNanos + TimeUnit.MILLISECONDS.toNanos(durationMillis) : Long.MAX_VALUE;
+    try {
+      List<Future<?>> tasks = new ArrayList<Future<?>>(users);
+      for (int u = 0; u < users; u++) {
+        tasks.add(
+            executor.submit(
+                new Runnable() {
+                  @Override
+                  public void run() {
+                    while (System.nanoTime() < deadline) {
+                      long seq = issued.getAndIncrement();
+                      if (maxOps > 0 && seq >= maxOps) {
+                        break;
+                      }
+                      long opStart = System.nanoTime();
+                      execute(operation, seq, opStart, histogram, failures, errors);
+                    }
+                  }
+                }));
+      }
+      for (Future<?> task : tasks) {
+        task.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    Map<String, Object> report = report(name, "closed", users, startNanos, histogram, failures, errors);
+    return report;
+  }
+
+  public Map<String, Object> runOpenLoop(String name, int rate, long durationMillis, long maxOps)
+      throws Exception {
+    checkLength(durationMillis, maxOps);
+    final Operation operation = operation(name);
+    final ConcurrentHistogram histogram = new ConcurrentHistogram(3);
+    final AtomicLong failures = new AtomicLong();
+    final AtomicLong errors = new AtomicLong();
+    // virtual threads and the fixed pool's queue are both unbounded, the permits are the bound
+    final Semaphore inFlight = new Semaphore(OPEN_LOOP_MAX_IN_FLIGHT);
+    long saturated = 0;
+    long permitWaitNanos = 0;
+    ExecutorService executor = WorkerPools.newWorkerPool(OPEN_LOOP_MAX_IN_FLIGHT, "load-open");
+    long intervalNanos = 1000000000L / Math.max(1, rate);
+    long startNanos = System.nanoTime();
+    long deadline = durationMillis > 0 ? startNanos + TimeUnit.MILLISECONDS.toNanos(durationMillis) : Long.MAX_VALUE;
+    try {
+      for (long seq = 0; maxOps <= 0 || seq < maxOps; seq++) {
+        final long scheduled = startNanos + seq * intervalNanos;
+        if (scheduled >= deadline) {
+          break;
+        }
+        long wait = scheduled - System.nanoTime();
+        if (wait > 0) {
+          LockSupport.parkNanos(wait);
+        }
+        if (!inFlight.tryAcquire()) {
+          saturated++;
+          long waitStart = System.nanoTime();
+          inFlight.acquire();
+          permitWaitNanos += System.nanoTime() - waitStart;
+        }
+        final long opSeq = seq;
+        try {
+          executor.execute(
+              new Runnable() {
+                @Override
+                public void run() {
+                  try {
+                    // latency counts from the scheduled arrival, including time spent queued
+                    execute(operation, opSeq, scheduled, histogram, failures, errors);
+                  } finally {
+                    inFlight.release();
+                  }
+                }
+              });
+        } catch (RuntimeException e) {
+          inFlight.release();
+          throw e;
+        }
+      }
+      executor.shutdown();
+      executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+    Map<String, Object> report = report(name, "open", rate, startNanos, histogram, failures, errors);
+    report.put("saturatedArrivals", saturated);
+    report.put("permitWaitMs", TimeUnit.NANOSECONDS.toMillis(permitWaitNanos));
+    return report;
+  }
+
+  // with neither a duration nor a number of operations a run would never end
+  private static void checkLength(long durationMillis, long maxOps) {
+    if (durationMillis <= 0 && maxOps <= 0) {
+      throw new IllegalArgumentException("a load run needs a positive duration or number of operations");
+    }
+  }
+
+  private static void execute(
+      Operation operation,
+      long seq,
+      long startNanos,
+      Histogram histogram,
+      AtomicLong failures,
+      AtomicLong errors) {
+    try {
+      if (!operation.execute(seq)) {
+        failures.incrementAndGet();
+      }
+    } catch (Exception e) {
+      errors.incrementAndGet();
+      logger.debug(" load operation {} exception, error message is {}", seq, e.getMessage());
+    }
+    histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+  }
+
+  private static Map<String, Object> report(
+      String name,
+      String mode,
+      int load,
+      long startNanos,
+      Histogram histogram,
+      AtomicLong failures,
+      AtomicLong errors) {
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    long ops = histogram.getTotalCount();
+    Map<String, Object> report = new LinkedHashMap<String, Object>();
+    report.put("operation", name);
+    report.put("mode", mode);
+    report.put("open".equals(mode) ? "rate" : "users", load);
+    report.put("ops", ops);
+    report.put("failures", failures.get());
+    report.put("errors", errors.get());
+    report.put("elapsedMs", elapsedMillis);
+    report.put("throughput", ops / ((double) Math.max(1, elapsedMillis) / 1000));
+    report.put("meanUs", histogram.getMean());
+    report.put("p50Us", histogram.getValueAtPercentile(50));
+    report.put("p90Us", histogram.getValueAtPercentile(90));
+    report.put("p99Us", histogram.getValueAtPercentile(99));
+    report.put("p999Us", histogram.getValueAtPercentile(99.9));
+    report.put("maxUs", histogram.getMaxValue());
+    return report;
+  }
+
+  public void writeReport(Map<String, Object> report, String out) throws Exception {
+    System.out.printf(
+        "%s %s loop: %s ops, %s failures, %s errors in %s ms. Throughput=%.1f/s \n p50=%dus p90=%dus p99=%dus p99.9=%dus max=%dus \n",
+        report.get("operation"), report.get("mode"), report.get("ops"), report.get("failures"),
+        report.get("errors"), report.get("elapsedMs"), report.get("throughput"),
+        report.get("p50Us"), report.get("p90Us"), report.get("p99Us"), report.get("p999Us"), report.get("maxUs"));
+    if (report.containsKey("saturatedArrivals")) {
+      System.out.printf(
+          " %s arrivals found %d operations in flight and waited %s ms in total \n",
+          report.get("saturatedArrivals"), OPEN_LOOP_MAX_IN_FLIGHT, report.get("permitWaitMs"));
+    }
+    if (out == null) {
+      return;
+    }
+    if (out.endsWith(".csv")) {
+      File file = new File(out);
+      boolean header = !file.exists() || file.length() == 0;
+      try (Writer writer = new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8)) {
+        if (header) {
+          writer.write(join(report.keySet()) + "\n");
+        }
+        writer.write(join(report.values()) + "\n");
+      }
+    } else {
+      objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File(out), report);
+    }
+    System.out.println(" report written to " + out);
+  }
+
+  private static String join(Iterable<?> values) {
+    StringBuilder sb = new StringBuilder();
+    for (Object value : values) {
+      if (sb.length() > 0) {
+        sb.append(',');
+      }
+      sb.append(value);
+    }
+    return sb.toString();
+  }
+
+  public static void Usage() {
+    System.out.println(" Usage:");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.LoadGenerator operation closed users length [out.json|out.csv]");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.LoadGenerator operation open rate length [out.json|out.csv]");
+    System.out.println("\t operation: register login grant asset-register asset-query asset-transfer");
+    System.out.println("\t length: a duration such as 60s, or a number of operations such as 10000");
+    System.out.println("\t login/grant/asset-* pick accounts user<n>/asset<n> with n < -Daagrid.load.keyspace (10000)");
+    System.exit(0);
+  }
+
+  public static void main(String[] args) throws Exception {
+    if (args.length < 4) {
+      Usage();
+    }
+    long durationMillis = 0;
+    long maxOps = 0;
+    if (args[3].endsWith("s")) {
+      durationMillis = Long.valueOf(args[3].substring(0, args[3].length() - 1)) * 1000;
+    } else {
+      maxOps = Long.valueOf(args[3]);
+    }
+    if (durationMillis <= 0 && maxOps <= 0) {
+      Usage();
+    }
+    String out = args.length > 4 ? args[4] : null;
+
+    LoadGenerator generator = new LoadGenerator();
+    generator.initialize();
+
+    Map<String, Object> report;
+    switch (args[1]) {
+      case "closed":
+        report = generator.runClosedLoop(args[0], Integer.valueOf(args[2]), durationMillis, maxOps);
+        break;
+      case "open":
+        report = generator.runOpenLoop(args[0], Integer.valueOf(args[2]), durationMillis, maxOps);
+        break;
+      default:
+        {
+          Usage();
+          return;
+        }
+    }
+    generator.writeReport(report, out);
+    System.exit(0);
+  }
+}
@@ -0,0 +1,130 @@
+package org.fisco.bcos.asset.client;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple4;
+
+/**
+ * Opt-in compression of the t_identity.user_info and t_resource.resource_data values.
+ *
+ * <p>With -Daagrid.codec.threshold=bytes a value of at least that size is stored as "~z:" plus
+ * the base64 of its deflate stream, when that is shorter. A plain value that starts with "~" is
+ * stored as "~r:" plus the value, so every stored value decodes unambiguously. Signatures are
+ * always computed over the decoded value.
+ *
+ * <p>Without the property nothing is rewritten and "~r:" is not stripped, so rows written before
+ * the codec, or by processes without it, read back exactly as stored; writers and readers of a
+ * table should use the same setting. A "~z:" value that does not inflate is such a row too and is
+ * returned as stored.
+ */
+public class PayloadCodec {
+
+  public static final String DEFLATE_TAG = "~z:";
+  public static final String RAW_TAG = "~r:";
+
+  private static final ThreadLocal<Deflater> deflaters =
+      new ThreadLocal<Deflater>() {
+        @Override
+        protected Deflater initialValue() {
+          return new Deflater(Integer.getInteger("aagrid.codec.level", Deflater.DEFAULT_COMPRESSION));
+        }
+      };
+
+  private static final ThreadLocal<Inflater> inflaters =
+      new ThreadLocal<Inflater>() {
+        @Override
+        protected Inflater initialValue() {
+          return new Inflater();
+        }
+      };
+
+  // -1 (the default) disables the codec, values are stored and read as they are
+  public static long threshold() {
+    return Long.getLong("aagrid.codec.threshold", -1L);
+  }
+
+  public static boolean isEnabled() {
+    return threshold() >= 0;
+  }
+
+  public static String encode(String value) {
+    long threshold = threshold();
+    if (threshold < 0) {
+      return value;
+    }
+    if (value.length() >= threshold) {
+      byte[] plain = value.getBytes(StandardCharsets.UTF_8);
+      if (plain.length >= threshold) {
+        String compressed = DEFLATE_TAG + Base64.getEncoder().encodeToString(deflate(plain));
+        if (compressed.length() < plain.length) {
+          return compressed;
+        }
+      }
+    }
+    return value.startsWith("~") ? RAW_TAG + value : value;
+  }
+
+  public static String decode(String stored) {
+    if (stored.startsWith(DEFLATE_TAG)) {
+      try {
+        byte[] compressed = Base64.getDecoder().decode(stored.substring(DEFLATE_TAG.length()));
+        return new String(inflate(compressed), StandardCharsets.UTF_8);
+      } catch (IllegalArgumentException e) {
+        // not written by the codec
+        return stored;
+      }
+    } else if (stored.startsWith(RAW_TAG) && isEnabled()) {
+      return stored.substring(RAW_TAG.length());
+    }
+    return stored;
+  }
+
+  // a select result of Authentication or Authorization with the data field decoded
+  public static Tuple4<BigInteger, String, String, String> decode(
+      Tuple4<BigInteger, String, String, String> record) {
+    String data = record.getValue3();
+    if (data == null || !data.startsWith("~")) {
+      return record;
+    }
+    return new Tuple4<BigInteger, String, String, String>(
+        record.getValue1(), record.getValue2(), decode(data), record.getValue4());
+  }
+
+  private static byte[] deflate(byte[] plain) {
+    Deflater deflater = deflaters.get();
+    deflater.reset();
+    deflater.setInput(plain);
+    deflater.finish();
+    ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, plain.length / 4));
+    byte[] buffer = new byte[8192];
+    while (!deflater.finished()) {
+      out.write(buffer, 0, deflater.deflate(buffer));
+    }
+    return out.toByteArray();
+  }
+
+  private static byte[] inflate(byte[] compressed) {
+    Inflater inflater = inflaters.get();
+    inflater.reset();
+    inflater.setInput(compressed);
+    ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 4);
+    byte[] buffer = new byte[8192];
+    try {
+      while (!inflater.finished()) {
+        int n = inflater.inflate(buffer);
+        if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new IllegalArgumentException("truncated compressed payload");
+        }
+        out.write(buffer, 0, n);
+      }
+    } catch (DataFormatException e) {
+      throw new IllegalArgumentException("corrupt compressed payload: " + e.getMessage(), e);
+    }
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,10 @@
+package org.fisco.bcos.asset.client;
+
+import java.math.BigInteger;
+import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple4;
+import org.fisco.bcos.sdk.transaction.model.exception.ContractException;
+
+/** A source of t_identity / t_resource records in the shape of the contract select. */
+public interface RecordLookup {
+  Tuple4<BigInteger, String, String, String> select(String accountId) throws ContractException;
+}
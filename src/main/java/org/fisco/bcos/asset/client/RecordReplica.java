@@ -0,0 +1,382 @@
+package org.fisco.bcos.asset.client;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.fisco.bcos.asset.contract.Authentication;
+import org.fisco.bcos.asset.contract.Authorization;
+import org.fisco.bcos.sdk.abi.FunctionReturnDecoder;
+import org.fisco.bcos.sdk.abi.TypeReference;
+import org.fisco.bcos.sdk.abi.datatypes.Type;
+import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple4;
+import org.fisco.bcos.sdk.client.Client;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.eventsub.EventCallback;
+import org.fisco.bcos.sdk.eventsub.filter.EventSubNodeRespStatus;
+import org.fisco.bcos.sdk.model.CryptoType;
+import org.fisco.bcos.sdk.model.EventLog;
+import org.fisco.bcos.sdk.transaction.model.exception.ContractException;
+import org.fisco.bcos.sdk.utils.Hex;
+import org.fisco.bcos.sdk.utils.Numeric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local read model of t_identity or t_resource, built from the RegisterEvent logs of the contract.
+ *
+ * <p>Every successful register is appended to a memory-mapped file as (keccak256(account_id),
+ * public_key, data, sig_data); the heap only holds the offset of each record. The file header
+ * keeps the last block whose events were applied, and the replay resumes from it, so a restarted
+ * process only replays the blocks it has not seen. Rows are insert-only, so a replayed event of an
+ * account already present is skipped.
+ *
+ * <p>The replay is bounded by the head read when subscribing, next to a live subscription started
+ * before it. Until the replay reports PUSH_COMPLETED the replica is not ready and every lookup is
+ * answered by select; live events are applied meanwhile but do not move the last block, so a
+ * process stopped before the replay completes resumes below the gap. Once ready, lookups never
+ * reach the chain unless -Daagrid.replica.fallback=true, in which case a miss is answered by select
+ * and a found record is added to the replica.
+ */
+public class RecordReplica implements RecordLookup {
+
+  static Logger logger = LoggerFactory.getLogger(RecordReplica.class);
+
+  public static final int MAGIC = 0x41415252; // "AARR"
+  public static final int VERSION = 1;
+  public static final int INITIAL_CAPACITY = 16 * 1024 * 1024;
+
+  // magic, version, last applied block, end of the record area
+  private static final int HEADER_SIZE = 4 + 4 + 8 + 8;
+  private static final int LAST_BLOCK_OFFSET = 8;
+  private static final int END_OFFSET = 16;
+  private static final int TOPIC_SIZE = 32;
+
+  private final File file;
+  private final RecordLookup chain;
+  private final boolean fallback;
+  private final CountDownLatch ready = new CountDownLatch(1);
+  private final CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+  private final Map<String, Long> offsets = new ConcurrentHashMap<String, Long>();
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private RandomAccessFile raf;
+  private MappedByteBuffer buffer;
+  // the wrappers can not unsubscribe, events arriving after close are dropped
+  private boolean closed;
+
+  public RecordReplica(File file, RecordLookup chain, boolean fallback) throws IOException {
+    this.file = file;
+    this.chain = chain;
+    this.fallback = fallback;
+    open();
+  }
+
+  public static boolean isEnabled() {
+    return System.getProperty("aagrid.replica.dir") != null;
+  }
+
+  public static boolean fallbackEnabled() {
+    return Boolean.getBoolean("aagrid.replica.fallback");
+  }
+
+  public static RecordReplica subscribe(final Authentication auth, Client client) throws IOException {
+    RecordReplica replica =
+        new RecordReplica(
+            fileOf("t_identity", auth.getContractAddress()),
+            new RecordLookup() {
+              @Override
+              public Tuple4<BigInteger, String, String, String> select(String accountId)
+                  throws ContractException {
+                return auth.select(accountId);
+              }
+            },
+            fallbackEnabled());
+    // live first, so the replay up to the head read afterwards overlaps it instead of leaving a gap
+    auth.subscribeRegisterEventEvent(replica.eventCallback(false));
+    long head = client.getBlockNumber().getBlockNumber().longValue();
+    if (head < 1) {
+      replica.ready.countDown();
+    } else {
+      auth.subscribeRegisterEventEvent(replica.fromBlock(), String.valueOf(head), null, replica.eventCallback(true));
+    }
+    return replica;
+  }
+
+  public static RecordReplica subscribe(final Authorization auth, Client client) throws IOException {
+    RecordReplica replica =
+        new RecordReplica(
+            fileOf("t_resource", auth.getContractAddress()),
+            new RecordLookup() {
+              @Override
+              public Tuple4<BigInteger, String, String, String> select(String accountId)
+                  throws ContractException {
+                return auth.select(accountId);
+              }
+            },
+            fallbackEnabled());
+    auth.subscribeRegisterEventEvent(replica.eventCallback(false));
+    long head = client.getBlockNumber().getBlockNumber().longValue();
+    if (head < 1) {
+      replica.ready.countDown();
+    } else {
+      auth.subscribeRegisterEventEvent(replica.fromBlock(), String.valueOf(head), null, replica.eventCallback(true));
+    }
+    return replica;
+  }
+
+  private static File fileOf(String table, String address) {
+    return new File(System.getProperty("aagrid.replica.dir"), table + "-" + Numeric.cleanHexPrefix(address).toLowerCase() + ".replica");
+  }
+
+  private void open() throws IOException {
+    File dir = file.getAbsoluteFile().getParentFile();
+    if (dir != null && !dir.exists() && !dir.mkdirs()) {
+      throw new IOException("can not create replica directory " + dir);
+    }
+    boolean created = !file.exists() || file.length() < HEADER_SIZE;
+    raf = new RandomAccessFile(file, "rw");
+    map(Math.max(raf.length(), INITIAL_CAPACITY));
+    if (created) {
+      buffer.putInt(0, MAGIC);
+      buffer.putInt(4, VERSION);
+      buffer.putLong(LAST_BLOCK_OFFSET, 0);
+      buffer.putLong(END_OFFSET, HEADER_SIZE);
+      return;
+    }
+    if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+      throw new IOException(file + " is not a record replica");
+    }
+    // rebuild the index; the end offset is written after each record, so a torn tail is ignored
+    long end = buffer.getLong(END_OFFSET);
+    long position = HEADER_SIZE;
+    byte[] topic = new byte[TOPIC_SIZE];
+    while (position < end) {
+      ByteBuffer record = slice(position);
+      record.get(topic);
+      offsets.put(Hex.toHexString(topic), position);
+      for (int field = 0; field < 3; field++) {
+        int length = record.getInt();
+        record.position(record.position() + length);
+      }
+      position += record.position();
+    }
+    logger.info(" open replica {} with {} records up to block {}", file, offsets.size(), getLastBlock());
+  }
+
+  private void map(long capacity) throws IOException {
+    raf.setLength(capacity);
+    buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+  }
+
+  private ByteBuffer slice(long position) {
+    ByteBuffer view = buffer.duplicate();
+    view.position((int) position);
+    return view.slice();
+  }
+
+  public long getLastBlock() {
+    lock.readLock().lock();
+    try {
+      return buffer.getLong(LAST_BLOCK_OFFSET);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // where the subscription resumes: the last block seen is replayed, its events may have been
+  // delivered in more than one callback and applying a record twice is a no-op
+  public String fromBlock() {
+    return String.valueOf(Math.max(1, getLastBlock()));
+  }
+
+  public int size() {
+    return offsets.size();
+  }
+
+  public boolean isReady() {
+    return ready.getCount() == 0;
+  }
+
+  // waits for the replay up to the head, false if it has not completed within the timeout
+  public boolean awaitReady(long timeoutMillis) throws InterruptedException {
+    return ready.await(timeoutMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public Tuple4<BigInteger, String, String, String> select(String accountId) throws ContractException {
+    Tuple4<BigInteger, String, String, String> record = get(cryptoSuite.hash(accountId));
+    if (record != null) {
+      return PayloadCodec.decode(record);
+    }
+    if (isReady() && !fallback) {
+      return new Tuple4<BigInteger, String, String, String>(BigInteger.valueOf(-1), "", "", "");
+    }
+    record = chain.select(accountId);
+    if (RegisteredRecordCache.isFound(record)) {
+      // the row can not change once registered, keep it until its event arrives
+      append(cryptoSuite.hash(accountId), record.getValue2(), record.getValue3(), record.getValue4(), -1);
+    }
+    return PayloadCodec.decode(record);
+  }
+
+  private Tuple4<BigInteger, String, String, String> get(String topic) {
+    Long position = offsets.get(topic);
+    if (position == null) {
+      return null;
+    }
+    lock.readLock().lock();
+    try {
+      ByteBuffer record = slice(position + TOPIC_SIZE);
+      return new Tuple4<BigInteger, String, String, String>(
+          BigInteger.ZERO, readString(record), readString(record), readString(record));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // appends the record unless the account is present, and moves the last block forward
+  void append(String topic, String publicKey, String data, String sigData, long blockNumber) {
+    byte[][] fields = {
+      publicKey.getBytes(StandardCharsets.UTF_8),
+      data.getBytes(StandardCharsets.UTF_8),
+      sigData.getBytes(StandardCharsets.UTF_8)
+    };
+    lock.writeLock().lock();
+    try {
+      if (closed) {
+        return;
+      }
+      if (!offsets.containsKey(topic)) {
+        long end = buffer.getLong(END_OFFSET);
+        long size = TOPIC_SIZE + 12 + fields[0].length + fields[1].length + fields[2].length;
+        ensureCapacity(end + size);
+        ByteBuffer record = slice(end);
+        record.put(Hex.decode(topic));
+        for (byte[] field : fields) {
+          record.putInt(field.length);
+          record.put(field);
+        }
+        buffer.putLong(END_OFFSET, end + size);
+        offsets.put(topic, end);
+      }
+      advance(blockNumber);
+    } catch (IOException e) {
+      throw new IllegalStateException("grow replica " + file + " failed: " + e.getMessage(), e);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  void advance(long blockNumber) {
+    lock.writeLock().lock();
+    try {
+      if (!closed && blockNumber > buffer.getLong(LAST_BLOCK_OFFSET)) {
+        buffer.putLong(LAST_BLOCK_OFFSET, blockNumber);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void ensureCapacity(long required) throws IOException {
+    if (required > Integer.MAX_VALUE) {
+      throw new IOException("replica " + file + " exceeds 2GB");
+    }
+    long capacity = buffer.capacity();
+    if (required > capacity) {
+      while (capacity < required) {
+        capacity = Math.min(capacity * 2, Integer.MAX_VALUE);
+      }
+      map(capacity);
+    }
+  }
+
+  private static String readString(ByteBuffer record) {
+    byte[] bytes = new byte[record.getInt()];
+    record.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  public void flush() {
+    lock.writeLock().lock();
+    try {
+      if (!closed) {
+        buffer.force();
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void close() throws IOException {
+    lock.writeLock().lock();
+    try {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      buffer.force();
+      raf.close();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  // the replay moves the last block forward and completes the ready latch; a live event only moves
+  // it once the replica is ready
+  public EventCallback eventCallback(final boolean replay) {
+    // ret, public_key, data, sig_data; the Authorization event has the same layout
+    final List<TypeReference<Type>> fields = Authentication.REGISTEREVENT_EVENT.getNonIndexedParameters();
+    return new EventCallback() {
+      @Override
+      public void onReceiveLog(int status, List<EventLog> logs) {
+        apply(logs);
+        if (!replay) {
+          return;
+        }
+        if (status == EventSubNodeRespStatus.PUSH_COMPLETED.getStatus()) {
+          ready.countDown();
+          logger.info(" replica {} replayed {} records up to block {}", file, offsets.size(), getLastBlock());
+        } else if (status != EventSubNodeRespStatus.SUCCESS.getStatus()) {
+          // stays not ready, every lookup keeps going to the chain
+          logger.warn(" RegisterEvent replay of {} failed, status is {}", file, status);
+        }
+      }
+
+      private void apply(List<EventLog> logs) {
+        if (logs == null) {
+          return;
+        }
+        for (EventLog log : logs) {
+          List<String> topics = log.getTopics();
+          if (topics == null || topics.size() < 2) {
+            continue;
+          }
+          List<Type> values = FunctionReturnDecoder.decode(log.getData(), fields);
+          long blockNumber = replay || isReady() ? log.getBlockNumber().longValue() : -1;
+          if (((BigInteger) values.get(0).getValue()).signum() != 0) {
+            // a rejected register, only the block position moves
+            advance(blockNumber);
+            continue;
+          }
+          append(
+              Numeric.cleanHexPrefix(topics.get(1)).toLowerCase(),
+              (String) values.get(1).getValue(),
+              (String) values.get(2).getValue(),
+              (String) values.get(3).getValue(),
+              blockNumber);
+        }
+      }
+    };
+  }
+}
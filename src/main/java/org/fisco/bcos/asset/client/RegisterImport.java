@@ -0,0 +1,412 @@
+package org.fisco.bcos.asset.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.fisco.bcos.asset.contract.Authentication;
+import org.fisco.bcos.asset.contract.Authorization;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.fisco.bcos.sdk.model.callback.TransactionCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Streams pre-signed registrations from a file into Authentication.register or
+ * Authorization.register, with up to inFlight transactions outstanding.
+ *
+ * <p>Each line is either CSV "account_id,public_key,info,sig_data", where info is everything
+ * between the second and the last comma, or an NDJSON object with account_id, public_key, sig_data
+ * and user_info, resource_data or info. Blank lines, lines starting with # and a header line are
+ * skipped. The info is sent through PayloadCodec like the register commands do, and as it is
+ * covered by sig_data it is not moved to the blob store.
+ *
+ * <p>The file is read line by line and at most inFlight lines are held at once: a line takes a
+ * permit that is returned only once it and every line before it have a receipt, so the window is
+ * the first line without a receipt plus the inFlight-1 after it. The byte offset after that
+ * contiguous prefix is written to &lt;file&gt;.checkpoint every aagrid.import.checkpointMs and at
+ * the end, and a later run of the same file starts from there. The checkpoint also records the
+ * canonical path, size and modification time of the file, and a run refuses to resume when they
+ * no longer match, as the offset would then point into other rows. Rows sent after the last
+ * checkpoint are sent again on resume and come back with -1 (the account exists); they are counted
+ * as rejected. A row whose transaction can not be sent stops the import at that row.
+ */
+public class RegisterImport {
+
+  static Logger logger = LoggerFactory.getLogger(RegisterImport.class);
+
+  public static final long DEFAULT_CHECKPOINT_MILLIS = 1000;
+
+  // one of the two register wrappers
+  public interface Registrar {
+    void register(String accountId, String publicKey, String info, String sigData, TransactionCallback callback);
+
+    // the ret of the RegisterEvent of the receipt, null if it has none
+    BigInteger retOf(TransactionReceipt receipt);
+  }
+
+  public static class Row {
+    public final String accountId;
+    public final String publicKey;
+    public final String info;
+    public final String sigData;
+
+    Row(String accountId, String publicKey, String info, String sigData) {
+      this.accountId = accountId;
+      this.publicKey = publicKey;
+      this.info = info;
+      this.sigData = sigData;
+    }
+  }
+
+  public static Registrar authentication(final Authentication auth) {
+    return new Registrar() {
+      @Override
+      public void register(String accountId, String publicKey, String info, String sigData, TransactionCallback callback) {
+        auth.register(accountId, publicKey, PayloadCodec.encode(info), sigData, callback);
+      }
+
+      @Override
+      public BigInteger retOf(TransactionReceipt receipt) {
+        List<Authentication.RegisterEventEventResponse> response = auth.getRegisterEventEvents(receipt);
+        return response.isEmpty() ? null : response.get(0).ret;
+      }
+    };
+  }
+
+  public static Registrar authorization(final Authorization auth) {
+    return new Registrar() {
+      @Override
+      public void register(String accountId, String publicKey, String info, String sigData, TransactionCallback callback) {
+        auth.register(accountId, publicKey, PayloadCodec.encode(info), sigData, callback);
+      }
+
+      @Override
+      public BigInteger retOf(TransactionReceipt receipt) {
+        List<Authorization.RegisterEventEventResponse> response = auth.getRegisterEventEvents(receipt);
+        return response.isEmpty() ? null : response.get(0).ret;
+      }
+    };
+  }
+
+  private final Registrar registrar;
+  private final int inFlight;
+  private final long checkpointMillis;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Semaphore permits;
+  // per slot of the window: the offset after the line and whether its receipt is in
+  private final long[] ends;
+  private final boolean[] done;
+  private long issued = 0;
+  private long acknowledged = 0;
+  private long checkpointOffset = 0;
+  private long checkpointLine = 0;
+  private int outstanding = 0;
+  // the file the checkpoint belongs to
+  private String sourcePath;
+  private long sourceSize;
+  private long sourceModified;
+  private final AtomicLong imported = new AtomicLong();
+  private final AtomicLong rejected = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final AtomicLong skipped = new AtomicLong();
+
+  public RegisterImport(Registrar registrar, int inFlight, long checkpointMillis) {
+    this.registrar = registrar;
+    this.inFlight = Math.max(1, inFlight);
+    this.checkpointMillis = checkpointMillis;
+    this.permits = new Semaphore(this.inFlight);
+    this.ends = new long[this.inFlight];
+    this.done = new boolean[this.inFlight];
+  }
+
+  public static RegisterImport fromSystemProperties(Registrar registrar, int inFlight) {
+    return new RegisterImport(
+        registrar, inFlight, Long.getLong("aagrid.import.checkpointMs", DEFAULT_CHECKPOINT_MILLIS));
+  }
+
+  public static File checkpointOf(String file) {
+    return new File(file + ".checkpoint");
+  }
+
+  // null for a line that carries no row
+  public Row parse(String line) throws IOException {
+    String trimmed = line.trim();
+    if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+      return null;
+    }
+    if (trimmed.startsWith("{")) {
+      JsonNode node = objectMapper.readTree(trimmed);
+      JsonNode info = node.has("user_info") ? node.get("user_info") : node.has("resource_data") ? node.get("resource_data") : node.get("info");
+      if (!node.hasNonNull("account_id") || !node.hasNonNull("public_key") || !node.hasNonNull("sig_data")) {
+        throw new IOException("account_id, public_key and sig_data are required");
+      }
+      return new Row(
+          node.get("account_id").asText(),
+          node.get("public_key").asText(),
+          info == null || info.isNull() ? "" : info.asText(),
+          node.get("sig_data").asText());
+    }
+    int first = trimmed.indexOf(',');
+    int second = first < 0 ? -1 : trimmed.indexOf(',', first + 1);
+    int last = trimmed.lastIndexOf(',');
+    if (second < 0 || last <= second) {
+      throw new IOException("expected account_id,public_key,info,sig_data");
+    }
+    String accountId = trimmed.substring(0, first).trim();
+    if (accountId.equals("account_id") || accountId.equals("account")) {
+      return null;
+    }
+    return new Row(
+        accountId,
+        trimmed.substring(first + 1, second).trim(),
+        trimmed.substring(second + 1, last),
+        trimmed.substring(last + 1).trim());
+  }
+
+  // imports file from its checkpoint, returns false if the import stopped before the end
+  public boolean run(final String file) throws Exception {
+    final File checkpoint = checkpointOf(file);
+    File source = new File(file);
+    sourcePath = source.getCanonicalPath();
+    sourceSize = source.length();
+    sourceModified = source.lastModified();
+    long start = 0;
+    long line = 0;
+    if (checkpoint.exists()) {
+      Properties prop = new Properties();
+      InputStream checkpointStream = new FileInputStream(checkpoint);
+      try {
+        prop.load(checkpointStream);
+      } finally {
+        checkpointStream.close();
+      }
+      if (!sourcePath.equals(prop.getProperty("file"))
+          || !String.valueOf(sourceSize).equals(prop.getProperty("size"))
+          || !String.valueOf(sourceModified).equals(prop.getProperty("modified"))) {
+        throw new IOException(
+            checkpoint + " was written for " + prop.getProperty("file") + " of " + prop.getProperty("size")
+                + " bytes modified at " + prop.getProperty("modified")
+                + ", the file has changed since; remove it to import from the start");
+      }
+      start = Long.parseLong(prop.getProperty("offset", "0"));
+      line = Long.parseLong(prop.getProperty("line", "0"));
+      System.out.printf(" resuming %s from line %d, byte %d \n", file, line, start);
+    }
+    synchronized (this) {
+      checkpointOffset = start;
+      checkpointLine = line;
+    }
+
+    ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(WorkerPools.namedDaemonThreads("register-import"));
+    writer.scheduleWithFixedDelay(
+        new Runnable() {
+          private long written = -1;
+
+          @Override
+          public void run() {
+            long offset;
+            long lines;
+            synchronized (RegisterImport.this) {
+              offset = checkpointOffset;
+              lines = checkpointLine;
+            }
+            if (offset != written) {
+              try {
+                writeCheckpoint(checkpoint, offset, lines);
+                written = offset;
+              } catch (IOException e) {
+                logger.warn(" write import checkpoint failed, error message is {}", e.getMessage());
+              }
+            }
+          }
+        },
+        checkpointMillis,
+        checkpointMillis,
+        TimeUnit.MILLISECONDS);
+
+    boolean complete = true;
+    FileInputStream fileStream = new FileInputStream(file);
+    try {
+      fileStream.getChannel().position(start);
+      InputStream in = new BufferedInputStream(fileStream, 1 << 16);
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+      long offset = start;
+      while (true) {
+        buffer.reset();
+        int b;
+        while ((b = in.read()) != -1) {
+          offset++;
+          if (b == '\n') {
+            break;
+          }
+          buffer.write(b);
+        }
+        if (b == -1 && buffer.size() == 0) {
+          break;
+        }
+        line++;
+        if (!send(buffer.toString(StandardCharsets.UTF_8.name()), line, offset)) {
+          complete = false;
+          break;
+        }
+      }
+      drain();
+    } finally {
+      fileStream.close();
+      writer.shutdown();
+      writer.awaitTermination(1, TimeUnit.MINUTES);
+    }
+    synchronized (this) {
+      writeCheckpoint(checkpoint, checkpointOffset, checkpointLine);
+    }
+    return complete;
+  }
+
+  // false if the transaction of the line could not be sent
+  private boolean send(String text, final long line, long end) throws InterruptedException {
+    final long slot = issue(end);
+    Row row;
+    try {
+      row = parse(text);
+    } catch (IOException e) {
+      logger.warn(" line {} skipped, {}", line, e.getMessage());
+      row = null;
+    }
+    if (row == null) {
+      skipped.incrementAndGet();
+      acknowledge(slot);
+      return true;
+    }
+    final String accountId = row.accountId;
+    try {
+      registrar.register(
+          row.accountId,
+          row.publicKey,
+          row.info,
+          row.sigData,
+          new TransactionCallback() {
+            @Override
+            public void onResponse(TransactionReceipt receipt) {
+              try {
+                BigInteger ret = registrar.retOf(receipt);
+                if (ret == null) {
+                  failed.incrementAndGet();
+                  logger.warn(" line {} ({}) not executed, status is {}", line, accountId, receipt.getStatus());
+                } else if (ret.signum() == 0) {
+                  imported.incrementAndGet();
+                } else {
+                  rejected.incrementAndGet();
+                  logger.info(" line {} ({}) rejected, ret code is {}", line, accountId, ret);
+                }
+              } catch (Exception e) {
+                failed.incrementAndGet();
+                logger.error(" decode register receipt of line {} exception, error message is {}", line, e.getMessage());
+              } finally {
+                acknowledge(slot);
+              }
+            }
+          });
+      return true;
+    } catch (Exception e) {
+      // the slot is never acknowledged, so the checkpoint stays before this line
+      logger.error(" send register transaction of line {} exception, error message is {}", line, e.getMessage());
+      System.out.printf(" import stopped at line %d, error message is %s\n", line, e.getMessage());
+      synchronized (this) {
+        outstanding--;
+        notifyAll();
+      }
+      return false;
+    }
+  }
+
+  // takes a permit and the next slot of the window for the line ending at end
+  long issue(long end) throws InterruptedException {
+    permits.acquire();
+    synchronized (this) {
+      long slot = issued++;
+      ends[(int) (slot % inFlight)] = end;
+      done[(int) (slot % inFlight)] = false;
+      outstanding++;
+      return slot;
+    }
+  }
+
+  // moves the checkpoint over the contiguous prefix and returns a permit per line it passes
+  synchronized void acknowledge(long slot) {
+    done[(int) (slot % inFlight)] = true;
+    while (acknowledged < issued && done[(int) (acknowledged % inFlight)]) {
+      done[(int) (acknowledged % inFlight)] = false;
+      checkpointOffset = ends[(int) (acknowledged % inFlight)];
+      acknowledged++;
+      checkpointLine++;
+      permits.release();
+    }
+    outstanding--;
+    notifyAll();
+  }
+
+  private synchronized void drain() throws InterruptedException {
+    while (outstanding > 0) {
+      wait();
+    }
+  }
+
+  private void writeCheckpoint(File checkpoint, long offset, long line) throws IOException {
+    Properties prop = new Properties();
+    prop.setProperty("file", sourcePath);
+    prop.setProperty("size", String.valueOf(sourceSize));
+    prop.setProperty("modified", String.valueOf(sourceModified));
+    prop.setProperty("offset", String.valueOf(offset));
+    prop.setProperty("line", String.valueOf(line));
+    File tmp = new File(checkpoint.getPath() + ".tmp");
+    FileOutputStream fileOutputStream = new FileOutputStream(tmp);
+    try {
+      prop.store(fileOutputStream, "register import checkpoint");
+      fileOutputStream.getFD().sync();
+    } finally {
+      fileOutputStream.close();
+    }
+    Files.move(tmp.toPath(), checkpoint.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  public synchronized long getCheckpointOffset() {
+    return checkpointOffset;
+  }
+
+  public synchronized long getCheckpointLine() {
+    return checkpointLine;
+  }
+
+  public long getImported() {
+    return imported.get();
+  }
+
+  public long getRejected() {
+    return rejected.get();
+  }
+
+  public long getFailed() {
+    return failed.get();
+  }
+
+  public long getSkipped() {
+    return skipped.get();
+  }
+}
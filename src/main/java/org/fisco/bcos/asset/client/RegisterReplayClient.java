@@ -0,0 +1,318 @@
+package org.fisco.bcos.asset.client;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.math.BigInteger;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.fisco.bcos.asset.contract.Authentication;
+import org.fisco.bcos.asset.contract.Authorization;
+import org.fisco.bcos.sdk.abi.datatypes.Address;
+import org.fisco.bcos.sdk.BcosSDK;
+import org.fisco.bcos.sdk.client.Client;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.fisco.bcos.sdk.model.callback.TransactionCallback;
+import org.fisco.bcos.sdk.utils.Numeric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.ClassPathXmlApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+/**
+ * Two stage register pipeline: "sign" turns an account list into a file of raw signed register
+ * transactions, "replay" memory-maps that file and sends the transactions at a fixed rate.
+ *
+ * <p>The file is a 4 byte magic followed by records of a 4 byte length and the raw transaction.
+ */
+public class RegisterReplayClient {
+
+  static Logger logger = LoggerFactory.getLogger(RegisterReplayClient.class);
+
+  public static final int FILE_MAGIC = 0x41415258; // "AARX"
+
+  private static final int SIGN_CHUNK = 1024;
+  private static final long MAP_WINDOW = 256L * 1024 * 1024;
+
+  private BcosSDK bcosSDK;
+  private Client client;
+  private CryptoKeyPair cryptoKeyPair;
+
+  public void initialize() throws Exception {
+    if (SimulatedLedger.isEnabled()) {
+      client = SimulatedLedger.shared().getClient();
+    } else {
+      @SuppressWarnings("resource")
+      ApplicationContext context =
+          new ClassPathXmlApplicationContext("classpath:applicationContext.xml");
+      bcosSDK = context.getBean(BcosSDK.class);
+      client = bcosSDK.getClient(1);
+    }
+    cryptoKeyPair = client.getCryptoSuite().createKeyPair();
+    client.getCryptoSuite().setCryptoKeyPair(cryptoKeyPair);
+    logger.debug("create client for group1, account address is " + cryptoKeyPair.getAddress());
+  }
+
+  // contractType is "authentication" or "authorization"; falls back to the generic "address" key
+  // written by the deployments that predate the contract specific keys
+  public String loadContractAddr(String contractType) throws Exception {
+    if (!"authentication".equals(contractType) && !"authorization".equals(contractType)) {
+      throw new Exception(" unknown contract type " + contractType + ", expected authentication or authorization ");
+    }
+    Properties prop = new Properties();
+    final Resource contractResource = new ClassPathResource("contract.properties");
+    prop.load(contractResource.getInputStream());
+
+    String contractAddress = prop.getProperty(contractType + ".address", prop.getProperty("address"));
+    if (contractAddress == null || contractAddress.trim().equals("")) {
+      throw new Exception(" load " + contractType + " contract address failed, please deploy it first. ");
+    }
+    logger.info(" load {} contract address from contract.properties, address is {}", contractType, contractAddress);
+    return contractAddress;
+  }
+
+  // input lines are "account_id" or "account_id,data"; data is the user info or the resource
+  public void signRegisterTransactions(
+      final String contractType, String accountsFile, String outFile, int threads) {
+    ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+    try (BufferedReader reader =
+            new BufferedReader(
+                new InputStreamReader(new FileInputStream(accountsFile), StandardCharsets.UTF_8));
+        DataOutputStream out =
+            new DataOutputStream(new BufferedOutputStream(new FileOutputStream(outFile), 1 << 20))) {
+      String contractAddress = loadContractAddr(contractType);
+      final Authentication authentication = Authentication.load(contractAddress, client, cryptoKeyPair);
+      final Authorization authorization = Authorization.load(contractAddress, client, cryptoKeyPair);
+      final boolean isAuthorization = "authorization".equals(contractType);
+      final String PublicKey = cryptoKeyPair.getHexPublicKey();
+
+      out.writeInt(FILE_MAGIC);
+      long startTime = System.currentTimeMillis();
+      long signed = 0;
+      long bytes = 0;
+      List<String> chunk = new ArrayList<String>(SIGN_CHUNK);
+      String line;
+      while (true) {
+        line = reader.readLine();
+        if (line != null && !line.trim().isEmpty()) {
+          chunk.add(line.trim());
+        }
+        if (chunk.size() < SIGN_CHUNK && line != null) {
+          continue;
+        }
+        List<Callable<byte[]>> tasks = new ArrayList<Callable<byte[]>>(chunk.size());
+        for (final String account : chunk) {
+          tasks.add(
+              new Callable<byte[]>() {
+                @Override
+                public byte[] call() {
+                  int split = account.indexOf(',');
+                  String accountId = split < 0 ? account : account.substring(0, split);
+                  String data = split < 0 ? "" : account.substring(split + 1);
+                  CryptoSuite cryptoSuite = SignatureVerifier.cryptoSuite();
+                  String signedTx;
+                  if (isAuthorization) {
+                    data = offchainResource(data);
+                    String hashData = cryptoSuite.hash(data + accountId + PublicKey);
+                    String sigData = cryptoSuite.sign(hashData, cryptoKeyPair).convertToString();
+                    signedTx = authorization.getSignedTransactionForRegister(accountId, PublicKey, PayloadCodec.encode(data), sigData);
+                  } else {
+                    String hashData = cryptoSuite.hash(accountId + data + PublicKey);
+                    String sigData = cryptoSuite.sign(hashData, cryptoKeyPair).convertToString();
+                    signedTx = authentication.getSignedTransactionForRegister(accountId, PublicKey, PayloadCodec.encode(data), sigData);
+                  }
+                  return Numeric.hexStringToByteArray(signedTx);
+                }
+              });
+        }
+        for (Future<byte[]> result : executor.invokeAll(tasks)) {
+          byte[] rawTx = result.get();
+          out.writeInt(rawTx.length);
+          out.write(rawTx);
+          bytes += rawTx.length;
+          signed++;
+        }
+        chunk.clear();
+        if (line == null) {
+          break;
+        }
+      }
+
+      long elapsed = System.currentTimeMillis() - startTime;
+      System.out.printf(
+          " signed %d register transactions into %s, %d bytes.\n TotalTime=%d ms .\n SignSpeed=%f \n",
+          signed, outFile, bytes, elapsed, signed / ((double) elapsed / 1000));
+    } catch (Exception e) {
+      logger.error(" sign register transactions exception, error message is {}", e.getMessage());
+      System.out.printf(" sign register transactions failed, error message is %s\n", e.getMessage());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  // same rule as AuthorizationClient.registerAuthorizationResource for large resource bodies
+  private static String offchainResource(String resource) {
+    long threshold = ResourceBlobStore.offchainThreshold();
+    if (threshold < 0) {
+      return resource;
+    }
+    byte[] body = resource.getBytes(StandardCharsets.UTF_8);
+    if (body.length < threshold) {
+      return resource;
+    }
+    try {
+      return ResourceBlobStore.shared().put(body).toString();
+    } catch (IOException e) {
+      throw new IllegalStateException("store resource body failed: " + e.getMessage(), e);
+    }
+  }
+
+  public void replayRegisterTransactions(String signedFile, int rate, int inFlight) {
+    try (RandomAccessFile file = new RandomAccessFile(signedFile, "r");
+        FileChannel channel = file.getChannel()) {
+      // the signed transactions carry their contract address; the handle only decodes the receipts,
+      // and both contracts emit the same RegisterEvent
+      final Authentication decoder = Authentication.load(Address.DEFAULT.getValue(), client, cryptoKeyPair);
+      long size = channel.size();
+      MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, MAP_WINDOW));
+      long windowStart = 0;
+      if (window.getInt() != FILE_MAGIC) {
+        throw new IOException(signedFile + " is not a signed register transaction file");
+      }
+
+      final Semaphore permits = new Semaphore(Math.max(1, inFlight));
+      final AtomicLong regSuccess = new AtomicLong();
+      final AtomicLong regFail = new AtomicLong();
+      final AtomicLong regTotal = new AtomicLong();
+      long sent = 0;
+      long intervalNanos = rate > 0 ? 1000000000L / rate : 0;
+      long startNanos = System.nanoTime();
+      long startTime = System.currentTimeMillis();
+
+      while (windowStart + window.position() < size) {
+        // remap when the next record is not fully inside the current window
+        if (window.remaining() < 4
+            || window.remaining() < 4 + window.getInt(window.position())) {
+          windowStart += window.position();
+          window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(size - windowStart, MAP_WINDOW));
+        }
+        byte[] rawTx = new byte[window.getInt()];
+        window.get(rawTx);
+
+        if (intervalNanos > 0) {
+          long due = startNanos + sent * intervalNanos;
+          long wait = due - System.nanoTime();
+          if (wait > 0) {
+            LockSupport.parkNanos(wait);
+          }
+        }
+        permits.acquire();
+        sent++;
+        try {
+          client.sendRawTransactionAndGetReceiptAsync(
+              Numeric.toHexString(rawTx),
+              new TransactionCallback() {
+                @Override
+                public void onResponse(TransactionReceipt receipt) {
+                  try {
+                    List<Authentication.RegisterEventEventResponse> response =
+                        decoder.getRegisterEventEvents(receipt);
+                    if (!response.isEmpty() && response.get(0).ret.compareTo(BigInteger.ZERO) == 0) {
+                      regSuccess.incrementAndGet();
+                    } else {
+                      regFail.incrementAndGet();
+                    }
+                  } catch (Exception e) {
+                    regFail.incrementAndGet();
+                  } finally {
+                    regTotal.incrementAndGet();
+                    permits.release();
+                  }
+                }
+              });
+        } catch (Exception e) {
+          logger.error(" send raw transaction exception, error message is {}", e.getMessage());
+          regFail.incrementAndGet();
+          regTotal.incrementAndGet();
+          permits.release();
+        }
+      }
+      // every callback returns its permit, so holding all of them means the replay has drained
+      permits.acquire(Math.max(1, inFlight));
+
+      long elapsed = System.currentTimeMillis() - startTime;
+      double sendSpeed = regTotal.get() / ((double) elapsed / 1000);
+      double reject = ((double) regFail.get()) / ((double) regTotal.get()) * 100.0;
+      double accept = ((double) regSuccess.get()) / ((double) regTotal.get()) * 100.0;
+      System.out.printf(
+          "%s transactions replayed. %.1f%% Success. %.1f%% failed. \n TotalTime=%d ms .\n TPS=%f \n",
+          regTotal.get(), accept, reject, elapsed, sendSpeed);
+    } catch (Exception e) {
+      logger.error(" replay register transactions exception, error message is {}", e.getMessage());
+      System.out.printf(" replay register transactions failed, error message is %s\n", e.getMessage());
+    }
+  }
+
+  public static void Usage() {
+    System.out.println(" Usage:");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.RegisterReplayClient sign authentication|authorization accounts_file signed_file [threads]");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.RegisterReplayClient replay signed_file rate [inflight]");
+    System.out.println(
+        "\t signed transactions carry a block limit, replay them before the chain grows past it.");
+    System.exit(0);
+  }
+
+  public static void main(String[] args) throws Exception {
+    if (args.length < 1) {
+      Usage();
+    }
+
+    RegisterReplayClient client = new RegisterReplayClient();
+    client.initialize();
+
+    switch (args[0]) {
+      case "sign":
+        if (args.length < 4) {
+          Usage();
+        }
+        int threads =
+            args.length > 4 ? Integer.valueOf(args[4]) : Runtime.getRuntime().availableProcessors();
+        client.signRegisterTransactions(args[1], args[2], args[3], threads);
+        break;
+      case "replay":
+        if (args.length < 3) {
+          Usage();
+        }
+        client.replayRegisterTransactions(
+            args[1], Integer.valueOf(args[2]), args.length > 3 ? Integer.valueOf(args[3]) : 1000);
+        break;
+      default:
+        {
+          Usage();
+        }
+    }
+    System.exit(0);
+  }
+}
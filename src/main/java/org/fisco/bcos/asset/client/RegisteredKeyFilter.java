@@ -0,0 +1,238 @@
+package org.fisco.bcos.asset.client;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.fisco.bcos.asset.contract.Authentication;
+import org.fisco.bcos.asset.contract.Authorization;
+import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple4;
+import org.fisco.bcos.sdk.client.Client;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.eventsub.EventCallback;
+import org.fisco.bcos.sdk.eventsub.filter.EventSubNodeRespStatus;
+import org.fisco.bcos.sdk.model.CryptoType;
+import org.fisco.bcos.sdk.model.EventLog;
+import org.fisco.bcos.sdk.transaction.model.exception.ContractException;
+import org.fisco.bcos.sdk.utils.Numeric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bloom filter over the account ids registered in t_identity or t_resource.
+ *
+ * <p>The keys are the keccak256(account_id) topics of RegisterEvent, which are already uniformly
+ * distributed, so the k bit positions are derived from the digest by double hashing instead of
+ * rehashing. The filter is filled by replaying the RegisterEvent logs from block 1 to the head
+ * and then kept current by a live subscription. Until the replay has completed every key passes;
+ * afterwards a key that is not in the filter has never been registered and its select is skipped.
+ * A register made by another process is only known once its event arrives.
+ */
+public class RegisteredKeyFilter {
+
+  static Logger logger = LoggerFactory.getLogger(RegisteredKeyFilter.class);
+
+  public static final long DEFAULT_EXPECTED_KEYS = 1000000;
+  public static final double DEFAULT_FPP = 0.01;
+
+  private final AtomicLongArray bits;
+  private final long bitCount;
+  private final int hashCount;
+  private final CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+  private final AtomicLong insertions = new AtomicLong();
+  private final AtomicLong rejected = new AtomicLong();
+  private final AtomicLong passed = new AtomicLong();
+  private final CountDownLatch ready = new CountDownLatch(1);
+
+  public RegisteredKeyFilter(long expectedKeys, double fpp) {
+    long m = (long) Math.ceil(-expectedKeys * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+    this.bits = new AtomicLongArray((int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (m + 63) / 64)));
+    this.bitCount = bits.length() * 64L;
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedKeys * Math.log(2)));
+  }
+
+  public static boolean isEnabled() {
+    return Boolean.getBoolean("aagrid.bloom");
+  }
+
+  public static RegisteredKeyFilter fromSystemProperties() {
+    return new RegisteredKeyFilter(
+        Long.getLong("aagrid.bloom.expectedKeys", DEFAULT_EXPECTED_KEYS),
+        Double.parseDouble(System.getProperty("aagrid.bloom.fpp", String.valueOf(DEFAULT_FPP))));
+  }
+
+  public static RegisteredKeyFilter subscribe(Authentication auth, Client client) {
+    RegisteredKeyFilter filter = fromSystemProperties();
+    // live first, so the history up to the head read afterwards overlaps it instead of leaving a gap
+    auth.subscribeRegisterEventEvent(filter.liveCallback());
+    long head = client.getBlockNumber().getBlockNumber().longValue();
+    if (head < 1) {
+      filter.ready.countDown();
+    } else {
+      auth.subscribeRegisterEventEvent("1", String.valueOf(head), null, filter.historyCallback());
+    }
+    return filter;
+  }
+
+  public static RegisteredKeyFilter subscribe(Authorization auth, Client client) {
+    RegisteredKeyFilter filter = fromSystemProperties();
+    auth.subscribeRegisterEventEvent(filter.liveCallback());
+    long head = client.getBlockNumber().getBlockNumber().longValue();
+    if (head < 1) {
+      filter.ready.countDown();
+    } else {
+      auth.subscribeRegisterEventEvent("1", String.valueOf(head), null, filter.historyCallback());
+    }
+    return filter;
+  }
+
+  public boolean isReady() {
+    return ready.getCount() == 0;
+  }
+
+  // waits for the history replay, false if it has not completed within the timeout
+  public boolean awaitReady(long timeoutMillis) throws InterruptedException {
+    return ready.await(timeoutMillis, TimeUnit.MILLISECONDS);
+  }
+
+  // false only when the account was definitely never registered
+  public boolean mightContain(String accountId) {
+    if (!isReady() || containsTopic(cryptoSuite.hash(accountId))) {
+      passed.incrementAndGet();
+      return true;
+    }
+    rejected.incrementAndGet();
+    return false;
+  }
+
+  public void put(String accountId) {
+    putTopic(cryptoSuite.hash(accountId));
+  }
+
+  public void putTopic(String topic) {
+    byte[] digest = Numeric.hexStringToByteArray(topic);
+    long h1 = longOf(digest, 0);
+    long h2 = longOf(digest, 8) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(h1 + i * h2, bitCount);
+      int word = (int) (index >>> 6);
+      long mask = 1L << index;
+      long current;
+      do {
+        current = bits.get(word);
+      } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+    }
+    insertions.incrementAndGet();
+  }
+
+  private boolean containsTopic(String topic) {
+    byte[] digest = Numeric.hexStringToByteArray(topic);
+    long h1 = longOf(digest, 0);
+    long h2 = longOf(digest, 8) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(h1 + i * h2, bitCount);
+      if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long longOf(byte[] digest, int offset) {
+    long value = 0;
+    for (int i = offset; i < offset + 8; i++) {
+      value = (value << 8) | (digest[i] & 0xff);
+    }
+    return value;
+  }
+
+  // a lookup that answers "not exist" for a definite miss without calling the wrapped one
+  public RecordLookup guard(final RecordLookup lookup) {
+    return new RecordLookup() {
+      @Override
+      public Tuple4<BigInteger, String, String, String> select(String accountId) throws ContractException {
+        if (!mightContain(accountId)) {
+          return new Tuple4<BigInteger, String, String, String>(BigInteger.valueOf(-1), "", "", "");
+        }
+        return lookup.select(accountId);
+      }
+    };
+  }
+
+  private EventCallback liveCallback() {
+    return new EventCallback() {
+      @Override
+      public void onReceiveLog(int status, List<EventLog> logs) {
+        addTopics(logs);
+      }
+    };
+  }
+
+  private EventCallback historyCallback() {
+    return new EventCallback() {
+      @Override
+      public void onReceiveLog(int status, List<EventLog> logs) {
+        addTopics(logs);
+        if (status == EventSubNodeRespStatus.PUSH_COMPLETED.getStatus()) {
+          ready.countDown();
+          logger.info(" bloom filter loaded {} keys from the RegisterEvent history", insertions.get());
+        } else if (status != EventSubNodeRespStatus.SUCCESS.getStatus()) {
+          // stays not ready, every lookup keeps going to the chain
+          logger.warn(" RegisterEvent history replay failed, status is {}", status);
+        }
+      }
+    };
+  }
+
+  // every RegisterEvent names a key that exists, except a failed insert (-2), which only adds a
+  // false positive
+  private void addTopics(List<EventLog> logs) {
+    if (logs == null) {
+      return;
+    }
+    for (EventLog log : logs) {
+      List<String> topics = log.getTopics();
+      if (topics != null && topics.size() > 1) {
+        putTopic(topics.get(1));
+      }
+    }
+  }
+
+  // (1 - e^(-kn/m))^k for the n keys inserted so far, replays included
+  public double expectedFpp() {
+    return Math.pow(1 - Math.exp(-hashCount * (double) insertions.get() / bitCount), hashCount);
+  }
+
+  public long memoryBytes() {
+    return bits.length() * 8L;
+  }
+
+  public long getBitCount() {
+    return bitCount;
+  }
+
+  public int getHashCount() {
+    return hashCount;
+  }
+
+  public long getInsertions() {
+    return insertions.get();
+  }
+
+  public long getRejected() {
+    return rejected.get();
+  }
+
+  public long getPassed() {
+    return passed.get();
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "bloom filter: %d keys, %d bits, k=%d, %d bytes, expected fpp %.4f%%, %d lookups rejected, %d passed",
+        insertions.get(), bitCount, hashCount, memoryBytes(), expectedFpp() * 100, rejected.get(), passed.get());
+  }
+}
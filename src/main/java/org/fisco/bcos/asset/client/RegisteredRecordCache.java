@@ -0,0 +1,199 @@
+package org.fisco.bcos.asset.client;
+
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.fisco.bcos.asset.contract.Authentication;
+import org.fisco.bcos.asset.contract.Authorization;
+import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple4;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.eventsub.EventCallback;
+import org.fisco.bcos.sdk.model.CryptoType;
+import org.fisco.bcos.sdk.model.EventLog;
+import org.fisco.bcos.sdk.transaction.model.exception.ContractException;
+import org.fisco.bcos.sdk.utils.Numeric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read-through cache in front of the select of the t_identity / t_resource tables.
+ *
+ * <p>Entries are keyed by keccak256(account_id), which is also the indexed topic of RegisterEvent,
+ * so a register seen on the event subscription evicts the entry without decoding the log.
+ */
+public class RegisteredRecordCache implements RecordLookup {
+
+  static Logger logger = LoggerFactory.getLogger(RegisteredRecordCache.class);
+
+  public static final int DEFAULT_MAX_ENTRIES = 10000;
+  public static final long DEFAULT_TTL_MILLIS = 10 * 60 * 1000;
+  public static final long DEFAULT_NEGATIVE_TTL_MILLIS = 2 * 1000;
+
+  private static class CachedRecord {
+    final Tuple4<BigInteger, String, String, String> record;
+    final long expireAt;
+
+    CachedRecord(Tuple4<BigInteger, String, String, String> record, long expireAt) {
+      this.record = record;
+      this.expireAt = expireAt;
+    }
+  }
+
+  private final RecordLookup lookup;
+  private final long ttlMillis;
+  private final long negativeTtlMillis;
+  private final CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+  private final LinkedHashMap<String, CachedRecord> entries;
+  private final AtomicLong invalidations = new AtomicLong();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final SingleFlight<String, Tuple4<BigInteger, String, String, String>> loads =
+      new SingleFlight<String, Tuple4<BigInteger, String, String, String>>();
+
+  public RegisteredRecordCache(RecordLookup lookup, final int maxEntries, long ttlMillis, long negativeTtlMillis) {
+    this.lookup = lookup;
+    this.ttlMillis = ttlMillis;
+    this.negativeTtlMillis = negativeTtlMillis;
+    this.entries =
+        new LinkedHashMap<String, CachedRecord>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, CachedRecord> eldest) {
+            return size() > maxEntries;
+          }
+        };
+  }
+
+  public static RegisteredRecordCache fromSystemProperties(RecordLookup lookup) {
+    return new RegisteredRecordCache(
+        lookup,
+        Integer.getInteger("aagrid.cache.maxEntries", DEFAULT_MAX_ENTRIES),
+        Long.getLong("aagrid.cache.ttlMs", DEFAULT_TTL_MILLIS),
+        Long.getLong("aagrid.cache.negativeTtlMs", DEFAULT_NEGATIVE_TTL_MILLIS));
+  }
+
+  public static RegisteredRecordCache subscribe(final Authentication auth) {
+    RegisteredRecordCache cache =
+        fromSystemProperties(
+            new RecordLookup() {
+              @Override
+              public Tuple4<BigInteger, String, String, String> select(String accountId)
+                  throws ContractException {
+                return PayloadCodec.decode(auth.select(accountId));
+              }
+            });
+    auth.subscribeRegisterEventEvent(cache.invalidationCallback());
+    return cache;
+  }
+
+  public static RegisteredRecordCache subscribe(final Authorization auth) {
+    RegisteredRecordCache cache =
+        fromSystemProperties(
+            new RecordLookup() {
+              @Override
+              public Tuple4<BigInteger, String, String, String> select(String accountId)
+                  throws ContractException {
+                return PayloadCodec.decode(auth.select(accountId));
+              }
+            });
+    auth.subscribeRegisterEventEvent(cache.invalidationCallback());
+    return cache;
+  }
+
+  @Override
+  public Tuple4<BigInteger, String, String, String> select(final String accountId) throws ContractException {
+    String key = topicOf(accountId);
+    long now = System.currentTimeMillis();
+    synchronized (entries) {
+      CachedRecord cached = entries.get(key);
+      if (cached != null) {
+        if (cached.expireAt > now) {
+          hits.incrementAndGet();
+          return cached.record;
+        }
+        entries.remove(key);
+      }
+    }
+    misses.incrementAndGet();
+    // a register event that arrives while the select is in flight must not be shadowed by its result
+    final long generation = invalidations.get();
+    // concurrent misses of the key share one select; a caller that arrives after an invalidation
+    // has a new generation and so does not join a select that may predate the register
+    Tuple4<BigInteger, String, String, String> record =
+        loads.execute(
+            key + '@' + generation,
+            new SingleFlight.Load<Tuple4<BigInteger, String, String, String>>() {
+              @Override
+              public Tuple4<BigInteger, String, String, String> load() throws ContractException {
+                return lookup.select(accountId);
+              }
+            });
+    long ttl = isFound(record) ? ttlMillis : negativeTtlMillis;
+    if (ttl > 0) {
+      synchronized (entries) {
+        if (generation == invalidations.get()) {
+          entries.put(key, new CachedRecord(record, now + ttl));
+        }
+      }
+    }
+    return record;
+  }
+
+  public void invalidate(String accountId) {
+    invalidateTopic(topicOf(accountId));
+  }
+
+  public void invalidateTopic(String topic) {
+    String key = Numeric.cleanHexPrefix(topic).toLowerCase();
+    synchronized (entries) {
+      invalidations.incrementAndGet();
+      entries.remove(key);
+    }
+  }
+
+  public EventCallback invalidationCallback() {
+    return new EventCallback() {
+      @Override
+      public void onReceiveLog(int status, List<EventLog> logs) {
+        if (logs == null) {
+          return;
+        }
+        for (EventLog log : logs) {
+          List<String> topics = log.getTopics();
+          if (topics != null && topics.size() > 1) {
+            invalidateTopic(topics.get(1));
+            logger.debug(" register event at block {}, evict {}", log.getBlockNumber(), topics.get(1));
+          }
+        }
+      }
+    };
+  }
+
+  public String topicOf(String accountId) {
+    return cryptoSuite.hash(accountId);
+  }
+
+  public static boolean isFound(Tuple4<BigInteger, String, String, String> record) {
+    return record.getValue1().compareTo(BigInteger.ZERO) == 0;
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  // misses answered by the select of a concurrent miss of the same key
+  public long getCoalesced() {
+    return loads.getShared();
+  }
+}
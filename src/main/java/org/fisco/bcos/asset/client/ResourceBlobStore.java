@@ -0,0 +1,160 @@
+package org.fisco.bcos.asset.client;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import org.fisco.bcos.sdk.utils.Hex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local content-addressed store for Authorization resource bodies.
+ *
+ * <p>A body is stored under its keccak256 digest and only a reference "cas:digest:size" is
+ * registered in t_resource, so the transaction size no longer depends on the resource size. The
+ * reference is what the owner signs; since it contains the digest the signature still covers the
+ * body.
+ */
+public class ResourceBlobStore {
+
+  static Logger logger = LoggerFactory.getLogger(ResourceBlobStore.class);
+
+  public static final String REFERENCE_PREFIX = "cas:";
+  public static final String DEFAULT_DIR = "blobs";
+
+  private static ResourceBlobStore shared;
+
+  private final Path root;
+
+  // a parsed "cas:digest:size" value of t_resource.resource_data
+  public static class Reference {
+    public final String digest;
+    public final long size;
+
+    Reference(String digest, long size) {
+      this.digest = digest;
+      this.size = size;
+    }
+
+    @Override
+    public String toString() {
+      return REFERENCE_PREFIX + digest + ":" + size;
+    }
+  }
+
+  public ResourceBlobStore(String dir) {
+    this.root = Paths.get(dir);
+  }
+
+  public static synchronized ResourceBlobStore shared() {
+    if (shared == null) {
+      shared = new ResourceBlobStore(System.getProperty("aagrid.blobstore.dir", DEFAULT_DIR));
+    }
+    return shared;
+  }
+
+  // bodies of at least this many bytes go to the store, -1 (the default) keeps them on chain
+  public static long offchainThreshold() {
+    return Long.getLong("aagrid.blobstore.threshold", -1L);
+  }
+
+  public static boolean isReference(String resourceData) {
+    return resourceData.startsWith(REFERENCE_PREFIX);
+  }
+
+  public static Reference parseReference(String resourceData) {
+    int split = resourceData.lastIndexOf(':');
+    if (!isReference(resourceData) || split <= REFERENCE_PREFIX.length()) {
+      throw new IllegalArgumentException("not a blob reference: " + resourceData);
+    }
+    return new Reference(
+        resourceData.substring(REFERENCE_PREFIX.length(), split),
+        Long.parseLong(resourceData.substring(split + 1)));
+  }
+
+  public static String digest(byte[] body) {
+    return Hex.toHexString(SignatureVerifier.cryptoSuite().hash(body));
+  }
+
+  public Path path(String digest) {
+    return root.resolve(digest.substring(0, 2)).resolve(digest);
+  }
+
+  public boolean contains(String digest) {
+    return Files.exists(path(digest));
+  }
+
+  // stores the body if it is not there yet and returns its reference
+  public Reference put(byte[] body) throws IOException {
+    String digest = digest(body);
+    Path target = path(digest);
+    if (!Files.exists(target)) {
+      Files.createDirectories(target.getParent());
+      // write aside and rename, so a reader never sees a partial body under the digest name
+      Path tmp = Files.createTempFile(target.getParent(), digest, ".tmp");
+      try {
+        Files.write(tmp, body);
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+      } catch (FileAlreadyExistsException e) {
+        logger.debug(" blob {} stored concurrently", digest);
+      } finally {
+        Files.deleteIfExists(tmp);
+      }
+    }
+    return new Reference(digest, body.length);
+  }
+
+  // stores a file without reading it onto the heap: a mapped digest pass, then a file copy
+  public Reference putFile(Path file) throws IOException {
+    String digest = StreamingDigest.keccak256(file);
+    Path target = path(digest);
+    if (!Files.exists(target)) {
+      Files.createDirectories(target.getParent());
+      Path tmp = Files.createTempFile(target.getParent(), digest, ".tmp");
+      try {
+        Files.copy(file, tmp, StandardCopyOption.REPLACE_EXISTING);
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+      } catch (FileAlreadyExistsException e) {
+        logger.debug(" blob {} stored concurrently", digest);
+      } finally {
+        Files.deleteIfExists(tmp);
+      }
+    }
+    return new Reference(digest, Files.size(target));
+  }
+
+  // checks the stored body against the reference with a mapped digest, in constant heap
+  public boolean verify(Reference reference) throws IOException {
+    Path source = path(reference.digest);
+    File file = source.toFile();
+    if (!file.exists() || file.length() != reference.size) {
+      logger.warn(" blob {} missing or of wrong size", reference.digest);
+      return false;
+    }
+    if (!StreamingDigest.keccak256(source).equals(reference.digest)) {
+      logger.warn(" blob {} does not match its digest", reference.digest);
+      return false;
+    }
+    return true;
+  }
+
+  // the body of the reference, or null when it is missing or does not match the digest
+  public byte[] get(Reference reference) throws IOException {
+    Path source = path(reference.digest);
+    File file = source.toFile();
+    if (!file.exists() || file.length() != reference.size) {
+      logger.warn(" blob {} missing or of wrong size", reference.digest);
+      return null;
+    }
+    byte[] body = Files.readAllBytes(source);
+    if (!digest(body).equals(reference.digest)) {
+      logger.warn(" blob {} does not match its digest", reference.digest);
+      return null;
+    }
+    return body;
+  }
+}
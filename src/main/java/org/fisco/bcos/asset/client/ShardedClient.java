@@ -0,0 +1,485 @@
+package org.fisco.bcos.asset.client;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import org.fisco.bcos.asset.contract.Asset;
+import org.fisco.bcos.asset.contract.Authentication;
+import org.fisco.bcos.asset.contract.Authorization;
+import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple2;
+import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple4;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.crypto.signature.ECDSASignatureResult;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+/**
+ * The Authentication, Authorization and Asset operations of AuthenticationClient,
+ * AuthorizationClient and AssetClient over the groups of AccountShards. Batches are fanned out to
+ * all groups at once, so their write throughput adds up instead of being capped by the consensus of
+ * a single group.
+ *
+ * <p>As in AuthorizationClient, the key a resource is registered with is recorded in
+ * publickey.properties, per group here, and a grant checks the row against that owner key.
+ */
+public class ShardedClient {
+
+  static Logger logger = LoggerFactory.getLogger(ShardedClient.class);
+
+  private static final String USER_INFO = "Phone+1667727772;Hobby:Football";
+
+  private final AccountShards shards;
+
+  public ShardedClient(AccountShards shards) {
+    this.shards = shards;
+  }
+
+  public void deployAndRecordAddr() {
+    try {
+      Map<String, String> addresses = shards.deployAll();
+      for (Map.Entry<String, String> entry : addresses.entrySet()) {
+        System.out.printf(" deploy success, %s is %s \n", entry.getKey(), entry.getValue());
+      }
+    } catch (Exception e) {
+      logger.error(" deploy sharded contracts exception, error message is {}", e.getMessage());
+      System.out.println(" deploy sharded contracts failed, error message is  " + e.getMessage());
+    }
+  }
+
+  public void route(String accountId) {
+    System.out.printf(" account %s is served by group %d \n", accountId, shards.groupOf(accountId));
+  }
+
+  // registers the accounts of one group through registerBatch, chunkSize accounts per transaction,
+  // and returns the ret code of each account
+  private List<BigInteger> registerInGroup(int groupId, List<String> accountIds, int chunkSize) throws Exception {
+    Authentication auth = shards.authentication(groupId);
+    CryptoKeyPair cryptoKeyPair = shards.keyPair(groupId);
+    CryptoSuite cryptoSuite = SignatureVerifier.cryptoSuite();
+    String publicKey = cryptoKeyPair.getHexPublicKey();
+    List<BigInteger> results = new ArrayList<BigInteger>(accountIds.size());
+    for (int offset = 0; offset < accountIds.size(); offset += chunkSize) {
+      List<String> ids = accountIds.subList(offset, Math.min(offset + chunkSize, accountIds.size()));
+      List<String> publicKeys = new ArrayList<String>(ids.size());
+      List<String> userInfos = new ArrayList<String>(ids.size());
+      List<String> sigDatas = new ArrayList<String>(ids.size());
+      for (String accountId : ids) {
+        String hashData = cryptoSuite.hash(accountId + USER_INFO + publicKey);
+        publicKeys.add(publicKey);
+        userInfos.add(PayloadCodec.encode(USER_INFO));
+        sigDatas.add(((ECDSASignatureResult) cryptoSuite.sign(hashData, cryptoKeyPair)).convertToString());
+      }
+      TransactionReceipt receipt = auth.registerBatch(new ArrayList<String>(ids), publicKeys, userInfos, sigDatas);
+      List<Authentication.RegisterEventEventResponse> response = auth.getRegisterEventEvents(receipt);
+      if (response.size() != ids.size()) {
+        logger.warn(" registerBatch in group {} returned {} events for {} accounts, status is {}", groupId, response.size(), ids.size(), receipt.getStatus());
+      }
+      for (int i = 0; i < ids.size(); i++) {
+        results.add(i < response.size() ? response.get(i).ret : BigInteger.valueOf(-2));
+      }
+    }
+    return results;
+  }
+
+  public void batchRegister(int amount, final int chunkSize) {
+    try {
+      System.out.printf("----Experiment on registering users at random over %d groups in chunks of %d.----\n", shards.getGroups().length, chunkSize);
+      Random r = new Random();
+      List<String> accountIds = new ArrayList<String>(amount);
+      for (int i = 0; i < amount; i++) {
+        accountIds.add("batchtestuser" + Integer.toString(r.nextInt(amount)));
+      }
+
+      long startTime = System.currentTimeMillis();
+      List<BigInteger> results =
+          shards.fanOut(
+              accountIds,
+              new AccountShards.GroupCall<BigInteger>() {
+                @Override
+                public List<BigInteger> call(int groupId, List<String> ids) throws Exception {
+                  return registerInGroup(groupId, ids, Math.max(1, chunkSize));
+                }
+              });
+      long elapsed = System.currentTimeMillis() - startTime;
+
+      long regSuccess = 0;
+      for (BigInteger ret : results) {
+        if (ret.signum() == 0) {
+          regSuccess++;
+        }
+      }
+      System.out.println("Total registered users: " + amount);
+      System.out.println("Successful registrations: " + regSuccess);
+      System.out.println("Failed registrations: " + (amount - regSuccess));
+      System.out.println("Total time(ms): " + elapsed);
+      System.out.println("TPS=" + amount / ((double) Math.max(1, elapsed) / 1000));
+    } catch (Exception e) {
+      logger.error(" sharded register exception, error message is {}", e.getMessage());
+      System.out.printf(" register Authentication account failed, error message is %s\n", e.getMessage());
+    }
+  }
+
+  public void batchLogin(int amount, final int chunkSize) {
+    try {
+      System.out.printf("----Experiment on looking up users at random over %d groups in chunks of %d.----\n", shards.getGroups().length, chunkSize);
+      Random r = new Random();
+      List<String> accountIds = new ArrayList<String>(amount);
+      for (int i = 0; i < amount; i++) {
+        accountIds.add("batchtestuser" + Integer.toString(r.nextInt(amount)));
+      }
+
+      long startTime = System.currentTimeMillis();
+      List<Tuple4<BigInteger, String, String, String>> records =
+          shards.fanOut(
+              accountIds,
+              new AccountShards.GroupCall<Tuple4<BigInteger, String, String, String>>() {
+                @Override
+                public List<Tuple4<BigInteger, String, String, String>> call(int groupId, List<String> ids)
+                    throws Exception {
+                  Authentication auth = shards.authentication(groupId);
+                  List<Tuple4<BigInteger, String, String, String>> found =
+                      new ArrayList<Tuple4<BigInteger, String, String, String>>(ids.size());
+                  int chunk = Math.max(1, chunkSize);
+                  for (int offset = 0; offset < ids.size(); offset += chunk) {
+                    found.addAll(auth.selectBatchRecords(new ArrayList<String>(ids.subList(offset, Math.min(offset + chunk, ids.size())))));
+                  }
+                  return found;
+                }
+              });
+      long elapsed = System.currentTimeMillis() - startTime;
+
+      long hits = 0;
+      for (Tuple4<BigInteger, String, String, String> record : records) {
+        if (RegisteredRecordCache.isFound(record)) {
+          hits++;
+        }
+      }
+      System.out.println("Total lookups: " + amount);
+      System.out.println("Registered accounts found: " + hits);
+      System.out.println("Total time(ms): " + elapsed);
+      System.out.println("QPS=" + amount / ((double) Math.max(1, elapsed) / 1000));
+    } catch (Exception e) {
+      logger.error(" sharded login exception, error message is {}", e.getMessage());
+      System.out.printf(" login failed, error message is %s\n", e.getMessage());
+    }
+  }
+
+  public static String ownerKey(int groupId) {
+    return "group." + groupId + ".publickey";
+  }
+
+  public synchronized void recordOwnerPublicKey(int groupId, String publicKey) throws IOException {
+    Properties prop = new Properties();
+    final Resource keyResource = new ClassPathResource("publickey.properties");
+    if (keyResource.exists()) {
+      prop.load(keyResource.getInputStream());
+    }
+    prop.setProperty(ownerKey(groupId), publicKey);
+    FileOutputStream fileOutputStream = new FileOutputStream(keyResource.getFile());
+    try {
+      prop.store(fileOutputStream, "publickey address");
+    } finally {
+      fileOutputStream.close();
+    }
+  }
+
+  public String loadOwnerPublicKey(int groupId) throws Exception {
+    Properties prop = new Properties();
+    final Resource keyResource = new ClassPathResource("publickey.properties");
+    prop.load(keyResource.getInputStream());
+    String publicKey = prop.getProperty(ownerKey(groupId));
+    if (publicKey == null || publicKey.trim().equals("")) {
+      throw new Exception(" load Authorization publickey of group " + groupId + " failed, please register a resource first. ");
+    }
+    return publicKey;
+  }
+
+  public boolean registerResource(String accountId, String resource) {
+    try {
+      int groupId = shards.groupOf(accountId);
+      Authorization auth = shards.authorization(groupId);
+      CryptoKeyPair cryptoKeyPair = shards.keyPair(groupId);
+      CryptoSuite cryptoSuite = SignatureVerifier.cryptoSuite();
+      String publicKey = cryptoKeyPair.getHexPublicKey();
+      recordOwnerPublicKey(groupId, publicKey);
+      String hashData = cryptoSuite.hash(resource + accountId + publicKey);
+      String sigData = ((ECDSASignatureResult) cryptoSuite.sign(hashData, cryptoKeyPair)).convertToString();
+      TransactionReceipt receipt = auth.register(accountId, publicKey, PayloadCodec.encode(resource), sigData);
+      List<Authorization.RegisterEventEventResponse> response = auth.getRegisterEventEvents(receipt);
+      if (!response.isEmpty()) {
+        if (response.get(0).ret.compareTo(new BigInteger("0")) == 0) {
+          System.out.printf(
+              " register Authorization account success => Authorization: %s, group: %d \n", accountId, groupId);
+          return true;
+        } else {
+          System.out.printf(
+              " register Authorization account failed, ret code is %s \n", response.get(0).ret.toString());
+        }
+      } else {
+        System.out.println(" event log not found, maybe transaction not exec. ");
+      }
+    } catch (Exception e) {
+      logger.error(" registerResource exception, error message is {}", e.getMessage());
+      System.out.printf(" register Authorization account failed, error message is %s\n", e.getMessage());
+    }
+    return false;
+  }
+
+  public Tuple4<BigInteger, String, String, String> queryResource(String accountId) {
+    try {
+      Authorization auth = shards.authorization(shards.groupOf(accountId));
+      Tuple4<BigInteger, String, String, String> result = PayloadCodec.decode(auth.select(accountId));
+      if (result.getValue1().compareTo(new BigInteger("0")) == 0) {
+        System.out.printf(
+            " Authorization account %s, publickey=%s,resourceData=%s,sigData=%s \n",
+            accountId, result.getValue2(), result.getValue3(), result.getValue4());
+        return result;
+      } else {
+        System.out.printf(" %s Authorization account is not exist \n", accountId);
+      }
+    } catch (Exception e) {
+      logger.error(" queryResource exception, error message is {}", e.getMessage());
+      System.out.printf(" query Authorization account failed, error message is %s\n", e.getMessage());
+    }
+    return null;
+  }
+
+  // the grant of AuthorizationClient in the account's group: the row has to be registered by the
+  // recorded owner key, and the access token and the resource signature are verified as one batch
+  public boolean grantResource(String accountId) {
+    try {
+      int groupId = shards.groupOf(accountId);
+      Authorization auth = shards.authorization(groupId);
+      CryptoKeyPair cryptoKeyPair = shards.keyPair(groupId);
+      CryptoSuite cryptoSuite = SignatureVerifier.cryptoSuite();
+      String ownerPublicKey = loadOwnerPublicKey(groupId);
+      String dataToBeSigned = accountId + System.currentTimeMillis() + ownerPublicKey;
+      String tokenSignature =
+          ((ECDSASignatureResult) cryptoSuite.sign(cryptoSuite.hash(dataToBeSigned), cryptoKeyPair)).convertToString();
+
+      Tuple4<BigInteger, String, String, String> result = PayloadCodec.decode(auth.select(accountId));
+      if (result.getValue1().compareTo(new BigInteger("0")) != 0) {
+        System.out.printf(" %s Authorization account is not exist \n", accountId);
+        return false;
+      }
+      String publicKey = result.getValue2();
+      String resourceData = result.getValue3();
+      if (!publicKey.equals(ownerPublicKey)) {
+        System.out.println(" verify failure");
+        return false;
+      }
+      boolean[] verifications = SignatureVerifier.shared().verifyAll(Arrays.asList(
+          SignatureVerifier.Request.forMessage(cryptoKeyPair.getHexPublicKey(), dataToBeSigned, tokenSignature),
+          SignatureVerifier.Request.forMessage(publicKey, resourceData + accountId + publicKey, result.getValue4())));
+      if (!verifications[0]) {
+        System.out.printf("The access token is invalid  \n");
+        return false;
+      }
+      // an off chain body is only granted when it still matches the signed digest
+      if (verifications[1]
+          && (!ResourceBlobStore.isReference(resourceData)
+              || ResourceBlobStore.shared().verify(ResourceBlobStore.parseReference(resourceData)))) {
+        System.out.printf("Valid. Grant the resource  \n");
+        return true;
+      }
+      System.out.printf("The resource is invalid  \n");
+    } catch (Exception e) {
+      logger.error(" grantResource exception, error message is {}", e.getMessage());
+      System.out.printf(" grant Authorization Resource failed, error message is %s\n", e.getMessage());
+    }
+    return false;
+  }
+
+  public BigInteger queryAssetAmount(String assetAccount) {
+    try {
+      Asset asset = shards.asset(shards.groupOf(assetAccount));
+      Tuple2<BigInteger, BigInteger> result = asset.select(assetAccount);
+      if (result.getValue1().compareTo(new BigInteger("0")) == 0) {
+        System.out.printf(" asset account %s, value %s \n", assetAccount, result.getValue2());
+        return result.getValue2();
+      } else {
+        System.out.printf(" %s asset account is not exist \n", assetAccount);
+      }
+    } catch (Exception e) {
+      logger.error(" queryAssetAmount exception, error message is {}", e.getMessage());
+      System.out.printf(" query asset account failed, error message is %s\n", e.getMessage());
+    }
+    return null;
+  }
+
+  public boolean registerAssetAccount(String assetAccount, BigInteger amount) {
+    if (HotAccountAsset.isReserved(assetAccount)) {
+      System.out.printf(
+          " register asset account failed, \"%s\" is reserved for the rows of sharded accounts \n",
+          HotAccountAsset.SHARD_SEPARATOR);
+      return false;
+    }
+    try {
+      Asset asset = shards.asset(shards.groupOf(assetAccount));
+      TransactionReceipt receipt = asset.register(assetAccount, amount);
+      List<Asset.RegisterEventEventResponse> response = asset.getRegisterEventEvents(receipt);
+      if (!response.isEmpty()) {
+        if (response.get(0).ret.compareTo(new BigInteger("0")) == 0) {
+          System.out.printf(
+              " register asset account success => asset: %s, value: %s, group: %d \n", assetAccount, amount, shards.groupOf(assetAccount));
+          return true;
+        } else {
+          System.out.printf(
+              " register asset account failed, ret code is %s \n", response.get(0).ret.toString());
+        }
+      } else {
+        System.out.println(" event log not found, maybe transaction not exec. ");
+      }
+    } catch (Exception e) {
+      logger.error(" registerAssetAccount exception, error message is {}", e.getMessage());
+      System.out.printf(" register asset account failed, error message is %s\n", e.getMessage());
+    }
+    return false;
+  }
+
+  // a transfer is one transaction of one group, so both accounts have to live in the same group
+  public boolean transferAsset(String fromAssetAccount, String toAssetAccount, BigInteger amount) {
+    int fromGroup = shards.groupOf(fromAssetAccount);
+    int toGroup = shards.groupOf(toAssetAccount);
+    if (fromGroup != toGroup) {
+      System.out.printf(
+          " transfer asset account failed, %s is in group %d and %s in group %d, cross group transfer is not supported \n",
+          fromAssetAccount, fromGroup, toAssetAccount, toGroup);
+      return false;
+    }
+    try {
+      Asset asset = shards.asset(fromGroup);
+      TransactionReceipt receipt = asset.transfer(fromAssetAccount, toAssetAccount, amount);
+      List<Asset.TransferEventEventResponse> response = asset.getTransferEventEvents(receipt);
+      if (!response.isEmpty()) {
+        if (response.get(0).ret.compareTo(new BigInteger("0")) == 0) {
+          System.out.printf(
+              " transfer success => from_asset: %s, to_asset: %s, amount: %s \n",
+              fromAssetAccount, toAssetAccount, amount);
+          return true;
+        } else {
+          System.out.printf(
+              " transfer asset account failed, ret code is %s \n", response.get(0).ret.toString());
+        }
+      } else {
+        System.out.println(" event log not found, maybe transaction not exec. ");
+      }
+    } catch (Exception e) {
+      logger.error(" transferAsset exception, error message is {}", e.getMessage());
+      System.out.printf(" transfer asset account failed, error message is %s\n", e.getMessage());
+    }
+    return false;
+  }
+
+  public static void Usage() {
+    System.out.println(" Usage: (groups from -Daagrid.shard.groups, e.g. -Daagrid.shard.groups=1,2,3)");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.ShardedClient deploy");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.ShardedClient route account");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.ShardedClient mregister number [chunk]");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.ShardedClient mlogin number [chunk]");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.ShardedClient rregister account resource");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.ShardedClient rquery account");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.ShardedClient grant account");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.ShardedClient query account");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.ShardedClient register account value");
+    System.out.println(
+        "\t java -cp conf/:lib/*:apps/* org.fisco.bcos.asset.client.ShardedClient transfer from_account to_account amount");
+    System.exit(0);
+  }
+
+  public static void main(String[] args) throws Exception {
+    if (args.length < 1) {
+      Usage();
+    }
+
+    ShardedClient client = new ShardedClient(AccountShards.initialize());
+
+    switch (args[0]) {
+      case "deploy":
+        client.deployAndRecordAddr();
+        break;
+      case "route":
+        if (args.length < 2) {
+          Usage();
+        }
+        client.route(args[1]);
+        break;
+      case "mregister":
+        if (args.length < 2) {
+          Usage();
+        }
+        client.batchRegister(
+            Integer.valueOf(args[1]).intValue(),
+            args.length > 2 ? Integer.valueOf(args[2]).intValue() : AuthenticationClient.registerBatchSize());
+        break;
+      case "mlogin":
+        if (args.length < 2) {
+          Usage();
+        }
+        client.batchLogin(
+            Integer.valueOf(args[1]).intValue(),
+            args.length > 2 ? Integer.valueOf(args[2]).intValue() : AuthenticationClient.loginBatchSize());
+        break;
+      case "rregister":
+        if (args.length < 3) {
+          Usage();
+        }
+        client.registerResource(args[1], args[2]);
+        break;
+      case "rquery":
+        if (args.length < 2) {
+          Usage();
+        }
+        client.queryResource(args[1]);
+        break;
+      case "grant":
+        if (args.length < 2) {
+          Usage();
+        }
+        client.grantResource(args[1]);
+        break;
+      case "query":
+        if (args.length < 2) {
+          Usage();
+        }
+        client.queryAssetAmount(args[1]);
+        break;
+      case "register":
+        if (args.length < 3) {
+          Usage();
+        }
+        client.registerAssetAccount(args[1], new BigInteger(args[2]));
+        break;
+      case "transfer":
+        if (args.length < 4) {
+          Usage();
+        }
+        client.transferAsset(args[1], args[2], new BigInteger(args[3]));
+        break;
+      default:
+        {
+          Usage();
+        }
+    }
+    System.exit(0);
+  }
+}
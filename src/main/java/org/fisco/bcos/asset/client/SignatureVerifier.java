@@ -0,0 +1,145 @@
+package org.fisco.bcos.asset.client;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.model.CryptoType;
+
+/**
+ * Reusable secp256k1 verification engine.
+ *
+ * <p>Each worker thread keeps its own CryptoSuite. Batches are split over a work-stealing pool and
+ * the results come back in the order of the requests.
+ */
+public class SignatureVerifier {
+
+  // a verify costs far more than a fork, so a leaf can be a single signature and a batch of two
+  // already runs on two workers; larger batches get larger leaves, about four per worker
+  private static final int LEAVES_PER_WORKER = 4;
+
+  private static volatile SignatureVerifier shared;
+
+  private static final ThreadLocal<CryptoSuite> cryptoSuites =
+      new ThreadLocal<CryptoSuite>() {
+        @Override
+        protected CryptoSuite initialValue() {
+          return new CryptoSuite(CryptoType.ECDSA_TYPE);
+        }
+      };
+
+  public static class Request {
+    private final String publicKey;
+    private final String data;
+    private final boolean hashed;
+    private final String signature;
+
+    private Request(String publicKey, String data, boolean hashed, String signature) {
+      this.publicKey = publicKey;
+      this.data = data;
+      this.hashed = hashed;
+      this.signature = signature;
+    }
+
+    // the message is hashed with keccak256 on the worker before verifying
+    public static Request forMessage(String publicKey, String message, String signature) {
+      return new Request(publicKey, message, false, signature);
+    }
+
+    public static Request forHash(String publicKey, String hashData, String signature) {
+      return new Request(publicKey, hashData, true, signature);
+    }
+  }
+
+  private final ForkJoinPool pool;
+
+  public SignatureVerifier(int parallelism) {
+    this.pool = new ForkJoinPool(Math.max(1, parallelism));
+  }
+
+  public static SignatureVerifier shared() {
+    if (shared == null) {
+      synchronized (SignatureVerifier.class) {
+        if (shared == null) {
+          shared =
+              new SignatureVerifier(
+                  Integer.getInteger(
+                      "aagrid.verify.parallelism", Runtime.getRuntime().availableProcessors()));
+        }
+      }
+    }
+    return shared;
+  }
+
+  // the CryptoSuite owned by the calling thread
+  public static CryptoSuite cryptoSuite() {
+    return cryptoSuites.get();
+  }
+
+  public boolean verify(String publicKey, String hashData, String signature) {
+    return verify(Request.forHash(publicKey, hashData, signature));
+  }
+
+  public boolean verify(Request request) {
+    CryptoSuite cryptoSuite = cryptoSuites.get();
+    String hashData = request.hashed ? request.data : cryptoSuite.hash(request.data);
+    try {
+      return cryptoSuite.verify(request.publicKey, hashData, request.signature);
+    } catch (Exception e) {
+      // malformed key or signature data is an invalid signature, not a failure of the batch
+      return false;
+    }
+  }
+
+  public boolean[] verifyAll(List<Request> requests) {
+    boolean[] results = new boolean[requests.size()];
+    if (requests.size() == 1) {
+      results[0] = verify(requests.get(0));
+    } else if (!requests.isEmpty()) {
+      int leaves = pool.getParallelism() * LEAVES_PER_WORKER;
+      int leafSize = Math.max(1, (requests.size() + leaves - 1) / leaves);
+      pool.invoke(new VerifyRange(requests, results, 0, requests.size(), leafSize));
+    }
+    return results;
+  }
+
+  public int getParallelism() {
+    return pool.getParallelism();
+  }
+
+  public void shutdown() {
+    pool.shutdown();
+  }
+
+  private class VerifyRange extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final List<Request> requests;
+    private final boolean[] results;
+    private final int from;
+    private final int to;
+    private final int leafSize;
+
+    VerifyRange(List<Request> requests, boolean[] results, int from, int to, int leafSize) {
+      this.requests = requests;
+      this.results = results;
+      this.from = from;
+      this.to = to;
+      this.leafSize = leafSize;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= leafSize) {
+        for (int i = from; i < to; i++) {
+          results[i] = verify(requests.get(i));
+        }
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(
+          new VerifyRange(requests, results, from, middle, leafSize),
+          new VerifyRange(requests, results, middle, to, leafSize));
+    }
+  }
+}
@@ -0,0 +1,1325 @@
+package org.fisco.bcos.asset.client;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import org.fisco.bcos.asset.contract.Asset;
+import org.fisco.bcos.asset.contract.Authentication;
+import org.fisco.bcos.asset.contract.Authorization;
+import org.fisco.bcos.asset.contract.ParallelAsset;
+import org.fisco.bcos.sdk.abi.EventEncoder;
+import org.fisco.bcos.sdk.abi.FunctionEncoder;
+import org.fisco.bcos.sdk.abi.FunctionReturnDecoder;
+import org.fisco.bcos.sdk.abi.TypeReference;
+import org.fisco.bcos.sdk.abi.Utils;
+import org.fisco.bcos.sdk.abi.datatypes.DynamicArray;
+import org.fisco.bcos.sdk.abi.datatypes.Type;
+import org.fisco.bcos.sdk.abi.datatypes.Utf8String;
+import org.fisco.bcos.sdk.abi.datatypes.generated.Int256;
+import org.fisco.bcos.sdk.abi.datatypes.generated.Uint256;
+import org.fisco.bcos.sdk.channel.Channel;
+import org.fisco.bcos.sdk.client.Client;
+import org.fisco.bcos.sdk.client.protocol.request.Transaction;
+import org.fisco.bcos.sdk.client.protocol.response.BlockNumber;
+import org.fisco.bcos.sdk.client.protocol.response.Call;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.eventsub.EventLogParams;
+import org.fisco.bcos.sdk.eventsub.EventResource;
+import org.fisco.bcos.sdk.eventsub.filter.EventLogFilter;
+import org.fisco.bcos.sdk.eventsub.filter.EventSubNodeRespStatus;
+import org.fisco.bcos.sdk.model.CryptoType;
+import org.fisco.bcos.sdk.model.EventLog;
+import org.fisco.bcos.sdk.model.NodeVersion;
+import org.fisco.bcos.sdk.model.RetCode;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.fisco.bcos.sdk.model.TransactionReceiptStatus;
+import org.fisco.bcos.sdk.model.callback.TransactionCallback;
+import org.fisco.bcos.sdk.rlp.RlpDecoder;
+import org.fisco.bcos.sdk.rlp.RlpList;
+import org.fisco.bcos.sdk.rlp.RlpString;
+import org.fisco.bcos.sdk.rlp.RlpType;
+import org.fisco.bcos.sdk.service.GroupManagerService;
+import org.fisco.bcos.sdk.utils.Numeric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+/**
+ * In-process stand-in for a FISCO BCOS group, used with -Daagrid.ledger=simulated.
+ *
+ * <p>It hands out a {@link Client} whose raw transactions and calls are executed against in
+ * memory copies of the t_identity, t_resource and t_asset tables, with the same return codes and
+ * RegisterEvent/TransferEvent logs as Authentication.sol, Authorization.sol and Asset.sol. The
+ * wrappers, the event subscriptions and the client code run unchanged on top of it.
+ *
+ * <p>Transactions are sealed into blocks by one sealer thread, every aagrid.ledger.blockIntervalMs
+ * or as soon as they arrive when the interval is 0. aagrid.ledger.rpcLatencyMs (plus up to
+ * aagrid.ledger.rpcJitterMs) is added to every request. With aagrid.ledger.snapshot the tables are
+ * loaded from and saved to that file, so state survives across CLI invocations.
+ *
+ * <p>The logs of the last aagrid.ledger.keepEvents blocks (1000 by default) are kept, so a
+ * subscription with a past fromBlock inside that range gets the history first and one with a numeric
+ * toBlock ends with PUSH_COMPLETED, as on a node. Older logs are dropped once the live subscriptions
+ * have them, so a long run does not grow without bound; keepEvents=true keeps every block and
+ * keepEvents=false none. The retained history is part of the snapshot.
+ */
+public class SimulatedLedger {
+
+  static Logger logger = LoggerFactory.getLogger(SimulatedLedger.class);
+
+  public static final String ZERO_ADDRESS = "0x0000000000000000000000000000000000000000";
+  public static final String NODE_VERSION = "2.7.0";
+  public static final int SNAPSHOT_MAGIC = 0x41414c53; // "AALS"
+  public static final int SNAPSHOT_MAGIC_V2 = 0x41414c32; // "AAL2", followed by the event history
+  public static final int SNAPSHOT_MAGIC_V3 = 0x41414c33; // "AAL3", t_asset with its shard counts
+
+  // a raw transaction is accepted while current block < block limit <= current block + 1000
+  private static final long BLOCK_LIMIT_RANGE = 1000;
+  private static final long IDLE_POLL_MILLIS = 20;
+  private static final long DEFAULT_KEPT_EVENT_BLOCKS = 1000;
+
+  private static final Map<Integer, SimulatedLedger> groups = new HashMap<Integer, SimulatedLedger>();
+
+  private final CryptoSuite cryptoSuite = new CryptoSuite(CryptoType.ECDSA_TYPE);
+  private final FunctionEncoder functionEncoder = new FunctionEncoder(cryptoSuite);
+  private final EventEncoder eventEncoder = new EventEncoder(cryptoSuite);
+  private final EventResource eventResource = new EventResource();
+  private final Map<String, TableContract> contracts = new ConcurrentHashMap<String, TableContract>();
+  private final LinkedBlockingQueue<PendingTransaction> pending =
+      new LinkedBlockingQueue<PendingTransaction>();
+  private final ReentrantReadWriteLock stateLock = new ReentrantReadWriteLock();
+  private final ScheduledExecutorService delayed =
+      Executors.newSingleThreadScheduledExecutor(WorkerPools.namedDaemonThreads("ledger-rpc"));
+  private final ExecutorService callbacks =
+      Executors.newFixedThreadPool(
+          Runtime.getRuntime().availableProcessors(), WorkerPools.namedDaemonThreads("ledger-callback"));
+
+  private final int groupId;
+  private final long blockIntervalMillis;
+  private final int blockTxLimit;
+  private final long rpcLatencyMicros;
+  private final long rpcJitterMicros;
+  private final String snapshotFile;
+  private final Client client;
+  private final Thread sealer;
+
+  // how many blocks back the logs are kept for subscriptions that start in the past
+  private final long keptEventBlocks;
+  // blocks with logs in ascending order, replayed to subscriptions that start in the past
+  private final List<LoggedBlock> eventHistory = new ArrayList<LoggedBlock>();
+  // logs up to this block were dropped; only touched by the sealer thread
+  private long droppedEventsThrough;
+  // last block pushed to each subscription, by register id; only touched by the sealer thread
+  private final Map<String, Long> subscriptionCursors = new HashMap<String, Long>();
+
+  private volatile long blockNumber;
+  private volatile boolean running = true;
+
+  private static class LoggedBlock {
+    final long number;
+    final List<TransactionReceipt> receipts;
+
+    LoggedBlock(long number, List<TransactionReceipt> receipts) {
+      this.number = number;
+      this.receipts = receipts;
+    }
+  }
+
+  private static class PendingTransaction {
+    final byte[] rawTx;
+    final CompletableFuture<TransactionReceipt> receipt = new CompletableFuture<TransactionReceipt>();
+
+    PendingTransaction(byte[] rawTx) {
+      this.rawTx = rawTx;
+    }
+  }
+
+  public SimulatedLedger(
+      int groupId,
+      long blockIntervalMillis,
+      int blockTxLimit,
+      long rpcLatencyMicros,
+      long rpcJitterMicros,
+      String snapshotFile) {
+    this.groupId = groupId;
+    this.blockIntervalMillis = blockIntervalMillis;
+    this.blockTxLimit = Math.max(1, blockTxLimit);
+    this.rpcLatencyMicros = rpcLatencyMicros;
+    this.rpcJitterMicros = rpcJitterMicros;
+    this.snapshotFile = snapshotFile;
+    this.keptEventBlocks = keptEventBlocks(System.getProperty("aagrid.ledger.keepEvents"));
+    this.client =
+        (Client) Proxy.newProxyInstance(
+            Client.class.getClassLoader(), new Class<?>[] {Client.class}, new ClientHandler());
+    this.sealer =
+        new Thread(
+            new Runnable() {
+              @Override
+              public void run() {
+                sealLoop();
+              }
+            },
+            "ledger-sealer");
+    this.sealer.setDaemon(true);
+  }
+
+  private static long keptEventBlocks(String keepEvents) {
+    if (keepEvents == null || keepEvents.trim().isEmpty()) {
+      return DEFAULT_KEPT_EVENT_BLOCKS;
+    } else if ("true".equals(keepEvents)) {
+      return Long.MAX_VALUE;
+    } else if ("false".equals(keepEvents)) {
+      return 0;
+    }
+    try {
+      return Math.max(0, Long.parseLong(keepEvents.trim()));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(
+          "aagrid.ledger.keepEvents must be true, false or a block count, not " + keepEvents);
+    }
+  }
+
+  public static boolean isEnabled() {
+    return "simulated".equals(System.getProperty("aagrid.ledger"));
+  }
+
+  // the ledger of this process, configured from the aagrid.ledger.* system properties
+  public static synchronized SimulatedLedger shared() {
+    return group(defaultGroupId());
+  }
+
+  public static int defaultGroupId() {
+    return Integer.getInteger("aagrid.ledger.groupId", 1);
+  }
+
+  // one independent ledger per group id, the default group uses aagrid.ledger.snapshot as is and
+  // the others that path with a ".group<id>" suffix
+  public static synchronized SimulatedLedger group(int groupId) {
+    SimulatedLedger ledger = groups.get(groupId);
+    if (ledger == null) {
+      String snapshot = System.getProperty("aagrid.ledger.snapshot");
+      if (snapshot != null && groupId != defaultGroupId()) {
+        snapshot = snapshot + ".group" + groupId;
+      }
+      ledger =
+          new SimulatedLedger(
+              groupId,
+              Long.getLong("aagrid.ledger.blockIntervalMs", 0L),
+              Integer.getInteger("aagrid.ledger.blockTxLimit", 1000),
+              Long.getLong("aagrid.ledger.rpcLatencyMs", 0L) * 1000,
+              Long.getLong("aagrid.ledger.rpcJitterMs", 0L) * 1000,
+              snapshot);
+      ledger.start();
+      final SimulatedLedger started = ledger;
+      Runtime.getRuntime()
+          .addShutdownHook(
+              new Thread() {
+                @Override
+                public void run() {
+                  started.stop();
+                }
+              });
+      groups.put(groupId, ledger);
+    }
+    return ledger;
+  }
+
+  public void start() {
+    try {
+      if (snapshotFile != null && new File(snapshotFile).exists()) {
+        loadSnapshot(snapshotFile);
+      }
+    } catch (IOException e) {
+      logger.error(" load ledger snapshot {} failed, error message is {}", snapshotFile, e.getMessage());
+    }
+    bindRecordedAddresses();
+    sealer.start();
+    logger.info(
+        " simulated ledger started, block interval {} ms, rpc latency {} us, {} contracts",
+        blockIntervalMillis, rpcLatencyMicros, contracts.size());
+  }
+
+  public synchronized void stop() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    sealer.interrupt();
+    delayed.shutdownNow();
+    callbacks.shutdown();
+    try {
+      if (snapshotFile != null) {
+        saveSnapshot(snapshotFile);
+      }
+    } catch (IOException e) {
+      logger.error(" save ledger snapshot {} failed, error message is {}", snapshotFile, e.getMessage());
+    }
+  }
+
+  public Client getClient() {
+    return client;
+  }
+
+  public long getBlockNumber() {
+    return blockNumber;
+  }
+
+  // the contract.properties addresses were deployed on a real chain, serve them with empty tables
+  private void bindRecordedAddresses() {
+    try {
+      Properties prop = new Properties();
+      final Resource contractResource = new ClassPathResource("contract.properties");
+      if (!contractResource.exists()) {
+        return;
+      }
+      prop.load(contractResource.getInputStream());
+      if (groupId == defaultGroupId()) {
+        bind(prop.getProperty("authentication.address", prop.getProperty("address")), "t_identity");
+        bind(prop.getProperty("authorization.address"), "t_resource");
+        bind(prop.getProperty("asset.address"), "t_asset");
+      }
+      // the per group registry of AccountShards
+      bind(prop.getProperty("group." + groupId + ".authentication.address"), "t_identity");
+      bind(prop.getProperty("group." + groupId + ".authorization.address"), "t_resource");
+      bind(prop.getProperty("group." + groupId + ".asset.address"), "t_asset");
+    } catch (IOException e) {
+      logger.warn(" read contract.properties failed, error message is {}", e.getMessage());
+    }
+  }
+
+  private void bind(String address, String table) {
+    if (address != null && !address.trim().isEmpty() && !contracts.containsKey(address.trim().toLowerCase())) {
+      contracts.put(address.trim().toLowerCase(), newContract(table));
+    }
+  }
+
+  private TableContract newContract(String table) {
+    return "t_asset".equals(table) ? new AssetTable() : new RecordTable(table);
+  }
+
+  private void rpcDelay() {
+    long delay = rpcDelayMicros();
+    if (delay > 0) {
+      LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(delay));
+    }
+  }
+
+  private long rpcDelayMicros() {
+    return rpcLatencyMicros
+        + (rpcJitterMicros > 0 ? ThreadLocalRandom.current().nextLong(rpcJitterMicros + 1) : 0);
+  }
+
+  private PendingTransaction submit(String signedTx) {
+    PendingTransaction tx = new PendingTransaction(Numeric.hexStringToByteArray(signedTx));
+    pending.add(tx);
+    return tx;
+  }
+
+  private TransactionReceipt sendAndWait(String signedTx) {
+    rpcDelay();
+    try {
+      return submit(signedTx).receipt.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("interrupted while waiting for the receipt");
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private void sendAsync(final String signedTx, final TransactionCallback callback) {
+    Runnable send =
+        new Runnable() {
+          @Override
+          public void run() {
+            submit(signedTx)
+                .receipt
+                .thenAcceptAsync(
+                    new Consumer<TransactionReceipt>() {
+                      @Override
+                      public void accept(TransactionReceipt receipt) {
+                        callback.onResponse(receipt);
+                      }
+                    },
+                    callbacks);
+          }
+        };
+    long delay = rpcDelayMicros();
+    if (delay > 0) {
+      delayed.schedule(send, delay, TimeUnit.MICROSECONDS);
+    } else {
+      send.run();
+    }
+  }
+
+  private Call call(Transaction transaction) {
+    rpcDelay();
+    Call.CallOutput output = new Call.CallOutput();
+    output.setCurrentBlockNumber(Numeric.toHexStringWithPrefix(BigInteger.valueOf(blockNumber)));
+    TableContract contract = contracts.get(transaction.getTo().toLowerCase());
+    if (contract == null) {
+      output.setStatus(statusOf(TransactionReceiptStatus.CallAddressError));
+      output.setOutput("0x");
+    } else {
+      String data = Numeric.cleanHexPrefix(transaction.getData());
+      stateLock.readLock().lock();
+      try {
+        String result = contract.call(data.substring(0, 8), data.substring(8));
+        output.setStatus(result == null ? statusOf(TransactionReceiptStatus.RevertInstruction) : "0x0");
+        output.setOutput(result == null ? "0x" : "0x" + result);
+      } finally {
+        stateLock.readLock().unlock();
+      }
+    }
+    Call call = new Call();
+    call.setResult(output);
+    return call;
+  }
+
+  private void sealLoop() {
+    long nextSeal = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(blockIntervalMillis);
+    while (running) {
+      List<PendingTransaction> block = new ArrayList<PendingTransaction>();
+      try {
+        if (blockIntervalMillis > 0) {
+          long wait = nextSeal - System.nanoTime();
+          if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+          }
+          nextSeal += TimeUnit.MILLISECONDS.toNanos(blockIntervalMillis);
+          pending.drainTo(block, blockTxLimit);
+          if (block.isEmpty()) {
+            pushEvents(blockNumber);
+            continue;
+          }
+        } else {
+          PendingTransaction first = pending.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+          if (first == null) {
+            // no block to seal, but a new subscription may be waiting for its history
+            pushEvents(blockNumber);
+            continue;
+          }
+          block.add(first);
+          pending.drainTo(block, blockTxLimit - 1);
+        }
+      } catch (InterruptedException e) {
+        break;
+      }
+      seal(block);
+    }
+  }
+
+  private void seal(List<PendingTransaction> block) {
+    List<TransactionReceipt> receipts = new ArrayList<TransactionReceipt>(block.size());
+    long previous = blockNumber;
+    stateLock.writeLock().lock();
+    try {
+      long number = previous + 1;
+      for (int i = 0; i < block.size(); i++) {
+        TransactionReceipt receipt;
+        try {
+          receipt = execute(block.get(i).rawTx, number);
+        } catch (RuntimeException e) {
+          logger.warn(" execute transaction failed, error message is {}", e.getMessage());
+          receipt = new TransactionReceipt();
+          receipt.setStatus(statusOf(TransactionReceiptStatus.RevertInstruction));
+          receipt.setMessage(e.getMessage());
+          receipt.setLogs(Collections.<TransactionReceipt.Logs>emptyList());
+        }
+        receipt.setBlockNumber(Numeric.toHexStringWithPrefix(BigInteger.valueOf(number)));
+        receipt.setTransactionIndex(Numeric.toHexStringWithPrefix(BigInteger.valueOf(i)));
+        receipts.add(receipt);
+      }
+      List<TransactionReceipt> logged = new ArrayList<TransactionReceipt>();
+      for (TransactionReceipt receipt : receipts) {
+        if (receipt.getLogs() != null && !receipt.getLogs().isEmpty()) {
+          logged.add(receipt);
+        }
+      }
+      if (!logged.isEmpty()) {
+        eventHistory.add(new LoggedBlock(number, logged));
+      }
+      blockNumber = number;
+    } finally {
+      stateLock.writeLock().unlock();
+    }
+    for (int i = 0; i < block.size(); i++) {
+      block.get(i).receipt.complete(receipts.get(i));
+    }
+    pushEvents(previous);
+  }
+
+  private TransactionReceipt execute(byte[] rawTx, long number) {
+    // randomid, gasPrice, gasLimit, blockLimit, to, value, data, chainId, groupId, extraData, v, r, s
+    List<RlpType> fields = ((RlpList) RlpDecoder.decode(rawTx).getValues().get(0)).getValues();
+    BigInteger blockLimit = ((RlpString) fields.get(3)).asPositiveBigInteger();
+    String to = Numeric.toHexString(((RlpString) fields.get(4)).getBytes());
+    String data = Numeric.toHexStringNoPrefix(((RlpString) fields.get(6)).getBytes());
+
+    TransactionReceipt receipt = new TransactionReceipt();
+    receipt.setTransactionHash(Numeric.toHexString(cryptoSuite.hash(rawTx)));
+    receipt.setInput("0x" + data);
+    receipt.setGasUsed("0x0");
+    receipt.setContractAddress(ZERO_ADDRESS);
+    List<TransactionReceipt.Logs> logs = new ArrayList<TransactionReceipt.Logs>();
+    receipt.setLogs(logs);
+
+    if (blockLimit.longValue() < number || blockLimit.longValue() > number - 1 + BLOCK_LIMIT_RANGE) {
+      receipt.setStatus(statusOf(TransactionReceiptStatus.BlockLimitCheckFail));
+      receipt.setMessage(TransactionReceiptStatus.BlockLimitCheckFail.getMessage());
+      return receipt;
+    }
+
+    if ("0x".equals(to)) {
+      String address = "0x" + Numeric.cleanHexPrefix(receipt.getTransactionHash()).substring(24);
+      contracts.put(address, newContract(tableOfBinary(data)));
+      receipt.setContractAddress(address);
+      receipt.setStatus("0x0");
+      receipt.setOutput("0x");
+      logger.debug(" deploy simulated {} at {}", tableOfBinary(data), address);
+      return receipt;
+    }
+
+    receipt.setTo(to);
+    TableContract contract = contracts.get(to.toLowerCase());
+    String output = contract == null ? null : contract.transact(data.substring(0, 8), data.substring(8), to, logs);
+    if (output == null) {
+      RetCode error =
+          contract == null ? TransactionReceiptStatus.CallAddressError : TransactionReceiptStatus.RevertInstruction;
+      receipt.setStatus(statusOf(error));
+      receipt.setMessage(error.getMessage());
+      receipt.setOutput("0x");
+      logs.clear();
+    } else {
+      receipt.setStatus("0x0");
+      receipt.setOutput("0x" + output);
+    }
+    for (TransactionReceipt.Logs log : logs) {
+      log.setBlockNumber(Numeric.toHexStringWithPrefix(BigInteger.valueOf(number)));
+    }
+    return receipt;
+  }
+
+  private String tableOfBinary(String data) {
+    if (data.startsWith(Asset.getBinary(cryptoSuite)) || data.startsWith(ParallelAsset.getBinary(cryptoSuite))) {
+      return "t_asset";
+    } else if (data.startsWith(Authorization.getBinary(cryptoSuite))) {
+      return "t_resource";
+    } else if (data.startsWith(Authentication.getBinary(cryptoSuite))) {
+      return "t_identity";
+    }
+    throw new IllegalArgumentException(" the simulated ledger can not deploy this contract binary ");
+  }
+
+  // hand the logs each subscription has not seen yet to its callback; a subscription from "latest"
+  // that is new starts after latestBefore, the head when it was made at the earliest
+  private void pushEvents(long latestBefore) {
+    List<EventLogFilter> filters = eventResource.getFilterManager().getAllSubscribedEvent();
+    long head = blockNumber;
+    long oldestCursor = head;
+    for (EventLogFilter filter : filters) {
+      String id = filter.getRegisterID();
+      Long cursor = subscriptionCursors.get(id);
+      if (cursor == null) {
+        cursor = blockOf(filter.getParams().getFromBlock(), latestBefore + 1) - 1;
+        if (cursor < droppedEventsThrough) {
+          logger.warn(
+              " subscription {} starts at block {} but the logs up to block {} are no longer kept,"
+                  + " raise aagrid.ledger.keepEvents",
+              id,
+              cursor + 1,
+              droppedEventsThrough);
+        }
+      }
+      long toBlock = blockOf(filter.getParams().getToBlock(), Long.MAX_VALUE);
+      long upTo = Math.min(head, toBlock);
+      if (upTo > cursor) {
+        List<EventLog> matched = matchedLogs(filter.getParams(), cursor, upTo);
+        if (!matched.isEmpty() && filter.getCallback() != null) {
+          try {
+            filter.getCallback().onReceiveLog(EventSubNodeRespStatus.SUCCESS.getStatus(), matched);
+          } catch (RuntimeException e) {
+            logger.warn(" event callback failed, error message is {}", e.getMessage());
+          }
+        }
+        cursor = upTo;
+      }
+      if (cursor >= toBlock) {
+        subscriptionCursors.remove(id);
+        eventResource.getFilterManager().removeFilter(id);
+        if (filter.getCallback() != null) {
+          filter.getCallback().onReceiveLog(
+              EventSubNodeRespStatus.PUSH_COMPLETED.getStatus(), new ArrayList<EventLog>());
+        }
+        continue;
+      }
+      subscriptionCursors.put(id, cursor);
+      oldestCursor = Math.min(oldestCursor, cursor);
+    }
+    long dropThrough = Math.min(oldestCursor, head - Math.min(head, keptEventBlocks));
+    if (dropThrough > droppedEventsThrough) {
+      stateLock.writeLock().lock();
+      try {
+        eventHistory.subList(0, firstLoggedBlockAfter(dropThrough)).clear();
+        droppedEventsThrough = dropThrough;
+      } finally {
+        stateLock.writeLock().unlock();
+      }
+    }
+  }
+
+  // "latest" (or no bound) is the fallback, anything else a decimal or 0x block number
+  private static long blockOf(String block, long fallback) {
+    if (block == null || block.isEmpty() || "latest".equals(block)) {
+      return fallback;
+    }
+    return block.startsWith("0x") ? Numeric.decodeQuantity(block).longValue() : Long.parseLong(block);
+  }
+
+  private List<EventLog> matchedLogs(EventLogParams params, long after, long upTo) {
+    List<EventLog> matched = new ArrayList<EventLog>();
+    int first = firstLoggedBlockAfter(after);
+    for (int b = first; b < eventHistory.size() && eventHistory.get(b).number <= upTo; b++) {
+      for (TransactionReceipt receipt : eventHistory.get(b).receipts) {
+        List<TransactionReceipt.Logs> logs = receipt.getLogs();
+        for (int i = 0; i < logs.size(); i++) {
+          if (matches(params, logs.get(i))) {
+            EventLog eventLog = new EventLog(logs.get(i).getData(), logs.get(i).getTopics());
+            eventLog.setAddress(logs.get(i).getAddress());
+            eventLog.setBlockNumber(receipt.getBlockNumber());
+            eventLog.setTransactionHash(receipt.getTransactionHash());
+            eventLog.setTransactionIndex(receipt.getTransactionIndex());
+            eventLog.setLogIndex(Numeric.toHexStringWithPrefix(BigInteger.valueOf(i)));
+            matched.add(eventLog);
+          }
+        }
+      }
+    }
+    return matched;
+  }
+
+  private int firstLoggedBlockAfter(long number) {
+    int low = 0;
+    int high = eventHistory.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (eventHistory.get(mid).number <= number) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private static boolean matches(EventLogParams params, TransactionReceipt.Logs log) {
+    if (params == null) {
+      return false;
+    }
+    List<String> addresses = params.getAddresses();
+    if (addresses != null && !addresses.isEmpty()) {
+      boolean found = false;
+      for (String address : addresses) {
+        found |= address.equalsIgnoreCase(log.getAddress());
+      }
+      if (!found) {
+        return false;
+      }
+    }
+    List<Object> topics = params.getTopics();
+    for (int i = 0; topics != null && i < topics.size(); i++) {
+      Object expected = topics.get(i);
+      if (expected == null) {
+        continue;
+      }
+      if (i >= log.getTopics().size()) {
+        return false;
+      }
+      String actual = log.getTopics().get(i);
+      if (expected instanceof List) {
+        boolean found = false;
+        for (Object candidate : (List<?>) expected) {
+          found |= actual.equalsIgnoreCase(String.valueOf(candidate));
+        }
+        if (!found) {
+          return false;
+        }
+      } else if (!actual.equalsIgnoreCase(String.valueOf(expected))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String statusOf(RetCode code) {
+    return "0x" + Integer.toHexString(code.getCode());
+  }
+
+  private String methodId(String signature) {
+    return Numeric.cleanHexPrefix(functionEncoder.buildMethodId(signature));
+  }
+
+  private String topicOf(String value) {
+    return "0x" + cryptoSuite.hash(value);
+  }
+
+  private static String topicOf(BigInteger value) {
+    return Numeric.toHexStringWithPrefixZeroPadded(value, 64);
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static List<Type> decode(String args, TypeReference<?>... types) {
+    return FunctionReturnDecoder.decode(args, Utils.convert(Arrays.<TypeReference<?>>asList(types)));
+  }
+
+  @SuppressWarnings("rawtypes")
+  private static String encode(Type... values) {
+    return FunctionEncoder.encodeConstructor(Arrays.<Type>asList(values));
+  }
+
+  private static TransactionReceipt.Logs newLog(String address, List<String> topics, String data) {
+    TransactionReceipt.Logs log = new TransactionReceipt.Logs();
+    log.setAddress(address);
+    log.setTopics(topics);
+    log.setData("0x" + data);
+    return log;
+  }
+
+  private abstract static class TableContract {
+    final String table;
+
+    TableContract(String table) {
+      this.table = table;
+    }
+
+    // the abi encoded output, or null when the call reverts
+    abstract String call(String methodId, String args);
+
+    abstract String transact(String methodId, String args, String address, List<TransactionReceipt.Logs> logs);
+
+    abstract void write(DataOutputStream out) throws IOException;
+
+    // magic is that of the snapshot, for the tables whose layout has changed
+    abstract void read(DataInputStream in, int magic) throws IOException;
+  }
+
+  // t_identity and t_resource: key account_id, fields public_key, data, sig_data
+  private class RecordTable extends TableContract {
+    private final Map<String, String[]> rows = new ConcurrentHashMap<String, String[]>();
+    private final String registerId = methodId("register(string,string,string,string)");
+    private final String registerBatchId = methodId("registerBatch(string[],string[],string[],string[])");
+    private final String selectId = methodId("select(string)");
+    private final String selectBatchId = methodId("selectBatch(string[])");
+    private final String registerEvent = eventEncoder.encode(Authentication.REGISTEREVENT_EVENT);
+
+    RecordTable(String table) {
+      super(table);
+    }
+
+    @Override
+    String call(String methodId, String args) {
+      if (selectBatchId.equals(methodId)) {
+        return selectBatch(args);
+      } else if (!selectId.equals(methodId)) {
+        return null;
+      }
+      String[] row = rows.get(decode(args, new TypeReference<Utf8String>() {}).get(0).toString());
+      if (row == null) {
+        return encode(new Int256(-1), new Utf8String(""), new Utf8String(""), new Utf8String(""));
+      }
+      return encode(new Int256(0), new Utf8String(row[0]), new Utf8String(row[1]), new Utf8String(row[2]));
+    }
+
+    @SuppressWarnings("unchecked")
+    private String selectBatch(String args) {
+      List<Utf8String> accountIds =
+          (List<Utf8String>) decode(args, new TypeReference<DynamicArray<Utf8String>>() {}).get(0).getValue();
+      if (accountIds.isEmpty()) {
+        return encode(
+            DynamicArray.empty("int256[]"),
+            DynamicArray.empty("string[]"),
+            DynamicArray.empty("string[]"),
+            DynamicArray.empty("string[]"));
+      }
+      List<Int256> codes = new ArrayList<Int256>(accountIds.size());
+      List<Utf8String> publicKeys = new ArrayList<Utf8String>(accountIds.size());
+      List<Utf8String> data = new ArrayList<Utf8String>(accountIds.size());
+      List<Utf8String> sigData = new ArrayList<Utf8String>(accountIds.size());
+      for (Utf8String accountId : accountIds) {
+        String[] row = rows.get(accountId.getValue());
+        codes.add(new Int256(row == null ? -1 : 0));
+        publicKeys.add(new Utf8String(row == null ? "" : row[0]));
+        data.add(new Utf8String(row == null ? "" : row[1]));
+        sigData.add(new Utf8String(row == null ? "" : row[2]));
+      }
+      return encode(
+          new DynamicArray<Int256>(codes),
+          new DynamicArray<Utf8String>(publicKeys),
+          new DynamicArray<Utf8String>(data),
+          new DynamicArray<Utf8String>(sigData));
+    }
+
+    @Override
+    String transact(String methodId, String args, String address, List<TransactionReceipt.Logs> logs) {
+      if (selectId.equals(methodId) || selectBatchId.equals(methodId)) {
+        return call(methodId, args);
+      } else if (registerBatchId.equals(methodId)) {
+        return registerBatch(args, address, logs);
+      } else if (!registerId.equals(methodId)) {
+        return null;
+      }
+      List<Type> params =
+          decode(
+              args,
+              new TypeReference<Utf8String>() {},
+              new TypeReference<Utf8String>() {},
+              new TypeReference<Utf8String>() {},
+              new TypeReference<Utf8String>() {});
+      return encode(
+          new Int256(
+              insert(
+                  params.get(0).toString(),
+                  params.get(1).toString(),
+                  params.get(2).toString(),
+                  params.get(3).toString(),
+                  address,
+                  logs)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private String registerBatch(String args, String address, List<TransactionReceipt.Logs> logs) {
+      List<Type> params =
+          decode(
+              args,
+              new TypeReference<DynamicArray<Utf8String>>() {},
+              new TypeReference<DynamicArray<Utf8String>>() {},
+              new TypeReference<DynamicArray<Utf8String>>() {},
+              new TypeReference<DynamicArray<Utf8String>>() {});
+      List<Utf8String> accountIds = (List<Utf8String>) params.get(0).getValue();
+      List<Utf8String> publicKeys = (List<Utf8String>) params.get(1).getValue();
+      List<Utf8String> data = (List<Utf8String>) params.get(2).getValue();
+      List<Utf8String> sigData = (List<Utf8String>) params.get(3).getValue();
+      if (publicKeys.size() != accountIds.size()
+          || data.size() != accountIds.size()
+          || sigData.size() != accountIds.size()) {
+        // the require() of the contract
+        return null;
+      }
+      List<Int256> retCodes = new ArrayList<Int256>(accountIds.size());
+      for (int i = 0; i < accountIds.size(); i++) {
+        retCodes.add(
+            new Int256(
+                insert(
+                    accountIds.get(i).getValue(),
+                    publicKeys.get(i).getValue(),
+                    data.get(i).getValue(),
+                    sigData.get(i).getValue(),
+                    address,
+                    logs)));
+      }
+      return encode(retCodes.isEmpty() ? DynamicArray.empty("int256[]") : new DynamicArray<Int256>(retCodes));
+    }
+
+    private int insert(
+        String accountId,
+        String publicKey,
+        String data,
+        String sigData,
+        String address,
+        List<TransactionReceipt.Logs> logs) {
+      int ret = rows.putIfAbsent(accountId, new String[] {publicKey, data, sigData}) == null ? 0 : -1;
+      logs.add(
+          newLog(
+              address,
+              Arrays.asList(registerEvent, topicOf(accountId)),
+              encode(new Int256(ret), new Utf8String(publicKey), new Utf8String(data), new Utf8String(sigData))));
+      return ret;
+    }
+
+    @Override
+    void write(DataOutputStream out) throws IOException {
+      out.writeInt(rows.size());
+      for (Map.Entry<String, String[]> row : rows.entrySet()) {
+        writeString(out, row.getKey());
+        for (String field : row.getValue()) {
+          writeString(out, field);
+        }
+      }
+    }
+
+    @Override
+    void read(DataInputStream in, int magic) throws IOException {
+      for (int n = in.readInt(); n > 0; n--) {
+        rows.put(readString(in), new String[] {readString(in), readString(in), readString(in)});
+      }
+    }
+  }
+
+  // t_asset: key account, field asset_value; t_asset_shards: key account, field shards
+  private class AssetTable extends TableContract {
+    private final Map<String, BigInteger> rows = new ConcurrentHashMap<String, BigInteger>();
+    private final Map<String, Integer> shards = new ConcurrentHashMap<String, Integer>();
+    private final String registerId = methodId("register(string,uint256)");
+    private final String transferId = methodId("transfer(string,string,uint256)");
+    private final String transferBatchId = methodId("transferBatch(string[],string[],uint256[])");
+    private final String selectId = methodId("select(string)");
+    private final String shardsId = methodId("shards(string)");
+    private final String shardId = methodId("shard(string,uint256)");
+    // ParallelAsset; blocks are executed one transaction after the other here, so the conflict
+    // fields it registers change nothing
+    private final String enableParallelId = methodId("enableParallel()");
+    private final String disableParallelId = methodId("disableParallel()");
+    private final String registerEvent = eventEncoder.encode(Asset.REGISTEREVENT_EVENT);
+    private final String transferEvent = eventEncoder.encode(Asset.TRANSFEREVENT_EVENT);
+    private final BigInteger maxValue = BigInteger.ONE.shiftLeft(256).subtract(BigInteger.ONE);
+
+    AssetTable() {
+      super("t_asset");
+    }
+
+    @Override
+    String call(String methodId, String args) {
+      if (shardsId.equals(methodId)) {
+        Integer count = shards.get(decode(args, new TypeReference<Utf8String>() {}).get(0).toString());
+        return encode(new Uint256(count == null ? 1 : count));
+      }
+      if (!selectId.equals(methodId)) {
+        return null;
+      }
+      BigInteger value = rows.get(decode(args, new TypeReference<Utf8String>() {}).get(0).toString());
+      return value == null
+          ? encode(new Int256(-1), new Uint256(0))
+          : encode(new Int256(0), new Uint256(value));
+    }
+
+    @Override
+    String transact(String methodId, String args, String address, List<TransactionReceipt.Logs> logs) {
+      if (selectId.equals(methodId) || shardsId.equals(methodId)) {
+        return call(methodId, args);
+      } else if (shardId.equals(methodId)) {
+        return shard(args, address, logs);
+      } else if (enableParallelId.equals(methodId) || disableParallelId.equals(methodId)) {
+        return "";
+      } else if (registerId.equals(methodId)) {
+        List<Type> params = decode(args, new TypeReference<Utf8String>() {}, new TypeReference<Uint256>() {});
+        String account = params.get(0).toString();
+        BigInteger value = ((Uint256) params.get(1)).getValue();
+        int ret = account.contains("#") ? -3 : rows.containsKey(account) ? -1 : 0;
+        if (ret == 0) {
+          rows.put(account, value);
+        }
+        logs.add(
+            newLog(address, Arrays.asList(registerEvent, topicOf(account), topicOf(value)), encode(new Int256(ret))));
+        return encode(new Int256(ret));
+      } else if (transferBatchId.equals(methodId)) {
+        return transferBatch(args, address, logs);
+      } else if (transferId.equals(methodId)) {
+        List<Type> params =
+            decode(
+                args,
+                new TypeReference<Utf8String>() {},
+                new TypeReference<Utf8String>() {},
+                new TypeReference<Uint256>() {});
+        String from = params.get(0).toString();
+        String to = params.get(1).toString();
+        BigInteger amount = ((Uint256) params.get(2)).getValue();
+        BigInteger fromValue = rows.get(from);
+        BigInteger toValue = rows.get(to);
+        int ret = 0;
+        if (fromValue == null) {
+          ret = -1;
+        } else if (toValue == null) {
+          ret = -2;
+        } else if (fromValue.compareTo(amount) < 0) {
+          ret = -3;
+        } else if (toValue.add(amount).compareTo(maxValue) > 0) {
+          ret = -4;
+        } else {
+          rows.put(from, fromValue.subtract(amount));
+          rows.put(to, rows.get(to).add(amount));
+        }
+        logs.add(
+            newLog(
+                address,
+                Arrays.asList(transferEvent, topicOf(from), topicOf(to), topicOf(amount)),
+                encode(new Int256(ret))));
+        return encode(new Int256(ret));
+      }
+      return null;
+    }
+
+    // the rows account#current .. account#count-1 are added with 0 and a RegisterEvent each
+    private String shard(String args, String address, List<TransactionReceipt.Logs> logs) {
+      List<Type> params = decode(args, new TypeReference<Utf8String>() {}, new TypeReference<Uint256>() {});
+      String account = params.get(0).toString();
+      BigInteger count = ((Uint256) params.get(1)).getValue();
+      Integer recorded = shards.get(account);
+      int current = recorded == null ? 1 : recorded;
+      if (!rows.containsKey(account)) {
+        return encode(new Int256(-1));
+      } else if (count.compareTo(BigInteger.valueOf(current)) < 0) {
+        return encode(new Int256(-2));
+      }
+      for (int i = current; i < count.intValue(); i++) {
+        String row = account + "#" + i;
+        if (rows.containsKey(row)) {
+          // the insert of the contract fails and the transaction reverts
+          return null;
+        }
+      }
+      for (int i = current; i < count.intValue(); i++) {
+        String row = account + "#" + i;
+        rows.put(row, BigInteger.ZERO);
+        logs.add(
+            newLog(address, Arrays.asList(registerEvent, topicOf(row), topicOf(BigInteger.ZERO)), encode(new Int256(0))));
+      }
+      if (count.intValue() > current) {
+        shards.put(account, count.intValue());
+      }
+      return encode(new Int256(0));
+    }
+
+    // all legs are checked on the running balances first, the rows are only written when every leg
+    // passes; otherwise the legs that would have passed get -6
+    @SuppressWarnings("unchecked")
+    private String transferBatch(String args, String address, List<TransactionReceipt.Logs> logs) {
+      List<Type> params =
+          decode(
+              args,
+              new TypeReference<DynamicArray<Utf8String>>() {},
+              new TypeReference<DynamicArray<Utf8String>>() {},
+              new TypeReference<DynamicArray<Uint256>>() {});
+      List<Utf8String> froms = (List<Utf8String>) params.get(0).getValue();
+      List<Utf8String> tos = (List<Utf8String>) params.get(1).getValue();
+      List<Uint256> amounts = (List<Uint256>) params.get(2).getValue();
+      if (tos.size() != froms.size() || amounts.size() != froms.size()) {
+        return null;
+      }
+      Map<String, BigInteger> values = new HashMap<String, BigInteger>();
+      List<Int256> retCodes = new ArrayList<Int256>(froms.size());
+      int ret = 0;
+      for (int i = 0; i < froms.size(); i++) {
+        String from = froms.get(i).getValue();
+        String to = tos.get(i).getValue();
+        BigInteger amount = amounts.get(i).getValue();
+        BigInteger fromValue = values.containsKey(from) ? values.get(from) : rows.get(from);
+        BigInteger toValue = values.containsKey(to) ? values.get(to) : rows.get(to);
+        int code = 0;
+        if (fromValue == null) {
+          code = -1;
+        } else if (toValue == null) {
+          code = -2;
+        } else if (fromValue.compareTo(amount) < 0) {
+          code = -3;
+        } else if (toValue.add(amount).compareTo(maxValue) > 0) {
+          code = -4;
+        } else {
+          values.put(from, fromValue.subtract(amount));
+          values.put(to, values.get(to) == null ? toValue.add(amount) : values.get(to).add(amount));
+        }
+        if (ret == 0 && code != 0) {
+          ret = code;
+        }
+        retCodes.add(new Int256(code));
+      }
+      if (ret == 0) {
+        rows.putAll(values);
+      } else {
+        for (int i = 0; i < retCodes.size(); i++) {
+          if (retCodes.get(i).getValue().signum() == 0) {
+            retCodes.set(i, new Int256(-6));
+          }
+        }
+      }
+      for (int i = 0; i < froms.size(); i++) {
+        logs.add(
+            newLog(
+                address,
+                Arrays.asList(
+                    transferEvent,
+                    topicOf(froms.get(i).getValue()),
+                    topicOf(tos.get(i).getValue()),
+                    topicOf(amounts.get(i).getValue())),
+                encode(retCodes.get(i))));
+      }
+      return encode(
+          new Int256(ret), retCodes.isEmpty() ? DynamicArray.empty("int256[]") : new DynamicArray<Int256>(retCodes));
+    }
+
+    @Override
+    void write(DataOutputStream out) throws IOException {
+      out.writeInt(rows.size());
+      for (Map.Entry<String, BigInteger> row : rows.entrySet()) {
+        writeString(out, row.getKey());
+        writeString(out, row.getValue().toString());
+      }
+      out.writeInt(shards.size());
+      for (Map.Entry<String, Integer> count : shards.entrySet()) {
+        writeString(out, count.getKey());
+        out.writeInt(count.getValue());
+      }
+    }
+
+    @Override
+    void read(DataInputStream in, int magic) throws IOException {
+      for (int n = in.readInt(); n > 0; n--) {
+        rows.put(readString(in), new BigInteger(readString(in)));
+      }
+      if (magic == SNAPSHOT_MAGIC_V3) {
+        for (int n = in.readInt(); n > 0; n--) {
+          shards.put(readString(in), in.readInt());
+        }
+      }
+    }
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private void saveSnapshot(String file) throws IOException {
+    stateLock.readLock().lock();
+    try (DataOutputStream out =
+        new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 20))) {
+      out.writeInt(SNAPSHOT_MAGIC_V3);
+      out.writeLong(blockNumber);
+      out.writeInt(contracts.size());
+      for (Map.Entry<String, TableContract> contract : contracts.entrySet()) {
+        writeString(out, contract.getKey());
+        writeString(out, contract.getValue().table);
+        contract.getValue().write(out);
+      }
+      writeHistory(out);
+    } finally {
+      stateLock.readLock().unlock();
+    }
+  }
+
+  private void loadSnapshot(String file) throws IOException {
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(new FileInputStream(file), 1 << 20))) {
+      int magic = in.readInt();
+      if (magic != SNAPSHOT_MAGIC && magic != SNAPSHOT_MAGIC_V2 && magic != SNAPSHOT_MAGIC_V3) {
+        throw new IOException(file + " is not a ledger snapshot");
+      }
+      blockNumber = in.readLong();
+      for (int n = in.readInt(); n > 0; n--) {
+        String address = readString(in);
+        TableContract contract = newContract(readString(in));
+        contract.read(in, magic);
+        contracts.put(address, contract);
+      }
+      if (magic != SNAPSHOT_MAGIC) {
+        readHistory(in);
+      }
+    }
+  }
+
+  private void writeHistory(DataOutputStream out) throws IOException {
+    out.writeInt(eventHistory.size());
+    for (LoggedBlock block : eventHistory) {
+      out.writeLong(block.number);
+      out.writeInt(block.receipts.size());
+      for (TransactionReceipt receipt : block.receipts) {
+        writeString(out, receipt.getTransactionHash());
+        writeString(out, receipt.getTransactionIndex());
+        out.writeInt(receipt.getLogs().size());
+        for (TransactionReceipt.Logs log : receipt.getLogs()) {
+          writeString(out, log.getAddress());
+          writeString(out, log.getData());
+          out.writeInt(log.getTopics().size());
+          for (String topic : log.getTopics()) {
+            writeString(out, topic);
+          }
+        }
+      }
+    }
+  }
+
+  private void readHistory(DataInputStream in) throws IOException {
+    for (int n = in.readInt(); n > 0; n--) {
+      long number = in.readLong();
+      List<TransactionReceipt> receipts = new ArrayList<TransactionReceipt>();
+      for (int r = in.readInt(); r > 0; r--) {
+        TransactionReceipt receipt = new TransactionReceipt();
+        receipt.setBlockNumber(Numeric.toHexStringWithPrefix(BigInteger.valueOf(number)));
+        receipt.setTransactionHash(readString(in));
+        receipt.setTransactionIndex(readString(in));
+        List<TransactionReceipt.Logs> logs = new ArrayList<TransactionReceipt.Logs>();
+        for (int l = in.readInt(); l > 0; l--) {
+          String address = readString(in);
+          String data = readString(in);
+          List<String> topics = new ArrayList<String>();
+          for (int t = in.readInt(); t > 0; t--) {
+            topics.add(readString(in));
+          }
+          TransactionReceipt.Logs log = newLog(address, topics, "");
+          log.setData(data);
+          logs.add(log);
+        }
+        receipt.setLogs(logs);
+        receipts.add(receipt);
+      }
+      eventHistory.add(new LoggedBlock(number, receipts));
+    }
+  }
+
+  private NodeVersion nodeVersion() {
+    NodeVersion.ClientVersion version = new NodeVersion.ClientVersion();
+    version.setVersion(NODE_VERSION);
+    version.setSupportedVersion(NODE_VERSION);
+    version.setChainId("1");
+    version.setBuildType("simulated");
+    NodeVersion nodeVersion = new NodeVersion();
+    nodeVersion.setResult(version);
+    return nodeVersion;
+  }
+
+  // only the part of the Client interface used by the contract wrappers and the event subscription
+  private class ClientHandler implements InvocationHandler {
+    private final Channel channel =
+        (Channel) Proxy.newProxyInstance(
+            Channel.class.getClassLoader(), new Class<?>[] {Channel.class}, new InertHandler("Channel"));
+    private final GroupManagerService groupManagerService =
+        (GroupManagerService) Proxy.newProxyInstance(
+            GroupManagerService.class.getClassLoader(),
+            new Class<?>[] {GroupManagerService.class},
+            new InertHandler("GroupManagerService") {
+              @Override
+              public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if ("getChannel".equals(method.getName())) {
+                  return channel;
+                } else if ("getLatestBlockNumberByGroup".equals(method.getName())) {
+                  return BigInteger.valueOf(blockNumber);
+                }
+                return super.invoke(proxy, method, args);
+              }
+            });
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "getCryptoSuite":
+          return cryptoSuite;
+        case "getCryptoType":
+          return CryptoType.ECDSA_TYPE;
+        case "getGroupId":
+          return groupId;
+        case "getGroupManagerService":
+          return groupManagerService;
+        case "getEventResource":
+          return eventResource;
+        case "getClientNodeVersion":
+        case "getNodeVersion":
+          if (args == null || args.length == 0) {
+            return nodeVersion();
+          }
+          break;
+        case "getBlockLimit":
+          return BigInteger.valueOf(blockNumber + BLOCK_LIMIT_RANGE / 2);
+        case "getBlockNumber":
+          if (args == null || args.length == 0) {
+            rpcDelay();
+            BlockNumber number = new BlockNumber();
+            number.setResult(Numeric.toHexStringWithPrefix(BigInteger.valueOf(blockNumber)));
+            return number;
+          }
+          break;
+        case "call":
+          if (args != null && args.length == 1) {
+            return call((Transaction) args[0]);
+          }
+          break;
+        case "sendRawTransactionAndGetReceipt":
+          return sendAndWait((String) args[0]);
+        case "sendRawTransactionAndGetReceiptAsync":
+          sendAsync((String) args[0], (TransactionCallback) args[1]);
+          return null;
+        case "stop":
+          return null;
+        case "toString":
+          return "SimulatedLedgerClient(group" + groupId + ")";
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "equals":
+          return proxy == args[0];
+        default:
+          break;
+      }
+      throw new UnsupportedOperationException(
+          "Client." + method.getName() + " is not supported by the simulated ledger");
+    }
+  }
+
+  // answers the calls made while a contract handle is set up, there is no network behind it
+  private static class InertHandler implements InvocationHandler {
+    private final String name;
+
+    InertHandler(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "toString":
+          return "Simulated" + name;
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "equals":
+          return proxy == args[0];
+        default:
+          break;
+      }
+      Class<?> type = method.getReturnType();
+      if (type == boolean.class) {
+        return false;
+      } else if (type == int.class) {
+        return 0;
+      } else if (type == long.class) {
+        return 0L;
+      } else if (List.class.isAssignableFrom(type)) {
+        return new ArrayList<Object>();
+      }
+      return null;
+    }
+  }
+}
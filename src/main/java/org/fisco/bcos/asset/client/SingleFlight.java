@@ -0,0 +1,74 @@
+package org.fisco.bcos.asset.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.fisco.bcos.sdk.transaction.model.exception.ContractException;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the load, the callers that
+ * arrive while it is in flight wait for it and get the same result or exception. Nothing is kept
+ * once the load has finished, so a later caller always starts a fresh one.
+ */
+public class SingleFlight<K, V> {
+
+  public interface Load<V> {
+    V load() throws ContractException;
+  }
+
+  private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<K, CompletableFuture<V>>();
+  private final AtomicLong loads = new AtomicLong();
+  private final AtomicLong shared = new AtomicLong();
+
+  public V execute(K key, Load<V> load) throws ContractException {
+    CompletableFuture<V> mine = new CompletableFuture<V>();
+    CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+    if (running != null) {
+      shared.incrementAndGet();
+      return await(running);
+    }
+    loads.incrementAndGet();
+    try {
+      V value = load.load();
+      mine.complete(value);
+      return value;
+    } catch (ContractException | RuntimeException | Error e) {
+      mine.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, mine);
+    }
+  }
+
+  private V await(CompletableFuture<V> running) throws ContractException {
+    try {
+      return running.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ContractException("interrupted while waiting for a shared load", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof ContractException) {
+        throw (ContractException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new ContractException(cause.getMessage(), cause);
+    }
+  }
+
+  public int inFlight() {
+    return inFlight.size();
+  }
+
+  // loads actually run
+  public long getLoads() {
+    return loads.get();
+  }
+
+  // calls answered by the load of another caller
+  public long getShared() {
+    return shared.get();
+  }
+}
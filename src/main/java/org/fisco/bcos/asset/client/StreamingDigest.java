@@ -0,0 +1,70 @@
+package org.fisco.bcos.asset.client;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.bouncycastle.crypto.digests.KeccakDigest;
+import org.fisco.bcos.sdk.utils.Hex;
+
+/**
+ * keccak256 of a file fed through an incremental digest from a memory mapping, so hashing a
+ * resource needs a fixed 64kB of heap whatever its size. The result is the same as
+ * CryptoSuite.hash over the concatenated bytes.
+ */
+public class StreamingDigest {
+
+  private static final int CHUNK = 64 * 1024;
+  private static final long MAP_WINDOW = 64L * 1024 * 1024;
+
+  private static final ThreadLocal<byte[]> buffers =
+      new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+          return new byte[CHUNK];
+        }
+      };
+
+  private final KeccakDigest digest = new KeccakDigest(256);
+
+  public StreamingDigest update(Path file) throws IOException {
+    byte[] chunk = buffers.get();
+    try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r");
+        FileChannel channel = raf.getChannel()) {
+      long size = channel.size();
+      for (long position = 0; position < size; position += MAP_WINDOW) {
+        MappedByteBuffer window =
+            channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_WINDOW, size - position));
+        while (window.hasRemaining()) {
+          int n = Math.min(chunk.length, window.remaining());
+          window.get(chunk, 0, n);
+          digest.update(chunk, 0, n);
+        }
+      }
+    }
+    return this;
+  }
+
+  public StreamingDigest update(String text) {
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    digest.update(bytes, 0, bytes.length);
+    return this;
+  }
+
+  public byte[] digest() {
+    byte[] out = new byte[digest.getDigestSize()];
+    digest.doFinal(out, 0);
+    return out;
+  }
+
+  // lowercase hex without 0x, the format of CryptoSuite.hash(String)
+  public String hexDigest() {
+    return Hex.toHexString(digest());
+  }
+
+  public static String keccak256(Path file) throws IOException {
+    return new StreamingDigest().update(file).hexDigest();
+  }
+}
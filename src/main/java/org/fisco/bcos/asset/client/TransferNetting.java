@@ -0,0 +1,337 @@
+package org.fisco.bcos.asset.client;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.fisco.bcos.asset.contract.Asset;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.fisco.bcos.sdk.model.callback.TransactionCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffers Asset transfers for a window and settles the window with one Asset.transferBatch of the
+ * net movements: the per-account deltas of the window, paid from the accounts that lost to the
+ * accounts that gained, at most one leg less than the accounts involved.
+ *
+ * <p>This is settlement semantics: only the end balances of the window are checked, so A paying B
+ * and B paying A back inside one window succeed even if A could not have paid first. transferBatch
+ * is all-or-nothing, so every transfer of a window completes with the same code, 0 when the window
+ * was applied, otherwise the code of the first failed leg (-5 if the transaction itself failed).
+ * An account whose transfers cancel out still gets a 0 leg to itself, so that its existence is
+ * checked like that of the others.
+ *
+ * <p>A window is closed after aagrid.netting.windowMs or once it involves
+ * aagrid.netting.maxAccounts accounts. Closed windows are handed to one submitter thread in the
+ * order they were closed, whether by a transfer or by the timer, so they are sent in that order;
+ * aagrid.netting.inFlight windows (default 1, which also keeps their execution in order) may be on
+ * their way to the chain at once. At most that many closed windows wait for the submitter, beyond
+ * that transfer blocks. After close, transfer throws IllegalStateException.
+ */
+public class TransferNetting {
+
+  static Logger logger = LoggerFactory.getLogger(TransferNetting.class);
+
+  public static final long DEFAULT_WINDOW_MILLIS = 200;
+  public static final int DEFAULT_MAX_ACCOUNTS = 100;
+
+  public static class Leg {
+    public final String from;
+    public final String to;
+    public final BigInteger amount;
+
+    Leg(String from, String to, BigInteger amount) {
+      this.from = from;
+      this.to = to;
+      this.amount = amount;
+    }
+  }
+
+  private static class Pending {
+    final String from;
+    final String to;
+    final BigInteger amount;
+    final CompletableFuture<BigInteger> result = new CompletableFuture<BigInteger>();
+
+    Pending(String from, String to, BigInteger amount) {
+      this.from = from;
+      this.to = to;
+      this.amount = amount;
+    }
+  }
+
+  private final Asset asset;
+  private final int maxAccounts;
+  private final Semaphore inFlight;
+  private final int inFlightLimit;
+  private final ScheduledExecutorService timer;
+  private final ThreadPoolExecutor submitter;
+  private boolean closed;
+  private List<Pending> window = new ArrayList<Pending>();
+  private Set<String> windowAccounts = new HashSet<String>();
+  private final AtomicLong transfers = new AtomicLong();
+  private final AtomicLong batches = new AtomicLong();
+  private final AtomicLong legs = new AtomicLong();
+  private final AtomicLong failedBatches = new AtomicLong();
+
+  public TransferNetting(Asset asset, long windowMillis, int maxAccounts, int inFlight) {
+    this.asset = asset;
+    this.maxAccounts = Math.max(2, maxAccounts);
+    this.inFlightLimit = Math.max(1, inFlight);
+    this.inFlight = new Semaphore(inFlightLimit);
+    this.submitter =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<Runnable>(inFlightLimit),
+            WorkerPools.namedDaemonThreads("transfer-netting-submit"),
+            new RejectedExecutionHandler() {
+              // a full queue blocks the caller instead of settling on its thread, out of order
+              @Override
+              public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+                if (executor.isShutdown()) {
+                  throw new RejectedExecutionException("transfer netting is closed");
+                }
+                try {
+                  executor.getQueue().put(r);
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                  throw new RejectedExecutionException(e);
+                }
+              }
+            });
+    this.timer = Executors.newSingleThreadScheduledExecutor(WorkerPools.namedDaemonThreads("transfer-netting"));
+    timer.scheduleWithFixedDelay(
+        new Runnable() {
+          @Override
+          public void run() {
+            flush();
+          }
+        },
+        windowMillis,
+        windowMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  public static TransferNetting fromSystemProperties(Asset asset) {
+    return new TransferNetting(
+        asset,
+        Long.getLong("aagrid.netting.windowMs", DEFAULT_WINDOW_MILLIS),
+        Integer.getInteger("aagrid.netting.maxAccounts", DEFAULT_MAX_ACCOUNTS),
+        Integer.getInteger("aagrid.netting.inFlight", 1));
+  }
+
+  // completes with the code of the window the transfer was settled in
+  public CompletableFuture<BigInteger> transfer(String from, String to, BigInteger amount) {
+    Pending transfer = new Pending(from, to, amount);
+    synchronized (this) {
+      if (closed) {
+        throw new IllegalStateException("transfer netting is closed");
+      }
+      int added = (windowAccounts.contains(from) ? 0 : 1) + (from.equals(to) || windowAccounts.contains(to) ? 0 : 1);
+      if (windowAccounts.size() + added > maxAccounts) {
+        submit(takeWindow());
+      }
+      window.add(transfer);
+      windowAccounts.add(from);
+      windowAccounts.add(to);
+    }
+    transfers.incrementAndGet();
+    return transfer.result;
+  }
+
+  public synchronized void flush() {
+    List<Pending> taken = takeWindow();
+    if (!taken.isEmpty()) {
+      submit(taken);
+    }
+  }
+
+  // called with the lock held, so the submitter gets the windows in the order they were taken
+  private void submit(final List<Pending> batch) {
+    try {
+      submitter.execute(
+          new Runnable() {
+            @Override
+            public void run() {
+              settle(batch);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      logger.error(" submit transferBatch exception, error message is {}", e.getMessage());
+      complete(batch, BigInteger.valueOf(-5));
+    }
+  }
+
+  private List<Pending> takeWindow() {
+    List<Pending> taken = window;
+    window = new ArrayList<Pending>();
+    windowAccounts = new HashSet<String>();
+    return taken;
+  }
+
+  // the net movements of the transfers; accounts appear in the order they were first seen
+  public static List<Leg> net(List<String> froms, List<String> tos, List<BigInteger> amounts) {
+    Map<String, BigInteger> deltas = new LinkedHashMap<String, BigInteger>();
+    for (int i = 0; i < froms.size(); i++) {
+      BigInteger from = deltas.get(froms.get(i));
+      deltas.put(froms.get(i), (from == null ? BigInteger.ZERO : from).subtract(amounts.get(i)));
+      BigInteger to = deltas.get(tos.get(i));
+      deltas.put(tos.get(i), (to == null ? BigInteger.ZERO : to).add(amounts.get(i)));
+    }
+    List<String> payers = new ArrayList<String>();
+    List<BigInteger> debts = new ArrayList<BigInteger>();
+    List<String> payees = new ArrayList<String>();
+    List<BigInteger> credits = new ArrayList<BigInteger>();
+    List<Leg> legs = new ArrayList<Leg>();
+    for (Map.Entry<String, BigInteger> delta : deltas.entrySet()) {
+      if (delta.getValue().signum() < 0) {
+        payers.add(delta.getKey());
+        debts.add(delta.getValue().negate());
+      } else if (delta.getValue().signum() > 0) {
+        payees.add(delta.getKey());
+        credits.add(delta.getValue());
+      } else {
+        legs.add(new Leg(delta.getKey(), delta.getKey(), BigInteger.ZERO));
+      }
+    }
+    // every leg pays off a payer or a payee completely
+    int p = 0;
+    int q = 0;
+    while (p < payers.size() && q < payees.size()) {
+      BigInteger amount = debts.get(p).min(credits.get(q));
+      legs.add(new Leg(payers.get(p), payees.get(q), amount));
+      debts.set(p, debts.get(p).subtract(amount));
+      credits.set(q, credits.get(q).subtract(amount));
+      if (debts.get(p).signum() == 0) {
+        p++;
+      }
+      if (credits.get(q).signum() == 0) {
+        q++;
+      }
+    }
+    return legs;
+  }
+
+  private void settle(final List<Pending> batch) {
+    List<String> froms = new ArrayList<String>(batch.size());
+    List<String> tos = new ArrayList<String>(batch.size());
+    List<BigInteger> amounts = new ArrayList<BigInteger>(batch.size());
+    for (Pending transfer : batch) {
+      froms.add(transfer.from);
+      tos.add(transfer.to);
+      amounts.add(transfer.amount);
+    }
+    List<Leg> netted = net(froms, tos, amounts);
+    final List<String> legFroms = new ArrayList<String>(netted.size());
+    final List<String> legTos = new ArrayList<String>(netted.size());
+    final List<BigInteger> legAmounts = new ArrayList<BigInteger>(netted.size());
+    for (Leg leg : netted) {
+      legFroms.add(leg.from);
+      legTos.add(leg.to);
+      legAmounts.add(leg.amount);
+    }
+    batches.incrementAndGet();
+    legs.addAndGet(netted.size());
+
+    try {
+      inFlight.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      complete(batch, BigInteger.valueOf(-5));
+      return;
+    }
+    try {
+      asset.transferBatch(
+          legFroms,
+          legTos,
+          legAmounts,
+          new TransactionCallback() {
+            @Override
+            public void onResponse(TransactionReceipt receipt) {
+              BigInteger ret = BigInteger.valueOf(-5);
+              try {
+                if (receipt.isStatusOK()) {
+                  ret = asset.getTransferBatchOutput(receipt).getValue1();
+                  if (ret.signum() != 0) {
+                    logger.info(
+                        " transferBatch of {} legs rejected, leg codes are {}",
+                        legFroms.size(),
+                        asset.getTransferBatchOutput(receipt).getValue2());
+                  }
+                } else {
+                  logger.warn(" transferBatch failed, status is {}, message is {}", receipt.getStatus(), receipt.getMessage());
+                }
+              } catch (Exception e) {
+                logger.error(" decode transferBatch receipt exception, error message is {}", e.getMessage());
+              } finally {
+                inFlight.release();
+                complete(batch, ret);
+              }
+            }
+          });
+    } catch (Exception e) {
+      logger.error(" send transferBatch exception, error message is {}", e.getMessage());
+      inFlight.release();
+      complete(batch, BigInteger.valueOf(-5));
+    }
+  }
+
+  private void complete(List<Pending> batch, BigInteger ret) {
+    if (ret.signum() != 0) {
+      failedBatches.incrementAndGet();
+    }
+    for (Pending transfer : batch) {
+      transfer.result.complete(ret);
+    }
+  }
+
+  // settles what is buffered and waits for the windows on their way
+  public void close() throws InterruptedException {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+    }
+    timer.shutdown();
+    timer.awaitTermination(1, TimeUnit.MINUTES);
+    flush();
+    submitter.shutdown();
+    submitter.awaitTermination(1, TimeUnit.MINUTES);
+    inFlight.acquire(inFlightLimit);
+    inFlight.release(inFlightLimit);
+  }
+
+  public long getTransfers() {
+    return transfers.get();
+  }
+
+  public long getBatches() {
+    return batches.get();
+  }
+
+  public long getLegs() {
+    return legs.get();
+  }
+
+  public long getFailedBatches() {
+    return failedBatches.get();
+  }
+}
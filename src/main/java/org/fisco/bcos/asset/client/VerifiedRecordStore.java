@@ -0,0 +1,57 @@
+package org.fisco.bcos.asset.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+
+/**
+ * Remembers on-chain records whose signature already verified.
+ *
+ * <p>Records are insert-only, so (account id, record digest) identifies a verification result for
+ * good. The digest covers the public key, the signed hash and the signature as separate,
+ * length-prefixed components, so a record with another key, other content or another signature for
+ * the same account misses and is verified again.
+ */
+public class VerifiedRecordStore {
+
+  public static final int DEFAULT_MAX_ENTRIES = 100000;
+
+  private final LinkedHashMap<String, String> verified;
+
+  public VerifiedRecordStore() {
+    this(Integer.getInteger("aagrid.verifiedRecords.maxEntries", DEFAULT_MAX_ENTRIES));
+  }
+
+  public VerifiedRecordStore(final int maxEntries) {
+    this.verified =
+        new LinkedHashMap<String, String>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > maxEntries;
+          }
+        };
+  }
+
+  // the digest a record is remembered under; each component is prefixed with its length so no two
+  // different records concatenate to the same input
+  public static String recordDigest(
+      CryptoSuite cryptoSuite, String publicKey, String hashData, String sigData) {
+    StringBuilder input = new StringBuilder();
+    for (String component : new String[] {publicKey, hashData, sigData}) {
+      input.append(component.length()).append(':').append(component);
+    }
+    return cryptoSuite.hash(input.toString());
+  }
+
+  public synchronized boolean isVerified(String accountId, String recordDigest) {
+    return recordDigest.equals(verified.get(accountId));
+  }
+
+  public synchronized void markVerified(String accountId, String recordDigest) {
+    verified.put(accountId, recordDigest);
+  }
+
+  public synchronized int size() {
+    return verified.size();
+  }
+}
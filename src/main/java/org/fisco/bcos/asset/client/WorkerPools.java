@@ -0,0 +1,44 @@
+package org.fisco.bcos.asset.client;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class WorkerPools {
+
+  static Logger logger = LoggerFactory.getLogger(WorkerPools.class);
+
+  // use virtual threads when the runtime provides them (JDK 21+), otherwise a fixed pool of platform threads.
+  // callers bound the concurrency themselves by submitting at most "workers" long-running tasks.
+  public static ExecutorService newWorkerPool(int workers, String name) {
+    if (Boolean.parseBoolean(System.getProperty("aagrid.virtualThreads", "true"))) {
+      try {
+        Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        logger.info(" {} uses virtual threads, workers={}", name, workers);
+        return (ExecutorService) factory.invoke(null);
+      } catch (NoSuchMethodException e) {
+        logger.debug(" virtual threads are not available, fall back to a fixed thread pool");
+      } catch (Exception e) {
+        logger.warn(" create virtual thread executor failed, error message is {}", e.getMessage());
+      }
+    }
+    logger.info(" {} uses a fixed thread pool, workers={}", name, workers);
+    return Executors.newFixedThreadPool(Math.max(1, workers), namedDaemonThreads(name));
+  }
+
+  public static ThreadFactory namedDaemonThreads(final String name) {
+    final AtomicInteger index = new AtomicInteger();
+    return new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, name + "-" + index.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      }
+    };
+  }
+}
@@ -7,6 +7,7 @@ import java.util.Collections;
 import java.util.List;
 import org.fisco.bcos.sdk.abi.FunctionReturnDecoder;
 import org.fisco.bcos.sdk.abi.TypeReference;
+import org.fisco.bcos.sdk.abi.datatypes.DynamicArray;
 import org.fisco.bcos.sdk.abi.datatypes.Event;
 import org.fisco.bcos.sdk.abi.datatypes.Function;
 import org.fisco.bcos.sdk.abi.datatypes.Type;
@@ -29,29 +30,41 @@ import org.fisco.bcos.sdk.transaction.model.exception.ContractException;
 @SuppressWarnings("unchecked")
 public class Asset extends Contract {
   public static final String[] BINARY_ARRAY = {
-    "608060405234801561001057600080fd5b5061002861002d640100000000026401000000009004565b610185565b600061100190508073ffffffffffffffffffffffffffffffffffffffff166356004b6a6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018060200180602001848103845260078152602001807f745f617373657400000000000000000000000000000000000000000000000000815250602001848103835260078152602001807f6163636f756e74000000000000000000000000000000000000000000000000008152506020018481038252600b8152602001807f61737365745f76616c75650000000000000000000000000000000000000000008152506020019350505050602060405180830381600087803b15801561014657600080fd5b505af115801561015a573d6000803e3d6000fd5b505050506040513d602081101561017057600080fd5b81019080805190602001909291905050505050565b611e3780620001956000396000f300608060405260043610610057576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff1680639b80b0501461005c578063ea87152b14610129578063fcd7e3c1146101b0575b600080fd5b34801561006857600080fd5b50610113600480360381019080803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290803590602001908201803590602001908080601f016020809104026020016040519081016040528093929190818152602001838380828437820191505050505050919291929080359060200190929190505050610234565b6040518082815260200191505060405180910390f35b34801561013557600080fd5b5061019a600480360381019080803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290803590602001909291905050506112c8565b6040518082815260200191505060405180910390f35b3480156101bc57600080fd5b50610217600480360381019080803590602001908201803590602001908080601f01602080910402602001604051908101604052809392919081815260200183838082843782019150505050505091929192905050506117d7565b604051808381526020018281526020019250505060405180910390f35b600080600080600080600080600080975060009650600095506000945061025a8c6117d7565b8097508198505050600087141515610395577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff9750898b6040518082805190602001908083835b6020831015156102c657805182526020820191506020810190506020830392506102a1565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208d6040518082805190602001908083835b6020831015156103295780518252602082019150602081019050602083039250610304565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f8f6b9fa4d4bf04c7c1c3242d4a5c59ba22525b6761cf89e44becb27c606154bd8b6040518082815260200191505060405180910390a48798506112b9565b61039e8b6117d7565b80965081985050506000871415156104d9577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe9750898b6040518082805190602001908083835b60208310151561040a57805182526020820191506020810190506020830392506103e5565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208d6040518082805190602001908083835b60208310151561046d5780518252602082019150602081019050602083039250610448565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f8f6b9fa4d4bf04c7c1c3242d4a5c59ba22525b6761cf89e44becb27c606154bd8b6040518082815260200191505060405180910390a48798506112b9565b8986101561060a577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffd9750898b6040518082805190602001908083835b60208310151561053b5780518252602082019150602081019050602083039250610516565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208d6040518082805190602001908083835b60208310151561059e5780518252602082019150602081019050602083039250610579565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f8f6b9fa4d4bf04c7c1c3242d4a5c59ba22525b6761cf89e44becb27c606154bd8b6040518082815260200191505060405180910390a48798506112b9565b848a8601101561073d577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffc9750898b6040518082805190602001908083835b60208310151561066e5780518252602082019150602081019050602083039250610649565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208d6040518082805190602001908083835b6020831015156106d157805182526020820191506020810190506020830392506106ac565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f8f6b9fa4d4bf04c7c1c3242d4a5c59ba22525b6761cf89e44becb27c606154bd8b6040518082815260200191505060405180910390a48798506112b9565b610745611d1c565b93508373ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156107ab57600080fd5b505af11580156107bf573d6000803e3d6000fd5b505050506040513d60208110156107d557600080fd5b810190808051906020019092919050505092508273ffffffffffffffffffffffffffffffffffffffff1663e942b5168d6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401808060200180602001838103835260078152602001807f6163636f756e7400000000000000000000000000000000000000000000000000815250602001838103825284818151815260200191508051906020019080838360005b838110156108a857808201518184015260208101905061088d565b50505050905090810190601f1680156108d55780820380516001836020036101000a031916815260200191505b509350505050600060405180830381600087803b1580156108f557600080fd5b505af1158015610909573d6000803e3d6000fd5b505050508273ffffffffffffffffffffffffffffffffffffffff16632ef8ba748b88036040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018381526020018281038252600b8152602001807f61737365745f76616c756500000000000000000000000000000000000000000081525060200192505050600060405180830381600087803b1580156109b757600080fd5b505af11580156109cb573d6000803e3d6000fd5b505050508373ffffffffffffffffffffffffffffffffffffffff1663bf2b70a18d858773ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015610a5157600080fd5b505af1158015610a65573d6000803e3d6000fd5b505050506040513d6020811015610a7b57600080fd5b81019080805190602001909291905050506040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020018373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001828103825285818151815260200191508051906020019080838360005b83811015610b5b578082015181840152602081019050610b40565b50505050905090810190601f168015610b885780820380516001836020036101000a031916815260200191505b50945050505050602060405180830381600087803b158015610ba957600080fd5b505af1158015610bbd573d6000803e3d6000fd5b505050506040513d6020811015610bd357600080fd5b81019080805190602001909291905050509150600182141515610d19577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffb9750898b6040518082805190602001908083835b602083101515610c4a5780518252602082019150602081019050602083039250610c25565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208d6040518082805190602001908083835b602083101515610cad5780518252602082019150602081019050602083039250610c88565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f8f6b9fa4d4bf04c7c1c3242d4a5c59ba22525b6761cf89e44becb27c606154bd8b6040518082815260200191505060405180910390a48798506112b9565b8373ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015610d7d57600080fd5b505af1158015610d91573d6000803e3d6000fd5b505050506040513d6020811015610da757600080fd5b810190808051906020019092919050505090508073ffffffffffffffffffffffffffffffffffffffff1663e942b5168c6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401808060200180602001838103835260078152602001807f6163636f756e7400000000000000000000000000000000000000000000000000815250602001838103825284818151815260200191508051906020019080838360005b83811015610e7a57808201",
-    "5181840152602081019050610e5f565b50505050905090810190601f168015610ea75780820380516001836020036101000a031916815260200191505b509350505050600060405180830381600087803b158015610ec757600080fd5b505af1158015610edb573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba748b87016040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018381526020018281038252600b8152602001807f61737365745f76616c756500000000000000000000000000000000000000000081525060200192505050600060405180830381600087803b158015610f8957600080fd5b505af1158015610f9d573d6000803e3d6000fd5b505050508373ffffffffffffffffffffffffffffffffffffffff1663bf2b70a18c838773ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561102357600080fd5b505af1158015611037573d6000803e3d6000fd5b505050506040513d602081101561104d57600080fd5b81019080805190602001909291905050506040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020018373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001828103825285818151815260200191508051906020019080838360005b8381101561112d578082015181840152602081019050611112565b50505050905090810190601f16801561115a5780820380516001836020036101000a031916815260200191505b50945050505050602060405180830381600087803b15801561117b57600080fd5b505af115801561118f573d6000803e3d6000fd5b505050506040513d60208110156111a557600080fd5b810190808051906020019092919050505050898b6040518082805190602001908083835b6020831015156111ee57805182526020820191506020810190506020830392506111c9565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208d6040518082805190602001908083835b602083101515611251578051825260208201915060208101905060208303925061122c565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f8f6b9fa4d4bf04c7c1c3242d4a5c59ba22525b6761cf89e44becb27c606154bd8b6040518082815260200191505060405180910390a48798505b50505050505050509392505050565b600080600080600080600080955060009450600093506112e7896117d7565b809550819650505060008514151561170957611301611d1c565b92508273ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561136757600080fd5b505af115801561137b573d6000803e3d6000fd5b505050506040513d602081101561139157600080fd5b810190808051906020019092919050505091508173ffffffffffffffffffffffffffffffffffffffff1663e942b5168a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401808060200180602001838103835260078152602001807f6163636f756e7400000000000000000000000000000000000000000000000000815250602001838103825284818151815260200191508051906020019080838360005b83811015611464578082015181840152602081019050611449565b50505050905090810190601f1680156114915780820380516001836020036101000a031916815260200191505b509350505050600060405180830381600087803b1580156114b157600080fd5b505af11580156114c5573d6000803e3d6000fd5b505050508173ffffffffffffffffffffffffffffffffffffffff16632ef8ba74896040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018381526020018281038252600b8152602001807f61737365745f76616c756500000000000000000000000000000000000000000081525060200192505050600060405180830381600087803b15801561157157600080fd5b505af1158015611585573d6000803e3d6000fd5b505050508273ffffffffffffffffffffffffffffffffffffffff166331afac368a846040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001828103825284818151815260200191508051906020019080838360005b83811015611644578082015181840152602081019050611629565b50505050905090810190601f1680156116715780820380516001836020036101000a031916815260200191505b509350505050602060405180830381600087803b15801561169157600080fd5b505af11580156116a5573d6000803e3d6000fd5b505050506040513d60208110156116bb57600080fd5b8101908080519060200190929190505050905060018114156116e05760009550611704565b7ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe95505b61172d565b7fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff95505b87896040518082805190602001908083835b602083101515611764578051825260208201915060208101905060208303925061173f565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f91c95f04198617c60eaf2180fbca88fc192db379657df0e412a9f7dd4ebbe95d886040518082815260200191505060405180910390a385965050505050505092915050565b600080600080600080600061100194508473ffffffffffffffffffffffffffffffffffffffff1663f23f63c96040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004018080602001828103825260078152602001807f745f617373657400000000000000000000000000000000000000000000000000815250602001915050602060405180830381600087803b15801561188757600080fd5b505af115801561189b573d6000803e3d6000fd5b505050506040513d60208110156118b157600080fd5b810190808051906020019092919050505093508373ffffffffffffffffffffffffffffffffffffffff1663e8434e39898673ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561194557600080fd5b505af1158015611959573d6000803e3d6000fd5b505050506040513d602081101561196f57600080fd5b81019080805190602001909291905050506040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001828103825284818151815260200191508051906020019080838360005b83811015611a1d578082015181840152602081019050611a02565b50505050905090810190601f168015611a4a5780820380516001836020036101000a031916815260200191505b509350505050602060405180830381600087803b158015611a6a57600080fd5b505af1158015611a7e573d6000803e3d6000fd5b505050506040513d6020811015611a9457600080fd5b81019080805190602001909291905050509250600091508273ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015611b0f57600080fd5b505af1158015611b23573d6000803e3d6000fd5b505050506040513d6020811015611b3957600080fd5b810190808051906020019092919050505060001415611b80577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff8281915096509650611d12565b8273ffffffffffffffffffffffffffffffffffffffff1663846719e060006040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180828152602001915050602060405180830381600087803b158015611bf057600080fd5b505af1158015611c04573d6000803e3d6000fd5b505050506040513d6020811015611c1a57600080fd5b8101908080519060200190929190505050905060008173ffffffffffffffffffffffffffffffffffffffff1663fda69fae6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018281038252600b8152602001807f61737365745f76616c7565000000000000000000000000000000000000000000815250602001915050602060405180830381600087803b158015611ccf57600080fd5b505af1158015611ce3573d6000803e3d6000fd5b505050506040513d6020811015611cf957600080fd5b8101908080519060200190929190505050819150965096505b5050505050915091565b600080600061100191508173ffffffffffffffffffffffffffffffffffffffff1663f23f63c96040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004018080602001828103825260078152602001807f745f617373657400000000000000000000000000000000000000000000000000815250602001915050602060405180830381600087803b158015611dc657600080fd5b505af1158015611dda573d6000803e3d6000fd5b505050506040513d6020811015611df057600080fd5b810190808051906020019092919050505090508092505050905600a165627a7a723058209583b88d65be16c71022714a76c8e98f0100607bcaab1f86faf7bc9433e6f36f0029"
+    "60806040523480156200001157600080fd5b506200002b62000031640100000000026401000000009004565b6200038a565b600061100190508073ffffffffffffffffffffffffffffffffffffffff166356004b6a6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200008d9062000334565b602060405180830381600087803b158015620000a857600080fd5b505af1158015620000bd573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620000e39190810190620001a9565b508073ffffffffffffffffffffffffffffffffffffffff166356004b6a6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200013990620002e8565b602060405180830381600087803b1580156200015457600080fd5b505af115801562000169573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200018f9190810190620001a9565b5050565b6000620001a1825162000380565b905092915050565b600060208284031215620001bc57600080fd5b6000620001cc8482850162000193565b91505092915050565b6000600e82527f745f61737365745f7368617264730000000000000000000000000000000000006020830152604082019050919050565b6000600b82527f61737365745f76616c75650000000000000000000000000000000000000000006020830152604082019050919050565b6000600682527f73686172647300000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f6163636f756e74000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f745f6173736574000000000000000000000000000000000000000000000000006020830152604082019050919050565b600060608201905081810360008301526200030381620001d5565b9050818103602083015262000318816200027a565b905081810360408301526200032d8162000243565b9050919050565b600060608201905081810360008301526200034f81620002b1565b9050818103602083015262000364816200027a565b9050818103604083015262000379816200020c565b9050919050565b6000819050919050565b614143806200039a6000396000f3fe608060405260043610610072576000357c0100000000000000000000000000000000000000000000000000000000900480632ca5b32d146100775780637b6be66f146100b45780639b80b050146100f1578063ea87152b1461012e578063f35e0cff1461016b578063fcd7e3c1146101a9575b600080fd5b34801561008357600080fd5b5061009e600480360361009991908101906136f2565b6101e7565b6040516100ab9190613e8f565b60405180910390f35b3480156100c057600080fd5b506100db60048036036100d691908101906137b2565b6105db565b6040516100e89190613b3e565b60405180910390f35b3480156100fd57600080fd5b5061011860048036036101139190810190613733565b610edf565b6040516101259190613b3e565b60405180910390f35b34801561013a57600080fd5b50610155600480360361015091908101906137b2565b611c31565b6040516101629190613b3e565b60405180910390f35b34801561017757600080fd5b50610192600480360361018d919081019061358e565b6120a3565b6040516101a0929190613b59565b60405180910390f35b3480156101b557600080fd5b506101d060048036036101cb91908101906136f2565b612894565b6040516101de929190613b89565b60405180910390f35b600080611001905060008173ffffffffffffffffffffffffffffffffffffffff1663f23f63c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161024490613ca9565b60206040518083038186803b15801561025c57600080fd5b505afa158015610270573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061029491908101906136a0565b905060008173ffffffffffffffffffffffffffffffffffffffff1663e8434e39868473ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561031757600080fd5b505afa15801561032b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061034f9190810190613625565b6040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610388929190613bcd565b60206040518083038186803b1580156103a057600080fd5b505afa1580156103b4573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506103d8919081019061364e565b90508073ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561043c57600080fd5b505afa158015610450573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061047491908101906136c9565b6000141561048857600193505050506105d6565b8073ffffffffffffffffffffffffffffffffffffffff1663846719e060006040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016104de9190613bb2565b60206040518083038186803b1580156104f657600080fd5b505afa15801561050a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061052e9190810190613677565b73ffffffffffffffffffffffffffffffffffffffff1663fda69fae6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161058090613d97565b60206040518083038186803b15801561059857600080fd5b505afa1580156105ac573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506105d091908101906136c9565b93505050505b919050565b6000806000905060008090506105f085612894565b809250819350505060008214151561062c577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff92505050610ed9565b6000610637866101e7565b90508085101561066c577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe9350505050610ed9565b808514156106805760009350505050610ed9565b600061068a612cc3565b905060008290505b868110156109ee5760606106a68983612d7a565b905060008373ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561070c57600080fd5b505afa158015610720573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506107449190810190613677565b90508073ffffffffffffffffffffffffffffffffffffffff1663e942b516836040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161079b9190613e1a565b600060405180830381600087803b1580156107b557600080fd5b505af11580156107c9573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba7460006040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016108239190613d29565b600060405180830381600087803b15801561083d57600080fd5b505af1158015610851573d6000803e3d6000fd5b5050505060018473ffffffffffffffffffffffffffffffffffffffff166331afac3684846040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016108ae929190613bfd565b602060405180830381600087803b1580156108c857600080fd5b505af11580156108dc573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061090091908101906136c9565b141515610942576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161093990613cc9565b60405180910390fd5b6000826040518082805190602001908083835b60208310151561097a5780518252602082019150602081019050602083039250610955565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f91c95f04198617c60eaf2180fbca88fc192db379657df0e412a9f7dd4ebbe95d60006040516109d79190613bb2565b60405180910390a350508080600101915050610692565b506000611001905060008173ffffffffffffffffffffffffffffffffffffffff1663f23f63c96040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610a4b90613ca9565b60206040518083038186803b158015610a6357600080fd5b505afa158015610a77573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610a9b91908101906136a0565b905060008173ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b158015610b0157600080fd5b505afa158015610b15573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610b399190810190613677565b90508073ffffffffffffffffffffffffffffffffffffffff1663e942b5168b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610b909190613e1a565b600060405180830381600087803b158015610baa57600080fd5b505af1158015610bbe573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba748a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610c179190613db7565b600060405180830381600087803b158015610c3157600080fd5b505af1158015610c45573d6000803e3d6000fd5b505050506001851415610d445760018273ffffffffffffffffffffffffffffff",
+    "ffffffffff166331afac368c846040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610cab929190613bfd565b602060405180830381600087803b158015610cc557600080fd5b505af1158015610cd9573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610cfd91908101906136c9565b141515610d3f576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401610d3690613e6f565b60405180910390fd5b610ecd565b60018273ffffffffffffffffffffffffffffffffffffffff1663bf2b70a18c848673ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b158015610dc657600080fd5b505afa158015610dda573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610dfe9190810190613625565b6040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610e3893929190613c2d565b602060405180830381600087803b158015610e5257600080fd5b505af1158015610e66573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610e8a91908101906136c9565b141515610ecc576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401610ec390613d77565b60405180910390fd5b5b60009750505050505050505b92915050565b60008060009050600080905060008090506000809050610efe88612894565b809350819450505060008314151561103d577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff935085876040518082805190602001908083835b602083101515610f6a5780518252602082019150602081019050602083039250610f45565b6001836020036101000a0380198251168184511680821785525050505050509050019150506040518091039020896040518082805190602001908083835b602083101515610fcd5780518252602082019150602081019050602083039250610fa8565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f8f6b9fa4d4bf04c7c1c3242d4a5c59ba22525b6761cf89e44becb27c606154bd876040516110299190613b3e565b60405180910390a483945050505050611c2a565b61104687612894565b8092508194505050600083141515611185577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe935085876040518082805190602001908083835b6020831015156110b2578051825260208201915060208101905060208303925061108d565b6001836020036101000a0380198251168184511680821785525050505050509050019150506040518091039020896040518082805190602001908083835b60208310151561111557805182526020820191506020810190506020830392506110f0565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f8f6b9fa4d4bf04c7c1c3242d4a5c59ba22525b6761cf89e44becb27c606154bd876040516111719190613b3e565b60405180910390a483945050505050611c2a565b858210156112ba577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffd935085876040518082805190602001908083835b6020831015156111e757805182526020820191506020810190506020830392506111c2565b6001836020036101000a0380198251168184511680821785525050505050509050019150506040518091039020896040518082805190602001908083835b60208310151561124a5780518252602082019150602081019050602083039250611225565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f8f6b9fa4d4bf04c7c1c3242d4a5c59ba22525b6761cf89e44becb27c606154bd876040516112a69190613b3e565b60405180910390a483945050505050611c2a565b8086820110156113f1577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffc935085876040518082805190602001908083835b60208310151561131e57805182526020820191506020810190506020830392506112f9565b6001836020036101000a0380198251168184511680821785525050505050509050019150506040518091039020896040518082805190602001908083835b602083101515611381578051825260208201915060208101905060208303925061135c565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f8f6b9fa4d4bf04c7c1c3242d4a5c59ba22525b6761cf89e44becb27c606154bd876040516113dd9190613b3e565b60405180910390a483945050505050611c2a565b60006113fb612cc3565b905060008173ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561146157600080fd5b505afa158015611475573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506114999190810190613677565b90508073ffffffffffffffffffffffffffffffffffffffff1663e942b5168b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016114f09190613e1a565b600060405180830381600087803b15801561150a57600080fd5b505af115801561151e573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba748986036040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016115799190613d29565b600060405180830381600087803b15801561159357600080fd5b505af11580156115a7573d6000803e3d6000fd5b5050505060008273ffffffffffffffffffffffffffffffffffffffff1663bf2b70a18c848673ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561162d57600080fd5b505afa158015611641573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506116659190810190613625565b6040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161169f93929190613c2d565b602060405180830381600087803b1580156116b957600080fd5b505af11580156116cd573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506116f191908101906136c9565b905060018114151561182d577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffb9650888a6040518082805190602001908083835b6020831015156117575780518252602082019150602081019050602083039250611732565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208c6040518082805190602001908083835b6020831015156117ba5780518252602082019150602081019050602083039250611795565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f8f6b9fa4d4bf04c7c1c3242d4a5c59ba22525b6761cf89e44becb27c606154bd8a6040516118169190613b3e565b60405180910390a486975050505050505050611c2a565b60008373ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561189157600080fd5b505afa1580156118a5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506118c99190810190613677565b90508073ffffffffffffffffffffffffffffffffffffffff1663e942b5168c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016119209190613e1a565b600060405180830381600087803b15801561193a57600080fd5b505af115801561194e573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba748b87016040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016119a99190613d29565b600060405180830381600087803b1580156119c357600080fd5b505af11580156119d7573d6000803e3d6000fd5b505050508373ffffffffffffffffffffffffffffffffffffffff1663bf2b70a18c838773ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b158015611a5b57600080fd5b505afa158015611a6f573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611a939190810190613625565b6040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611acd93929190613c2d565b602060405180830381600087803b158015611ae757600080fd5b505af1158015611afb573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611b1f91908101906136c9565b50898b6040518082805190602001908083835b602083101515611b575780518252602082019150602081019050602083039250611b32565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208d6040518082805190602001908083835b602083101515611bba5780518252602082019150602081019050602083039250611b95565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f8f6b9fa4d4bf04c7c1c3242d4a5c59ba22525b6761cf89e44becb27c606154bd8b604051611c169190613b3e565b60405180910390a487985050505050505050505b9392505050565b6000806000905060008090506000809050611c4b86612faf565b15611d19577fffffffffffffffffffffffffffffffffffffffff",
+    "fffffffffffffffffffffffd925084866040518082805190602001908083835b602083101515611caa5780518252602082019150602081019050602083039250611c85565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f91c95f04198617c60eaf2180fbca88fc192db379657df0e412a9f7dd4ebbe95d85604051611d069190613b3e565b60405180910390a382935050505061209d565b611d2286612894565b8092508193505050600082141515611fd7576000611d3e612cc3565b905060008173ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b158015611da457600080fd5b505afa158015611db8573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611ddc9190810190613677565b90508073ffffffffffffffffffffffffffffffffffffffff1663e942b516896040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611e339190613e1a565b600060405180830381600087803b158015611e4d57600080fd5b505af1158015611e61573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba74886040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611eba9190613d29565b600060405180830381600087803b158015611ed457600080fd5b505af1158015611ee8573d6000803e3d6000fd5b5050505060008273ffffffffffffffffffffffffffffffffffffffff166331afac368a846040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611f45929190613bfd565b602060405180830381600087803b158015611f5f57600080fd5b505af1158015611f73573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611f9791908101906136c9565b90506001811415611fab5760009550611fcf565b7ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe95505b505050611ffb565b7fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff92505b84866040518082805190602001908083835b602083101515612032578051825260208201915060208101905060208303925061200d565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f91c95f04198617c60eaf2180fbca88fc192db379657df0e412a9f7dd4ebbe95d8560405161208e9190613b3e565b60405180910390a38293505050505b92915050565b60006060835185511480156120b9575082518551145b15156120fa576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016120f190613ce9565b60405180910390fd5b6060835160405190808252806020026020018201604052801561212c5781602001602082028038833980820191505090505b509050612137613346565b608060405190810160405280865160020260405190808252806020026020018201604052801561217b57816020015b60608152602001906001900390816121665790505b50815260200186516002026040519080825280602002602001820160405280156121b45781602001602082028038833980820191505090505b50815260200186516002026040519080825280602002602001820160405280156121ed5781602001602082028038833980820191505090505b5081526020016000815250905060008090506000809050600090505b86518110156122d457612263838a8381518110151561222457fe5b906020019060200201518a8481518110151561223c57fe5b906020019060200201518a8581518110151561225457fe5b9060200190602002015161308b565b848281518110151561227157fe5b90602001906020020181815250506000821480156122a757506000848281518110151561229a57fe5b9060200190602002015114155b156122c75783818151811015156122ba57fe5b9060200190602002015191505b8080600101915050612209565b60008214156126935760006122e7612cc3565b9050600091505b836060015182101561268d5760008173ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561235e57600080fd5b505afa158015612372573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506123969190810190613677565b90508073ffffffffffffffffffffffffffffffffffffffff1663e942b5168660000151858151811015156123c657fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016124089190613de5565b600060405180830381600087803b15801561242257600080fd5b505af1158015612436573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba7486604001518581518110151561246857fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016124aa9190613d29565b600060405180830381600087803b1580156124c457600080fd5b505af11580156124d8573d6000803e3d6000fd5b5050505060018273ffffffffffffffffffffffffffffffffffffffff1663bf2b70a187600001518681518110151561250c57fe5b90602001906020020151848673ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561257957600080fd5b505afa15801561258d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506125b19190810190613625565b6040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016125eb93929190613c6b565b602060405180830381600087803b15801561260557600080fd5b505af1158015612619573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061263d91908101906136c9565b14151561267f576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161267690613d57565b60405180910390fd5b5081806001019250506122ee565b5061270d565b600090505b865181101561270c57600084828151811015156126b157fe5b9060200190602002015114156126ff577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffa84828151811015156126f057fe5b90602001906020020181815250505b8080600101915050612698565b5b600090505b865181101561288257868181518110151561272957fe5b90602001906020020151888281518110151561274157fe5b906020019060200201516040518082805190602001908083835b602083101515612780578051825260208201915060208101905060208303925061275b565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208a838151811015156127bb57fe5b906020019060200201516040518082805190602001908083835b6020831015156127fa57805182526020820191506020810190506020830392506127d5565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f8f6b9fa4d4bf04c7c1c3242d4a5c59ba22525b6761cf89e44becb27c606154bd878581518110151561285657fe5b9060200190602002015160405161286d9190613b3e565b60405180910390a48080600101915050612712565b81849550955050505050935093915050565b6000806000611001905060008173ffffffffffffffffffffffffffffffffffffffff1663f23f63c96040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016128f390613e4f565b60206040518083038186803b15801561290b57600080fd5b505afa15801561291f573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061294391908101906136a0565b905060008173ffffffffffffffffffffffffffffffffffffffff1663e8434e39878473ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b1580156129c657600080fd5b505afa1580156129da573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506129fe9190810190613625565b6040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612a37929190613bcd565b60206040518083038186803b158015612a4f57600080fd5b505afa158015612a63573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612a87919081019061364e565b905060008090508173ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b158015612af057600080fd5b505afa158015612b04573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612b2891908101906136c9565b60001415612b62577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff818191509550955050505050612cbe565b60008273ffffffffffffffffffffffffffffffffffffffff1663846719e060006040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612bba9190613bb2565b60206040518083038186803b158015612bd257600080fd5b505afa158015612be6573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612c0a9190810190613677565b905060008173ffffffffffffffffffffffffffffffffffffffff1663fda69fae6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612c6190613d09565b60206040",
+    "518083038186803b158015612c7957600080fd5b505afa158015612c8d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612cb191908101906136c9565b8191509650965050505050505b915091565b600080611001905060008173ffffffffffffffffffffffffffffffffffffffff1663f23f63c96040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612d2090613e4f565b60206040518083038186803b158015612d3857600080fd5b505afa158015612d4c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612d7091908101906136a0565b9050809250505090565b606080839050600080905060008490505b600081141515612db1578180600101925050600a81811515612da957fe5b049050612d8b565b506060816001845101016040519080825280601f01601f191660200182016040528015612ded5781602001600182028038833980820191505090505b50905060008090505b8351811015612ea3578381815181101515612e0d57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000028282815181101515612e6657fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050612df6565b507f2300000000000000000000000000000000000000000000000000000000000000818451815181101515612ed457fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053506000815190505b600086141515612fa257808060019003915050600a86811515612f2a57fe5b066030017f0100000000000000000000000000000000000000000000000000000000000000028282815181101515612f5e57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a86811515612f9a57fe5b049550612f0b565b5080935050505092915050565b6000606082905060008090505b815181101561307f577f23000000000000000000000000000000000000000000000000000000000000008282815181101515612ff457fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916141561307257600192505050613086565b8080600101915050612fbc565b5060009150505b919050565b600080613098868661325a565b905060006130a6878661325a565b905060008760200151838151811015156130bc57fe5b906020019060200201511415156130f7577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff92505050613252565b600087602001518281518110151561310b57fe5b90602001906020020151141515613146577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe92505050613252565b8387604001518381518110151561315957fe5b906020019060200201511015613193577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffd92505050613252565b8660400151818151811015156131a557fe5b90602001906020020151848860400151838151811015156131c257fe5b906020019060200201510110156131fd577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffc92505050613252565b8387604001518381518110151561321057fe5b90602001906020020181815103915081815250508387604001518281518110151561323757fe5b90602001906020020181815101915081815250506000925050505b949350505050565b6000808280519060200120905060008090505b84606001518110156132ba578185600001518281518110151561328c57fe5b906020019060200201518051906020012014156132ad578092505050613340565b808060010191505061326d565b50600084606001519050838560000151828151811015156132d757fe5b906020019060200201819052506132ed84612894565b8660200151838151811015156132ff57fe5b90602001906020020187604001518481518110151561331a57fe5b906020019060200201828152508281525050506001810185606001818152505080925050505b92915050565b608060405190810160405280606081526020016060815260200160608152602001600081525090565b600082601f830112151561338257600080fd5b813561339561339082613ed7565b613eaa565b9150818183526020840193506020810190508360005b838110156133db57813586016133c188826134ce565b8452602084019350602083019250506001810190506133ab565b5050505092915050565b600082601f83011215156133f857600080fd5b813561340b61340682613eff565b613eaa565b9150818183526020840193506020810190508385602084028201111561343057600080fd5b60005b838110156134605781613446888261357a565b845260208401935060208301925050600181019050613433565b5050505092915050565b60006134768251614000565b905092915050565b600061348a8251614012565b905092915050565b600061349e8251614024565b905092915050565b60006134b28251614036565b905092915050565b60006134c68251614048565b905092915050565b600082601f83011215156134e157600080fd5b81356134f46134ef82613f27565b613eaa565b9150808252602083016020830185838301111561351057600080fd5b61351b8382846140b6565b50505092915050565b600082601f830112151561353757600080fd5b813561354a61354582613f53565b613eaa565b9150808252602083016020830185838301111561356657600080fd5b6135718382846140b6565b50505092915050565b60006135868235614052565b905092915050565b6000806000606084860312156135a357600080fd5b600084013567ffffffffffffffff8111156135bd57600080fd5b6135c98682870161336f565b935050602084013567ffffffffffffffff8111156135e657600080fd5b6135f28682870161336f565b925050604084013567ffffffffffffffff81111561360f57600080fd5b61361b868287016133e5565b9150509250925092565b60006020828403121561363757600080fd5b60006136458482850161346a565b91505092915050565b60006020828403121561366057600080fd5b600061366e8482850161347e565b91505092915050565b60006020828403121561368957600080fd5b600061369784828501613492565b91505092915050565b6000602082840312156136b257600080fd5b60006136c0848285016134a6565b91505092915050565b6000602082840312156136db57600080fd5b60006136e9848285016134ba565b91505092915050565b60006020828403121561370457600080fd5b600082013567ffffffffffffffff81111561371e57600080fd5b61372a84828501613524565b91505092915050565b60008060006060848603121561374857600080fd5b600084013567ffffffffffffffff81111561376257600080fd5b61376e86828701613524565b935050602084013567ffffffffffffffff81111561378b57600080fd5b61379786828701613524565b92505060406137a88682870161357a565b9150509250925092565b600080604083850312156137c557600080fd5b600083013567ffffffffffffffff8111156137df57600080fd5b6137eb85828601613524565b92505060206137fc8582860161357a565b9150509250929050565b600061381182613f8c565b80845260208401935061382383613f7f565b60005b828110156138555761383986835161387f565b61384282613fad565b9150602086019550600181019050613826565b50849250505092915050565b61386a8161405c565b82525050565b61387981614080565b82525050565b61388881613fcc565b82525050565b613897816140a4565b82525050565b60006138a882613fa2565b8084526138bc8160208601602086016140c5565b6138c5816140f8565b602085010191505092915050565b60006138de82613f97565b8084526138f28160208601602086016140c5565b6138fb816140f8565b602085010191505092915050565b6000600e82527f745f61737365745f7368617264730000000000000000000000000000000000006020830152604082019050919050565b6000601782527f696e7365727420736861726420726f77206661696c65640000000000000000006020830152604082019050919050565b6000601582527f6172726179206c656e677468206d69736d6174636800000000000000000000006020830152604082019050919050565b6000600b82527f61737365745f76616c75650000000000000000000000000000000000000000006020830152604082019050919050565b6000601982527f7570646174652061737365745f76616c7565206661696c6564000000000000006020830152604082019050919050565b6000601482527f75706461746520736861726473206661696c65640000000000000000000000006020830152604082019050919050565b6000600682527f73686172647300000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f6163636f756e74000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f745f6173736574000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601482527f696e7365727420736861726473206661696c65640000000000000000000000006020830152604082019050919050565b613b3881613ff6565b82525050565b6000602082019050613b53600083018461387f565b92915050565b6000604082019050613b6e600083018561387f565b8181036020830152613b808184613806565b90509392505050565b6000604082019050613b9e600083018561387f565b613bab6020830184613b2f565b9392505050565b6000602082019050613bc7600083018461388e565b92915050565b60006040820190508181036000830152613be7818561389d565b9050613bf66020830184613861565b9392505050565b60006040820190508181036000830152613c17818561389d565b9050613c266020830184613870565b9392505050565b60006060820190508181036000830152613c47818661389d565b9050613c566020830185613870565b613c636040830184613861565b9493",
+    "50505050565b60006060820190508181036000830152613c8581866138d3565b9050613c946020830185613870565b613ca16040830184613861565b949350505050565b60006020820190508181036000830152613cc281613909565b9050919050565b60006020820190508181036000830152613ce281613940565b9050919050565b60006020820190508181036000830152613d0281613977565b9050919050565b60006020820190508181036000830152613d22816139ae565b9050919050565b60006040820190508181036000830152613d42816139ae565b9050613d51602083018461387f565b92915050565b60006020820190508181036000830152613d70816139e5565b9050919050565b60006020820190508181036000830152613d9081613a1c565b9050919050565b60006020820190508181036000830152613db081613a53565b9050919050565b60006040820190508181036000830152613dd081613a53565b9050613ddf602083018461387f565b92915050565b60006040820190508181036000830152613dfe81613a8a565b90508181036020830152613e1281846138d3565b905092915050565b60006040820190508181036000830152613e3381613a8a565b90508181036020830152613e47818461389d565b905092915050565b60006020820190508181036000830152613e6881613ac1565b9050919050565b60006020820190508181036000830152613e8881613af8565b9050919050565b6000602082019050613ea46000830184613b2f565b92915050565b6000604051905081810181811067ffffffffffffffff82111715613ecd57600080fd5b8060405250919050565b600067ffffffffffffffff821115613eee57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115613f1657600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115613f3e57600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff821115613f6a57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000613fc582613fd6565b9050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b6000819050919050565b600061400b82613fba565b9050919050565b600061401d82613fba565b9050919050565b600061402f82613fba565b9050919050565b600061404182613fba565b9050919050565b6000819050919050565b6000819050919050565b60006140678261406e565b9050919050565b600061407982613fd6565b9050919050565b600061408b82614092565b9050919050565b600061409d82613fd6565b9050919050565b60006140af82613fcc565b9050919050565b82818337600083830152505050565b60005b838110156140e35780820151818401526020810190506140c8565b838111156140f2576000848401525b50505050565b6000601f19601f830116905091905056fea265627a7a72305820322170c13723837673d86eba107812dafe511e0f5b530be883eda1f8b32c99696c6578706572696d656e74616cf50037"
   };
 
   public static final String BINARY = String.join("", BINARY_ARRAY);
 
   public static final String[] SM_BINARY_ARRAY = {
-    "608060405234801561001057600080fd5b5061002861002d640100000000026401000000009004565b610185565b600061100190508073ffffffffffffffffffffffffffffffffffffffff1663c92a78016040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018060200180602001848103845260078152602001807f745f617373657400000000000000000000000000000000000000000000000000815250602001848103835260078152602001807f6163636f756e74000000000000000000000000000000000000000000000000008152506020018481038252600b8152602001807f61737365745f76616c75650000000000000000000000000000000000000000008152506020019350505050602060405180830381600087803b15801561014657600080fd5b505af115801561015a573d6000803e3d6000fd5b505050506040513d602081101561017057600080fd5b81019080805190602001909291905050505050565b611e3780620001956000396000f300608060405260043610610057576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff1680635b325d781461005c578063612d2bff146100e0578063b433c7ca146101ad575b600080fd5b34801561006857600080fd5b506100c3600480360381019080803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290505050610234565b604051808381526020018281526020019250505060405180910390f35b3480156100ec57600080fd5b50610197600480360381019080803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290803590602001908201803590602001908080601f016020809104026020016040519081016040528093929190818152602001838380828437820191505050505050919291929080359060200190929190505050610779565b6040518082815260200191505060405180910390f35b3480156101b957600080fd5b5061021e600480360381019080803590602001908201803590602001908080601f01602080910402602001604051908101604052809392919081815260200183838082843782019150505050505091929192908035906020019092919050505061180d565b6040518082815260200191505060405180910390f35b600080600080600080600061100194508473ffffffffffffffffffffffffffffffffffffffff166359a48b656040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004018080602001828103825260078152602001807f745f617373657400000000000000000000000000000000000000000000000000815250602001915050602060405180830381600087803b1580156102e457600080fd5b505af11580156102f8573d6000803e3d6000fd5b505050506040513d602081101561030e57600080fd5b810190808051906020019092919050505093508373ffffffffffffffffffffffffffffffffffffffff1663d8ac5957898673ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156103a257600080fd5b505af11580156103b6573d6000803e3d6000fd5b505050506040513d60208110156103cc57600080fd5b81019080805190602001909291905050506040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001828103825284818151815260200191508051906020019080838360005b8381101561047a57808201518184015260208101905061045f565b50505050905090810190601f1680156104a75780820380516001836020036101000a031916815260200191505b509350505050602060405180830381600087803b1580156104c757600080fd5b505af11580156104db573d6000803e3d6000fd5b505050506040513d60208110156104f157600080fd5b81019080805190602001909291905050509250600091508273ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561056c57600080fd5b505af1158015610580573d6000803e3d6000fd5b505050506040513d602081101561059657600080fd5b8101908080519060200190929190505050600014156105dd577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff828191509650965061076f565b8273ffffffffffffffffffffffffffffffffffffffff16633dd2b61460006040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180828152602001915050602060405180830381600087803b15801561064d57600080fd5b505af1158015610661573d6000803e3d6000fd5b505050506040513d602081101561067757600080fd5b8101908080519060200190929190505050905060008173ffffffffffffffffffffffffffffffffffffffff16634900862e6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018281038252600b8152602001807f61737365745f76616c7565000000000000000000000000000000000000000000815250602001915050602060405180830381600087803b15801561072c57600080fd5b505af1158015610740573d6000803e3d6000fd5b505050506040513d602081101561075657600080fd5b8101908080519060200190929190505050819150965096505b5050505050915091565b600080600080600080600080600080975060009650600095506000945061079f8c610234565b80975081985050506000871415156108da577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff9750898b6040518082805190602001908083835b60208310151561080b57805182526020820191506020810190506020830392506107e6565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208d6040518082805190602001908083835b60208310151561086e5780518252602082019150602081019050602083039250610849565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f105af2c562df33af7eaa9de5fb0c18d8d30f281a18f95a8f76b44353a322693c8b6040518082815260200191505060405180910390a48798506117fe565b6108e38b610234565b8096508198505050600087141515610a1e577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe9750898b6040518082805190602001908083835b60208310151561094f578051825260208201915060208101905060208303925061092a565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208d6040518082805190602001908083835b6020831015156109b2578051825260208201915060208101905060208303925061098d565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f105af2c562df33af7eaa9de5fb0c18d8d30f281a18f95a8f76b44353a322693c8b6040518082815260200191505060405180910390a48798506117fe565b89861015610b4f577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffd9750898b6040518082805190602001908083835b602083101515610a805780518252602082019150602081019050602083039250610a5b565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208d6040518082805190602001908083835b602083101515610ae35780518252602082019150602081019050602083039250610abe565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f105af2c562df33af7eaa9de5fb0c18d8d30f281a18f95a8f76b44353a322693c8b6040518082815260200191505060405180910390a48798506117fe565b848a86011015610c82577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffc9750898b6040518082805190602001908083835b602083101515610bb35780518252602082019150602081019050602083039250610b8e565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208d6040518082805190602001908083835b602083101515610c165780518252602082019150602081019050602083039250610bf1565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f105af2c562df33af7eaa9de5fb0c18d8d30f281a18f95a8f76b44353a322693c8b6040518082815260200191505060405180910390a48798506117fe565b610c8a611d1c565b93508373ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015610cf057600080fd5b505af1158015610d04573d6000803e3d6000fd5b505050506040513d6020811015610d1a57600080fd5b810190808051906020019092919050505092508273ffffffffffffffffffffffffffffffffffffffff16631a391cb48d6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401808060200180602001838103835260078152602001807f6163636f756e7400000000000000000000000000000000000000000000000000815250602001838103825284818151815260200191508051906020019080838360005b83811015610ded578082015181840152602081019050610dd2565b50505050905090810190601f168015610e1a5780820380516001836020036101000a031916815260200191505b509350505050600060405180830381600087803b158015610e3a57600080fd5b505af1158015610e4e573d6000803e3d6000fd5b505050508273ffffffffffffffffffffffffffffffffffffffff1663",
-    "def426988b88036040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018381526020018281038252600b8152602001807f61737365745f76616c756500000000000000000000000000000000000000000081525060200192505050600060405180830381600087803b158015610efc57600080fd5b505af1158015610f10573d6000803e3d6000fd5b505050508373ffffffffffffffffffffffffffffffffffffffff1663664b37d68d858773ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015610f9657600080fd5b505af1158015610faa573d6000803e3d6000fd5b505050506040513d6020811015610fc057600080fd5b81019080805190602001909291905050506040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020018373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001828103825285818151815260200191508051906020019080838360005b838110156110a0578082015181840152602081019050611085565b50505050905090810190601f1680156110cd5780820380516001836020036101000a031916815260200191505b50945050505050602060405180830381600087803b1580156110ee57600080fd5b505af1158015611102573d6000803e3d6000fd5b505050506040513d602081101561111857600080fd5b8101908080519060200190929190505050915060018214151561125e577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffb9750898b6040518082805190602001908083835b60208310151561118f578051825260208201915060208101905060208303925061116a565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208d6040518082805190602001908083835b6020831015156111f257805182526020820191506020810190506020830392506111cd565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f105af2c562df33af7eaa9de5fb0c18d8d30f281a18f95a8f76b44353a322693c8b6040518082815260200191505060405180910390a48798506117fe565b8373ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156112c257600080fd5b505af11580156112d6573d6000803e3d6000fd5b505050506040513d60208110156112ec57600080fd5b810190808051906020019092919050505090508073ffffffffffffffffffffffffffffffffffffffff16631a391cb48c6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401808060200180602001838103835260078152602001807f6163636f756e7400000000000000000000000000000000000000000000000000815250602001838103825284818151815260200191508051906020019080838360005b838110156113bf5780820151818401526020810190506113a4565b50505050905090810190601f1680156113ec5780820380516001836020036101000a031916815260200191505b509350505050600060405180830381600087803b15801561140c57600080fd5b505af1158015611420573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def426988b87016040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018381526020018281038252600b8152602001807f61737365745f76616c756500000000000000000000000000000000000000000081525060200192505050600060405180830381600087803b1580156114ce57600080fd5b505af11580156114e2573d6000803e3d6000fd5b505050508373ffffffffffffffffffffffffffffffffffffffff1663664b37d68c838773ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561156857600080fd5b505af115801561157c573d6000803e3d6000fd5b505050506040513d602081101561159257600080fd5b81019080805190602001909291905050506040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1681526020018373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001828103825285818151815260200191508051906020019080838360005b83811015611672578082015181840152602081019050611657565b50505050905090810190601f16801561169f5780820380516001836020036101000a031916815260200191505b50945050505050602060405180830381600087803b1580156116c057600080fd5b505af11580156116d4573d6000803e3d6000fd5b505050506040513d60208110156116ea57600080fd5b810190808051906020019092919050505050898b6040518082805190602001908083835b602083101515611733578051825260208201915060208101905060208303925061170e565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208d6040518082805190602001908083835b6020831015156117965780518252602082019150602081019050602083039250611771565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f105af2c562df33af7eaa9de5fb0c18d8d30f281a18f95a8f76b44353a322693c8b6040518082815260200191505060405180910390a48798505b50505050505050509392505050565b6000806000806000806000809550600094506000935061182c89610234565b8095508196505050600085141515611c4e57611846611d1c565b92508273ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156118ac57600080fd5b505af11580156118c0573d6000803e3d6000fd5b505050506040513d60208110156118d657600080fd5b810190808051906020019092919050505091508173ffffffffffffffffffffffffffffffffffffffff16631a391cb48a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401808060200180602001838103835260078152602001807f6163636f756e7400000000000000000000000000000000000000000000000000815250602001838103825284818151815260200191508051906020019080838360005b838110156119a957808201518184015260208101905061198e565b50505050905090810190601f1680156119d65780820380516001836020036101000a031916815260200191505b509350505050600060405180830381600087803b1580156119f657600080fd5b505af1158015611a0a573d6000803e3d6000fd5b505050508173ffffffffffffffffffffffffffffffffffffffff1663def42698896040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018381526020018281038252600b8152602001807f61737365745f76616c756500000000000000000000000000000000000000000081525060200192505050600060405180830381600087803b158015611ab657600080fd5b505af1158015611aca573d6000803e3d6000fd5b505050508273ffffffffffffffffffffffffffffffffffffffff16634c6f30c08a846040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001828103825284818151815260200191508051906020019080838360005b83811015611b89578082015181840152602081019050611b6e565b50505050905090810190601f168015611bb65780820380516001836020036101000a031916815260200191505b509350505050602060405180830381600087803b158015611bd657600080fd5b505af1158015611bea573d6000803e3d6000fd5b505050506040513d6020811015611c0057600080fd5b810190808051906020019092919050505090506001811415611c255760009550611c49565b7ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe95505b611c72565b7fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff95505b87896040518082805190602001908083835b602083101515611ca95780518252602082019150602081019050602083039250611c84565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f7ac7a04970319ae8fc5b92fe177d000fee3c00c92f8e78aae13d6571f17c351f886040518082815260200191505060405180910390a385965050505050505092915050565b600080600061100191508173ffffffffffffffffffffffffffffffffffffffff166359a48b656040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004018080602001828103825260078152602001807f745f617373657400000000000000000000000000000000000000000000000000815250602001915050602060405180830381600087803b158015611dc657600080fd5b505af1158015611dda573d6000803e3d6000fd5b505050506040513d6020811015611df057600080fd5b810190808051906020019092919050505090508092505050905600a165627a7a72305820359a39cb7ac28563ad7fa716aa44afd6af26313abd44cb973be11893df24b1e30029"
+    "60806040523480156200001157600080fd5b506200002b62000031640100000000026401000000009004565b6200038a565b600061100190508073ffffffffffffffffffffffffffffffffffffffff1663c92a78016040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200008d90620002e8565b602060405180830381600087803b158015620000a857600080fd5b505af1158015620000bd573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620000e39190810190620001a9565b508073ffffffffffffffffffffffffffffffffffffffff1663c92a78016040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620001399062000334565b602060405180830381600087803b1580156200015457600080fd5b505af115801562000169573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506200018f9190810190620001a9565b5050565b6000620001a1825162000380565b905092915050565b600060208284031215620001bc57600080fd5b6000620001cc8482850162000193565b91505092915050565b6000600b82527f61737365745f76616c75650000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f745f6173736574000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600e82527f745f61737365745f7368617264730000000000000000000000000000000000006020830152604082019050919050565b6000600782527f6163636f756e74000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600682527f73686172647300000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000606082019050818103600083015262000303816200020c565b9050818103602083015262000318816200027a565b905081810360408301526200032d81620001d5565b9050919050565b600060608201905081810360008301526200034f8162000243565b9050818103602083015262000364816200027a565b905081810360408301526200037981620002b1565b9050919050565b6000819050919050565b614143806200039a6000396000f3fe608060405260043610610072576000357c010000000000000000000000000000000000000000000000000000000090048063529a5b35146100775780635b325d78146100b4578063612d2bff146100f257806372e64b1e1461012f578063b433c7ca1461016d578063d489acad146101aa575b600080fd5b34801561008357600080fd5b5061009e600480360361009991908101906136f2565b6101e7565b6040516100ab9190613e8f565b60405180910390f35b3480156100c057600080fd5b506100db60048036036100d691908101906136f2565b6105db565b6040516100e9929190613b89565b60405180910390f35b3480156100fe57600080fd5b5061011960048036036101149190810190613733565b610a0a565b6040516101269190613b3e565b60405180910390f35b34801561013b57600080fd5b506101566004803603610151919081019061358e565b61175c565b604051610164929190613b59565b60405180910390f35b34801561017957600080fd5b50610194600480360361018f91908101906137b2565b611f4d565b6040516101a19190613b3e565b60405180910390f35b3480156101b657600080fd5b506101d160048036036101cc91908101906137b2565b6123bf565b6040516101de9190613b3e565b60405180910390f35b600080611001905060008173ffffffffffffffffffffffffffffffffffffffff166359a48b656040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161024490613d57565b60206040518083038186803b15801561025c57600080fd5b505afa158015610270573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061029491908101906136a0565b905060008173ffffffffffffffffffffffffffffffffffffffff1663d8ac5957868473ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561031757600080fd5b505afa15801561032b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061034f9190810190613625565b6040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610388929190613bcd565b60206040518083038186803b1580156103a057600080fd5b505afa1580156103b4573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506103d8919081019061364e565b90508073ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561043c57600080fd5b505afa158015610450573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061047491908101906136c9565b6000141561048857600193505050506105d6565b8073ffffffffffffffffffffffffffffffffffffffff16633dd2b61460006040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016104de9190613bb2565b60206040518083038186803b1580156104f657600080fd5b505afa15801561050a573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061052e9190810190613677565b73ffffffffffffffffffffffffffffffffffffffff16634900862e6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161058090613e41565b60206040518083038186803b15801561059857600080fd5b505afa1580156105ac573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506105d091908101906136c9565b93505050505b919050565b6000806000611001905060008173ffffffffffffffffffffffffffffffffffffffff166359a48b656040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161063a90613d37565b60206040518083038186803b15801561065257600080fd5b505afa158015610666573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061068a91908101906136a0565b905060008173ffffffffffffffffffffffffffffffffffffffff1663d8ac5957878473ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561070d57600080fd5b505afa158015610721573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506107459190810190613625565b6040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161077e929190613bcd565b60206040518083038186803b15801561079657600080fd5b505afa1580156107aa573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506107ce919081019061364e565b905060008090508173ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561083757600080fd5b505afa15801561084b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061086f91908101906136c9565b600014156108a9577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff818191509550955050505050610a05565b60008273ffffffffffffffffffffffffffffffffffffffff16633dd2b61460006040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016109019190613bb2565b60206040518083038186803b15801561091957600080fd5b505afa15801561092d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506109519190810190613677565b905060008173ffffffffffffffffffffffffffffffffffffffff16634900862e6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016109a890613ce9565b60206040518083038186803b1580156109c057600080fd5b505afa1580156109d4573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506109f891908101906136c9565b8191509650965050505050505b915091565b60008060009050600080905060008090506000809050610a29886105db565b8093508194505050600083141515610b68577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff935085876040518082805190602001908083835b602083101515610a955780518252602082019150602081019050602083039250610a70565b6001836020036101000a0380198251168184511680821785525050505050509050019150506040518091039020896040518082805190602001908083835b602083101515610af85780518252602082019150602081019050602083039250610ad3565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f105af2c562df33af7eaa9de5fb0c18d8d30f281a18f95a8f76b44353a322693c87604051610b549190613b3e565b60405180910390a483945050505050611755565b610b71876105db565b8092508194505050600083141515610cb0577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe935085876040518082805190602001908083835b602083101515610bdd5780518252602082019150602081019050602083039250610bb8565b6001836020036101000a0380198251168184511680821785525050505050509050019150506040518091039020896040518082805190602001908083835b602083101515610c405780518252602082019150602081019050602083039250610c1b565b6001836020036101000a038019825116818451168082178552505050505050905001915050",
+    "60405180910390207f105af2c562df33af7eaa9de5fb0c18d8d30f281a18f95a8f76b44353a322693c87604051610c9c9190613b3e565b60405180910390a483945050505050611755565b85821015610de5577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffd935085876040518082805190602001908083835b602083101515610d125780518252602082019150602081019050602083039250610ced565b6001836020036101000a0380198251168184511680821785525050505050509050019150506040518091039020896040518082805190602001908083835b602083101515610d755780518252602082019150602081019050602083039250610d50565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f105af2c562df33af7eaa9de5fb0c18d8d30f281a18f95a8f76b44353a322693c87604051610dd19190613b3e565b60405180910390a483945050505050611755565b808682011015610f1c577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffc935085876040518082805190602001908083835b602083101515610e495780518252602082019150602081019050602083039250610e24565b6001836020036101000a0380198251168184511680821785525050505050509050019150506040518091039020896040518082805190602001908083835b602083101515610eac5780518252602082019150602081019050602083039250610e87565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f105af2c562df33af7eaa9de5fb0c18d8d30f281a18f95a8f76b44353a322693c87604051610f089190613b3e565b60405180910390a483945050505050611755565b6000610f26612cc3565b905060008173ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b158015610f8c57600080fd5b505afa158015610fa0573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610fc49190810190613677565b90508073ffffffffffffffffffffffffffffffffffffffff16631a391cb48b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161101b9190613dac565b600060405180830381600087803b15801561103557600080fd5b505af1158015611049573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def426988986036040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016110a49190613d09565b600060405180830381600087803b1580156110be57600080fd5b505af11580156110d2573d6000803e3d6000fd5b5050505060008273ffffffffffffffffffffffffffffffffffffffff1663664b37d68c848673ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561115857600080fd5b505afa15801561116c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506111909190810190613625565b6040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016111ca93929190613c2d565b602060405180830381600087803b1580156111e457600080fd5b505af11580156111f8573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061121c91908101906136c9565b9050600181141515611358577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffb9650888a6040518082805190602001908083835b602083101515611282578051825260208201915060208101905060208303925061125d565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208c6040518082805190602001908083835b6020831015156112e557805182526020820191506020810190506020830392506112c0565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f105af2c562df33af7eaa9de5fb0c18d8d30f281a18f95a8f76b44353a322693c8a6040516113419190613b3e565b60405180910390a486975050505050505050611755565b60008373ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b1580156113bc57600080fd5b505afa1580156113d0573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506113f49190810190613677565b90508073ffffffffffffffffffffffffffffffffffffffff16631a391cb48c6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161144b9190613dac565b600060405180830381600087803b15801561146557600080fd5b505af1158015611479573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def426988b87016040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016114d49190613d09565b600060405180830381600087803b1580156114ee57600080fd5b505af1158015611502573d6000803e3d6000fd5b505050508373ffffffffffffffffffffffffffffffffffffffff1663664b37d68c838773ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561158657600080fd5b505afa15801561159a573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506115be9190810190613625565b6040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016115f893929190613c2d565b602060405180830381600087803b15801561161257600080fd5b505af1158015611626573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061164a91908101906136c9565b50898b6040518082805190602001908083835b602083101515611682578051825260208201915060208101905060208303925061165d565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208d6040518082805190602001908083835b6020831015156116e557805182526020820191506020810190506020830392506116c0565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f105af2c562df33af7eaa9de5fb0c18d8d30f281a18f95a8f76b44353a322693c8b6040516117419190613b3e565b60405180910390a487985050505050505050505b9392505050565b6000606083518551148015611772575082518551145b15156117b3576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016117aa90613de1565b60405180910390fd5b606083516040519080825280602002602001820160405280156117e55781602001602082028038833980820191505090505b5090506117f0613346565b608060405190810160405280865160020260405190808252806020026020018201604052801561183457816020015b606081526020019060019003908161181f5790505b508152602001865160020260405190808252806020026020018201604052801561186d5781602001602082028038833980820191505090505b50815260200186516002026040519080825280602002602001820160405280156118a65781602001602082028038833980820191505090505b5081526020016000815250905060008090506000809050600090505b865181101561198d5761191c838a838151811015156118dd57fe5b906020019060200201518a848151811015156118f557fe5b906020019060200201518a8581518110151561190d57fe5b90602001906020020151612d7a565b848281518110151561192a57fe5b906020019060200201818152505060008214801561196057506000848281518110151561195357fe5b9060200190602002015114155b1561198057838181518110151561197357fe5b9060200190602002015191505b80806001019150506118c2565b6000821415611d4c5760006119a0612cc3565b9050600091505b8360600151821015611d465760008173ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b158015611a1757600080fd5b505afa158015611a2b573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611a4f9190810190613677565b90508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4866000015185815181101515611a7f57fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611ac19190613d77565b600060405180830381600087803b158015611adb57600080fd5b505af1158015611aef573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def42698866040015185815181101515611b2157fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611b639190613d09565b600060405180830381600087803b158015611b7d57600080fd5b505af1158015611b91573d6000803e3d6000fd5b5050505060018273ffffffffffffffffffffffffffffffffffffffff1663664b37d6876000015186815181101515611bc557fe5b90602001906020020151848673ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b158015611c3257600080fd5b505afa158015611c46573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611c6a9190810190",
+    "613625565b6040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611ca493929190613c6b565b602060405180830381600087803b158015611cbe57600080fd5b505af1158015611cd2573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611cf691908101906136c9565b141515611d38576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611d2f90613ca9565b60405180910390fd5b5081806001019250506119a7565b50611dc6565b600090505b8651811015611dc55760008482815181101515611d6a57fe5b906020019060200201511415611db8577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffa8482815181101515611da957fe5b90602001906020020181815250505b8080600101915050611d51565b5b600090505b8651811015611f3b578681815181101515611de257fe5b906020019060200201518882815181101515611dfa57fe5b906020019060200201516040518082805190602001908083835b602083101515611e395780518252602082019150602081019050602083039250611e14565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208a83815181101515611e7457fe5b906020019060200201516040518082805190602001908083835b602083101515611eb35780518252602082019150602081019050602083039250611e8e565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f105af2c562df33af7eaa9de5fb0c18d8d30f281a18f95a8f76b44353a322693c8785815181101515611f0f57fe5b90602001906020020151604051611f269190613b3e565b60405180910390a48080600101915050611dcb565b81849550955050505050935093915050565b6000806000905060008090506000809050611f6786612f49565b15612035577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffd925084866040518082805190602001908083835b602083101515611fc65780518252602082019150602081019050602083039250611fa1565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f7ac7a04970319ae8fc5b92fe177d000fee3c00c92f8e78aae13d6571f17c351f856040516120229190613b3e565b60405180910390a38293505050506123b9565b61203e866105db565b80925081935050506000821415156122f357600061205a612cc3565b905060008173ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b1580156120c057600080fd5b505afa1580156120d4573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506120f89190810190613677565b90508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4896040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161214f9190613dac565b600060405180830381600087803b15801561216957600080fd5b505af115801561217d573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def42698886040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016121d69190613d09565b600060405180830381600087803b1580156121f057600080fd5b505af1158015612204573d6000803e3d6000fd5b5050505060008273ffffffffffffffffffffffffffffffffffffffff16634c6f30c08a846040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612261929190613bfd565b602060405180830381600087803b15801561227b57600080fd5b505af115801561228f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506122b391908101906136c9565b905060018114156122c757600095506122eb565b7ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe95505b505050612317565b7fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff92505b84866040518082805190602001908083835b60208310151561234e5780518252602082019150602081019050602083039250612329565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f7ac7a04970319ae8fc5b92fe177d000fee3c00c92f8e78aae13d6571f17c351f856040516123aa9190613b3e565b60405180910390a38293505050505b92915050565b6000806000905060008090506123d4856105db565b8092508193505050600082141515612410577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff92505050612cbd565b600061241b866101e7565b905080851015612450577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe9350505050612cbd565b808514156124645760009350505050612cbd565b600061246e612cc3565b905060008290505b868110156127d257606061248a8983613025565b905060008373ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b1580156124f057600080fd5b505afa158015612504573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506125289190810190613677565b90508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4836040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161257f9190613dac565b600060405180830381600087803b15801561259957600080fd5b505af11580156125ad573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def4269860006040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016126079190613d09565b600060405180830381600087803b15801561262157600080fd5b505af1158015612635573d6000803e3d6000fd5b5050505060018473ffffffffffffffffffffffffffffffffffffffff16634c6f30c084846040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612692929190613bfd565b602060405180830381600087803b1580156126ac57600080fd5b505af11580156126c0573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506126e491908101906136c9565b141515612726576040517fc703cb1200000000000000000000000000000000000000000000000000000000815260040161271d90613e21565b60405180910390fd5b6000826040518082805190602001908083835b60208310151561275e5780518252602082019150602081019050602083039250612739565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f7ac7a04970319ae8fc5b92fe177d000fee3c00c92f8e78aae13d6571f17c351f60006040516127bb9190613bb2565b60405180910390a350508080600101915050612476565b506000611001905060008173ffffffffffffffffffffffffffffffffffffffff166359a48b656040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161282f90613d57565b60206040518083038186803b15801561284757600080fd5b505afa15801561285b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061287f91908101906136a0565b905060008173ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b1580156128e557600080fd5b505afa1580156128f9573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061291d9190810190613677565b90508073ffffffffffffffffffffffffffffffffffffffff16631a391cb48b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016129749190613dac565b600060405180830381600087803b15801561298e57600080fd5b505af11580156129a2573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def426988a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016129fb9190613e61565b600060405180830381600087803b158015612a1557600080fd5b505af1158015612a29573d6000803e3d6000fd5b505050506001851415612b285760018273ffffffffffffffffffffffffffffffffffffffff16634c6f30c08c846040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612a8f929190613bfd565b602060405180830381600087803b158015612aa957600080fd5b505af1158015612abd573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612ae191908101906136c9565b141515612b23576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612b1a90613e01565b60405180910390fd5b612cb1565b60018273ffffffffffffffffffffffffffffffffffffffff1663664b37d68c848673ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b158015612baa57600080fd5b505afa158015612bbe573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612be29190810190613625565b6040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612c1c93929190613c2d565b602060405180830381600087803b158015612c3657600080fd5b505af1158015612c4a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612c6e91",
+    "908101906136c9565b141515612cb0576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612ca790613cc9565b60405180910390fd5b5b60009750505050505050505b92915050565b600080611001905060008173ffffffffffffffffffffffffffffffffffffffff166359a48b656040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612d2090613d37565b60206040518083038186803b158015612d3857600080fd5b505afa158015612d4c573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612d7091908101906136a0565b9050809250505090565b600080612d87868661325a565b90506000612d95878661325a565b90506000876020015183815181101515612dab57fe5b90602001906020020151141515612de6577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff92505050612f41565b6000876020015182815181101515612dfa57fe5b90602001906020020151141515612e35577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe92505050612f41565b83876040015183815181101515612e4857fe5b906020019060200201511015612e82577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffd92505050612f41565b866040015181815181101515612e9457fe5b9060200190602002015184886040015183815181101515612eb157fe5b90602001906020020151011015612eec577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffc92505050612f41565b83876040015183815181101515612eff57fe5b906020019060200201818151039150818152505083876040015182815181101515612f2657fe5b90602001906020020181815101915081815250506000925050505b949350505050565b6000606082905060008090505b8151811015613019577f23000000000000000000000000000000000000000000000000000000000000008282815181101515612f8e57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916141561300c57600192505050613020565b8080600101915050612f56565b5060009150505b919050565b606080839050600080905060008490505b60008114151561305c578180600101925050600a8181151561305457fe5b049050613036565b506060816001845101016040519080825280601f01601f1916602001820160405280156130985781602001600182028038833980820191505090505b50905060008090505b835181101561314e5783818151811015156130b857fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f010000000000000000000000000000000000000000000000000000000000000002828281518110151561311157fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506130a1565b507f230000000000000000000000000000000000000000000000000000000000000081845181518110151561317f57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053506000815190505b60008614151561324d57808060019003915050600a868115156131d557fe5b066030017f010000000000000000000000000000000000000000000000000000000000000002828281518110151561320957fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a8681151561324557fe5b0495506131b6565b5080935050505092915050565b6000808280519060200120905060008090505b84606001518110156132ba578185600001518281518110151561328c57fe5b906020019060200201518051906020012014156132ad578092505050613340565b808060010191505061326d565b50600084606001519050838560000151828151811015156132d757fe5b906020019060200201819052506132ed846105db565b8660200151838151811015156132ff57fe5b90602001906020020187604001518481518110151561331a57fe5b906020019060200201828152508281525050506001810185606001818152505080925050505b92915050565b608060405190810160405280606081526020016060815260200160608152602001600081525090565b600082601f830112151561338257600080fd5b813561339561339082613ed7565b613eaa565b9150818183526020840193506020810190508360005b838110156133db57813586016133c188826134ce565b8452602084019350602083019250506001810190506133ab565b5050505092915050565b600082601f83011215156133f857600080fd5b813561340b61340682613eff565b613eaa565b9150818183526020840193506020810190508385602084028201111561343057600080fd5b60005b838110156134605781613446888261357a565b845260208401935060208301925050600181019050613433565b5050505092915050565b60006134768251614000565b905092915050565b600061348a8251614012565b905092915050565b600061349e8251614024565b905092915050565b60006134b28251614036565b905092915050565b60006134c68251614048565b905092915050565b600082601f83011215156134e157600080fd5b81356134f46134ef82613f27565b613eaa565b9150808252602083016020830185838301111561351057600080fd5b61351b8382846140b6565b50505092915050565b600082601f830112151561353757600080fd5b813561354a61354582613f53565b613eaa565b9150808252602083016020830185838301111561356657600080fd5b6135718382846140b6565b50505092915050565b60006135868235614052565b905092915050565b6000806000606084860312156135a357600080fd5b600084013567ffffffffffffffff8111156135bd57600080fd5b6135c98682870161336f565b935050602084013567ffffffffffffffff8111156135e657600080fd5b6135f28682870161336f565b925050604084013567ffffffffffffffff81111561360f57600080fd5b61361b868287016133e5565b9150509250925092565b60006020828403121561363757600080fd5b60006136458482850161346a565b91505092915050565b60006020828403121561366057600080fd5b600061366e8482850161347e565b91505092915050565b60006020828403121561368957600080fd5b600061369784828501613492565b91505092915050565b6000602082840312156136b257600080fd5b60006136c0848285016134a6565b91505092915050565b6000602082840312156136db57600080fd5b60006136e9848285016134ba565b91505092915050565b60006020828403121561370457600080fd5b600082013567ffffffffffffffff81111561371e57600080fd5b61372a84828501613524565b91505092915050565b60008060006060848603121561374857600080fd5b600084013567ffffffffffffffff81111561376257600080fd5b61376e86828701613524565b935050602084013567ffffffffffffffff81111561378b57600080fd5b61379786828701613524565b92505060406137a88682870161357a565b9150509250925092565b600080604083850312156137c557600080fd5b600083013567ffffffffffffffff8111156137df57600080fd5b6137eb85828601613524565b92505060206137fc8582860161357a565b9150509250929050565b600061381182613f8c565b80845260208401935061382383613f7f565b60005b828110156138555761383986835161387f565b61384282613fad565b9150602086019550600181019050613826565b50849250505092915050565b61386a8161405c565b82525050565b61387981614080565b82525050565b61388881613fcc565b82525050565b613897816140a4565b82525050565b60006138a882613fa2565b8084526138bc8160208601602086016140c5565b6138c5816140f8565b602085010191505092915050565b60006138de82613f97565b8084526138f28160208601602086016140c5565b6138fb816140f8565b602085010191505092915050565b6000601982527f7570646174652061737365745f76616c7565206661696c6564000000000000006020830152604082019050919050565b6000601482527f75706461746520736861726473206661696c65640000000000000000000000006020830152604082019050919050565b6000600b82527f61737365745f76616c75650000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f745f6173736574000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600e82527f745f61737365745f7368617264730000000000000000000000000000000000006020830152604082019050919050565b6000600782527f6163636f756e74000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601582527f6172726179206c656e677468206d69736d6174636800000000000000000000006020830152604082019050919050565b6000601482527f696e7365727420736861726473206661696c65640000000000000000000000006020830152604082019050919050565b6000601782527f696e7365727420736861726420726f77206661696c65640000000000000000006020830152604082019050919050565b6000600682527f73686172647300000000000000000000000000000000000000000000000000006020830152604082019050919050565b613b3881613ff6565b82525050565b6000602082019050613b53600083018461387f565b92915050565b6000604082019050613b6e600083018561387f565b8181036020830152613b808184613806565b90509392505050565b6000604082019050613b9e600083018561387f565b613bab6020830184613b2f565b9392505050565b6000602082019050613bc7600083018461388e565b92915050565b60006040820190508181036000830152613be7818561389d565b9050613bf66020830184613861565b9392505050565b60006040820190508181036000830152613c17818561389d565b9050613c266020830184613870565b9392505050565b60006060820190508181036000830152613c47818661389d565b9050613c566020830185613870565b613c636040830184613861565b9493",
+    "50505050565b60006060820190508181036000830152613c8581866138d3565b9050613c946020830185613870565b613ca16040830184613861565b949350505050565b60006020820190508181036000830152613cc281613909565b9050919050565b60006020820190508181036000830152613ce281613940565b9050919050565b60006020820190508181036000830152613d0281613977565b9050919050565b60006040820190508181036000830152613d2281613977565b9050613d31602083018461387f565b92915050565b60006020820190508181036000830152613d50816139ae565b9050919050565b60006020820190508181036000830152613d70816139e5565b9050919050565b60006040820190508181036000830152613d9081613a1c565b90508181036020830152613da481846138d3565b905092915050565b60006040820190508181036000830152613dc581613a1c565b90508181036020830152613dd9818461389d565b905092915050565b60006020820190508181036000830152613dfa81613a53565b9050919050565b60006020820190508181036000830152613e1a81613a8a565b9050919050565b60006020820190508181036000830152613e3a81613ac1565b9050919050565b60006020820190508181036000830152613e5a81613af8565b9050919050565b60006040820190508181036000830152613e7a81613af8565b9050613e89602083018461387f565b92915050565b6000602082019050613ea46000830184613b2f565b92915050565b6000604051905081810181811067ffffffffffffffff82111715613ecd57600080fd5b8060405250919050565b600067ffffffffffffffff821115613eee57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115613f1657600080fd5b602082029050602081019050919050565b600067ffffffffffffffff821115613f3e57600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff821115613f6a57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000613fc582613fd6565b9050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b6000819050919050565b600061400b82613fba565b9050919050565b600061401d82613fba565b9050919050565b600061402f82613fba565b9050919050565b600061404182613fba565b9050919050565b6000819050919050565b6000819050919050565b60006140678261406e565b9050919050565b600061407982613fd6565b9050919050565b600061408b82614092565b9050919050565b600061409d82613fd6565b9050919050565b60006140af82613fcc565b9050919050565b82818337600083830152505050565b60005b838110156140e35780820151818401526020810190506140c8565b838111156140f2576000848401525b50505050565b6000601f19601f830116905091905056fea265627a7a72305820d5fae395cc92879495dc05ea7c9f6c0b3929b3b0ba68459a4d528b3191dbafd56c6578706572696d656e74616cf50037"
   };
 
   public static final String SM_BINARY = String.join("", SM_BINARY_ARRAY);
 
   public static final String[] ABI_ARRAY = {
-    "[{\"constant\":false,\"inputs\":[{\"name\":\"from_account\",\"type\":\"string\"},{\"name\":\"to_account\",\"type\":\"string\"},{\"name\":\"amount\",\"type\":\"uint256\"}],\"name\":\"transfer\",\"outputs\":[{\"name\":\"\",\"type\":\"int256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"account\",\"type\":\"string\"},{\"name\":\"asset_value\",\"type\":\"uint256\"}],\"name\":\"register\",\"outputs\":[{\"name\":\"\",\"type\":\"int256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"string\"}],\"name\":\"select\",\"outputs\":[{\"name\":\"\",\"type\":\"int256\"},{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"inputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"constructor\"},{\"anonymous\":false,\"inputs\":[{\"indexed\":false,\"name\":\"ret\",\"type\":\"int256\"},{\"indexed\":true,\"name\":\"account\",\"type\":\"string\"},{\"indexed\":true,\"name\":\"asset_value\",\"type\":\"uint256\"}],\"name\":\"RegisterEvent\",\"type\":\"event\"},{\"anonymous\":false,\"inputs\":[{\"indexed\":false,\"name\":\"ret\",\"type\":\"int256\"},{\"indexed\":true,\"name\":\"from_account\",\"type\":\"string\"},{\"indexed\":true,\"name\":\"to_account\",\"type\":\"string\"},{\"indexed\":true,\"name\":\"amount\",\"type\":\"uint256\"}],\"name\":\"TransferEvent\",\"type\":\"event\"}]"
+    "[{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"string\"}],\"name\":\"shards\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"account\",\"type\":\"string\"},{\"name\":\"count\",\"type\":\"uint256\"}],\"name\":\"shard\",\"outputs\":[{\"name\":\"\",\"type\":\"int256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"from_account\",\"type\":\"string\"},{\"name\":\"to_account\",\"type\":\"string\"},{\"name\":\"amount\",\"type\":\"uint256\"}],\"name\":\"transfer\",\"outputs\":[{\"name\":\"\",\"type\":\"int256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"account\",\"type\":\"string\"},{\"name\":\"asset_value\",\"type\":\"uint256\"}],\"name\":\"register\",\"outputs\":[{\"name\":\"\",\"type\":\"int256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"from_accounts\",\"type\":\"string[]\"},{\"name\":\"to_accounts\",\"type\":\"string[]\"},{\"name\":\"amounts\",\"type\":\"uint256[]\"}],\"name\":\"transferBatch\",\"outputs\":[{\"name\":\"\",\"type\":\"int256\"},{\"name\":\"\",\"type\":\"int256[]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"string\"}],\"name\":\"select\",\"outputs\":[{\"name\":\"\",\"type\":\"int256\"},{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"inputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"constructor\"},{\"anonymous\":false,\"inputs\":[{\"indexed\":false,\"name\":\"ret\",\"type\":\"int256\"},{\"indexed\":true,\"name\":\"account\",\"type\":\"string\"},{\"indexed\":true,\"name\":\"asset_value\",\"type\":\"uint256\"}],\"name\":\"RegisterEvent\",\"type\":\"event\"},{\"anonymous\":false,\"inputs\":[{\"indexed\":false,\"name\":\"ret\",\"type\":\"int256\"},{\"indexed\":true,\"name\":\"from_account\",\"type\":\"string\"},{\"indexed\":true,\"name\":\"to_account\",\"type\":\"string\"},{\"indexed\":true,\"name\":\"amount\",\"type\":\"uint256\"}],\"name\":\"TransferEvent\",\"type\":\"event\"}]"
   };
 
   public static final String ABI = String.join("", ABI_ARRAY);
 
+  public static final String FUNC_SHARDS = "shards";
+
+  public static final String FUNC_SHARD = "shard";
+
   public static final String FUNC_TRANSFER = "transfer";
 
   public static final String FUNC_REGISTER = "register";
 
+  public static final String FUNC_TRANSFERBATCH = "transferBatch";
+
   public static final String FUNC_SELECT = "select";
 
   public static final Event REGISTEREVENT_EVENT =
@@ -79,6 +92,72 @@ public class Asset extends Contract {
     return (cryptoSuite.getCryptoTypeConfig() == CryptoType.ECDSA_TYPE ? BINARY : SM_BINARY);
   }
 
+  public BigInteger shards(String account) throws ContractException {
+    final Function function =
+        new Function(
+            FUNC_SHARDS,
+            Arrays.<Type>asList(new org.fisco.bcos.sdk.abi.datatypes.Utf8String(account)),
+            Arrays.<TypeReference<?>>asList(new TypeReference<Uint256>() {}));
+    return executeCallWithSingleValueReturn(function, BigInteger.class);
+  }
+
+  public TransactionReceipt shard(String account, BigInteger count) {
+    final Function function =
+        new Function(
+            FUNC_SHARD,
+            Arrays.<Type>asList(
+                new org.fisco.bcos.sdk.abi.datatypes.Utf8String(account),
+                new org.fisco.bcos.sdk.abi.datatypes.generated.Uint256(count)),
+            Collections.<TypeReference<?>>emptyList());
+    return executeTransaction(function);
+  }
+
+  public void shard(String account, BigInteger count, TransactionCallback callback) {
+    final Function function =
+        new Function(
+            FUNC_SHARD,
+            Arrays.<Type>asList(
+                new org.fisco.bcos.sdk.abi.datatypes.Utf8String(account),
+                new org.fisco.bcos.sdk.abi.datatypes.generated.Uint256(count)),
+            Collections.<TypeReference<?>>emptyList());
+    asyncExecuteTransaction(function, callback);
+  }
+
+  public String getSignedTransactionForShard(String account, BigInteger count) {
+    final Function function =
+        new Function(
+            FUNC_SHARD,
+            Arrays.<Type>asList(
+                new org.fisco.bcos.sdk.abi.datatypes.Utf8String(account),
+                new org.fisco.bcos.sdk.abi.datatypes.generated.Uint256(count)),
+            Collections.<TypeReference<?>>emptyList());
+    return createSignedTransaction(function);
+  }
+
+  public Tuple2<String, BigInteger> getShardInput(TransactionReceipt transactionReceipt) {
+    String data = transactionReceipt.getInput().substring(10);
+    final Function function =
+        new Function(
+            FUNC_SHARD,
+            Arrays.<Type>asList(),
+            Arrays.<TypeReference<?>>asList(
+                new TypeReference<Utf8String>() {}, new TypeReference<Uint256>() {}));
+    List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+    return new Tuple2<String, BigInteger>(
+        (String) results.get(0).getValue(), (BigInteger) results.get(1).getValue());
+  }
+
+  public Tuple1<BigInteger> getShardOutput(TransactionReceipt transactionReceipt) {
+    String data = transactionReceipt.getOutput();
+    final Function function =
+        new Function(
+            FUNC_SHARD,
+            Arrays.<Type>asList(),
+            Arrays.<TypeReference<?>>asList(new TypeReference<Int256>() {}));
+    List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+    return new Tuple1<BigInteger>((BigInteger) results.get(0).getValue());
+  }
+
   public TransactionReceipt transfer(String from_account, String to_account, BigInteger amount) {
     final Function function =
         new Function(
@@ -203,6 +282,126 @@ public class Asset extends Contract {
     return new Tuple1<BigInteger>((BigInteger) results.get(0).getValue());
   }
 
+  public TransactionReceipt transferBatch(
+      List<String> from_accounts, List<String> to_accounts, List<BigInteger> amounts) {
+    final Function function =
+        new Function(
+            FUNC_TRANSFERBATCH,
+            Arrays.<Type>asList(
+                from_accounts.isEmpty()
+                    ? org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]")
+                    : new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<
+                        org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(
+                            from_accounts, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)),
+                to_accounts.isEmpty()
+                    ? org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]")
+                    : new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<
+                        org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(
+                            to_accounts, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)),
+                amounts.isEmpty()
+                    ? org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("uint256[]")
+                    : new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<
+                        org.fisco.bcos.sdk.abi.datatypes.generated.Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(
+                            amounts, org.fisco.bcos.sdk.abi.datatypes.generated.Uint256.class))),
+            Collections.<TypeReference<?>>emptyList());
+    return executeTransaction(function);
+  }
+
+  public void transferBatch(
+      List<String> from_accounts,
+      List<String> to_accounts,
+      List<BigInteger> amounts,
+      TransactionCallback callback) {
+    final Function function =
+        new Function(
+            FUNC_TRANSFERBATCH,
+            Arrays.<Type>asList(
+                from_accounts.isEmpty()
+                    ? org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]")
+                    : new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<
+                        org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(
+                            from_accounts, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)),
+                to_accounts.isEmpty()
+                    ? org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]")
+                    : new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<
+                        org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(
+                            to_accounts, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)),
+                amounts.isEmpty()
+                    ? org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("uint256[]")
+                    : new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<
+                        org.fisco.bcos.sdk.abi.datatypes.generated.Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(
+                            amounts, org.fisco.bcos.sdk.abi.datatypes.generated.Uint256.class))),
+            Collections.<TypeReference<?>>emptyList());
+    asyncExecuteTransaction(function, callback);
+  }
+
+  public String getSignedTransactionForTransferBatch(
+      List<String> from_accounts, List<String> to_accounts, List<BigInteger> amounts) {
+    final Function function =
+        new Function(
+            FUNC_TRANSFERBATCH,
+            Arrays.<Type>asList(
+                from_accounts.isEmpty()
+                    ? org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]")
+                    : new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<
+                        org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(
+                            from_accounts, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)),
+                to_accounts.isEmpty()
+                    ? org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]")
+                    : new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<
+                        org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(
+                            to_accounts, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)),
+                amounts.isEmpty()
+                    ? org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("uint256[]")
+                    : new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<
+                        org.fisco.bcos.sdk.abi.datatypes.generated.Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(
+                            amounts, org.fisco.bcos.sdk.abi.datatypes.generated.Uint256.class))),
+            Collections.<TypeReference<?>>emptyList());
+    return createSignedTransaction(function);
+  }
+
+  public Tuple3<List<String>, List<String>, List<BigInteger>> getTransferBatchInput(
+      TransactionReceipt transactionReceipt) {
+    String data = transactionReceipt.getInput().substring(10);
+    final Function function =
+        new Function(
+            FUNC_TRANSFERBATCH,
+            Arrays.<Type>asList(),
+            Arrays.<TypeReference<?>>asList(
+                new TypeReference<DynamicArray<Utf8String>>() {},
+                new TypeReference<DynamicArray<Utf8String>>() {},
+                new TypeReference<DynamicArray<Uint256>>() {}));
+    List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+    return new Tuple3<List<String>, List<String>, List<BigInteger>>(
+        convertToNative((List<Utf8String>) results.get(0).getValue()),
+        convertToNative((List<Utf8String>) results.get(1).getValue()),
+        convertToNative((List<Uint256>) results.get(2).getValue()));
+  }
+
+  public Tuple2<BigInteger, List<BigInteger>> getTransferBatchOutput(
+      TransactionReceipt transactionReceipt) {
+    String data = transactionReceipt.getOutput();
+    final Function function =
+        new Function(
+            FUNC_TRANSFERBATCH,
+            Arrays.<Type>asList(),
+            Arrays.<TypeReference<?>>asList(
+                new TypeReference<Int256>() {}, new TypeReference<DynamicArray<Int256>>() {}));
+    List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+    return new Tuple2<BigInteger, List<BigInteger>>(
+        (BigInteger) results.get(0).getValue(),
+        convertToNative((List<Int256>) results.get(1).getValue()));
+  }
+
   public Tuple2<BigInteger, BigInteger> select(String account) throws ContractException {
     final Function function =
         new Function(
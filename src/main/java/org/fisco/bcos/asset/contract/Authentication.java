@@ -7,6 +7,7 @@ import java.util.Collections;
 import java.util.List;
 import org.fisco.bcos.sdk.abi.FunctionReturnDecoder;
 import org.fisco.bcos.sdk.abi.TypeReference;
+import org.fisco.bcos.sdk.abi.datatypes.DynamicArray;
 import org.fisco.bcos.sdk.abi.datatypes.Event;
 import org.fisco.bcos.sdk.abi.datatypes.Function;
 import org.fisco.bcos.sdk.abi.datatypes.Type;
@@ -26,20 +27,24 @@ import org.fisco.bcos.sdk.transaction.model.exception.ContractException;
 
 @SuppressWarnings("unchecked")
 public class Authentication extends Contract {
-    public static final String[] BINARY_ARRAY = {"608060405234801561001057600080fd5b5061002861002d640100000000026401000000009004565b610185565b600061100190508073ffffffffffffffffffffffffffffffffffffffff166356004b6a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401808060200180602001806020018481038452600a8152602001807f745f6964656e74697479000000000000000000000000000000000000000000008152506020018481038352600a8152602001807f6163636f756e745f6964000000000000000000000000000000000000000000008152506020018481038252601d8152602001807f7075626c69635f6b65792c757365725f696e666f2c7369675f646174610000008152506020019350505050602060405180830381600087803b15801561014657600080fd5b505af115801561015a573d6000803e3d6000fd5b505050506040513d602081101561017057600080fd5b81019080805190602001909291905050505050565b6115c0806101946000396000f30060806040526004361061004c576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff1680630e24c52c14610051578063fcd7e3c1146101a0575b600080fd5b34801561005d57600080fd5b5061018a600480360381019080803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290505050610361565b6040518082815260200191505060405180910390f35b3480156101ac57600080fd5b50610207600480360381019080803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290505050610c7f565b60405180858152602001806020018060200180602001848103845287818151815260200191508051906020019080838360005b8381101561025557808201518184015260208101905061023a565b50505050905090810190601f1680156102825780820380516001836020036101000a031916815260200191505b50848103835286818151815260200191508051906020019080838360005b838110156102bb5780820151818401526020810190506102a0565b50505050905090810190601f1680156102e85780820380516001836020036101000a031916815260200191505b50848103825285818151815260200191508051906020019080838360005b83811015610321578082015181840152602081019050610306565b50505050905090810190601f16801561034e5780820380516001836020036101000a031916815260200191505b5097505050505050505060405180910390f35b60008060006060600080600080955060009450602060405190810160405280600081525093506103908b610c7f565b80975081975082975083985050505050600085141515610a69576103b26114a5565b92508273ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b15801561041857600080fd5b505af115801561042c573d6000803e3d6000fd5b505050506040513d602081101561044257600080fd5b810190808051906020019092919050505091508173ffffffffffffffffffffffffffffffffffffffff1663e942b5168c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004018080602001806020018381038352600a8152602001807f6163636f756e745f696400000000000000000000000000000000000000000000815250602001838103825284818151815260200191508051906020019080838360005b838110156105155780820151818401526020810190506104fa565b50505050905090810190601f1680156105425780820380516001836020036101000a031916815260200191505b509350505050600060405180830381600087803b15801561056257600080fd5b505af1158015610576573d6000803e3d6000fd5b505050508173ffffffffffffffffffffffffffffffffffffffff1663e942b5168b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004018080602001806020018381038352600a8152602001807f7075626c69635f6b657900000000000000000000000000000000000000000000815250602001838103825284818151815260200191508051906020019080838360005b8381101561063a57808201518184015260208101905061061f565b50505050905090810190601f1680156106675780820380516001836020036101000a031916815260200191505b509350505050600060405180830381600087803b15801561068757600080fd5b505af115801561069b573d6000803e3d6000fd5b505050508173ffffffffffffffffffffffffffffffffffffffff1663e942b5168a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401808060200180602001838103835260098152602001807f757365725f696e666f0000000000000000000000000000000000000000000000815250602001838103825284818151815260200191508051906020019080838360005b8381101561075f578082015181840152602081019050610744565b50505050905090810190601f16801561078c5780820380516001836020036101000a031916815260200191505b509350505050600060405180830381600087803b1580156107ac57600080fd5b505af11580156107c0573d6000803e3d6000fd5b505050508173ffffffffffffffffffffffffffffffffffffffff1663e942b516896040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401808060200180602001838103835260088152602001807f7369675f64617461000000000000000000000000000000000000000000000000815250602001838103825284818151815260200191508051906020019080838360005b83811015610884578082015181840152602081019050610869565b50505050905090810190601f1680156108b15780820380516001836020036101000a031916815260200191505b509350505050600060405180830381600087803b1580156108d157600080fd5b505af11580156108e5573d6000803e3d6000fd5b505050508273ffffffffffffffffffffffffffffffffffffffff166331afac368c846040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001828103825284818151815260200191508051906020019080838360005b838110156109a4578082015181840152602081019050610989565b50505050905090810190601f1680156109d15780820380516001836020036101000a031916815260200191505b509350505050602060405180830381600087803b1580156109f157600080fd5b505af1158015610a05573d6000803e3d6000fd5b505050506040513d6020811015610a1b57600080fd5b810190808051906020019092919050505090506001811415610a405760009550610a64565b7ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe95505b610a8d565b7fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff95505b8a6040518082805190602001908083835b602083101515610ac35780518252602082019150602081019050602083039250610a9e565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f42767499ffab62653527a1b68b7c4c2a6832d72c0daaa41eb3a4ece5f5dbf163878c8c8c60405180858152602001806020018060200180602001848103845287818151815260200191508051906020019080838360005b83811015610b63578082015181840152602081019050610b48565b50505050905090810190601f168015610b905780820380516001836020036101000a031916815260200191505b50848103835286818151815260200191508051906020019080838360005b83811015610bc9578082015181840152602081019050610bae565b50505050905090810190601f168015610bf65780820380516001836020036101000a031916815260200191505b50848103825285818151815260200191508051906020019080838360005b83811015610c2f578082015181840152602081019050610c14565b50505050905090810190601f168015610c5c5780820380516001836020036101000a031916815260200191505b5097505050505050505060405180910390a2859650505050505050949350505050565b6000606080606060008060006060600061100194508473ffffffffffffffffffffffffffffffffffffffff1663f23f63c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018281038252600a8152602001807f745f6964656e7469747900000000000000000000000000000000000000000000815250602001915050602060405180830381600087803b158015610d3457600080fd5b505af1158015610d48573d6000803e3d6000fd5b505050506040513d6020811015610d5e57600080fd5b810190808051906020019092919050505093508373ffffffffffffffffffffffffffffffffffffffff1663e8434e398b8673ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015610df257600080fd5b505af1158015610e06573d6000803e3d6000fd5b505050506040513d6020811015610e1c57600080fd5b81019080805190602001909291905050506040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018373ffffffffffffffffff","ffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001828103825284818151815260200191508051906020019080838360005b83811015610eca578082015181840152602081019050610eaf565b50505050905090810190601f168015610ef75780820380516001836020036101000a031916815260200191505b509350505050602060405180830381600087803b158015610f1757600080fd5b505af1158015610f2b573d6000803e3d6000fd5b505050506040513d6020811015610f4157600080fd5b81019080805190602001909291905050509250602060405190810160405280600081525091508273ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015610fcb57600080fd5b505af1158015610fdf573d6000803e3d6000fd5b505050506040513d6020811015610ff557600080fd5b810190808051906020019092919050505060001415611042577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff8283848393509850985098509850611499565b8273ffffffffffffffffffffffffffffffffffffffff1663846719e060006040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180828152602001915050602060405180830381600087803b1580156110b257600080fd5b505af11580156110c6573d6000803e3d6000fd5b505050506040513d60208110156110dc57600080fd5b8101908080519060200190929190505050905060008173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018281038252600a8152602001807f7075626c69635f6b657900000000000000000000000000000000000000000000815250602001915050600060405180830381600087803b15801561119157600080fd5b505af11580156111a5573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525060208110156111cf57600080fd5b8101908080516401000000008111156111e757600080fd5b828101905060208101848111156111fd57600080fd5b815185600182028301116401000000008211171561121a57600080fd5b50509291905050508273ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004018080602001828103825260098152602001807f757365725f696e666f0000000000000000000000000000000000000000000000815250602001915050600060405180830381600087803b1580156112c257600080fd5b505af11580156112d6573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250602081101561130057600080fd5b81019080805164010000000081111561131857600080fd5b8281019050602081018481111561132e57600080fd5b815185600182028301116401000000008211171561134b57600080fd5b50509291905050508373ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004018080602001828103825260088152602001807f7369675f64617461000000000000000000000000000000000000000000000000815250602001915050600060405180830381600087803b1580156113f357600080fd5b505af1158015611407573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250602081101561143157600080fd5b81019080805164010000000081111561144957600080fd5b8281019050602081018481111561145f57600080fd5b815185600182028301116401000000008211171561147c57600080fd5b505092919050505083935082925081915080905098509850985098505b50505050509193509193565b600080600061100191508173ffffffffffffffffffffffffffffffffffffffff1663f23f63c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018281038252600a8152602001807f745f6964656e7469747900000000000000000000000000000000000000000000815250602001915050602060405180830381600087803b15801561154f57600080fd5b505af1158015611563573d6000803e3d6000fd5b505050506040513d602081101561157957600080fd5b810190808051906020019092919050505090508092505050905600a165627a7a72305820e8ef04897e0560df42c8ca52e2199faa0f458599d7c2112dcf96e238c4f91fd50029"};
+    public static final String[] BINARY_ARRAY = {"60806040523480156200001157600080fd5b506200002b62000031640100000000026401000000009004565b62000224565b600061100190508073ffffffffffffffffffffffffffffffffffffffff166356004b6a6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200008d90620001ce565b602060405180830381600087803b158015620000a857600080fd5b505af1158015620000bd573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620000e39190810190620000fd565b5050565b6000620000f582516200021a565b905092915050565b6000602082840312156200011057600080fd5b60006200012084828501620000e7565b91505092915050565b6000601d82527f7075626c69635f6b65792c757365725f696e666f2c7369675f646174610000006020830152604082019050919050565b6000600a82527f6163636f756e745f6964000000000000000000000000000000000000000000006020830152604082019050919050565b6000600a82527f745f6964656e74697479000000000000000000000000000000000000000000006020830152604082019050919050565b60006060820190508181036000830152620001e98162000197565b90508181036020830152620001fe8162000160565b90508181036040830152620002138162000129565b9050919050565b6000819050919050565b612aa880620002346000396000f3fe60806040526004361061005c576000357c0100000000000000000000000000000000000000000000000000000000900480630e24c52c14610061578063aa0d5c8e1461009e578063b7be4f9c146100db578063fcd7e3c11461011b575b600080fd5b34801561006d57600080fd5b5061008860048036036100839190810190612033565b61015b565b6040516100959190612434565b60405180910390f35b3480156100aa57600080fd5b506100c560048036036100c09190810190611e21565b610622565b6040516100d291906123b1565b60405180910390f35b3480156100e757600080fd5b5061010260048036036100fd9190810190611de0565b610e89565b60405161011294939291906123d3565b60405180910390f35b34801561012757600080fd5b50610142600480360361013d9190810190611fb1565b6115a9565b604051610152949392919061244f565b60405180910390f35b600080600090506000809050606060206040519081016040528060008152509050610185886115a9565b809450819450829450839550505050506000821415156105505760006101a9611b4d565b905060008173ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561020f57600080fd5b505afa158015610223573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506102479190810190611f36565b90508073ffffffffffffffffffffffffffffffffffffffff1663e942b5168b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161029e9190612613565b600060405180830381600087803b1580156102b857600080fd5b505af11580156102cc573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b5168a6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161032591906127f1565b600060405180830381600087803b15801561033f57600080fd5b505af1158015610353573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b516896040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016103ac9190612767565b600060405180830381600087803b1580156103c657600080fd5b505af11580156103da573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b516886040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161043391906126dd565b600060405180830381600087803b15801561044d57600080fd5b505af1158015610461573d6000803e3d6000fd5b5050505060008273ffffffffffffffffffffffffffffffffffffffff166331afac368c846040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016104be92919061254e565b602060405180830381600087803b1580156104d857600080fd5b505af11580156104ec573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506105109190810190611f88565b905060018114156105245760009550610548565b7ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe95505b505050610574565b7fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff92505b876040518082805190602001908083835b6020831015156105aa5780518252602082019150602081019050602083039250610585565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f42767499ffab62653527a1b68b7c4c2a6832d72c0daaa41eb3a4ece5f5dbf1638489898960405161060c949392919061244f565b60405180910390a2829350505050949350505050565b606083518551148015610636575082518551145b8015610643575081518551145b1515610684576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161067b90612668565b60405180910390fd5b606085516040519080825280602002602001820160405280156106b65781602001602082028038833980820191505090505b50905060006106c3611b4d565b905060008090505b8751811015610e7b5760008273ffffffffffffffffffffffffffffffffffffffff1663e8434e398a8481518110151561070057fe5b906020019060200201518573ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561076c57600080fd5b505afa158015610780573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506107a49190810190611ee4565b6040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016107dd92919061257e565b60206040518083038186803b1580156107f557600080fd5b505afa158015610809573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061082d9190810190611f0d565b90508073ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561089157600080fd5b505afa1580156108a5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506108c99190810190611f88565b60001415610d1c5760008373ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561093557600080fd5b505afa158015610949573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061096d9190810190611f36565b90508073ffffffffffffffffffffffffffffffffffffffff1663e942b5168b8581518110151561099957fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016109db91906125de565b600060405180830381600087803b1580156109f557600080fd5b505af1158015610a09573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b5168a85815181101515610a3757fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610a7991906127bc565b600060405180830381600087803b158015610a9357600080fd5b505af1158015610aa7573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b5168985815181101515610ad557fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610b179190612732565b600060405180830381600087803b158015610b3157600080fd5b505af1158015610b45573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663e942b5168885815181101515610b7357fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610bb591906126a8565b600060405180830381600087803b158015610bcf57600080fd5b505af1158015610be3573d6000803e3d6000fd5b5050505060008473ffffffffffffffffffffffffffffffffffffffff166331afac368c86815181101515610c1357fe5b90602001906020020151846040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610c579291906125ae565b602060405180830381600087803b158015610c7157600080fd5b505af1158015610c85573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610ca99190810190611f88565b90506001811415610cd75760008685815181101515610cc457fe5b9060200190602002018181525050610d15565b7ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe8685815181101515610d0657fe5b90602001906020020181815250505b5050610d5a565b7fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff8483815181101515610d4b57fe5b90602001906020020181815250505b8882815181101515610d6857fe5b906020019060200201516040518082805190602001908083835b602083101515610da75780518252602082019150602081019050602083039250610d82565b6001836020036101000a0380198251168184511680821785525050505050509050019150","5060405180910390207f42767499ffab62653527a1b68b7c4c2a6832d72c0daaa41eb3a4ece5f5dbf1638584815181101515610e0357fe5b906020019060200201518a85815181101515610e1b57fe5b906020019060200201518a86815181101515610e3357fe5b906020019060200201518a87815181101515610e4b57fe5b90602001906020020151604051610e6594939291906124a9565b60405180910390a25080806001019150506106cb565b508192505050949350505050565b6060806060806000611001905060008173ffffffffffffffffffffffffffffffffffffffff1663f23f63c96040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610eeb90612648565b60206040518083038186803b158015610f0357600080fd5b505afa158015610f17573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610f3b9190810190611f5f565b905060608751604051908082528060200260200182016040528015610f6f5781602001602082028038833980820191505090505b50905060608851604051908082528060200260200182016040528015610fa957816020015b6060815260200190600190039081610f945790505b50905060608951604051908082528060200260200182016040528015610fe357816020015b6060815260200190600190039081610fce5790505b50905060608a5160405190808252806020026020018201604052801561101d57816020015b60608152602001906001900390816110085790505b50905060008090505b8b5181101561158f5760008673ffffffffffffffffffffffffffffffffffffffff1663e8434e398e8481518110151561105b57fe5b906020019060200201518973ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b1580156110c757600080fd5b505afa1580156110db573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506110ff9190810190611ee4565b6040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161113892919061257e565b60206040518083038186803b15801561115057600080fd5b505afa158015611164573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506111889190810190611f0d565b90508073ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b1580156111ec57600080fd5b505afa158015611200573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506112249190810190611f88565b6000141561126e577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff868381518110151561125b57fe5b9060200190602002018181525050611581565b60008173ffffffffffffffffffffffffffffffffffffffff1663846719e060006040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016112c69190612503565b60206040518083038186803b1580156112de57600080fd5b505afa1580156112f2573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506113169190810190611f36565b90506000878481518110151561132857fe5b90602001906020020181815250508073ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016113899061279c565b60006040518083038186803b1580156113a157600080fd5b505afa1580156113b5573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506113de9190810190611ff2565b86848151811015156113ec57fe5b906020019060200201819052508073ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161144c90612712565b60006040518083038186803b15801561146457600080fd5b505afa158015611478573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506114a19190810190611ff2565b85848151811015156114af57fe5b906020019060200201819052508073ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161150f90612688565b60006040518083038186803b15801561152757600080fd5b505afa15801561153b573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506115649190810190611ff2565b848481518110151561157257fe5b90602001906020020181905250505b508080600101915050611026565b508383838399509950995099505050505050509193509193565b600060608060606000611001905060008173ffffffffffffffffffffffffffffffffffffffff1663f23f63c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161160c90612648565b60206040518083038186803b15801561162457600080fd5b505afa158015611638573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061165c9190810190611f5f565b905060008173ffffffffffffffffffffffffffffffffffffffff1663e8434e39898473ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b1580156116df57600080fd5b505afa1580156116f3573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506117179190810190611ee4565b6040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161175092919061251e565b60206040518083038186803b15801561176857600080fd5b505afa15801561177c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506117a09190810190611f0d565b90506060602060405190810160405280600081525090508173ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561181957600080fd5b505afa15801561182d573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506118519190810190611f88565b60001415611891577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff818283839350975097509750975050505050611b46565b60008273ffffffffffffffffffffffffffffffffffffffff1663846719e060006040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016118e99190612503565b60206040518083038186803b15801561190157600080fd5b505afa158015611915573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506119399190810190611f36565b905060008173ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016119909061279c565b60006040518083038186803b1580156119a857600080fd5b505afa1580156119bc573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506119e59190810190611ff2565b8273ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611a3890612712565b60006040518083038186803b158015611a5057600080fd5b505afa158015611a64573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250611a8d9190810190611ff2565b8373ffffffffffffffffffffffffffffffffffffffff16639c981fcb6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611ae090612688565b60006040518083038186803b158015611af857600080fd5b505afa158015611b0c573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250611b359190810190611ff2565b839350985098509850985050505050505b9193509193565b600080611001905060008173ffffffffffffffffffffffffffffffffffffffff1663f23f63c96040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611baa90612648565b60206040518083038186803b158015611bc257600080fd5b505afa158015611bd6573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611bfa9190810190611f5f565b9050809250505090565b600082601f8301121515611c1757600080fd5b8135611c2a611c2582612853565b612826565b9150818183526020840193506020810190508360005b83811015611c705781358601611c568882611cde565b845260208401935060208301925050600181019050611c40565b5050505092915050565b6000611c86825161296f565b905092915050565b6000611c9a8251612981565b905092915050565b6000611cae8251612993565b905092915050565b6000611cc282516129a5565b905092915050565b6000611cd682516129b7565b905092915050565b600082601f8301121515611cf157600080fd5b8135611d04611cff8261287b565b612826565b91508082526020830160208301858383011115611d2057600080fd5b611d2b838284612a1b565b50505092915050565b600082601f8301121515611d4757600080fd5b8135611d5a611d55826128a7565b612826565b91508082526020830160208301858383011115611d7657600080fd5b611d81838284612a1b565b50505092915050565b600082601f8301121515611d9d57600080fd5b8151611db0611dab826128a7565b612826565b91508082526020830160208301858383011115611dcc57600080fd","5b611dd7838284612a2a565b50505092915050565b600060208284031215611df257600080fd5b600082013567ffffffffffffffff811115611e0c57600080fd5b611e1884828501611c04565b91505092915050565b60008060008060808587031215611e3757600080fd5b600085013567ffffffffffffffff811115611e5157600080fd5b611e5d87828801611c04565b945050602085013567ffffffffffffffff811115611e7a57600080fd5b611e8687828801611c04565b935050604085013567ffffffffffffffff811115611ea357600080fd5b611eaf87828801611c04565b925050606085013567ffffffffffffffff811115611ecc57600080fd5b611ed887828801611c04565b91505092959194509250565b600060208284031215611ef657600080fd5b6000611f0484828501611c7a565b91505092915050565b600060208284031215611f1f57600080fd5b6000611f2d84828501611c8e565b91505092915050565b600060208284031215611f4857600080fd5b6000611f5684828501611ca2565b91505092915050565b600060208284031215611f7157600080fd5b6000611f7f84828501611cb6565b91505092915050565b600060208284031215611f9a57600080fd5b6000611fa884828501611cca565b91505092915050565b600060208284031215611fc357600080fd5b600082013567ffffffffffffffff811115611fdd57600080fd5b611fe984828501611d34565b91505092915050565b60006020828403121561200457600080fd5b600082015167ffffffffffffffff81111561201e57600080fd5b61202a84828501611d8a565b91505092915050565b6000806000806080858703121561204957600080fd5b600085013567ffffffffffffffff81111561206357600080fd5b61206f87828801611d34565b945050602085013567ffffffffffffffff81111561208c57600080fd5b61209887828801611d34565b935050604085013567ffffffffffffffff8111156120b557600080fd5b6120c187828801611d34565b925050606085013567ffffffffffffffff8111156120de57600080fd5b6120ea87828801611d34565b91505092959194509250565b6000612101826128ed565b808452602084019350612113836128d3565b60005b82811015612145576121298683516121dd565b61213282612919565b9150602086019550600181019050612116565b50849250505092915050565b600061215c826128f8565b80845260208401935083602082028501612175856128e0565b60005b848110156121ae578383038852612190838351612231565b925061219b82612926565b9150602088019750600181019050612178565b508196508694505050505092915050565b6121c8816129c1565b82525050565b6121d7816129e5565b82525050565b6121e681612945565b82525050565b6121f581612a09565b82525050565b60006122068261290e565b80845261221a816020860160208601612a2a565b61222381612a5d565b602085010191505092915050565b600061223c82612903565b808452612250816020860160208601612a2a565b61225981612a5d565b602085010191505092915050565b6000600a82527f6163636f756e745f6964000000000000000000000000000000000000000000006020830152604082019050919050565b6000600a82527f745f6964656e74697479000000000000000000000000000000000000000000006020830152604082019050919050565b6000601582527f6172726179206c656e677468206d69736d6174636800000000000000000000006020830152604082019050919050565b6000600882527f7369675f646174610000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600982527f757365725f696e666f00000000000000000000000000000000000000000000006020830152604082019050919050565b6000600a82527f7075626c69635f6b6579000000000000000000000000000000000000000000006020830152604082019050919050565b600060208201905081810360008301526123cb81846120f6565b905092915050565b600060808201905081810360008301526123ed81876120f6565b905081810360208301526124018186612151565b905081810360408301526124158185612151565b905081810360608301526124298184612151565b905095945050505050565b600060208201905061244960008301846121dd565b92915050565b600060808201905061246460008301876121dd565b818103602083015261247681866121fb565b9050818103604083015261248a81856121fb565b9050818103606083015261249e81846121fb565b905095945050505050565b60006080820190506124be60008301876121dd565b81810360208301526124d08186612231565b905081810360408301526124e48185612231565b905081810360608301526124f88184612231565b905095945050505050565b600060208201905061251860008301846121ec565b92915050565b6000604082019050818103600083015261253881856121fb565b905061254760208301846121bf565b9392505050565b6000604082019050818103600083015261256881856121fb565b905061257760208301846121ce565b9392505050565b600060408201905081810360008301526125988185612231565b90506125a760208301846121bf565b9392505050565b600060408201905081810360008301526125c88185612231565b90506125d760208301846121ce565b9392505050565b600060408201905081810360008301526125f781612267565b9050818103602083015261260b8184612231565b905092915050565b6000604082019050818103600083015261262c81612267565b9050818103602083015261264081846121fb565b905092915050565b600060208201905081810360008301526126618161229e565b9050919050565b60006020820190508181036000830152612681816122d5565b9050919050565b600060208201905081810360008301526126a18161230c565b9050919050565b600060408201905081810360008301526126c18161230c565b905081810360208301526126d58184612231565b905092915050565b600060408201905081810360008301526126f68161230c565b9050818103602083015261270a81846121fb565b905092915050565b6000602082019050818103600083015261272b81612343565b9050919050565b6000604082019050818103600083015261274b81612343565b9050818103602083015261275f8184612231565b905092915050565b6000604082019050818103600083015261278081612343565b9050818103602083015261279481846121fb565b905092915050565b600060208201905081810360008301526127b58161237a565b9050919050565b600060408201905081810360008301526127d58161237a565b905081810360208301526127e98184612231565b905092915050565b6000604082019050818103600083015261280a8161237a565b9050818103602083015261281e81846121fb565b905092915050565b6000604051905081810181811067ffffffffffffffff8211171561284957600080fd5b8060405250919050565b600067ffffffffffffffff82111561286a57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561289257600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff8211156128be57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000602082019050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b600061293e8261294f565b9050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600061297a82612933565b9050919050565b600061298c82612933565b9050919050565b600061299e82612933565b9050919050565b60006129b082612933565b9050919050565b6000819050919050565b60006129cc826129d3565b9050919050565b60006129de8261294f565b9050919050565b60006129f0826129f7565b9050919050565b6000612a028261294f565b9050919050565b6000612a1482612945565b9050919050565b82818337600083830152505050565b60005b83811015612a48578082015181840152602081019050612a2d565b83811115612a57576000848401525b50505050565b6000601f19601f830116905091905056fea265627a7a72305820e50a6e1bc5348dfe01343f00bdc6d36c94a91f612a697c54d98fca351c9f21f26c6578706572696d656e74616cf50037"};
 
     public static final String BINARY = String.join("", BINARY_ARRAY);
 
-    public static final String[] SM_BINARY_ARRAY = {"608060405234801561001057600080fd5b5061002861002d640100000000026401000000009004565b610185565b600061100190508073ffffffffffffffffffffffffffffffffffffffff1663c92a78016040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401808060200180602001806020018481038452600a8152602001807f745f6964656e74697479000000000000000000000000000000000000000000008152506020018481038352600a8152602001807f6163636f756e745f6964000000000000000000000000000000000000000000008152506020018481038252601d8152602001807f7075626c69635f6b65792c757365725f696e666f2c7369675f646174610000008152506020019350505050602060405180830381600087803b15801561014657600080fd5b505af115801561015a573d6000803e3d6000fd5b505050506040513d602081101561017057600080fd5b81019080805190602001909291905050505050565b6115c0806101946000396000f30060806040526004361061004c576000357c0100000000000000000000000000000000000000000000000000000000900463ffffffff1680635b325d7814610051578063c99911e814610212575b600080fd5b34801561005d57600080fd5b506100b8600480360381019080803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290505050610361565b60405180858152602001806020018060200180602001848103845287818151815260200191508051906020019080838360005b838110156101065780820151818401526020810190506100eb565b50505050905090810190601f1680156101335780820380516001836020036101000a031916815260200191505b50848103835286818151815260200191508051906020019080838360005b8381101561016c578082015181840152602081019050610151565b50505050905090810190601f1680156101995780820380516001836020036101000a031916815260200191505b50848103825285818151815260200191508051906020019080838360005b838110156101d25780820151818401526020810190506101b7565b50505050905090810190601f1680156101ff5780820380516001836020036101000a031916815260200191505b5097505050505050505060405180910390f35b34801561021e57600080fd5b5061034b600480360381019080803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290803590602001908201803590602001908080601f0160208091040260200160405190810160405280939291908181526020018383808284378201915050505050509192919290505050610b87565b6040518082815260200191505060405180910390f35b6000606080606060008060006060600061100194508473ffffffffffffffffffffffffffffffffffffffff166359a48b656040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018281038252600a8152602001807f745f6964656e7469747900000000000000000000000000000000000000000000815250602001915050602060405180830381600087803b15801561041657600080fd5b505af115801561042a573d6000803e3d6000fd5b505050506040513d602081101561044057600080fd5b810190808051906020019092919050505093508373ffffffffffffffffffffffffffffffffffffffff1663d8ac59578b8673ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156104d457600080fd5b505af11580156104e8573d6000803e3d6000fd5b505050506040513d60208110156104fe57600080fd5b81019080805190602001909291905050506040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001828103825284818151815260200191508051906020019080838360005b838110156105ac578082015181840152602081019050610591565b50505050905090810190601f1680156105d95780820380516001836020036101000a031916815260200191505b509350505050602060405180830381600087803b1580156105f957600080fd5b505af115801561060d573d6000803e3d6000fd5b505050506040513d602081101561062357600080fd5b81019080805190602001909291905050509250602060405190810160405280600081525091508273ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b1580156106ad57600080fd5b505af11580156106c1573d6000803e3d6000fd5b505050506040513d60208110156106d757600080fd5b810190808051906020019092919050505060001415610724577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff8283848393509850985098509850610b7b565b8273ffffffffffffffffffffffffffffffffffffffff16633dd2b61460006040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180828152602001915050602060405180830381600087803b15801561079457600080fd5b505af11580156107a8573d6000803e3d6000fd5b505050506040513d60208110156107be57600080fd5b8101908080519060200190929190505050905060008173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018281038252600a8152602001807f7075626c69635f6b657900000000000000000000000000000000000000000000815250602001915050600060405180830381600087803b15801561087357600080fd5b505af1158015610887573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525060208110156108b157600080fd5b8101908080516401000000008111156108c957600080fd5b828101905060208101848111156108df57600080fd5b81518560018202830111640100000000821117156108fc57600080fd5b50509291905050508273ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004018080602001828103825260098152602001807f757365725f696e666f0000000000000000000000000000000000000000000000815250602001915050600060405180830381600087803b1580156109a457600080fd5b505af11580156109b8573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525060208110156109e257600080fd5b8101908080516401000000008111156109fa57600080fd5b82810190506020810184811115610a1057600080fd5b8151856001820283011164010000000082111715610a2d57600080fd5b50509291905050508373ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004018080602001828103825260088152602001807f7369675f64617461000000000000000000000000000000000000000000000000815250602001915050600060405180830381600087803b158015610ad557600080fd5b505af1158015610ae9573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506020811015610b1357600080fd5b810190808051640100000000811115610b2b57600080fd5b82810190506020810184811115610b4157600080fd5b8151856001820283011164010000000082111715610b5e57600080fd5b505092919050505083935082925081915080905098509850985098505b50505050509193509193565b6000806000606060008060008095506000945060206040519081016040528060008152509350610bb68b610361565b8097508197508297508398505050505060008514151561128f57610bd86114a5565b92508273ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401602060405180830381600087803b158015610c3e57600080fd5b505af1158015610c52573d6000803e3d6000fd5b505050506040513d6020811015610c6857600080fd5b810190808051906020019092919050505091508173ffffffffffffffffffffffffffffffffffffffff16631a391cb48c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004018080602001806020018381038352600a8152602001807f6163636f756e745f696400000000000000000000000000000000000000000000815250602001838103825284818151815260200191508051906020019080838360005b83811015610d3b578082015181840152602081019050610d20565b50505050905090810190601f168015610d685780820380516001836020036101000a031916815260200191505b509350505050600060405180830381600087803b158015610d8857600080fd5b505af1158015610d9c573d6000803e3d6000fd5b505050508173ffffffffffffffffffffffffffffffffffffffff16631a391cb48b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004018080602001806020018381038352600a8152602001807f7075626c69635f6b657900000000000000000000000000000000000000000000815250602001838103825284818151815260200191508051906020019080838360005b83811015610e60578082015181840152602081019050610e45565b5050505090509081019060","1f168015610e8d5780820380516001836020036101000a031916815260200191505b509350505050600060405180830381600087803b158015610ead57600080fd5b505af1158015610ec1573d6000803e3d6000fd5b505050508173ffffffffffffffffffffffffffffffffffffffff16631a391cb48a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401808060200180602001838103835260098152602001807f757365725f696e666f0000000000000000000000000000000000000000000000815250602001838103825284818151815260200191508051906020019080838360005b83811015610f85578082015181840152602081019050610f6a565b50505050905090810190601f168015610fb25780820380516001836020036101000a031916815260200191505b509350505050600060405180830381600087803b158015610fd257600080fd5b505af1158015610fe6573d6000803e3d6000fd5b505050508173ffffffffffffffffffffffffffffffffffffffff16631a391cb4896040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401808060200180602001838103835260088152602001807f7369675f64617461000000000000000000000000000000000000000000000000815250602001838103825284818151815260200191508051906020019080838360005b838110156110aa57808201518184015260208101905061108f565b50505050905090810190601f1680156110d75780820380516001836020036101000a031916815260200191505b509350505050600060405180830381600087803b1580156110f757600080fd5b505af115801561110b573d6000803e3d6000fd5b505050508273ffffffffffffffffffffffffffffffffffffffff16634c6f30c08c846040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018373ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff168152602001828103825284818151815260200191508051906020019080838360005b838110156111ca5780820151818401526020810190506111af565b50505050905090810190601f1680156111f75780820380516001836020036101000a031916815260200191505b509350505050602060405180830381600087803b15801561121757600080fd5b505af115801561122b573d6000803e3d6000fd5b505050506040513d602081101561124157600080fd5b810190808051906020019092919050505090506001811415611266576000955061128a565b7ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe95505b6112b3565b7fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff95505b8a6040518082805190602001908083835b6020831015156112e957805182526020820191506020810190506020830392506112c4565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f2ffdcdafb1b1905045b3b985862663058e7eab18bb0caac87c63c140923fea39878c8c8c60405180858152602001806020018060200180602001848103845287818151815260200191508051906020019080838360005b8381101561138957808201518184015260208101905061136e565b50505050905090810190601f1680156113b65780820380516001836020036101000a031916815260200191505b50848103835286818151815260200191508051906020019080838360005b838110156113ef5780820151818401526020810190506113d4565b50505050905090810190601f16801561141c5780820380516001836020036101000a031916815260200191505b50848103825285818151815260200191508051906020019080838360005b8381101561145557808201518184015260208101905061143a565b50505050905090810190601f1680156114825780820380516001836020036101000a031916815260200191505b5097505050505050505060405180910390a2859650505050505050949350505050565b600080600061100191508173ffffffffffffffffffffffffffffffffffffffff166359a48b656040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040180806020018281038252600a8152602001807f745f6964656e7469747900000000000000000000000000000000000000000000815250602001915050602060405180830381600087803b15801561154f57600080fd5b505af1158015611563573d6000803e3d6000fd5b505050506040513d602081101561157957600080fd5b810190808051906020019092919050505090508092505050905600a165627a7a72305820dbb152bdf3bc338a5a07cef4cdaef9c51b1128d8b406cc9d26e46ca9bf908b500029"};
+    public static final String[] SM_BINARY_ARRAY = {"60806040523480156200001157600080fd5b506200002b62000031640100000000026401000000009004565b62000224565b600061100190508073ffffffffffffffffffffffffffffffffffffffff1663c92a78016040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200008d90620001ce565b602060405180830381600087803b158015620000a857600080fd5b505af1158015620000bd573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620000e39190810190620000fd565b5050565b6000620000f582516200021a565b905092915050565b6000602082840312156200011057600080fd5b60006200012084828501620000e7565b91505092915050565b6000600a82527f6163636f756e745f6964000000000000000000000000000000000000000000006020830152604082019050919050565b6000601d82527f7075626c69635f6b65792c757365725f696e666f2c7369675f646174610000006020830152604082019050919050565b6000600a82527f745f6964656e74697479000000000000000000000000000000000000000000006020830152604082019050919050565b60006060820190508181036000830152620001e98162000197565b90508181036020830152620001fe8162000129565b90508181036040830152620002138162000160565b9050919050565b6000819050919050565b612aa880620002346000396000f3fe60806040526004361061005c576000357c0100000000000000000000000000000000000000000000000000000000900480630d99ce011461006157806318d65a931461009e5780635b325d78146100de578063c99911e81461011e575b600080fd5b34801561006d57600080fd5b5061008860048036036100839190810190611e21565b61015b565b60405161009591906123b1565b60405180910390f35b3480156100aa57600080fd5b506100c560048036036100c09190810190611de0565b6109c2565b6040516100d594939291906123d3565b60405180910390f35b3480156100ea57600080fd5b5061010560048036036101009190810190611fb1565b6110e2565b604051610115949392919061244f565b60405180910390f35b34801561012a57600080fd5b5061014560048036036101409190810190612033565b611686565b6040516101529190612434565b60405180910390f35b60608351855114801561016f575082518551145b801561017c575081518551145b15156101bd576040517fc703cb120000000000000000000000000000000000000000000000000000000081526004016101b49061275c565b60405180910390fd5b606085516040519080825280602002602001820160405280156101ef5781602001602082028038833980820191505090505b50905060006101fc611b4d565b905060008090505b87518110156109b45760008273ffffffffffffffffffffffffffffffffffffffff1663d8ac59578a8481518110151561023957fe5b906020019060200201518573ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b1580156102a557600080fd5b505afa1580156102b9573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506102dd9190810190611ee4565b6040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161031692919061257e565b60206040518083038186803b15801561032e57600080fd5b505afa158015610342573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506103669190810190611f0d565b90508073ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b1580156103ca57600080fd5b505afa1580156103de573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506104029190810190611f88565b600014156108555760008373ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561046e57600080fd5b505afa158015610482573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506104a69190810190611f36565b90508073ffffffffffffffffffffffffffffffffffffffff16631a391cb48b858151811015156104d257fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016105149190612668565b600060405180830381600087803b15801561052e57600080fd5b505af1158015610542573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb48a8581518110151561057057fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016105b291906126f2565b600060405180830381600087803b1580156105cc57600080fd5b505af11580156105e0573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4898581518110151561060e57fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161065091906125fe565b600060405180830381600087803b15801561066a57600080fd5b505af115801561067e573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb488858151811015156106ac57fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016106ee91906127bc565b600060405180830381600087803b15801561070857600080fd5b505af115801561071c573d6000803e3d6000fd5b5050505060008473ffffffffffffffffffffffffffffffffffffffff16634c6f30c08c8681518110151561074c57fe5b90602001906020020151846040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016107909291906125ae565b602060405180830381600087803b1580156107aa57600080fd5b505af11580156107be573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506107e29190810190611f88565b9050600181141561081057600086858151811015156107fd57fe5b906020019060200201818152505061084e565b7ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe868581518110151561083f57fe5b90602001906020020181815250505b5050610893565b7fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff848381518110151561088457fe5b90602001906020020181815250505b88828151811015156108a157fe5b906020019060200201516040518082805190602001908083835b6020831015156108e057805182526020820191506020810190506020830392506108bb565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f2ffdcdafb1b1905045b3b985862663058e7eab18bb0caac87c63c140923fea39858481518110151561093c57fe5b906020019060200201518a8581518110151561095457fe5b906020019060200201518a8681518110151561096c57fe5b906020019060200201518a8781518110151561098457fe5b9060200190602002015160405161099e94939291906124a9565b60405180910390a2508080600101915050610204565b508192505050949350505050565b6060806060806000611001905060008173ffffffffffffffffffffffffffffffffffffffff166359a48b656040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610a249061277c565b60206040518083038186803b158015610a3c57600080fd5b505afa158015610a50573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610a749190810190611f5f565b905060608751604051908082528060200260200182016040528015610aa85781602001602082028038833980820191505090505b50905060608851604051908082528060200260200182016040528015610ae257816020015b6060815260200190600190039081610acd5790505b50905060608951604051908082528060200260200182016040528015610b1c57816020015b6060815260200190600190039081610b075790505b50905060608a51604051908082528060200260200182016040528015610b5657816020015b6060815260200190600190039081610b415790505b50905060008090505b8b518110156110c85760008673ffffffffffffffffffffffffffffffffffffffff1663d8ac59578e84815181101515610b9457fe5b906020019060200201518973ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b158015610c0057600080fd5b505afa158015610c14573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610c389190810190611ee4565b6040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610c7192919061257e565b60206040518083038186803b158015610c8957600080fd5b505afa158015610c9d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610cc19190810190611f0d565b90508073ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b158015610d2557600080fd5b505afa158015610d39573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610d5d9190810190611f88565b60001415610da7577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff8683815181101515610d9457fe5b90602001906020020181815250506110ba565b60008173ffffffffffffffffffffffffffffffffffffffff16633dd2b614600060405182","63ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610dff9190612503565b60206040518083038186803b158015610e1757600080fd5b505afa158015610e2b573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610e4f9190810190611f36565b905060008784815181101515610e6157fe5b90602001906020020181815250508073ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610ec2906126d2565b60006040518083038186803b158015610eda57600080fd5b505afa158015610eee573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250610f179190810190611ff2565b8684815181101515610f2557fe5b906020019060200201819052508073ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610f85906125de565b60006040518083038186803b158015610f9d57600080fd5b505afa158015610fb1573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f82011682018060405250610fda9190810190611ff2565b8584815181101515610fe857fe5b906020019060200201819052508073ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016110489061279c565b60006040518083038186803b15801561106057600080fd5b505afa158015611074573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061109d9190810190611ff2565b84848151811015156110ab57fe5b90602001906020020181905250505b508080600101915050610b5f565b508383838399509950995099505050505050509193509193565b600060608060606000611001905060008173ffffffffffffffffffffffffffffffffffffffff166359a48b656040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016111459061277c565b60206040518083038186803b15801561115d57600080fd5b505afa158015611171573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506111959190810190611f5f565b905060008173ffffffffffffffffffffffffffffffffffffffff1663d8ac5957898473ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561121857600080fd5b505afa15801561122c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506112509190810190611ee4565b6040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161128992919061251e565b60206040518083038186803b1580156112a157600080fd5b505afa1580156112b5573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506112d99190810190611f0d565b90506060602060405190810160405280600081525090508173ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561135257600080fd5b505afa158015611366573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061138a9190810190611f88565b600014156113ca577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff81828383935097509750975097505050505061167f565b60008273ffffffffffffffffffffffffffffffffffffffff16633dd2b61460006040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016114229190612503565b60206040518083038186803b15801561143a57600080fd5b505afa15801561144e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506114729190810190611f36565b905060008173ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016114c9906126d2565b60006040518083038186803b1580156114e157600080fd5b505afa1580156114f5573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061151e9190810190611ff2565b8273ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611571906125de565b60006040518083038186803b15801561158957600080fd5b505afa15801561159d573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f820116820180604052506115c69190810190611ff2565b8373ffffffffffffffffffffffffffffffffffffffff16639bca41e86040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016116199061279c565b60006040518083038186803b15801561163157600080fd5b505afa158015611645573d6000803e3d6000fd5b505050506040513d6000823e3d601f19601f8201168201806040525061166e9190810190611ff2565b839350985098509850985050505050505b9193509193565b6000806000905060008090506060602060405190810160405280600081525090506116b0886110e2565b80945081945082945083955050505050600082141515611a7b5760006116d4611b4d565b905060008173ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561173a57600080fd5b505afa15801561174e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506117729190810190611f36565b90508073ffffffffffffffffffffffffffffffffffffffff16631a391cb48b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016117c9919061269d565b600060405180830381600087803b1580156117e357600080fd5b505af11580156117f7573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb48a6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016118509190612727565b600060405180830381600087803b15801561186a57600080fd5b505af115801561187e573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4896040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016118d79190612633565b600060405180830381600087803b1580156118f157600080fd5b505af1158015611905573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4886040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161195e91906127f1565b600060405180830381600087803b15801561197857600080fd5b505af115801561198c573d6000803e3d6000fd5b5050505060008273ffffffffffffffffffffffffffffffffffffffff16634c6f30c08c846040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016119e992919061254e565b602060405180830381600087803b158015611a0357600080fd5b505af1158015611a17573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611a3b9190810190611f88565b90506001811415611a4f5760009550611a73565b7ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe95505b505050611a9f565b7fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff92505b876040518082805190602001908083835b602083101515611ad55780518252602082019150602081019050602083039250611ab0565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f2ffdcdafb1b1905045b3b985862663058e7eab18bb0caac87c63c140923fea3984898989604051611b37949392919061244f565b60405180910390a2829350505050949350505050565b600080611001905060008173ffffffffffffffffffffffffffffffffffffffff166359a48b656040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611baa9061277c565b60206040518083038186803b158015611bc257600080fd5b505afa158015611bd6573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611bfa9190810190611f5f565b9050809250505090565b600082601f8301121515611c1757600080fd5b8135611c2a611c2582612853565b612826565b9150818183526020840193506020810190508360005b83811015611c705781358601611c568882611cde565b845260208401935060208301925050600181019050611c40565b5050505092915050565b6000611c86825161296f565b905092915050565b6000611c9a8251612981565b905092915050565b6000611cae8251612993565b905092915050565b6000611cc282516129a5565b905092915050565b6000611cd682516129b7565b905092915050565b600082601f8301121515611cf157600080fd5b8135611d04611cff8261287b565b612826565b91508082526020830160208301858383011115611d2057600080fd5b611d2b838284612a1b565b50505092915050565b600082601f8301121515611d4757600080fd5b8135611d5a611d55826128a7565b612826565b91508082526020830160208301858383011115611d7657600080fd5b611d81838284612a1b565b50505092915050565b600082601f8301121515611d9d57600080fd5b8151611db0611dab826128a7565b612826565b91508082526020830160208301858383011115611dcc57600080fd","5b611dd7838284612a2a565b50505092915050565b600060208284031215611df257600080fd5b600082013567ffffffffffffffff811115611e0c57600080fd5b611e1884828501611c04565b91505092915050565b60008060008060808587031215611e3757600080fd5b600085013567ffffffffffffffff811115611e5157600080fd5b611e5d87828801611c04565b945050602085013567ffffffffffffffff811115611e7a57600080fd5b611e8687828801611c04565b935050604085013567ffffffffffffffff811115611ea357600080fd5b611eaf87828801611c04565b925050606085013567ffffffffffffffff811115611ecc57600080fd5b611ed887828801611c04565b91505092959194509250565b600060208284031215611ef657600080fd5b6000611f0484828501611c7a565b91505092915050565b600060208284031215611f1f57600080fd5b6000611f2d84828501611c8e565b91505092915050565b600060208284031215611f4857600080fd5b6000611f5684828501611ca2565b91505092915050565b600060208284031215611f7157600080fd5b6000611f7f84828501611cb6565b91505092915050565b600060208284031215611f9a57600080fd5b6000611fa884828501611cca565b91505092915050565b600060208284031215611fc357600080fd5b600082013567ffffffffffffffff811115611fdd57600080fd5b611fe984828501611d34565b91505092915050565b60006020828403121561200457600080fd5b600082015167ffffffffffffffff81111561201e57600080fd5b61202a84828501611d8a565b91505092915050565b6000806000806080858703121561204957600080fd5b600085013567ffffffffffffffff81111561206357600080fd5b61206f87828801611d34565b945050602085013567ffffffffffffffff81111561208c57600080fd5b61209887828801611d34565b935050604085013567ffffffffffffffff8111156120b557600080fd5b6120c187828801611d34565b925050606085013567ffffffffffffffff8111156120de57600080fd5b6120ea87828801611d34565b91505092959194509250565b6000612101826128ed565b808452602084019350612113836128d3565b60005b82811015612145576121298683516121dd565b61213282612919565b9150602086019550600181019050612116565b50849250505092915050565b600061215c826128f8565b80845260208401935083602082028501612175856128e0565b60005b848110156121ae578383038852612190838351612231565b925061219b82612926565b9150602088019750600181019050612178565b508196508694505050505092915050565b6121c8816129c1565b82525050565b6121d7816129e5565b82525050565b6121e681612945565b82525050565b6121f581612a09565b82525050565b60006122068261290e565b80845261221a816020860160208601612a2a565b61222381612a5d565b602085010191505092915050565b600061223c82612903565b808452612250816020860160208601612a2a565b61225981612a5d565b602085010191505092915050565b6000600982527f757365725f696e666f00000000000000000000000000000000000000000000006020830152604082019050919050565b6000600a82527f6163636f756e745f6964000000000000000000000000000000000000000000006020830152604082019050919050565b6000600a82527f7075626c69635f6b6579000000000000000000000000000000000000000000006020830152604082019050919050565b6000601582527f6172726179206c656e677468206d69736d6174636800000000000000000000006020830152604082019050919050565b6000600a82527f745f6964656e74697479000000000000000000000000000000000000000000006020830152604082019050919050565b6000600882527f7369675f646174610000000000000000000000000000000000000000000000006020830152604082019050919050565b600060208201905081810360008301526123cb81846120f6565b905092915050565b600060808201905081810360008301526123ed81876120f6565b905081810360208301526124018186612151565b905081810360408301526124158185612151565b905081810360608301526124298184612151565b905095945050505050565b600060208201905061244960008301846121dd565b92915050565b600060808201905061246460008301876121dd565b818103602083015261247681866121fb565b9050818103604083015261248a81856121fb565b9050818103606083015261249e81846121fb565b905095945050505050565b60006080820190506124be60008301876121dd565b81810360208301526124d08186612231565b905081810360408301526124e48185612231565b905081810360608301526124f88184612231565b905095945050505050565b600060208201905061251860008301846121ec565b92915050565b6000604082019050818103600083015261253881856121fb565b905061254760208301846121bf565b9392505050565b6000604082019050818103600083015261256881856121fb565b905061257760208301846121ce565b9392505050565b600060408201905081810360008301526125988185612231565b90506125a760208301846121bf565b9392505050565b600060408201905081810360008301526125c88185612231565b90506125d760208301846121ce565b9392505050565b600060208201905081810360008301526125f781612267565b9050919050565b6000604082019050818103600083015261261781612267565b9050818103602083015261262b8184612231565b905092915050565b6000604082019050818103600083015261264c81612267565b9050818103602083015261266081846121fb565b905092915050565b600060408201905081810360008301526126818161229e565b905081810360208301526126958184612231565b905092915050565b600060408201905081810360008301526126b68161229e565b905081810360208301526126ca81846121fb565b905092915050565b600060208201905081810360008301526126eb816122d5565b9050919050565b6000604082019050818103600083015261270b816122d5565b9050818103602083015261271f8184612231565b905092915050565b60006040820190508181036000830152612740816122d5565b9050818103602083015261275481846121fb565b905092915050565b600060208201905081810360008301526127758161230c565b9050919050565b6000602082019050818103600083015261279581612343565b9050919050565b600060208201905081810360008301526127b58161237a565b9050919050565b600060408201905081810360008301526127d58161237a565b905081810360208301526127e98184612231565b905092915050565b6000604082019050818103600083015261280a8161237a565b9050818103602083015261281e81846121fb565b905092915050565b6000604051905081810181811067ffffffffffffffff8211171561284957600080fd5b8060405250919050565b600067ffffffffffffffff82111561286a57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561289257600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff8211156128be57600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b6000602082019050919050565b600081519050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b6000602082019050919050565b600061293e8261294f565b9050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b600061297a82612933565b9050919050565b600061298c82612933565b9050919050565b600061299e82612933565b9050919050565b60006129b082612933565b9050919050565b6000819050919050565b60006129cc826129d3565b9050919050565b60006129de8261294f565b9050919050565b60006129f0826129f7565b9050919050565b6000612a028261294f565b9050919050565b6000612a1482612945565b9050919050565b82818337600083830152505050565b60005b83811015612a48578082015181840152602081019050612a2d565b83811115612a57576000848401525b50505050565b6000601f19601f830116905091905056fea265627a7a72305820a9e32e92c83315b7d731620ba510ea58ffa56363704a6ce16d562bdd736dfb1a6c6578706572696d656e74616cf50037"};
 
     public static final String SM_BINARY = String.join("", SM_BINARY_ARRAY);
 
-    public static final String[] ABI_ARRAY = {"[{\"constant\":false,\"inputs\":[{\"name\":\"account_id\",\"type\":\"string\"},{\"name\":\"public_key\",\"type\":\"string\"},{\"name\":\"user_info\",\"type\":\"string\"},{\"name\":\"sig_data\",\"type\":\"string\"}],\"name\":\"register\",\"outputs\":[{\"name\":\"\",\"type\":\"int256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account_id\",\"type\":\"string\"}],\"name\":\"select\",\"outputs\":[{\"name\":\"\",\"type\":\"int256\"},{\"name\":\"\",\"type\":\"string\"},{\"name\":\"\",\"type\":\"string\"},{\"name\":\"\",\"type\":\"string\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"inputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"constructor\"},{\"anonymous\":false,\"inputs\":[{\"indexed\":false,\"name\":\"ret\",\"type\":\"int256\"},{\"indexed\":true,\"name\":\"account_id\",\"type\":\"string\"},{\"indexed\":false,\"name\":\"public_key\",\"type\":\"string\"},{\"indexed\":false,\"name\":\"user_info\",\"type\":\"string\"},{\"indexed\":false,\"name\":\"sig_data\",\"type\":\"string\"}],\"name\":\"RegisterEvent\",\"type\":\"event\"}]"};
+    public static final String[] ABI_ARRAY = {"[{\"constant\":false,\"inputs\":[{\"name\":\"account_id\",\"type\":\"string\"},{\"name\":\"public_key\",\"type\":\"string\"},{\"name\":\"user_info\",\"type\":\"string\"},{\"name\":\"sig_data\",\"type\":\"string\"}],\"name\":\"register\",\"outputs\":[{\"name\":\"\",\"type\":\"int256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"account_ids\",\"type\":\"string[]\"},{\"name\":\"public_keys\",\"type\":\"string[]\"},{\"name\":\"user_infos\",\"type\":\"string[]\"},{\"name\":\"sig_datas\",\"type\":\"string[]\"}],\"name\":\"registerBatch\",\"outputs\":[{\"name\":\"\",\"type\":\"int256[]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account_ids\",\"type\":\"string[]\"}],\"name\":\"selectBatch\",\"outputs\":[{\"name\":\"\",\"type\":\"int256[]\"},{\"name\":\"\",\"type\":\"string[]\"},{\"name\":\"\",\"type\":\"string[]\"},{\"name\":\"\",\"type\":\"string[]\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account_id\",\"type\":\"string\"}],\"name\":\"select\",\"outputs\":[{\"name\":\"\",\"type\":\"int256\"},{\"name\":\"\",\"type\":\"string\"},{\"name\":\"\",\"type\":\"string\"},{\"name\":\"\",\"type\":\"string\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"inputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"constructor\"},{\"anonymous\":false,\"inputs\":[{\"indexed\":false,\"name\":\"ret\",\"type\":\"int256\"},{\"indexed\":true,\"name\":\"account_id\",\"type\":\"string\"},{\"indexed\":false,\"name\":\"public_key\",\"type\":\"string\"},{\"indexed\":false,\"name\":\"user_info\",\"type\":\"string\"},{\"indexed\":false,\"name\":\"sig_data\",\"type\":\"string\"}],\"name\":\"RegisterEvent\",\"type\":\"event\"}]"};
 
     public static final String ABI = String.join("", ABI_ARRAY);
 
     public static final String FUNC_REGISTER = "register";
 
+    public static final String FUNC_REGISTERBATCH = "registerBatch";
+
+    public static final String FUNC_SELECTBATCH = "selectBatch";
+
     public static final String FUNC_SELECT = "select";
 
     public static final Event REGISTEREVENT_EVENT = new Event("RegisterEvent", 
@@ -114,6 +119,91 @@ public class Authentication extends Contract {
                 );
     }
 
+    public TransactionReceipt registerBatch(List<String> account_ids, List<String> public_keys, List<String> user_infos, List<String> sig_datas) {
+        final Function function = new Function(
+                FUNC_REGISTERBATCH, 
+                Arrays.<Type>asList(account_ids.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(account_ids, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)), 
+                public_keys.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(public_keys, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)), 
+                user_infos.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(user_infos, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)), 
+                sig_datas.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(sig_datas, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class))), 
+                Collections.<TypeReference<?>>emptyList());
+        return executeTransaction(function);
+    }
+
+    public void registerBatch(List<String> account_ids, List<String> public_keys, List<String> user_infos, List<String> sig_datas, TransactionCallback callback) {
+        final Function function = new Function(
+                FUNC_REGISTERBATCH, 
+                Arrays.<Type>asList(account_ids.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(account_ids, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)), 
+                public_keys.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(public_keys, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)), 
+                user_infos.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(user_infos, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)), 
+                sig_datas.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(sig_datas, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class))), 
+                Collections.<TypeReference<?>>emptyList());
+        asyncExecuteTransaction(function, callback);
+    }
+
+    public String getSignedTransactionForRegisterBatch(List<String> account_ids, List<String> public_keys, List<String> user_infos, List<String> sig_datas) {
+        final Function function = new Function(
+                FUNC_REGISTERBATCH, 
+                Arrays.<Type>asList(account_ids.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(account_ids, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)), 
+                public_keys.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(public_keys, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)), 
+                user_infos.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(user_infos, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)), 
+                sig_datas.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(sig_datas, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class))), 
+                Collections.<TypeReference<?>>emptyList());
+        return createSignedTransaction(function);
+    }
+
+    public Tuple4<List<String>, List<String>, List<String>, List<String>> getRegisterBatchInput(TransactionReceipt transactionReceipt) {
+        String data = transactionReceipt.getInput().substring(10);
+        final Function function = new Function(FUNC_REGISTERBATCH, 
+                Arrays.<Type>asList(), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<DynamicArray<Utf8String>>() {}, new TypeReference<DynamicArray<Utf8String>>() {}, new TypeReference<DynamicArray<Utf8String>>() {}, new TypeReference<DynamicArray<Utf8String>>() {}));
+        List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+        return new Tuple4<List<String>, List<String>, List<String>, List<String>>(
+
+                convertToNative((List<Utf8String>) results.get(0).getValue()), 
+                convertToNative((List<Utf8String>) results.get(1).getValue()), 
+                convertToNative((List<Utf8String>) results.get(2).getValue()), 
+                convertToNative((List<Utf8String>) results.get(3).getValue())
+                );
+    }
+
+    public Tuple1<List<BigInteger>> getRegisterBatchOutput(TransactionReceipt transactionReceipt) {
+        String data = transactionReceipt.getOutput();
+        final Function function = new Function(FUNC_REGISTERBATCH, 
+                Arrays.<Type>asList(), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<DynamicArray<Int256>>() {}));
+        List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+        return new Tuple1<List<BigInteger>>(
+
+                convertToNative((List<Int256>) results.get(0).getValue())
+                );
+    }
+
+    public Tuple4<List<BigInteger>, List<String>, List<String>, List<String>> selectBatch(List<String> account_ids) throws ContractException {
+        final Function function = new Function(FUNC_SELECTBATCH, 
+                Arrays.<Type>asList(account_ids.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(account_ids, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class))), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<DynamicArray<Int256>>() {}, new TypeReference<DynamicArray<Utf8String>>() {}, new TypeReference<DynamicArray<Utf8String>>() {}, new TypeReference<DynamicArray<Utf8String>>() {}));
+        List<Type> results = executeCallWithMultipleValueReturn(function);
+        return new Tuple4<List<BigInteger>, List<String>, List<String>, List<String>>(
+                convertToNative((List<Int256>) results.get(0).getValue()), 
+                convertToNative((List<Utf8String>) results.get(1).getValue()), 
+                convertToNative((List<Utf8String>) results.get(2).getValue()), 
+                convertToNative((List<Utf8String>) results.get(3).getValue()));
+    }
+
     public Tuple4<BigInteger, String, String, String> select(String account_id) throws ContractException {
         final Function function = new Function(FUNC_SELECT, 
                 Arrays.<Type>asList(new org.fisco.bcos.sdk.abi.datatypes.Utf8String(account_id)), 
@@ -126,6 +216,20 @@ public class Authentication extends Contract {
                 (String) results.get(3).getValue());
     }
 
+    // selectBatch split into one record per account, in the shape select(account_id) returns
+    public List<Tuple4<BigInteger, String, String, String>> selectBatchRecords(List<String> account_ids) throws ContractException {
+        Tuple4<List<BigInteger>, List<String>, List<String>, List<String>> columns = selectBatch(account_ids);
+        List<Tuple4<BigInteger, String, String, String>> records = new ArrayList<Tuple4<BigInteger, String, String, String>>(account_ids.size());
+        for (int i = 0; i < account_ids.size(); i++) {
+            records.add(new Tuple4<BigInteger, String, String, String>(
+                    columns.getValue1().get(i), 
+                    columns.getValue2().get(i), 
+                    columns.getValue3().get(i), 
+                    columns.getValue4().get(i)));
+        }
+        return records;
+    }
+
     public List<RegisterEventEventResponse> getRegisterEventEvents(TransactionReceipt transactionReceipt) {
         List<Contract.EventValuesWithLog> valueList = extractEventParametersWithLog(REGISTEREVENT_EVENT, transactionReceipt);
         ArrayList<RegisterEventEventResponse> responses = new ArrayList<RegisterEventEventResponse>(valueList.size());
@@ -0,0 +1,525 @@
+package org.fisco.bcos.asset.contract;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.fisco.bcos.sdk.abi.FunctionReturnDecoder;
+import org.fisco.bcos.sdk.abi.TypeReference;
+import org.fisco.bcos.sdk.abi.datatypes.DynamicArray;
+import org.fisco.bcos.sdk.abi.datatypes.Event;
+import org.fisco.bcos.sdk.abi.datatypes.Function;
+import org.fisco.bcos.sdk.abi.datatypes.Type;
+import org.fisco.bcos.sdk.abi.datatypes.Utf8String;
+import org.fisco.bcos.sdk.abi.datatypes.generated.Int256;
+import org.fisco.bcos.sdk.abi.datatypes.generated.Uint256;
+import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple1;
+import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple2;
+import org.fisco.bcos.sdk.abi.datatypes.generated.tuples.generated.Tuple3;
+import org.fisco.bcos.sdk.client.Client;
+import org.fisco.bcos.sdk.contract.Contract;
+import org.fisco.bcos.sdk.crypto.CryptoSuite;
+import org.fisco.bcos.sdk.crypto.keypair.CryptoKeyPair;
+import org.fisco.bcos.sdk.eventsub.EventCallback;
+import org.fisco.bcos.sdk.model.CryptoType;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.fisco.bcos.sdk.model.callback.TransactionCallback;
+import org.fisco.bcos.sdk.transaction.model.exception.ContractException;
+
+@SuppressWarnings("unchecked")
+public class ParallelAsset extends Contract {
+    public static final String[] BINARY_ARRAY = {"60806040526110066000806101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055506200005f62000065640100000000026401000000009004565b620003be565b600061100190508073ffffffffffffffffffffffffffffffffffffffff166356004b6a6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620000c19062000368565b602060405180830381600087803b158015620000dc57600080fd5b505af1158015620000f1573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620001179190810190620001dd565b508073ffffffffffffffffffffffffffffffffffffffff166356004b6a6040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200016d906200031c565b602060405180830381600087803b1580156200018857600080fd5b505af11580156200019d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620001c39190810190620001dd565b5050565b6000620001d58251620003b4565b905092915050565b600060208284031215620001f057600080fd5b60006200020084828501620001c7565b91505092915050565b6000600e82527f745f61737365745f7368617264730000000000000000000000000000000000006020830152604082019050919050565b6000600b82527f61737365745f76616c75650000000000000000000000000000000000000000006020830152604082019050919050565b6000600682527f73686172647300000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f6163636f756e74000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f745f6173736574000000000000000000000000000000000000000000000000006020830152604082019050919050565b60006060820190508181036000830152620003378162000209565b905081810360208301526200034c81620002ae565b90508181036040830152620003618162000277565b9050919050565b600060608201905081810360008301526200038381620002e5565b905081810360208301526200039881620002ae565b90508181036040830152620003ad8162000240565b9050919050565b6000819050919050565b61451b80620003ce6000396000f3fe6080604052600436106100ae576000357c010000000000000000000000000000000000000000000000000000000090048063bca926af11610076578063bca926af146101bc578063d39f70bc146101d3578063ea87152b146101ea578063f35e0cff14610227578063fcd7e3c114610265576100ae565b80632ca5b32d146100b357806334a18dda146100f057806379fa913f146101195780637b6be66f146101425780639b80b0501461017f575b600080fd5b3480156100bf57600080fd5b506100da60048036036100d59190810190613a4d565b6102a3565b6040516100e79190614267565b60405180910390f35b3480156100fc57600080fd5b5061011760048036036101129190810190613b0d565b610697565b005b34801561012557600080fd5b50610140600480360361013b9190810190613a4d565b610768565b005b34801561014e57600080fd5b5061016960048036036101649190810190613b0d565b610836565b6040516101769190613f16565b60405180910390f35b34801561018b57600080fd5b506101a660048036036101a19190810190613a8e565b61113a565b6040516101b39190613f16565b60405180910390f35b3480156101c857600080fd5b506101d1611e8c565b005b3480156101df57600080fd5b506101e8611f0e565b005b3480156101f657600080fd5b50610211600480360361020c9190810190613b0d565b611f8c565b60405161021e9190613f16565b60405180910390f35b34801561023357600080fd5b5061024e600480360361024991908101906138e9565b6123fe565b60405161025c929190613f31565b60405180910390f35b34801561027157600080fd5b5061028c60048036036102879190810190613a4d565b612bef565b60405161029a929190613f61565b60405180910390f35b600080611001905060008173ffffffffffffffffffffffffffffffffffffffff1663f23f63c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161030090614081565b60206040518083038186803b15801561031857600080fd5b505afa15801561032c573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061035091908101906139fb565b905060008173ffffffffffffffffffffffffffffffffffffffff1663e8434e39868473ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b1580156103d357600080fd5b505afa1580156103e7573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061040b9190810190613980565b6040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610444929190613fa5565b60206040518083038186803b15801561045c57600080fd5b505afa158015610470573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061049491908101906139a9565b90508073ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b1580156104f857600080fd5b505afa15801561050c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506105309190810190613a24565b600014156105445760019350505050610692565b8073ffffffffffffffffffffffffffffffffffffffff1663846719e060006040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161059a9190613f8a565b60206040518083038186803b1580156105b257600080fd5b505afa1580156105c6573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506105ea91908101906139d2565b73ffffffffffffffffffffffffffffffffffffffff1663fda69fae6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161063c9061416f565b60206040518083038186803b15801561065457600080fd5b505afa158015610668573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061068c9190810190613a24565b93505050505b919050565b6000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff16630553904e3084846040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161071193929190613ed8565b602060405180830381600087803b15801561072b57600080fd5b505af115801561073f573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506107639190810190613a24565b505050565b6000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff166311e3f2af30836040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016107e0929190613ea8565b602060405180830381600087803b1580156107fa57600080fd5b505af115801561080e573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506108329190810190613a24565b5050565b60008060009050600080905061084b85612bef565b8092508193505050600082141515610887577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff92505050611134565b6000610892866102a3565b9050808510156108c7577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe9350505050611134565b808514156108db5760009350505050611134565b60006108e561301e565b905060008290505b86811015610c4957606061090189836130d5565b905060008373ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561096757600080fd5b505afa15801561097b573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061099f91908101906139d2565b90508073ffffffffffffffffffffffffffffffffffffffff1663e942b516836040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016109f691906141f2565b600060405180830381600087803b158015610a1057600080fd5b505af1158015610a24573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba7460006040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610a7e9190614101565b600060405180830381600087803b158015610a9857600080fd5b505af1158015610aac573d6000803e3d6000fd5b5050505060018473ffffffffffffffffffffffffffffffffffffffff166331afac3684846040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610b09929190613fd5565b602060405180830381600087803b158015610b2357600080fd5b505af1158015610b37573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610b5b9190810190613a24565b141515610b9d576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401610b94906140a1565b60405180910390fd5b6000826040518082805190602001908083835b602083101515610bd55780518252602082019150602081019050602083039250610bb0565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f91c95f04198617c60eaf2180fbca88fc192db379657df0e412a9f7dd4ebbe95d6000604051610c329190613f8a56","5b60405180910390a3505080806001019150506108ed565b506000611001905060008173ffffffffffffffffffffffffffffffffffffffff1663f23f63c96040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610ca690614081565b60206040518083038186803b158015610cbe57600080fd5b505afa158015610cd2573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610cf691908101906139fb565b905060008173ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b158015610d5c57600080fd5b505afa158015610d70573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610d9491908101906139d2565b90508073ffffffffffffffffffffffffffffffffffffffff1663e942b5168b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610deb91906141f2565b600060405180830381600087803b158015610e0557600080fd5b505af1158015610e19573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba748a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610e72919061418f565b600060405180830381600087803b158015610e8c57600080fd5b505af1158015610ea0573d6000803e3d6000fd5b505050506001851415610f9f5760018273ffffffffffffffffffffffffffffffffffffffff166331afac368c846040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610f06929190613fd5565b602060405180830381600087803b158015610f2057600080fd5b505af1158015610f34573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610f589190810190613a24565b141515610f9a576040517f08c379a0000000000000000000000000000000000000000000000000000000008152600401610f9190614247565b60405180910390fd5b611128565b60018273ffffffffffffffffffffffffffffffffffffffff1663bf2b70a18c848673ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561102157600080fd5b505afa158015611035573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506110599190810190613980565b6040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161109393929190614005565b602060405180830381600087803b1580156110ad57600080fd5b505af11580156110c1573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506110e59190810190613a24565b141515611127576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161111e9061414f565b60405180910390fd5b5b60009750505050505050505b92915050565b6000806000905060008090506000809050600080905061115988612bef565b8093508194505050600083141515611298577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff935085876040518082805190602001908083835b6020831015156111c557805182526020820191506020810190506020830392506111a0565b6001836020036101000a0380198251168184511680821785525050505050509050019150506040518091039020896040518082805190602001908083835b6020831015156112285780518252602082019150602081019050602083039250611203565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f8f6b9fa4d4bf04c7c1c3242d4a5c59ba22525b6761cf89e44becb27c606154bd876040516112849190613f16565b60405180910390a483945050505050611e85565b6112a187612bef565b80925081945050506000831415156113e0577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe935085876040518082805190602001908083835b60208310151561130d57805182526020820191506020810190506020830392506112e8565b6001836020036101000a0380198251168184511680821785525050505050509050019150506040518091039020896040518082805190602001908083835b602083101515611370578051825260208201915060208101905060208303925061134b565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f8f6b9fa4d4bf04c7c1c3242d4a5c59ba22525b6761cf89e44becb27c606154bd876040516113cc9190613f16565b60405180910390a483945050505050611e85565b85821015611515577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffd935085876040518082805190602001908083835b602083101515611442578051825260208201915060208101905060208303925061141d565b6001836020036101000a0380198251168184511680821785525050505050509050019150506040518091039020896040518082805190602001908083835b6020831015156114a55780518252602082019150602081019050602083039250611480565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f8f6b9fa4d4bf04c7c1c3242d4a5c59ba22525b6761cf89e44becb27c606154bd876040516115019190613f16565b60405180910390a483945050505050611e85565b80868201101561164c577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffc935085876040518082805190602001908083835b6020831015156115795780518252602082019150602081019050602083039250611554565b6001836020036101000a0380198251168184511680821785525050505050509050019150506040518091039020896040518082805190602001908083835b6020831015156115dc57805182526020820191506020810190506020830392506115b7565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f8f6b9fa4d4bf04c7c1c3242d4a5c59ba22525b6761cf89e44becb27c606154bd876040516116389190613f16565b60405180910390a483945050505050611e85565b600061165661301e565b905060008173ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b1580156116bc57600080fd5b505afa1580156116d0573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506116f491908101906139d2565b90508073ffffffffffffffffffffffffffffffffffffffff1663e942b5168b6040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161174b91906141f2565b600060405180830381600087803b15801561176557600080fd5b505af1158015611779573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba748986036040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016117d49190614101565b600060405180830381600087803b1580156117ee57600080fd5b505af1158015611802573d6000803e3d6000fd5b5050505060008273ffffffffffffffffffffffffffffffffffffffff1663bf2b70a18c848673ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561188857600080fd5b505afa15801561189c573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506118c09190810190613980565b6040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016118fa93929190614005565b602060405180830381600087803b15801561191457600080fd5b505af1158015611928573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061194c9190810190613a24565b9050600181141515611a88577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffb9650888a6040518082805190602001908083835b6020831015156119b2578051825260208201915060208101905060208303925061198d565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208c6040518082805190602001908083835b602083101515611a1557805182526020820191506020810190506020830392506119f0565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f8f6b9fa4d4bf04c7c1c3242d4a5c59ba22525b6761cf89e44becb27c606154bd8a604051611a719190613f16565b60405180910390a486975050505050505050611e85565b60008373ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b158015611aec57600080fd5b505afa158015611b00573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611b2491908101906139d2565b90508073ffffffffffffffffffffffffffffffffffffffff1663e942b5168c6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611b7b91906141f2565b600060405180830381600087803b158015611b9557600080fd5b505af1158015611ba9573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba748b87016040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611c049190614101565b600060405180830381600087803b158015611c1e57600080fd5b505af1158015611c32573d6000803e3d6000fd","5b505050508373ffffffffffffffffffffffffffffffffffffffff1663bf2b70a18c838773ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b158015611cb657600080fd5b505afa158015611cca573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611cee9190810190613980565b6040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611d2893929190614005565b602060405180830381600087803b158015611d4257600080fd5b505af1158015611d56573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611d7a9190810190613a24565b50898b6040518082805190602001908083835b602083101515611db25780518252602082019150602081019050602083039250611d8d565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208d6040518082805190602001908083835b602083101515611e155780518252602082019150602081019050602083039250611df0565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f8f6b9fa4d4bf04c7c1c3242d4a5c59ba22525b6761cf89e44becb27c606154bd8b604051611e719190613f16565b60405180910390a487985050505050505050505b9392505050565b611ecc6040805190810160405280601881526020017f726567697374657228737472696e672c75696e743235362900000000000000008152506001610697565b611f0c6040805190810160405280601f81526020017f7472616e7366657228737472696e672c737472696e672c75696e7432353629008152506002610697565b565b611f4c6040805190810160405280601881526020017f726567697374657228737472696e672c75696e74323536290000000000000000815250610768565b611f8a6040805190810160405280601f81526020017f7472616e7366657228737472696e672c737472696e672c75696e743235362900815250610768565b565b6000806000905060008090506000809050611fa68661330a565b15612074577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffd925084866040518082805190602001908083835b6020831015156120055780518252602082019150602081019050602083039250611fe0565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f91c95f04198617c60eaf2180fbca88fc192db379657df0e412a9f7dd4ebbe95d856040516120619190613f16565b60405180910390a38293505050506123f8565b61207d86612bef565b809250819350505060008214151561233257600061209961301e565b905060008173ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b1580156120ff57600080fd5b505afa158015612113573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061213791908101906139d2565b90508073ffffffffffffffffffffffffffffffffffffffff1663e942b516896040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161218e91906141f2565b600060405180830381600087803b1580156121a857600080fd5b505af11580156121bc573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba74886040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016122159190614101565b600060405180830381600087803b15801561222f57600080fd5b505af1158015612243573d6000803e3d6000fd5b5050505060008273ffffffffffffffffffffffffffffffffffffffff166331afac368a846040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016122a0929190613fd5565b602060405180830381600087803b1580156122ba57600080fd5b505af11580156122ce573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506122f29190810190613a24565b90506001811415612306576000955061232a565b7ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe95505b505050612356565b7fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff92505b84866040518082805190602001908083835b60208310151561238d5780518252602082019150602081019050602083039250612368565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f91c95f04198617c60eaf2180fbca88fc192db379657df0e412a9f7dd4ebbe95d856040516123e99190613f16565b60405180910390a38293505050505b92915050565b6000606083518551148015612414575082518551145b1515612455576040517f08c379a000000000000000000000000000000000000000000000000000000000815260040161244c906140c1565b60405180910390fd5b606083516040519080825280602002602001820160405280156124875781602001602082028038833980820191505090505b5090506124926136a1565b60806040519081016040528086516002026040519080825280602002602001820160405280156124d657816020015b60608152602001906001900390816124c15790505b508152602001865160020260405190808252806020026020018201604052801561250f5781602001602082028038833980820191505090505b50815260200186516002026040519080825280602002602001820160405280156125485781602001602082028038833980820191505090505b5081526020016000815250905060008090506000809050600090505b865181101561262f576125be838a8381518110151561257f57fe5b906020019060200201518a8481518110151561259757fe5b906020019060200201518a858151811015156125af57fe5b906020019060200201516133e6565b84828151811015156125cc57fe5b90602001906020020181815250506000821480156126025750600084828151811015156125f557fe5b9060200190602002015114155b1561262257838181518110151561261557fe5b9060200190602002015191505b8080600101915050612564565b60008214156129ee57600061264261301e565b9050600091505b83606001518210156129e85760008173ffffffffffffffffffffffffffffffffffffffff166313db93466040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b1580156126b957600080fd5b505afa1580156126cd573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506126f191908101906139d2565b90508073ffffffffffffffffffffffffffffffffffffffff1663e942b51686600001518581518110151561272157fe5b906020019060200201516040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161276391906141bd565b600060405180830381600087803b15801561277d57600080fd5b505af1158015612791573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff16632ef8ba748660400151858151811015156127c357fe5b906020019060200201516040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016128059190614101565b600060405180830381600087803b15801561281f57600080fd5b505af1158015612833573d6000803e3d6000fd5b5050505060018273ffffffffffffffffffffffffffffffffffffffff1663bf2b70a187600001518681518110151561286757fe5b90602001906020020151848673ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b1580156128d457600080fd5b505afa1580156128e8573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061290c9190810190613980565b6040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161294693929190614043565b602060405180830381600087803b15801561296057600080fd5b505af1158015612974573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506129989190810190613a24565b1415156129da576040517f08c379a00000000000000000000000000000000000000000000000000000000081526004016129d19061412f565b60405180910390fd5b508180600101925050612649565b50612a68565b600090505b8651811015612a675760008482815181101515612a0c57fe5b906020019060200201511415612a5a577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffa8482815181101515612a4b57fe5b90602001906020020181815250505b80806001019150506129f3565b5b600090505b8651811015612bdd578681815181101515612a8457fe5b906020019060200201518882815181101515612a9c57fe5b906020019060200201516040518082805190602001908083835b602083101515612adb5780518252602082019150602081019050602083039250612ab6565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208a83815181101515612b1657fe5b906020019060200201516040518082805190602001908083835b602083101515612b555780518252602082019150602081019050602083039250612b30565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f8f6b9fa4d4bf04c7c1c3242d4a5c59ba22525b6761cf89e44becb27c606154bd8785815181101515612bb157fe5b90602001906020020151604051612bc89190613f16565b60405180910390a48080600101915050612a6d565b81849550955050505050935093915050565b6000806000611001905060008173ffffffffffffffffffffffffffffffffffffffff1663f23f63c96040518163ffffffff167c010000000000000000000000000000","0000000000000000000000000000028152600401612c4e90614227565b60206040518083038186803b158015612c6657600080fd5b505afa158015612c7a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612c9e91908101906139fb565b905060008173ffffffffffffffffffffffffffffffffffffffff1663e8434e39878473ffffffffffffffffffffffffffffffffffffffff16637857d7c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b158015612d2157600080fd5b505afa158015612d35573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612d599190810190613980565b6040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612d92929190613fa5565b60206040518083038186803b158015612daa57600080fd5b505afa158015612dbe573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612de291908101906139a9565b905060008090508173ffffffffffffffffffffffffffffffffffffffff1663949d225d6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b158015612e4b57600080fd5b505afa158015612e5f573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612e839190810190613a24565b60001415612ebd577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff818191509550955050505050613019565b60008273ffffffffffffffffffffffffffffffffffffffff1663846719e060006040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612f159190613f8a565b60206040518083038186803b158015612f2d57600080fd5b505afa158015612f41573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612f6591908101906139d2565b905060008173ffffffffffffffffffffffffffffffffffffffff1663fda69fae6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612fbc906140e1565b60206040518083038186803b158015612fd457600080fd5b505afa158015612fe8573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061300c9190810190613a24565b8191509650965050505050505b915091565b600080611001905060008173ffffffffffffffffffffffffffffffffffffffff1663f23f63c96040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161307b90614227565b60206040518083038186803b15801561309357600080fd5b505afa1580156130a7573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506130cb91908101906139fb565b9050809250505090565b606080839050600080905060008490505b60008114151561310c578180600101925050600a8181151561310457fe5b0490506130e6565b506060816001845101016040519080825280601f01601f1916602001820160405280156131485781602001600182028038833980820191505090505b50905060008090505b83518110156131fe57838181518110151561316857fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f01000000000000000000000000000000000000000000000000000000000000000282828151811015156131c157fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053508080600101915050613151565b507f230000000000000000000000000000000000000000000000000000000000000081845181518110151561322f57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053506000815190505b6000861415156132fd57808060019003915050600a8681151561328557fe5b066030017f01000000000000000000000000000000000000000000000000000000000000000282828151811015156132b957fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a868115156132f557fe5b049550613266565b5080935050505092915050565b6000606082905060008090505b81518110156133da577f2300000000000000000000000000000000000000000000000000000000000000828281518110151561334f57fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff191614156133cd576001925050506133e1565b8080600101915050613317565b5060009150505b919050565b6000806133f386866135b5565b9050600061340187866135b5565b9050600087602001518381518110151561341757fe5b90602001906020020151141515613452577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff925050506135ad565b600087602001518281518110151561346657fe5b906020019060200201511415156134a1577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe925050506135ad565b838760400151838151811015156134b457fe5b9060200190602002015110156134ee577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffd925050506135ad565b86604001518181518110151561350057fe5b906020019060200201518488604001518381518110151561351d57fe5b90602001906020020151011015613558577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffc925050506135ad565b8387604001518381518110151561356b57fe5b90602001906020020181815103915081815250508387604001518281518110151561359257fe5b90602001906020020181815101915081815250506000925050505b949350505050565b6000808280519060200120905060008090505b846060015181101561361557818560000151828151811015156135e757fe5b9060200190602002015180519060200120141561360857809250505061369b565b80806001019150506135c8565b506000846060015190508385600001518281518110151561363257fe5b9060200190602002018190525061364884612bef565b86602001518381518110151561365a57fe5b90602001906020020187604001518481518110151561367557fe5b906020019060200201828152508281525050506001810185606001818152505080925050505b92915050565b608060405190810160405280606081526020016060815260200160608152602001600081525090565b600082601f83011215156136dd57600080fd5b81356136f06136eb826142af565b614282565b9150818183526020840193506020810190508360005b83811015613736578135860161371c8882613829565b845260208401935060208301925050600181019050613706565b5050505092915050565b600082601f830112151561375357600080fd5b8135613766613761826142d7565b614282565b9150818183526020840193506020810190508385602084028201111561378b57600080fd5b60005b838110156137bb57816137a188826138d5565b84526020840193506020830192505060018101905061378e565b5050505092915050565b60006137d182516143d8565b905092915050565b60006137e582516143ea565b905092915050565b60006137f982516143fc565b905092915050565b600061380d825161440e565b905092915050565b60006138218251614420565b905092915050565b600082601f830112151561383c57600080fd5b813561384f61384a826142ff565b614282565b9150808252602083016020830185838301111561386b57600080fd5b61387683828461448e565b50505092915050565b600082601f830112151561389257600080fd5b81356138a56138a08261432b565b614282565b915080825260208301602083018583830111156138c157600080fd5b6138cc83828461448e565b50505092915050565b60006138e1823561442a565b905092915050565b6000806000606084860312156138fe57600080fd5b600084013567ffffffffffffffff81111561391857600080fd5b613924868287016136ca565b935050602084013567ffffffffffffffff81111561394157600080fd5b61394d868287016136ca565b925050604084013567ffffffffffffffff81111561396a57600080fd5b61397686828701613740565b9150509250925092565b60006020828403121561399257600080fd5b60006139a0848285016137c5565b91505092915050565b6000602082840312156139bb57600080fd5b60006139c9848285016137d9565b91505092915050565b6000602082840312156139e457600080fd5b60006139f2848285016137ed565b91505092915050565b600060208284031215613a0d57600080fd5b6000613a1b84828501613801565b91505092915050565b600060208284031215613a3657600080fd5b6000613a4484828501613815565b91505092915050565b600060208284031215613a5f57600080fd5b600082013567ffffffffffffffff811115613a7957600080fd5b613a858482850161387f565b91505092915050565b600080600060608486031215613aa357600080fd5b600084013567ffffffffffffffff811115613abd57600080fd5b613ac98682870161387f565b935050602084013567ffffffffffffffff811115613ae657600080fd5b613af28682870161387f565b9250506040613b03868287016138d5565b9150509250925092565b60008060408385031215613b2057600080fd5b600083013567ffffffffffffffff811115613b3a57600080fd5b613b468582860161387f565b9250506020613b57858286016138d5565b9150509250929050565b613b6a81614392565b82525050565b6000613b7b82614364565b808452602084019350613b8d83614357565b60005b82811015613bbf57613ba3868351613be9565b613bac82614385565b9150602086019550600181019050613b90565b50849250505092915050565b613bd481614434565b82525050565b613be381614458565b82525050565b613bf2816143a4565b82525050565b613c018161447c565b82525050565b6000613c128261437a565b808452613c2681602086016020860161449d565b613c2f816144d0565b6020","85010191505092915050565b6000613c488261436f565b808452613c5c81602086016020860161449d565b613c65816144d0565b602085010191505092915050565b6000600e82527f745f61737365745f7368617264730000000000000000000000000000000000006020830152604082019050919050565b6000601782527f696e7365727420736861726420726f77206661696c65640000000000000000006020830152604082019050919050565b6000601582527f6172726179206c656e677468206d69736d6174636800000000000000000000006020830152604082019050919050565b6000600b82527f61737365745f76616c75650000000000000000000000000000000000000000006020830152604082019050919050565b6000601982527f7570646174652061737365745f76616c7565206661696c6564000000000000006020830152604082019050919050565b6000601482527f75706461746520736861726473206661696c65640000000000000000000000006020830152604082019050919050565b6000600682527f73686172647300000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f6163636f756e74000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f745f6173736574000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601482527f696e7365727420736861726473206661696c65640000000000000000000000006020830152604082019050919050565b613ea2816143ce565b82525050565b6000604082019050613ebd6000830185613b61565b8181036020830152613ecf8184613c07565b90509392505050565b6000606082019050613eed6000830186613b61565b8181036020830152613eff8185613c07565b9050613f0e6040830184613e99565b949350505050565b6000602082019050613f2b6000830184613be9565b92915050565b6000604082019050613f466000830185613be9565b8181036020830152613f588184613b70565b90509392505050565b6000604082019050613f766000830185613be9565b613f836020830184613e99565b9392505050565b6000602082019050613f9f6000830184613bf8565b92915050565b60006040820190508181036000830152613fbf8185613c07565b9050613fce6020830184613bcb565b9392505050565b60006040820190508181036000830152613fef8185613c07565b9050613ffe6020830184613bda565b9392505050565b6000606082019050818103600083015261401f8186613c07565b905061402e6020830185613bda565b61403b6040830184613bcb565b949350505050565b6000606082019050818103600083015261405d8186613c3d565b905061406c6020830185613bda565b6140796040830184613bcb565b949350505050565b6000602082019050818103600083015261409a81613c73565b9050919050565b600060208201905081810360008301526140ba81613caa565b9050919050565b600060208201905081810360008301526140da81613ce1565b9050919050565b600060208201905081810360008301526140fa81613d18565b9050919050565b6000604082019050818103600083015261411a81613d18565b90506141296020830184613be9565b92915050565b6000602082019050818103600083015261414881613d4f565b9050919050565b6000602082019050818103600083015261416881613d86565b9050919050565b6000602082019050818103600083015261418881613dbd565b9050919050565b600060408201905081810360008301526141a881613dbd565b90506141b76020830184613be9565b92915050565b600060408201905081810360008301526141d681613df4565b905081810360208301526141ea8184613c3d565b905092915050565b6000604082019050818103600083015261420b81613df4565b9050818103602083015261421f8184613c07565b905092915050565b6000602082019050818103600083015261424081613e2b565b9050919050565b6000602082019050818103600083015261426081613e62565b9050919050565b600060208201905061427c6000830184613e99565b92915050565b6000604051905081810181811067ffffffffffffffff821117156142a557600080fd5b8060405250919050565b600067ffffffffffffffff8211156142c657600080fd5b602082029050602081019050919050565b600067ffffffffffffffff8211156142ee57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561431657600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff82111561434257600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b600061439d826143ae565b9050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b6000819050919050565b60006143e382614392565b9050919050565b60006143f582614392565b9050919050565b600061440782614392565b9050919050565b600061441982614392565b9050919050565b6000819050919050565b6000819050919050565b600061443f82614446565b9050919050565b6000614451826143ae565b9050919050565b60006144638261446a565b9050919050565b6000614475826143ae565b9050919050565b6000614487826143a4565b9050919050565b82818337600083830152505050565b60005b838110156144bb5780820151818401526020810190506144a0565b838111156144ca576000848401525b50505050565b6000601f19601f830116905091905056fea265627a7a72305820bce68c5cd0cea360bf83acf076cc264bb6e313126492b2b20df93526676dd6916c6578706572696d656e74616cf50037"};
+
+    public static final String BINARY = String.join("", BINARY_ARRAY);
+
+    public static final String[] SM_BINARY_ARRAY = {"60806040526110066000806101000a81548173ffffffffffffffffffffffffffffffffffffffff021916908373ffffffffffffffffffffffffffffffffffffffff1602179055506200005f62000065640100000000026401000000009004565b620003be565b600061100190508073ffffffffffffffffffffffffffffffffffffffff1663c92a78016040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401620000c1906200031c565b602060405180830381600087803b158015620000dc57600080fd5b505af1158015620000f1573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620001179190810190620001dd565b508073ffffffffffffffffffffffffffffffffffffffff1663c92a78016040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016200016d9062000368565b602060405180830381600087803b1580156200018857600080fd5b505af11580156200019d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250620001c39190810190620001dd565b5050565b6000620001d58251620003b4565b905092915050565b600060208284031215620001f057600080fd5b60006200020084828501620001c7565b91505092915050565b6000600b82527f61737365745f76616c75650000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f745f6173736574000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600e82527f745f61737365745f7368617264730000000000000000000000000000000000006020830152604082019050919050565b6000600782527f6163636f756e74000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600682527f73686172647300000000000000000000000000000000000000000000000000006020830152604082019050919050565b60006060820190508181036000830152620003378162000240565b905081810360208301526200034c81620002ae565b90508181036040830152620003618162000209565b9050919050565b60006060820190508181036000830152620003838162000277565b905081810360208301526200039881620002ae565b90508181036040830152620003ad81620002e5565b9050919050565b6000819050919050565b61451a80620003ce6000396000f3fe6080604052600436106100ad576000357c010000000000000000000000000000000000000000000000000000000090048063748e7a1b11610076578063748e7a1b146101d157806394618e4c146101e8578063b433c7ca146101ff578063b4c653e01461023c578063d489acad14610265576100ad565b8062f0e133146100b2578063529a5b35146100db5780635b325d7814610118578063612d2bff1461015657806372e64b1e14610193575b600080fd5b3480156100be57600080fd5b506100d960048036036100d49190810190613a4c565b6102a2565b005b3480156100e757600080fd5b5061010260048036036100fd9190810190613a4c565b610370565b60405161010f9190614266565b60405180910390f35b34801561012457600080fd5b5061013f600480360361013a9190810190613a4c565b610764565b60405161014d929190613f60565b60405180910390f35b34801561016257600080fd5b5061017d60048036036101789190810190613a8d565b610b93565b60405161018a9190613f15565b60405180910390f35b34801561019f57600080fd5b506101ba60048036036101b591908101906138e8565b6118e5565b6040516101c8929190613f30565b60405180910390f35b3480156101dd57600080fd5b506101e66120d6565b005b3480156101f457600080fd5b506101fd612154565b005b34801561020b57600080fd5b5061022660048036036102219190810190613b0c565b6121d6565b6040516102339190613f15565b60405180910390f35b34801561024857600080fd5b50610263600480360361025e9190810190613b0c565b612648565b005b34801561027157600080fd5b5061028c60048036036102879190810190613b0c565b612719565b6040516102999190613f15565b60405180910390f35b6000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663714c65bd30836040518363ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161031a929190613ea7565b602060405180830381600087803b15801561033457600080fd5b505af1158015610348573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061036c9190810190613a23565b5050565b600080611001905060008173ffffffffffffffffffffffffffffffffffffffff166359a48b656040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016103cd9061412e565b60206040518083038186803b1580156103e557600080fd5b505afa1580156103f9573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061041d91908101906139fa565b905060008173ffffffffffffffffffffffffffffffffffffffff1663d8ac5957868473ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b1580156104a057600080fd5b505afa1580156104b4573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506104d8919081019061397f565b6040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610511929190613fa4565b60206040518083038186803b15801561052957600080fd5b505afa15801561053d573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061056191908101906139a8565b90508073ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b1580156105c557600080fd5b505afa1580156105d9573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506105fd9190810190613a23565b60001415610611576001935050505061075f565b8073ffffffffffffffffffffffffffffffffffffffff16633dd2b61460006040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016106679190613f89565b60206040518083038186803b15801561067f57600080fd5b505afa158015610693573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506106b791908101906139d1565b73ffffffffffffffffffffffffffffffffffffffff16634900862e6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161070990614218565b60206040518083038186803b15801561072157600080fd5b505afa158015610735573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506107599190810190613a23565b93505050505b919050565b6000806000611001905060008173ffffffffffffffffffffffffffffffffffffffff166359a48b656040518163ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016107c39061410e565b60206040518083038186803b1580156107db57600080fd5b505afa1580156107ef573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061081391908101906139fa565b905060008173ffffffffffffffffffffffffffffffffffffffff1663d8ac5957878473ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561089657600080fd5b505afa1580156108aa573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506108ce919081019061397f565b6040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610907929190613fa4565b60206040518083038186803b15801561091f57600080fd5b505afa158015610933573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061095791908101906139a8565b905060008090508173ffffffffffffffffffffffffffffffffffffffff1663d3e9af5a6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b1580156109c057600080fd5b505afa1580156109d4573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506109f89190810190613a23565b60001415610a32577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff818191509550955050505050610b8e565b60008273ffffffffffffffffffffffffffffffffffffffff16633dd2b61460006040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610a8a9190613f89565b60206040518083038186803b158015610aa257600080fd5b505afa158015610ab6573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610ada91908101906139d1565b905060008173ffffffffffffffffffffffffffffffffffffffff16634900862e6040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401610b31906140c0565b60206040518083038186803b158015610b4957600080fd5b505afa158015610b5d573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250610b819190810190613a23565b8191509650965050505050505b915091565b60008060009050600080905060008090506000809050610bb288610764565b8093508194505050600083141515610cf1577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff935085876040518082805190602001908083835b602083101515610c1e5780518252602082019150602081019050602083039250610bf9565b6001836020036101000a038019825116818451","1680821785525050505050509050019150506040518091039020896040518082805190602001908083835b602083101515610c815780518252602082019150602081019050602083039250610c5c565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f105af2c562df33af7eaa9de5fb0c18d8d30f281a18f95a8f76b44353a322693c87604051610cdd9190613f15565b60405180910390a4839450505050506118de565b610cfa87610764565b8092508194505050600083141515610e39577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe935085876040518082805190602001908083835b602083101515610d665780518252602082019150602081019050602083039250610d41565b6001836020036101000a0380198251168184511680821785525050505050509050019150506040518091039020896040518082805190602001908083835b602083101515610dc95780518252602082019150602081019050602083039250610da4565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f105af2c562df33af7eaa9de5fb0c18d8d30f281a18f95a8f76b44353a322693c87604051610e259190613f15565b60405180910390a4839450505050506118de565b85821015610f6e577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffd935085876040518082805190602001908083835b602083101515610e9b5780518252602082019150602081019050602083039250610e76565b6001836020036101000a0380198251168184511680821785525050505050509050019150506040518091039020896040518082805190602001908083835b602083101515610efe5780518252602082019150602081019050602083039250610ed9565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f105af2c562df33af7eaa9de5fb0c18d8d30f281a18f95a8f76b44353a322693c87604051610f5a9190613f15565b60405180910390a4839450505050506118de565b8086820110156110a5577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffc935085876040518082805190602001908083835b602083101515610fd25780518252602082019150602081019050602083039250610fad565b6001836020036101000a0380198251168184511680821785525050505050509050019150506040518091039020896040518082805190602001908083835b6020831015156110355780518252602082019150602081019050602083039250611010565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f105af2c562df33af7eaa9de5fb0c18d8d30f281a18f95a8f76b44353a322693c876040516110919190613f15565b60405180910390a4839450505050506118de565b60006110af61301d565b905060008173ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561111557600080fd5b505afa158015611129573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061114d91908101906139d1565b90508073ffffffffffffffffffffffffffffffffffffffff16631a391cb48b6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016111a49190614183565b600060405180830381600087803b1580156111be57600080fd5b505af11580156111d2573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def426988986036040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161122d91906140e0565b600060405180830381600087803b15801561124757600080fd5b505af115801561125b573d6000803e3d6000fd5b5050505060008273ffffffffffffffffffffffffffffffffffffffff1663664b37d68c848673ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b1580156112e157600080fd5b505afa1580156112f5573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611319919081019061397f565b6040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161135393929190614004565b602060405180830381600087803b15801561136d57600080fd5b505af1158015611381573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506113a59190810190613a23565b90506001811415156114e1577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffb9650888a6040518082805190602001908083835b60208310151561140b57805182526020820191506020810190506020830392506113e6565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208c6040518082805190602001908083835b60208310151561146e5780518252602082019150602081019050602083039250611449565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f105af2c562df33af7eaa9de5fb0c18d8d30f281a18f95a8f76b44353a322693c8a6040516114ca9190613f15565b60405180910390a4869750505050505050506118de565b60008373ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561154557600080fd5b505afa158015611559573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061157d91908101906139d1565b90508073ffffffffffffffffffffffffffffffffffffffff16631a391cb48c6040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016115d49190614183565b600060405180830381600087803b1580156115ee57600080fd5b505af1158015611602573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def426988b87016040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161165d91906140e0565b600060405180830381600087803b15801561167757600080fd5b505af115801561168b573d6000803e3d6000fd5b505050508373ffffffffffffffffffffffffffffffffffffffff1663664b37d68c838773ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561170f57600080fd5b505afa158015611723573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611747919081019061397f565b6040518463ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161178193929190614004565b602060405180830381600087803b15801561179b57600080fd5b505af11580156117af573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506117d39190810190613a23565b50898b6040518082805190602001908083835b60208310151561180b57805182526020820191506020810190506020830392506117e6565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208d6040518082805190602001908083835b60208310151561186e5780518252602082019150602081019050602083039250611849565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f105af2c562df33af7eaa9de5fb0c18d8d30f281a18f95a8f76b44353a322693c8b6040516118ca9190613f15565b60405180910390a487985050505050505050505b9392505050565b60006060835185511480156118fb575082518551145b151561193c576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611933906141b8565b60405180910390fd5b6060835160405190808252806020026020018201604052801561196e5781602001602082028038833980820191505090505b5090506119796136a0565b60806040519081016040528086516002026040519080825280602002602001820160405280156119bd57816020015b60608152602001906001900390816119a85790505b50815260200186516002026040519080825280602002602001820160405280156119f65781602001602082028038833980820191505090505b5081526020018651600202604051908082528060200260200182016040528015611a2f5781602001602082028038833980820191505090505b5081526020016000815250905060008090506000809050600090505b8651811015611b1657611aa5838a83815181101515611a6657fe5b906020019060200201518a84815181101515611a7e57fe5b906020019060200201518a85815181101515611a9657fe5b906020019060200201516130d4565b8482815181101515611ab357fe5b9060200190602002018181525050600082148015611ae9575060008482815181101515611adc57fe5b9060200190602002015114155b15611b09578381815181101515611afc57fe5b9060200190602002015191505b8080600101915050611a4b565b6000821415611ed5576000611b2961301d565b9050600091505b8360600151821015611ecf5760008173ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b158015611ba057600080fd5b505afa158015611bb4573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611bd891908101906139d1565b90508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4866000015185815181101515611c0857fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000","000000000000000000028152600401611c4a919061414e565b600060405180830381600087803b158015611c6457600080fd5b505af1158015611c78573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def42698866040015185815181101515611caa57fe5b906020019060200201516040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611cec91906140e0565b600060405180830381600087803b158015611d0657600080fd5b505af1158015611d1a573d6000803e3d6000fd5b5050505060018273ffffffffffffffffffffffffffffffffffffffff1663664b37d6876000015186815181101515611d4e57fe5b90602001906020020151848673ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b158015611dbb57600080fd5b505afa158015611dcf573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611df3919081019061397f565b6040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401611e2d93929190614042565b602060405180830381600087803b158015611e4757600080fd5b505af1158015611e5b573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250611e7f9190810190613a23565b141515611ec1576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401611eb890614080565b60405180910390fd5b508180600101925050611b30565b50611f4f565b600090505b8651811015611f4e5760008482815181101515611ef357fe5b906020019060200201511415611f41577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffa8482815181101515611f3257fe5b90602001906020020181815250505b8080600101915050611eda565b5b600090505b86518110156120c4578681815181101515611f6b57fe5b906020019060200201518882815181101515611f8357fe5b906020019060200201516040518082805190602001908083835b602083101515611fc25780518252602082019150602081019050602083039250611f9d565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390208a83815181101515611ffd57fe5b906020019060200201516040518082805190602001908083835b60208310151561203c5780518252602082019150602081019050602083039250612017565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f105af2c562df33af7eaa9de5fb0c18d8d30f281a18f95a8f76b44353a322693c878581518110151561209857fe5b906020019060200201516040516120af9190613f15565b60405180910390a48080600101915050611f54565b81849550955050505050935093915050565b6121146040805190810160405280601881526020017f726567697374657228737472696e672c75696e743235362900000000000000008152506102a2565b6121526040805190810160405280601f81526020017f7472616e7366657228737472696e672c737472696e672c75696e7432353629008152506102a2565b565b6121946040805190810160405280601881526020017f726567697374657228737472696e672c75696e743235362900000000000000008152506001612648565b6121d46040805190810160405280601f81526020017f7472616e7366657228737472696e672c737472696e672c75696e7432353629008152506002612648565b565b60008060009050600080905060008090506121f0866132a3565b156122be577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffd925084866040518082805190602001908083835b60208310151561224f578051825260208201915060208101905060208303925061222a565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f7ac7a04970319ae8fc5b92fe177d000fee3c00c92f8e78aae13d6571f17c351f856040516122ab9190613f15565b60405180910390a3829350505050612642565b6122c786610764565b809250819350505060008214151561257c5760006122e361301d565b905060008173ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561234957600080fd5b505afa15801561235d573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061238191908101906139d1565b90508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4896040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016123d89190614183565b600060405180830381600087803b1580156123f257600080fd5b505af1158015612406573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def42698886040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161245f91906140e0565b600060405180830381600087803b15801561247957600080fd5b505af115801561248d573d6000803e3d6000fd5b5050505060008273ffffffffffffffffffffffffffffffffffffffff16634c6f30c08a846040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016124ea929190613fd4565b602060405180830381600087803b15801561250457600080fd5b505af1158015612518573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061253c9190810190613a23565b905060018114156125505760009550612574565b7ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe95505b5050506125a0565b7fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff92505b84866040518082805190602001908083835b6020831015156125d757805182526020820191506020810190506020830392506125b2565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f7ac7a04970319ae8fc5b92fe177d000fee3c00c92f8e78aae13d6571f17c351f856040516126339190613f15565b60405180910390a38293505050505b92915050565b6000809054906101000a900473ffffffffffffffffffffffffffffffffffffffff1673ffffffffffffffffffffffffffffffffffffffff1663dc536a623084846040518463ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016126c293929190613ed7565b602060405180830381600087803b1580156126dc57600080fd5b505af11580156126f0573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506127149190810190613a23565b505050565b60008060009050600080905061272e85610764565b809250819350505060008214151561276a577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff92505050613017565b600061277586610370565b9050808510156127aa577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe9350505050613017565b808514156127be5760009350505050613017565b60006127c861301d565b905060008290505b86811015612b2c5760606127e4898361337f565b905060008373ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b15801561284a57600080fd5b505afa15801561285e573d6000803e3d6000fd5b505050506040513d601f19601f8201168201806040525061288291908101906139d1565b90508073ffffffffffffffffffffffffffffffffffffffff16631a391cb4836040518263ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016128d99190614183565b600060405180830381600087803b1580156128f357600080fd5b505af1158015612907573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def4269860006040518263ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161296191906140e0565b600060405180830381600087803b15801561297b57600080fd5b505af115801561298f573d6000803e3d6000fd5b5050505060018473ffffffffffffffffffffffffffffffffffffffff16634c6f30c084846040518363ffffffff167c01000000000000000000000000000000000000000000000000000000000281526004016129ec929190613fd4565b602060405180830381600087803b158015612a0657600080fd5b505af1158015612a1a573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612a3e9190810190613a23565b141515612a80576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612a77906141f8565b60405180910390fd5b6000826040518082805190602001908083835b602083101515612ab85780518252602082019150602081019050602083039250612a93565b6001836020036101000a03801982511681845116808217855250505050505090500191505060405180910390207f7ac7a04970319ae8fc5b92fe177d000fee3c00c92f8e78aae13d6571f17c351f6000604051612b159190613f89565b60405180910390a3505080806001019150506127d0565b506000611001905060008173ffffffffffffffffffffffffffffffffffffffff166359a48b656040518163ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612b899061412e565b60206040518083038186803b158015612ba157600080fd5b505afa158015612bb5573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612bd991908101906139fa565b905060008173ffffffffffffffffffffffffffffffffffffffff16635887ab246040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186","803b158015612c3f57600080fd5b505afa158015612c53573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612c7791908101906139d1565b90508073ffffffffffffffffffffffffffffffffffffffff16631a391cb48b6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612cce9190614183565b600060405180830381600087803b158015612ce857600080fd5b505af1158015612cfc573d6000803e3d6000fd5b505050508073ffffffffffffffffffffffffffffffffffffffff1663def426988a6040518263ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612d559190614238565b600060405180830381600087803b158015612d6f57600080fd5b505af1158015612d83573d6000803e3d6000fd5b505050506001851415612e825760018273ffffffffffffffffffffffffffffffffffffffff16634c6f30c08c846040518363ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612de9929190613fd4565b602060405180830381600087803b158015612e0357600080fd5b505af1158015612e17573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612e3b9190810190613a23565b141515612e7d576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401612e74906141d8565b60405180910390fd5b61300b565b60018273ffffffffffffffffffffffffffffffffffffffff1663664b37d68c848673ffffffffffffffffffffffffffffffffffffffff1663c74f8caf6040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040160206040518083038186803b158015612f0457600080fd5b505afa158015612f18573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612f3c919081019061397f565b6040518463ffffffff167c0100000000000000000000000000000000000000000000000000000000028152600401612f7693929190614004565b602060405180830381600087803b158015612f9057600080fd5b505af1158015612fa4573d6000803e3d6000fd5b505050506040513d601f19601f82011682018060405250612fc89190810190613a23565b14151561300a576040517fc703cb12000000000000000000000000000000000000000000000000000000008152600401613001906140a0565b60405180910390fd5b5b60009750505050505050505b92915050565b600080611001905060008173ffffffffffffffffffffffffffffffffffffffff166359a48b656040518163ffffffff167c010000000000000000000000000000000000000000000000000000000002815260040161307a9061410e565b60206040518083038186803b15801561309257600080fd5b505afa1580156130a6573d6000803e3d6000fd5b505050506040513d601f19601f820116820180604052506130ca91908101906139fa565b9050809250505090565b6000806130e186866135b4565b905060006130ef87866135b4565b9050600087602001518381518110151561310557fe5b90602001906020020151141515613140577fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff9250505061329b565b600087602001518281518110151561315457fe5b9060200190602002015114151561318f577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffe9250505061329b565b838760400151838151811015156131a257fe5b9060200190602002015110156131dc577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffd9250505061329b565b8660400151818151811015156131ee57fe5b906020019060200201518488604001518381518110151561320b57fe5b90602001906020020151011015613246577ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffc9250505061329b565b8387604001518381518110151561325957fe5b90602001906020020181815103915081815250508387604001518281518110151561328057fe5b90602001906020020181815101915081815250506000925050505b949350505050565b6000606082905060008090505b8151811015613373577f230000000000000000000000000000000000000000000000000000000000000082828151811015156132e857fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f0100000000000000000000000000000000000000000000000000000000000000027effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff191614156133665760019250505061337a565b80806001019150506132b0565b5060009150505b919050565b606080839050600080905060008490505b6000811415156133b6578180600101925050600a818115156133ae57fe5b049050613390565b506060816001845101016040519080825280601f01601f1916602001820160405280156133f25781602001600182028038833980820191505090505b50905060008090505b83518110156134a857838181518110151561341257fe5b9060200101517f010000000000000000000000000000000000000000000000000000000000000090047f010000000000000000000000000000000000000000000000000000000000000002828281518110151561346b57fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a90535080806001019150506133fb565b507f23000000000000000000000000000000000000000000000000000000000000008184518151811015156134d957fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a9053506000815190505b6000861415156135a757808060019003915050600a8681151561352f57fe5b066030017f010000000000000000000000000000000000000000000000000000000000000002828281518110151561356357fe5b9060200101907effffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff1916908160001a905350600a8681151561359f57fe5b049550613510565b5080935050505092915050565b6000808280519060200120905060008090505b846060015181101561361457818560000151828151811015156135e657fe5b9060200190602002015180519060200120141561360757809250505061369a565b80806001019150506135c7565b506000846060015190508385600001518281518110151561363157fe5b9060200190602002018190525061364784610764565b86602001518381518110151561365957fe5b90602001906020020187604001518481518110151561367457fe5b906020019060200201828152508281525050506001810185606001818152505080925050505b92915050565b608060405190810160405280606081526020016060815260200160608152602001600081525090565b600082601f83011215156136dc57600080fd5b81356136ef6136ea826142ae565b614281565b9150818183526020840193506020810190508360005b83811015613735578135860161371b8882613828565b845260208401935060208301925050600181019050613705565b5050505092915050565b600082601f830112151561375257600080fd5b8135613765613760826142d6565b614281565b9150818183526020840193506020810190508385602084028201111561378a57600080fd5b60005b838110156137ba57816137a088826138d4565b84526020840193506020830192505060018101905061378d565b5050505092915050565b60006137d082516143d7565b905092915050565b60006137e482516143e9565b905092915050565b60006137f882516143fb565b905092915050565b600061380c825161440d565b905092915050565b6000613820825161441f565b905092915050565b600082601f830112151561383b57600080fd5b813561384e613849826142fe565b614281565b9150808252602083016020830185838301111561386a57600080fd5b61387583828461448d565b50505092915050565b600082601f830112151561389157600080fd5b81356138a461389f8261432a565b614281565b915080825260208301602083018583830111156138c057600080fd5b6138cb83828461448d565b50505092915050565b60006138e08235614429565b905092915050565b6000806000606084860312156138fd57600080fd5b600084013567ffffffffffffffff81111561391757600080fd5b613923868287016136c9565b935050602084013567ffffffffffffffff81111561394057600080fd5b61394c868287016136c9565b925050604084013567ffffffffffffffff81111561396957600080fd5b6139758682870161373f565b9150509250925092565b60006020828403121561399157600080fd5b600061399f848285016137c4565b91505092915050565b6000602082840312156139ba57600080fd5b60006139c8848285016137d8565b91505092915050565b6000602082840312156139e357600080fd5b60006139f1848285016137ec565b91505092915050565b600060208284031215613a0c57600080fd5b6000613a1a84828501613800565b91505092915050565b600060208284031215613a3557600080fd5b6000613a4384828501613814565b91505092915050565b600060208284031215613a5e57600080fd5b600082013567ffffffffffffffff811115613a7857600080fd5b613a848482850161387e565b91505092915050565b600080600060608486031215613aa257600080fd5b600084013567ffffffffffffffff811115613abc57600080fd5b613ac88682870161387e565b935050602084013567ffffffffffffffff811115613ae557600080fd5b613af18682870161387e565b9250506040613b02868287016138d4565b9150509250925092565b60008060408385031215613b1f57600080fd5b600083013567ffffffffffffffff811115613b3957600080fd5b613b458582860161387e565b9250506020613b56858286016138d4565b9150509250929050565b613b6981614391565b82525050565b6000613b7a82614363565b808452602084019350613b8c83614356565b60005b82811015613bbe57613ba2868351613be8565b613bab82614384565b9150602086019550600181019050613b8f565b50849250505092915050565b613bd381614433565b82525050565b613be281614457565b82525050565b613bf1816143a3565b82525050565b613c008161447b565b82525050565b6000613c1182614379565b808452613c2581602086016020860161449c565b613c2e816144cf565b602085","010191505092915050565b6000613c478261436e565b808452613c5b81602086016020860161449c565b613c64816144cf565b602085010191505092915050565b6000601982527f7570646174652061737365745f76616c7565206661696c6564000000000000006020830152604082019050919050565b6000601482527f75706461746520736861726473206661696c65640000000000000000000000006020830152604082019050919050565b6000600b82527f61737365745f76616c75650000000000000000000000000000000000000000006020830152604082019050919050565b6000600782527f745f6173736574000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000600e82527f745f61737365745f7368617264730000000000000000000000000000000000006020830152604082019050919050565b6000600782527f6163636f756e74000000000000000000000000000000000000000000000000006020830152604082019050919050565b6000601582527f6172726179206c656e677468206d69736d6174636800000000000000000000006020830152604082019050919050565b6000601482527f696e7365727420736861726473206661696c65640000000000000000000000006020830152604082019050919050565b6000601782527f696e7365727420736861726420726f77206661696c65640000000000000000006020830152604082019050919050565b6000600682527f73686172647300000000000000000000000000000000000000000000000000006020830152604082019050919050565b613ea1816143cd565b82525050565b6000604082019050613ebc6000830185613b60565b8181036020830152613ece8184613c06565b90509392505050565b6000606082019050613eec6000830186613b60565b8181036020830152613efe8185613c06565b9050613f0d6040830184613e98565b949350505050565b6000602082019050613f2a6000830184613be8565b92915050565b6000604082019050613f456000830185613be8565b8181036020830152613f578184613b6f565b90509392505050565b6000604082019050613f756000830185613be8565b613f826020830184613e98565b9392505050565b6000602082019050613f9e6000830184613bf7565b92915050565b60006040820190508181036000830152613fbe8185613c06565b9050613fcd6020830184613bca565b9392505050565b60006040820190508181036000830152613fee8185613c06565b9050613ffd6020830184613bd9565b9392505050565b6000606082019050818103600083015261401e8186613c06565b905061402d6020830185613bd9565b61403a6040830184613bca565b949350505050565b6000606082019050818103600083015261405c8186613c3c565b905061406b6020830185613bd9565b6140786040830184613bca565b949350505050565b6000602082019050818103600083015261409981613c72565b9050919050565b600060208201905081810360008301526140b981613ca9565b9050919050565b600060208201905081810360008301526140d981613ce0565b9050919050565b600060408201905081810360008301526140f981613ce0565b90506141086020830184613be8565b92915050565b6000602082019050818103600083015261412781613d17565b9050919050565b6000602082019050818103600083015261414781613d4e565b9050919050565b6000604082019050818103600083015261416781613d85565b9050818103602083015261417b8184613c3c565b905092915050565b6000604082019050818103600083015261419c81613d85565b905081810360208301526141b08184613c06565b905092915050565b600060208201905081810360008301526141d181613dbc565b9050919050565b600060208201905081810360008301526141f181613df3565b9050919050565b6000602082019050818103600083015261421181613e2a565b9050919050565b6000602082019050818103600083015261423181613e61565b9050919050565b6000604082019050818103600083015261425181613e61565b90506142606020830184613be8565b92915050565b600060208201905061427b6000830184613e98565b92915050565b6000604051905081810181811067ffffffffffffffff821117156142a457600080fd5b8060405250919050565b600067ffffffffffffffff8211156142c557600080fd5b602082029050602081019050919050565b600067ffffffffffffffff8211156142ed57600080fd5b602082029050602081019050919050565b600067ffffffffffffffff82111561431557600080fd5b601f19601f8301169050602081019050919050565b600067ffffffffffffffff82111561434157600080fd5b601f19601f8301169050602081019050919050565b6000602082019050919050565b600081519050919050565b600081519050919050565b600081519050919050565b6000602082019050919050565b600061439c826143ad565b9050919050565b6000819050919050565b600073ffffffffffffffffffffffffffffffffffffffff82169050919050565b6000819050919050565b60006143e282614391565b9050919050565b60006143f482614391565b9050919050565b600061440682614391565b9050919050565b600061441882614391565b9050919050565b6000819050919050565b6000819050919050565b600061443e82614445565b9050919050565b6000614450826143ad565b9050919050565b600061446282614469565b9050919050565b6000614474826143ad565b9050919050565b6000614486826143a3565b9050919050565b82818337600083830152505050565b60005b838110156144ba57808201518184015260208101905061449f565b838111156144c9576000848401525b50505050565b6000601f19601f830116905091905056fea265627a7a723058201da474b667c8cdacc0c5f06bee56b03e7f65dff3b45c97d491a2e65f6cab042c6c6578706572696d656e74616cf50037"};
+
+    public static final String SM_BINARY = String.join("", SM_BINARY_ARRAY);
+
+    public static final String[] ABI_ARRAY = {"[{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"string\"}],\"name\":\"shards\",\"outputs\":[{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"functionName\",\"type\":\"string\"},{\"name\":\"criticalSize\",\"type\":\"uint256\"}],\"name\":\"registerParallelFunction\",\"outputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"functionName\",\"type\":\"string\"}],\"name\":\"unregisterParallelFunction\",\"outputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"account\",\"type\":\"string\"},{\"name\":\"count\",\"type\":\"uint256\"}],\"name\":\"shard\",\"outputs\":[{\"name\":\"\",\"type\":\"int256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"from_account\",\"type\":\"string\"},{\"name\":\"to_account\",\"type\":\"string\"},{\"name\":\"amount\",\"type\":\"uint256\"}],\"name\":\"transfer\",\"outputs\":[{\"name\":\"\",\"type\":\"int256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[],\"name\":\"enableParallel\",\"outputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[],\"name\":\"disableParallel\",\"outputs\":[],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"account\",\"type\":\"string\"},{\"name\":\"asset_value\",\"type\":\"uint256\"}],\"name\":\"register\",\"outputs\":[{\"name\":\"\",\"type\":\"int256\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":false,\"inputs\":[{\"name\":\"from_accounts\",\"type\":\"string[]\"},{\"name\":\"to_accounts\",\"type\":\"string[]\"},{\"name\":\"amounts\",\"type\":\"uint256[]\"}],\"name\":\"transferBatch\",\"outputs\":[{\"name\":\"\",\"type\":\"int256\"},{\"name\":\"\",\"type\":\"int256[]\"}],\"payable\":false,\"stateMutability\":\"nonpayable\",\"type\":\"function\"},{\"constant\":true,\"inputs\":[{\"name\":\"account\",\"type\":\"string\"}],\"name\":\"select\",\"outputs\":[{\"name\":\"\",\"type\":\"int256\"},{\"name\":\"\",\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"},{\"anonymous\":false,\"inputs\":[{\"indexed\":false,\"name\":\"ret\",\"type\":\"int256\"},{\"indexed\":true,\"name\":\"account\",\"type\":\"string\"},{\"indexed\":true,\"name\":\"asset_value\",\"type\":\"uint256\"}],\"name\":\"RegisterEvent\",\"type\":\"event\"},{\"anonymous\":false,\"inputs\":[{\"indexed\":false,\"name\":\"ret\",\"type\":\"int256\"},{\"indexed\":true,\"name\":\"from_account\",\"type\":\"string\"},{\"indexed\":true,\"name\":\"to_account\",\"type\":\"string\"},{\"indexed\":true,\"name\":\"amount\",\"type\":\"uint256\"}],\"name\":\"TransferEvent\",\"type\":\"event\"}]"};
+
+    public static final String ABI = String.join("", ABI_ARRAY);
+
+    public static final String FUNC_SHARDS = "shards";
+
+    public static final String FUNC_REGISTERPARALLELFUNCTION = "registerParallelFunction";
+
+    public static final String FUNC_UNREGISTERPARALLELFUNCTION = "unregisterParallelFunction";
+
+    public static final String FUNC_SHARD = "shard";
+
+    public static final String FUNC_TRANSFER = "transfer";
+
+    public static final String FUNC_ENABLEPARALLEL = "enableParallel";
+
+    public static final String FUNC_DISABLEPARALLEL = "disableParallel";
+
+    public static final String FUNC_REGISTER = "register";
+
+    public static final String FUNC_TRANSFERBATCH = "transferBatch";
+
+    public static final String FUNC_SELECT = "select";
+
+    public static final Event REGISTEREVENT_EVENT = new Event("RegisterEvent", 
+            Arrays.<TypeReference<?>>asList(new TypeReference<Int256>() {}, new TypeReference<Utf8String>(true) {}, new TypeReference<Uint256>(true) {}));
+    ;
+
+    public static final Event TRANSFEREVENT_EVENT = new Event("TransferEvent", 
+            Arrays.<TypeReference<?>>asList(new TypeReference<Int256>() {}, new TypeReference<Utf8String>(true) {}, new TypeReference<Utf8String>(true) {}, new TypeReference<Uint256>(true) {}));
+    ;
+
+    protected ParallelAsset(String contractAddress, Client client, CryptoKeyPair credential) {
+        super(getBinary(client.getCryptoSuite()), contractAddress, client, credential);
+    }
+
+    public static String getBinary(CryptoSuite cryptoSuite) {
+        return (cryptoSuite.getCryptoTypeConfig() == CryptoType.ECDSA_TYPE ? BINARY : SM_BINARY);
+    }
+
+    public BigInteger shards(String account) throws ContractException {
+        final Function function = new Function(FUNC_SHARDS, 
+                Arrays.<Type>asList(new org.fisco.bcos.sdk.abi.datatypes.Utf8String(account)), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<Uint256>() {}));
+        return executeCallWithSingleValueReturn(function, BigInteger.class);
+    }
+
+    public TransactionReceipt registerParallelFunction(String functionName, BigInteger criticalSize) {
+        final Function function = new Function(
+                FUNC_REGISTERPARALLELFUNCTION, 
+                Arrays.<Type>asList(new org.fisco.bcos.sdk.abi.datatypes.Utf8String(functionName), 
+                new org.fisco.bcos.sdk.abi.datatypes.generated.Uint256(criticalSize)), 
+                Collections.<TypeReference<?>>emptyList());
+        return executeTransaction(function);
+    }
+
+    public void registerParallelFunction(String functionName, BigInteger criticalSize, TransactionCallback callback) {
+        final Function function = new Function(
+                FUNC_REGISTERPARALLELFUNCTION, 
+                Arrays.<Type>asList(new org.fisco.bcos.sdk.abi.datatypes.Utf8String(functionName), 
+                new org.fisco.bcos.sdk.abi.datatypes.generated.Uint256(criticalSize)), 
+                Collections.<TypeReference<?>>emptyList());
+        asyncExecuteTransaction(function, callback);
+    }
+
+    public String getSignedTransactionForRegisterParallelFunction(String functionName, BigInteger criticalSize) {
+        final Function function = new Function(
+                FUNC_REGISTERPARALLELFUNCTION, 
+                Arrays.<Type>asList(new org.fisco.bcos.sdk.abi.datatypes.Utf8String(functionName), 
+                new org.fisco.bcos.sdk.abi.datatypes.generated.Uint256(criticalSize)), 
+                Collections.<TypeReference<?>>emptyList());
+        return createSignedTransaction(function);
+    }
+
+    public Tuple2<String, BigInteger> getRegisterParallelFunctionInput(TransactionReceipt transactionReceipt) {
+        String data = transactionReceipt.getInput().substring(10);
+        final Function function = new Function(FUNC_REGISTERPARALLELFUNCTION, 
+                Arrays.<Type>asList(), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<Utf8String>() {}, new TypeReference<Uint256>() {}));
+        List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+        return new Tuple2<String, BigInteger>(
+
+                (String) results.get(0).getValue(), 
+                (BigInteger) results.get(1).getValue()
+                );
+    }
+
+    public TransactionReceipt unregisterParallelFunction(String functionName) {
+        final Function function = new Function(
+                FUNC_UNREGISTERPARALLELFUNCTION, 
+                Arrays.<Type>asList(new org.fisco.bcos.sdk.abi.datatypes.Utf8String(functionName)), 
+                Collections.<TypeReference<?>>emptyList());
+        return executeTransaction(function);
+    }
+
+    public void unregisterParallelFunction(String functionName, TransactionCallback callback) {
+        final Function function = new Function(
+                FUNC_UNREGISTERPARALLELFUNCTION, 
+                Arrays.<Type>asList(new org.fisco.bcos.sdk.abi.datatypes.Utf8String(functionName)), 
+                Collections.<TypeReference<?>>emptyList());
+        asyncExecuteTransaction(function, callback);
+    }
+
+    public String getSignedTransactionForUnregisterParallelFunction(String functionName) {
+        final Function function = new Function(
+                FUNC_UNREGISTERPARALLELFUNCTION, 
+                Arrays.<Type>asList(new org.fisco.bcos.sdk.abi.datatypes.Utf8String(functionName)), 
+                Collections.<TypeReference<?>>emptyList());
+        return createSignedTransaction(function);
+    }
+
+    public Tuple1<String> getUnregisterParallelFunctionInput(TransactionReceipt transactionReceipt) {
+        String data = transactionReceipt.getInput().substring(10);
+        final Function function = new Function(FUNC_UNREGISTERPARALLELFUNCTION, 
+                Arrays.<Type>asList(), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<Utf8String>() {}));
+        List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+        return new Tuple1<String>(
+
+                (String) results.get(0).getValue()
+                );
+    }
+
+    public TransactionReceipt shard(String account, BigInteger count) {
+        final Function function = new Function(
+                FUNC_SHARD, 
+                Arrays.<Type>asList(new org.fisco.bcos.sdk.abi.datatypes.Utf8String(account), 
+                new org.fisco.bcos.sdk.abi.datatypes.generated.Uint256(count)), 
+                Collections.<TypeReference<?>>emptyList());
+        return executeTransaction(function);
+    }
+
+    public void shard(String account, BigInteger count, TransactionCallback callback) {
+        final Function function = new Function(
+                FUNC_SHARD, 
+                Arrays.<Type>asList(new org.fisco.bcos.sdk.abi.datatypes.Utf8String(account), 
+                new org.fisco.bcos.sdk.abi.datatypes.generated.Uint256(count)), 
+                Collections.<TypeReference<?>>emptyList());
+        asyncExecuteTransaction(function, callback);
+    }
+
+    public String getSignedTransactionForShard(String account, BigInteger count) {
+        final Function function = new Function(
+                FUNC_SHARD, 
+                Arrays.<Type>asList(new org.fisco.bcos.sdk.abi.datatypes.Utf8String(account), 
+                new org.fisco.bcos.sdk.abi.datatypes.generated.Uint256(count)), 
+                Collections.<TypeReference<?>>emptyList());
+        return createSignedTransaction(function);
+    }
+
+    public Tuple2<String, BigInteger> getShardInput(TransactionReceipt transactionReceipt) {
+        String data = transactionReceipt.getInput().substring(10);
+        final Function function = new Function(FUNC_SHARD, 
+                Arrays.<Type>asList(), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<Utf8String>() {}, new TypeReference<Uint256>() {}));
+        List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+        return new Tuple2<String, BigInteger>(
+
+                (String) results.get(0).getValue(), 
+                (BigInteger) results.get(1).getValue()
+                );
+    }
+
+    public Tuple1<BigInteger> getShardOutput(TransactionReceipt transactionReceipt) {
+        String data = transactionReceipt.getOutput();
+        final Function function = new Function(FUNC_SHARD, 
+                Arrays.<Type>asList(), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<Int256>() {}));
+        List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+        return new Tuple1<BigInteger>(
+
+                (BigInteger) results.get(0).getValue()
+                );
+    }
+
+    public TransactionReceipt transfer(String from_account, String to_account, BigInteger amount) {
+        final Function function = new Function(
+                FUNC_TRANSFER, 
+                Arrays.<Type>asList(new org.fisco.bcos.sdk.abi.datatypes.Utf8String(from_account), 
+                new org.fisco.bcos.sdk.abi.datatypes.Utf8String(to_account), 
+                new org.fisco.bcos.sdk.abi.datatypes.generated.Uint256(amount)), 
+                Collections.<TypeReference<?>>emptyList());
+        return executeTransaction(function);
+    }
+
+    public void transfer(String from_account, String to_account, BigInteger amount, TransactionCallback callback) {
+        final Function function = new Function(
+                FUNC_TRANSFER, 
+                Arrays.<Type>asList(new org.fisco.bcos.sdk.abi.datatypes.Utf8String(from_account), 
+                new org.fisco.bcos.sdk.abi.datatypes.Utf8String(to_account), 
+                new org.fisco.bcos.sdk.abi.datatypes.generated.Uint256(amount)), 
+                Collections.<TypeReference<?>>emptyList());
+        asyncExecuteTransaction(function, callback);
+    }
+
+    public String getSignedTransactionForTransfer(String from_account, String to_account, BigInteger amount) {
+        final Function function = new Function(
+                FUNC_TRANSFER, 
+                Arrays.<Type>asList(new org.fisco.bcos.sdk.abi.datatypes.Utf8String(from_account), 
+                new org.fisco.bcos.sdk.abi.datatypes.Utf8String(to_account), 
+                new org.fisco.bcos.sdk.abi.datatypes.generated.Uint256(amount)), 
+                Collections.<TypeReference<?>>emptyList());
+        return createSignedTransaction(function);
+    }
+
+    public Tuple3<String, String, BigInteger> getTransferInput(TransactionReceipt transactionReceipt) {
+        String data = transactionReceipt.getInput().substring(10);
+        final Function function = new Function(FUNC_TRANSFER, 
+                Arrays.<Type>asList(), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<Utf8String>() {}, new TypeReference<Utf8String>() {}, new TypeReference<Uint256>() {}));
+        List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+        return new Tuple3<String, String, BigInteger>(
+
+                (String) results.get(0).getValue(), 
+                (String) results.get(1).getValue(), 
+                (BigInteger) results.get(2).getValue()
+                );
+    }
+
+    public Tuple1<BigInteger> getTransferOutput(TransactionReceipt transactionReceipt) {
+        String data = transactionReceipt.getOutput();
+        final Function function = new Function(FUNC_TRANSFER, 
+                Arrays.<Type>asList(), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<Int256>() {}));
+        List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+        return new Tuple1<BigInteger>(
+
+                (BigInteger) results.get(0).getValue()
+                );
+    }
+
+    public TransactionReceipt enableParallel() {
+        final Function function = new Function(
+                FUNC_ENABLEPARALLEL, 
+                Arrays.<Type>asList(), 
+                Collections.<TypeReference<?>>emptyList());
+        return executeTransaction(function);
+    }
+
+    public void enableParallel(TransactionCallback callback) {
+        final Function function = new Function(
+                FUNC_ENABLEPARALLEL, 
+                Arrays.<Type>asList(), 
+                Collections.<TypeReference<?>>emptyList());
+        asyncExecuteTransaction(function, callback);
+    }
+
+    public String getSignedTransactionForEnableParallel() {
+        final Function function = new Function(
+                FUNC_ENABLEPARALLEL, 
+                Arrays.<Type>asList(), 
+                Collections.<TypeReference<?>>emptyList());
+        return createSignedTransaction(function);
+    }
+
+    public TransactionReceipt disableParallel() {
+        final Function function = new Function(
+                FUNC_DISABLEPARALLEL, 
+                Arrays.<Type>asList(), 
+                Collections.<TypeReference<?>>emptyList());
+        return executeTransaction(function);
+    }
+
+    public void disableParallel(TransactionCallback callback) {
+        final Function function = new Function(
+                FUNC_DISABLEPARALLEL, 
+                Arrays.<Type>asList(), 
+                Collections.<TypeReference<?>>emptyList());
+        asyncExecuteTransaction(function, callback);
+    }
+
+    public String getSignedTransactionForDisableParallel() {
+        final Function function = new Function(
+                FUNC_DISABLEPARALLEL, 
+                Arrays.<Type>asList(), 
+                Collections.<TypeReference<?>>emptyList());
+        return createSignedTransaction(function);
+    }
+
+    public TransactionReceipt register(String account, BigInteger asset_value) {
+        final Function function = new Function(
+                FUNC_REGISTER, 
+                Arrays.<Type>asList(new org.fisco.bcos.sdk.abi.datatypes.Utf8String(account), 
+                new org.fisco.bcos.sdk.abi.datatypes.generated.Uint256(asset_value)), 
+                Collections.<TypeReference<?>>emptyList());
+        return executeTransaction(function);
+    }
+
+    public void register(String account, BigInteger asset_value, TransactionCallback callback) {
+        final Function function = new Function(
+                FUNC_REGISTER, 
+                Arrays.<Type>asList(new org.fisco.bcos.sdk.abi.datatypes.Utf8String(account), 
+                new org.fisco.bcos.sdk.abi.datatypes.generated.Uint256(asset_value)), 
+                Collections.<TypeReference<?>>emptyList());
+        asyncExecuteTransaction(function, callback);
+    }
+
+    public String getSignedTransactionForRegister(String account, BigInteger asset_value) {
+        final Function function = new Function(
+                FUNC_REGISTER, 
+                Arrays.<Type>asList(new org.fisco.bcos.sdk.abi.datatypes.Utf8String(account), 
+                new org.fisco.bcos.sdk.abi.datatypes.generated.Uint256(asset_value)), 
+                Collections.<TypeReference<?>>emptyList());
+        return createSignedTransaction(function);
+    }
+
+    public Tuple2<String, BigInteger> getRegisterInput(TransactionReceipt transactionReceipt) {
+        String data = transactionReceipt.getInput().substring(10);
+        final Function function = new Function(FUNC_REGISTER, 
+                Arrays.<Type>asList(), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<Utf8String>() {}, new TypeReference<Uint256>() {}));
+        List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+        return new Tuple2<String, BigInteger>(
+
+                (String) results.get(0).getValue(), 
+                (BigInteger) results.get(1).getValue()
+                );
+    }
+
+    public Tuple1<BigInteger> getRegisterOutput(TransactionReceipt transactionReceipt) {
+        String data = transactionReceipt.getOutput();
+        final Function function = new Function(FUNC_REGISTER, 
+                Arrays.<Type>asList(), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<Int256>() {}));
+        List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+        return new Tuple1<BigInteger>(
+
+                (BigInteger) results.get(0).getValue()
+                );
+    }
+
+    public TransactionReceipt transferBatch(List<String> from_accounts, List<String> to_accounts, List<BigInteger> amounts) {
+        final Function function = new Function(
+                FUNC_TRANSFERBATCH, 
+                Arrays.<Type>asList(from_accounts.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(from_accounts, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)), 
+                to_accounts.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(to_accounts, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)), 
+                amounts.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("uint256[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.generated.Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(amounts, org.fisco.bcos.sdk.abi.datatypes.generated.Uint256.class))), 
+                Collections.<TypeReference<?>>emptyList());
+        return executeTransaction(function);
+    }
+
+    public void transferBatch(List<String> from_accounts, List<String> to_accounts, List<BigInteger> amounts, TransactionCallback callback) {
+        final Function function = new Function(
+                FUNC_TRANSFERBATCH, 
+                Arrays.<Type>asList(from_accounts.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(from_accounts, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)), 
+                to_accounts.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(to_accounts, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)), 
+                amounts.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("uint256[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.generated.Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(amounts, org.fisco.bcos.sdk.abi.datatypes.generated.Uint256.class))), 
+                Collections.<TypeReference<?>>emptyList());
+        asyncExecuteTransaction(function, callback);
+    }
+
+    public String getSignedTransactionForTransferBatch(List<String> from_accounts, List<String> to_accounts, List<BigInteger> amounts) {
+        final Function function = new Function(
+                FUNC_TRANSFERBATCH, 
+                Arrays.<Type>asList(from_accounts.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(from_accounts, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)), 
+                to_accounts.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("string[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.Utf8String>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(to_accounts, org.fisco.bcos.sdk.abi.datatypes.Utf8String.class)), 
+                amounts.isEmpty()?org.fisco.bcos.sdk.abi.datatypes.DynamicArray.empty("uint256[]"):new org.fisco.bcos.sdk.abi.datatypes.DynamicArray<org.fisco.bcos.sdk.abi.datatypes.generated.Uint256>(
+                        org.fisco.bcos.sdk.abi.Utils.typeMap(amounts, org.fisco.bcos.sdk.abi.datatypes.generated.Uint256.class))), 
+                Collections.<TypeReference<?>>emptyList());
+        return createSignedTransaction(function);
+    }
+
+    public Tuple3<List<String>, List<String>, List<BigInteger>> getTransferBatchInput(TransactionReceipt transactionReceipt) {
+        String data = transactionReceipt.getInput().substring(10);
+        final Function function = new Function(FUNC_TRANSFERBATCH, 
+                Arrays.<Type>asList(), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<DynamicArray<Utf8String>>() {}, new TypeReference<DynamicArray<Utf8String>>() {}, new TypeReference<DynamicArray<Uint256>>() {}));
+        List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+        return new Tuple3<List<String>, List<String>, List<BigInteger>>(
+
+                convertToNative((List<Utf8String>) results.get(0).getValue()), 
+                convertToNative((List<Utf8String>) results.get(1).getValue()), 
+                convertToNative((List<Uint256>) results.get(2).getValue())
+                );
+    }
+
+    public Tuple2<BigInteger, List<BigInteger>> getTransferBatchOutput(TransactionReceipt transactionReceipt) {
+        String data = transactionReceipt.getOutput();
+        final Function function = new Function(FUNC_TRANSFERBATCH, 
+                Arrays.<Type>asList(), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<Int256>() {}, new TypeReference<DynamicArray<Int256>>() {}));
+        List<Type> results = FunctionReturnDecoder.decode(data, function.getOutputParameters());
+        return new Tuple2<BigInteger, List<BigInteger>>(
+
+                (BigInteger) results.get(0).getValue(), 
+                convertToNative((List<Int256>) results.get(1).getValue())
+                );
+    }
+
+    public Tuple2<BigInteger, BigInteger> select(String account) throws ContractException {
+        final Function function = new Function(FUNC_SELECT, 
+                Arrays.<Type>asList(new org.fisco.bcos.sdk.abi.datatypes.Utf8String(account)), 
+                Arrays.<TypeReference<?>>asList(new TypeReference<Int256>() {}, new TypeReference<Uint256>() {}));
+        List<Type> results = executeCallWithMultipleValueReturn(function);
+        return new Tuple2<BigInteger, BigInteger>(
+                (BigInteger) results.get(0).getValue(), 
+                (BigInteger) results.get(1).getValue());
+    }
+
+    public List<RegisterEventEventResponse> getRegisterEventEvents(TransactionReceipt transactionReceipt) {
+        List<Contract.EventValuesWithLog> valueList = extractEventParametersWithLog(REGISTEREVENT_EVENT, transactionReceipt);
+        ArrayList<RegisterEventEventResponse> responses = new ArrayList<RegisterEventEventResponse>(valueList.size());
+        for (Contract.EventValuesWithLog eventValues : valueList) {
+            RegisterEventEventResponse typedResponse = new RegisterEventEventResponse();
+            typedResponse.log = eventValues.getLog();
+            typedResponse.account = (byte[]) eventValues.getIndexedValues().get(0).getValue();
+            typedResponse.asset_value = (BigInteger) eventValues.getIndexedValues().get(1).getValue();
+            typedResponse.ret = (BigInteger) eventValues.getNonIndexedValues().get(0).getValue();
+            responses.add(typedResponse);
+        }
+        return responses;
+    }
+
+    public void subscribeRegisterEventEvent(String fromBlock, String toBlock, List<String> otherTopics, EventCallback callback) {
+        String topic0 = eventEncoder.encode(REGISTEREVENT_EVENT);
+        subscribeEvent(ABI,BINARY,topic0,fromBlock,toBlock,otherTopics,callback);
+    }
+
+    public void subscribeRegisterEventEvent(EventCallback callback) {
+        String topic0 = eventEncoder.encode(REGISTEREVENT_EVENT);
+        subscribeEvent(ABI,BINARY,topic0,callback);
+    }
+
+    public List<TransferEventEventResponse> getTransferEventEvents(TransactionReceipt transactionReceipt) {
+        List<Contract.EventValuesWithLog> valueList = extractEventParametersWithLog(TRANSFEREVENT_EVENT, transactionReceipt);
+        ArrayList<TransferEventEventResponse> responses = new ArrayList<TransferEventEventResponse>(valueList.size());
+        for (Contract.EventValuesWithLog eventValues : valueList) {
+            TransferEventEventResponse typedResponse = new TransferEventEventResponse();
+            typedResponse.log = eventValues.getLog();
+            typedResponse.from_account = (byte[]) eventValues.getIndexedValues().get(0).getValue();
+            typedResponse.to_account = (byte[]) eventValues.getIndexedValues().get(1).getValue();
+            typedResponse.amount = (BigInteger) eventValues.getIndexedValues().get(2).getValue();
+            typedResponse.ret = (BigInteger) eventValues.getNonIndexedValues().get(0).getValue();
+            responses.add(typedResponse);
+        }
+        return responses;
+    }
+
+    public void subscribeTransferEventEvent(String fromBlock, String toBlock, List<String> otherTopics, EventCallback callback) {
+        String topic0 = eventEncoder.encode(TRANSFEREVENT_EVENT);
+        subscribeEvent(ABI,BINARY,topic0,fromBlock,toBlock,otherTopics,callback);
+    }
+
+    public void subscribeTransferEventEvent(EventCallback callback) {
+        String topic0 = eventEncoder.encode(TRANSFEREVENT_EVENT);
+        subscribeEvent(ABI,BINARY,topic0,callback);
+    }
+
+    public static ParallelAsset load(String contractAddress, Client client, CryptoKeyPair credential) {
+        return new ParallelAsset(contractAddress, client, credential);
+    }
+
+    public static ParallelAsset deploy(Client client, CryptoKeyPair credential) throws ContractException {
+        return deploy(ParallelAsset.class, client, credential, getBinary(client.getCryptoSuite()), "");
+    }
+
+    public static class RegisterEventEventResponse {
+        public TransactionReceipt.Logs log;
+
+        public byte[] account;
+
+        public BigInteger asset_value;
+
+        public BigInteger ret;
+    }
+
+    public static class TransferEventEventResponse {
+        public TransactionReceipt.Logs log;
+
+        public byte[] from_account;
+
+        public byte[] to_account;
+
+        public BigInteger amount;
+
+        public BigInteger ret;
+    }
+}
@@ -1,11 +1,10 @@
 pragma solidity >=0.4.24 <0.6.11;
+pragma experimental ABIEncoderV2;
 
 import "./Table.sol";
+import "./Events.sol";
 
-contract Asset {
-    // event
-    event RegisterEvent(int256 ret, string indexed account, uint256 indexed asset_value);
-    event TransferEvent(int256 ret, string indexed from_account, string indexed to_account, uint256 indexed amount);
+contract Asset is AssetEvents {
     
     constructor() public {
         // 构造函数中创建t_asset表
@@ -22,6 +21,9 @@ contract Asset {
         //
         // 创建表
         tf.createTable("t_asset", "account", "asset_value");
+        // 热点账户分片表, key : account, field : shards
+        // 没有记录的账户只有一个分片, 即账户本身的行
+        tf.createTable("t_asset_shards", "account", "shards");
     }
 
     function openTable() internal returns(Table) {
@@ -63,11 +65,17 @@ contract Asset {
             0  资产注册成功
             -1 资产账户已存在
             -2 其他错误
+            -3 账户名含有'#', '#'留给热点账户的分片行
     */
     function register(string memory account, uint256 asset_value) public returns(int256){
         int256 ret_code = 0;
         int256 ret= 0;
         uint256 temp_asset_value = 0;
+        if (hasShardSeparator(account)) {
+            ret_code = -3;
+            emit RegisterEvent(ret_code, account, asset_value);
+            return ret_code;
+        }
         // 查询账号是否存在
         (ret, temp_asset_value) = select(account);
         if(ret != 0) {
@@ -95,6 +103,102 @@ contract Asset {
         return ret_code;
     }
 
+    /*
+    描述 : 查询资产账户的分片数
+    参数 ：
+            account : 资产账户
+    返回值：
+            分片数, 未分片的账户为1
+    */
+    function shards(string memory account) public view returns(uint256) {
+        TableFactory tf = TableFactory(0x1001);
+        Table table = tf.openTable("t_asset_shards");
+        Entries entries = table.select(account, table.newCondition());
+        if (0 == uint256(entries.size())) {
+            return 1;
+        }
+        return uint256(entries.get(0).getInt("shards"));
+    }
+
+    /*
+    描述 : 把资产账户分散到count个分片行 account, account#1 .. account#count-1,
+           新增的分片行余额为0, 各有一个RegisterEvent; 原有余额留在account行
+    参数 ：
+            account : 资产账户
+            count   : 分片数, 只能增加, 否则去掉的分片行仍有余额
+    返回值：
+            0  成功
+            -1 资产账户不存在
+            -2 分片数小于当前分片数
+    */
+    function shard(string memory account, uint256 count) public returns(int256) {
+        int256 ret = 0;
+        uint256 temp_asset_value = 0;
+        (ret, temp_asset_value) = select(account);
+        if (ret != 0) {
+            return -1;
+        }
+        uint256 current = shards(account);
+        if (count < current) {
+            return -2;
+        }
+        if (count == current) {
+            return 0;
+        }
+
+        Table table = openTable();
+        for (uint256 i = current; i < count; i++) {
+            string memory row = shardRow(account, i);
+            Entry entry = table.newEntry();
+            entry.set("account", row);
+            entry.set("asset_value", int256(0));
+            // 插入失败时整个交易回滚
+            require(table.insert(row, entry) == 1, "insert shard row failed");
+            emit RegisterEvent(0, row, 0);
+        }
+
+        TableFactory tf = TableFactory(0x1001);
+        Table shardTable = tf.openTable("t_asset_shards");
+        Entry shardEntry = shardTable.newEntry();
+        shardEntry.set("account", account);
+        shardEntry.set("shards", int256(count));
+        if (current == 1) {
+            require(shardTable.insert(account, shardEntry) == 1, "insert shards failed");
+        } else {
+            require(shardTable.update(account, shardEntry, shardTable.newCondition()) == 1, "update shards failed");
+        }
+        return 0;
+    }
+
+    // 第index个分片行的账户名, index大于0
+    function shardRow(string memory account, uint256 index) internal pure returns(string memory) {
+        bytes memory name = bytes(account);
+        uint256 digits = 0;
+        for (uint256 v = index; v != 0; v /= 10) {
+            digits++;
+        }
+        bytes memory row = new bytes(name.length + 1 + digits);
+        for (uint256 j = 0; j < name.length; j++) {
+            row[j] = name[j];
+        }
+        row[name.length] = "#";
+        for (uint256 k = row.length; index != 0; index /= 10) {
+            k--;
+            row[k] = byte(uint8(48 + index % 10));
+        }
+        return string(row);
+    }
+
+    function hasShardSeparator(string memory account) internal pure returns(bool) {
+        bytes memory name = bytes(account);
+        for (uint256 i = 0; i < name.length; i++) {
+            if (name[i] == "#") {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /*
     描述 : 资产转移
     参数 ： 
@@ -173,4 +277,95 @@ contract Asset {
 
         return ret_code;
     }
+
+    /*
+    描述 : 多笔资产转移, 全部执行或全部不执行
+    参数 ：
+            from_accounts : 每笔的转移资产账户
+            to_accounts   : 每笔的接收资产账户
+            amounts       : 每笔的转移金额
+    返回值：
+            参数一： 0 全部转移成功, 否则为第一笔失败的返回码, 此时所有余额都不变
+            参数二： 每笔的返回码, 与transfer相同, 另有
+                    -6 本笔可以执行, 但因其他笔失败而未执行
+    说明 : 每笔按顺序在前面各笔执行后的余额上校验, 涉及的每个账户只查询一次、更新一次;
+           每笔都有一个TransferEvent, 只有返回码为0的才已执行
+    */
+    // 一批转移涉及的账户, 查询结果和执行中的余额, accounts[0..count)有效
+    struct Balances {
+        string[] accounts;
+        int256[] found;
+        uint256[] values;
+        uint256 count;
+    }
+
+    function transferBatch(string[] memory from_accounts, string[] memory to_accounts, uint256[] memory amounts) public returns(int256, int256[] memory) {
+        require(from_accounts.length == to_accounts.length && from_accounts.length == amounts.length, "array length mismatch");
+        int256[] memory ret_codes = new int256[](amounts.length);
+        Balances memory balances = Balances(new string[](2 * amounts.length), new int256[](2 * amounts.length), new uint256[](2 * amounts.length), 0);
+        int256 ret_code = 0;
+        uint256 i = 0;
+
+        for (i = 0; i < amounts.length; i++) {
+            ret_codes[i] = settle(balances, from_accounts[i], to_accounts[i], amounts[i]);
+            if (ret_code == 0 && ret_codes[i] != 0) {
+                ret_code = ret_codes[i];
+            }
+        }
+
+        if (ret_code == 0) {
+            Table table = openTable();
+            for (i = 0; i < balances.count; i++) {
+                Entry entry = table.newEntry();
+                entry.set("account", balances.accounts[i]);
+                entry.set("asset_value", int256(balances.values[i]));
+                // 更新失败时整个交易回滚, 已更新的账户一并恢复
+                require(table.update(balances.accounts[i], entry, table.newCondition()) == 1, "update asset_value failed");
+            }
+        } else {
+            for (i = 0; i < amounts.length; i++) {
+                if (ret_codes[i] == 0) {
+                    ret_codes[i] = -6;
+                }
+            }
+        }
+
+        for (i = 0; i < amounts.length; i++) {
+            emit TransferEvent(ret_codes[i], from_accounts[i], to_accounts[i], amounts[i]);
+        }
+        return (ret_code, ret_codes);
+    }
+
+    // 在balances上执行一笔转移, 返回码与transfer相同; 失败时余额不变
+    function settle(Balances memory balances, string memory from_account, string memory to_account, uint256 amount) internal view returns(int256) {
+        uint256 f = accountIndex(balances, from_account);
+        uint256 t = accountIndex(balances, to_account);
+        if (balances.found[f] != 0) {
+            return -1;
+        } else if (balances.found[t] != 0) {
+            return -2;
+        } else if (balances.values[f] < amount) {
+            return -3;
+        } else if (balances.values[t] + amount < balances.values[t]) {
+            return -4;
+        }
+        balances.values[f] -= amount;
+        balances.values[t] += amount;
+        return 0;
+    }
+
+    // account在balances.accounts中的位置, 不在其中时追加并查询其余额
+    function accountIndex(Balances memory balances, string memory account) internal view returns(uint256) {
+        bytes32 key = keccak256(bytes(account));
+        for (uint256 j = 0; j < balances.count; j++) {
+            if (keccak256(bytes(balances.accounts[j])) == key) {
+                return j;
+            }
+        }
+        uint256 index = balances.count;
+        balances.accounts[index] = account;
+        (balances.found[index], balances.values[index]) = select(account);
+        balances.count = index + 1;
+        return index;
+    }
 }
@@ -1,10 +1,10 @@
 pragma solidity >=0.4.24 <0.6.11;
+pragma experimental ABIEncoderV2;
 
 import "./Table.sol";
+import "./Events.sol";
 
-contract Authorization {
-    // event
-    event RegisterEvent(int256 ret, string indexed account_id, string  public_key, string  resource_data, string  sig_data);
+contract Authorization is AuthorizationEvents {
     
     constructor() public {
         createTable();
@@ -22,7 +22,7 @@ contract Authorization {
     }
 
 
-    function select(string memory account_id) public view returns(int256, string , string , string) {
+    function select(string memory account_id) public view returns(int256, string memory, string memory, string memory) {
         TableFactory tf = TableFactory(0x1001);
         Table table = tf.openTable("t_resource");
         Entries entries = table.select(account_id, table.newCondition());
@@ -36,7 +36,30 @@ contract Authorization {
         }
     }
 
-    function register(string memory account_id, string  public_key, string  resource_data, string  sig_data) public returns(int256){
+    // select of every account_ids[i]; codes[i] is -1 and the fields are empty for an account that is not registered
+    function selectBatch(string[] memory account_ids) public view returns(int256[] memory, string[] memory, string[] memory, string[] memory) {
+        TableFactory tf = TableFactory(0x1001);
+        Table table = tf.openTable("t_resource");
+        int256[] memory codes = new int256[](account_ids.length);
+        string[] memory public_keys = new string[](account_ids.length);
+        string[] memory resource_datas = new string[](account_ids.length);
+        string[] memory sig_datas = new string[](account_ids.length);
+        for (uint256 i = 0; i < account_ids.length; i++) {
+            Entries entries = table.select(account_ids[i], table.newCondition());
+            if (0 == uint256(entries.size())) {
+                codes[i] = -1;
+            } else {
+                Entry entry = entries.get(0);
+                codes[i] = 0;
+                public_keys[i] = entry.getString("public_key");
+                resource_datas[i] = entry.getString("resource_data");
+                sig_datas[i] = entry.getString("sig_data");
+            }
+        }
+        return (codes, public_keys, resource_datas, sig_datas);
+    }
+
+    function register(string memory account_id, string memory public_key, string memory resource_data, string memory sig_data) public returns(int256){
         int256 ret_code = 0;
         int256 ret= 0;
         string memory temp_value = "";
@@ -61,6 +84,33 @@ contract Authorization {
         return ret_code;
     }
 
+    // registers account_ids[i] with the i-th element of the other arrays, one RegisterEvent and one ret code per item
+    function registerBatch(string[] memory account_ids, string[] memory public_keys, string[] memory resource_datas, string[] memory sig_datas) public returns(int256[] memory){
+        require(account_ids.length == public_keys.length && account_ids.length == resource_datas.length && account_ids.length == sig_datas.length, "array length mismatch");
+        int256[] memory ret_codes = new int256[](account_ids.length);
+        Table table = openTable();
+        for (uint256 i = 0; i < account_ids.length; i++) {
+            Entries entries = table.select(account_ids[i], table.newCondition());
+            if (0 == uint256(entries.size())) {
+                Entry entry = table.newEntry();
+                entry.set("account_id", account_ids[i]);
+                entry.set("public_key", public_keys[i]);
+                entry.set("resource_data", resource_datas[i]);
+                entry.set("sig_data", sig_datas[i]);
+                int count = table.insert(account_ids[i], entry);
+                if (count == 1) {
+                    ret_codes[i] = 0;
+                } else {
+                    ret_codes[i] = -2;
+                }
+            } else {
+                ret_codes[i] = -1;
+            }
+            emit RegisterEvent(ret_codes[i], account_ids[i], public_keys[i], resource_datas[i], sig_datas[i]);
+        }
+        return ret_codes;
+    }
+
     
 }
 
@@ -0,0 +1,25 @@
+pragma solidity >=0.4.24 <0.6.11;
+pragma experimental ABIEncoderV2;
+
+import "./Asset.sol";
+import "./ParallelContract.sol";
+
+/*
+    可并行执行的Asset: 与Asset相同的t_asset表、接口和事件, 部署后调用enableParallel,
+    节点即按互斥参数把同一区块内不冲突的交易并行执行。
+    互斥参数必须是函数的前N个参数:
+        register(account, asset_value)          : account
+        transfer(from_account, to_account, ...) : from_account, to_account
+*/
+contract ParallelAsset is ParallelContract, Asset {
+
+    function enableParallel() public {
+        registerParallelFunction("register(string,uint256)", 1);
+        registerParallelFunction("transfer(string,string,uint256)", 2);
+    }
+
+    function disableParallel() public {
+        unregisterParallelFunction("register(string,uint256)");
+        unregisterParallelFunction("transfer(string,string,uint256)");
+    }
+}
@@ -0,0 +1,22 @@
+pragma solidity >=0.4.24 <0.6.11;
+
+contract ParallelConfigPrecompiled {
+    function registerParallelFunctionInternal(address, string memory, uint256) public returns (int);
+    function unregisterParallelFunctionInternal(address, string memory) public returns (int);
+}
+
+// 并行合约基类: 向0x1006预编译合约登记可并行的函数及其互斥参数个数
+contract ParallelContract {
+    ParallelConfigPrecompiled precompiled = ParallelConfigPrecompiled(0x1006);
+
+    function registerParallelFunction(string memory functionName, uint256 criticalSize) public {
+        precompiled.registerParallelFunctionInternal(address(this), functionName, criticalSize);
+    }
+
+    function unregisterParallelFunction(string memory functionName) public {
+        precompiled.unregisterParallelFunctionInternal(address(this), functionName);
+    }
+
+    function enableParallel() public;
+    function disableParallel() public;
+}
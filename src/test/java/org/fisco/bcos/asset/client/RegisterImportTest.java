@@ -0,0 +1,164 @@
+package org.fisco.bcos.asset.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.fisco.bcos.sdk.model.TransactionReceipt;
+import org.fisco.bcos.sdk.model.callback.TransactionCallback;
+import org.junit.Test;
+
+public class RegisterImportTest {
+
+  // answers every register at once with ret 0 and keeps the accounts it was given
+  private static class RecordingRegistrar implements RegisterImport.Registrar {
+    final List<String> accounts = new ArrayList<String>();
+
+    @Override
+    public void register(String accountId, String publicKey, String info, String sigData, TransactionCallback callback) {
+      accounts.add(accountId);
+      callback.onResponse(new TransactionReceipt());
+    }
+
+    @Override
+    public BigInteger retOf(TransactionReceipt receipt) {
+      return BigInteger.ZERO;
+    }
+  }
+
+  private final RegisterImport parser = new RegisterImport(null, 1, 1000);
+
+  private static void write(File file, String text) throws IOException {
+    FileOutputStream out = new FileOutputStream(file);
+    try {
+      out.write(text.getBytes(StandardCharsets.UTF_8));
+    } finally {
+      out.close();
+    }
+  }
+
+  @Test
+  public void csvInfoKeepsItsCommas() throws Exception {
+    RegisterImport.Row row = parser.parse("alice,04ab,Phone+1667727772,Hobby:Football,3045ff");
+    assertEquals("alice", row.accountId);
+    assertEquals("04ab", row.publicKey);
+    assertEquals("Phone+1667727772,Hobby:Football", row.info);
+    assertEquals("3045ff", row.sigData);
+  }
+
+  @Test
+  public void csvTrimsAccountKeyAndSignature() throws Exception {
+    RegisterImport.Row row = parser.parse("  bob , 04cd ,info, 3045ee \r");
+    assertEquals("bob", row.accountId);
+    assertEquals("04cd", row.publicKey);
+    assertEquals("info", row.info);
+    assertEquals("3045ee", row.sigData);
+  }
+
+  @Test
+  public void csvEmptyInfo() throws Exception {
+    assertEquals("", parser.parse("carol,04ef,,3045dd").info);
+  }
+
+  @Test(expected = IOException.class)
+  public void csvWithoutInfoIsRejected() throws Exception {
+    parser.parse("dave,04ab,3045ff");
+  }
+
+  @Test
+  public void ndjsonTakesTheInfoOfEitherTable() throws Exception {
+    RegisterImport.Row row =
+        parser.parse("{\"account_id\":\"erin\",\"public_key\":\"04ab\",\"user_info\":\"a,b\",\"sig_data\":\"30\"}");
+    assertEquals("erin", row.accountId);
+    assertEquals("04ab", row.publicKey);
+    assertEquals("a,b", row.info);
+    assertEquals("30", row.sigData);
+    assertEquals(
+        "cas:xyz",
+        parser.parse("{\"account_id\":\"f\",\"public_key\":\"k\",\"resource_data\":\"cas:xyz\",\"sig_data\":\"s\"}").info);
+    assertEquals("i", parser.parse("{\"account_id\":\"g\",\"public_key\":\"k\",\"info\":\"i\",\"sig_data\":\"s\"}").info);
+    assertEquals("", parser.parse("{\"account_id\":\"h\",\"public_key\":\"k\",\"sig_data\":\"s\"}").info);
+  }
+
+  @Test(expected = IOException.class)
+  public void ndjsonWithoutSignatureIsRejected() throws Exception {
+    parser.parse("{\"account_id\":\"erin\",\"public_key\":\"04ab\"}");
+  }
+
+  @Test
+  public void blankCommentAndHeaderLinesCarryNoRow() throws Exception {
+    for (String line : Arrays.asList("", "   ", "# exported rows", "account_id,public_key,info,sig_data", "account,key,info,sig")) {
+      assertNull(line, parser.parse(line));
+    }
+  }
+
+  @Test
+  public void checkpointMovesOnlyOverTheContiguousPrefix() throws Exception {
+    RegisterImport window = new RegisterImport(null, 3, 1000);
+    long first = window.issue(10);
+    long second = window.issue(25);
+    long third = window.issue(40);
+
+    window.acknowledge(third);
+    window.acknowledge(second);
+    assertEquals(0, window.getCheckpointOffset());
+    assertEquals(0, window.getCheckpointLine());
+
+    window.acknowledge(first);
+    assertEquals(40, window.getCheckpointOffset());
+    assertEquals(3, window.getCheckpointLine());
+
+    // the slots are reused once the window has moved on
+    long fourth = window.issue(52);
+    long fifth = window.issue(60);
+    window.acknowledge(fifth);
+    assertEquals(40, window.getCheckpointOffset());
+    window.acknowledge(fourth);
+    assertEquals(60, window.getCheckpointOffset());
+    assertEquals(5, window.getCheckpointLine());
+  }
+
+  @Test
+  public void resumesTheSameFileAndRefusesAChangedOne() throws Exception {
+    File dir = Files.createTempDirectory("register-import").toFile();
+    File file = new File(dir, "rows.csv");
+    File checkpoint = RegisterImport.checkpointOf(file.getPath());
+    try {
+      write(file, "account_id,public_key,info,sig_data\nu1,k,i,s\n\nu2,k,i,s\n");
+      RecordingRegistrar registrar = new RecordingRegistrar();
+      assertTrue(new RegisterImport(registrar, 2, 1000).run(file.getPath()));
+      assertEquals(Arrays.asList("u1", "u2"), registrar.accounts);
+
+      // nothing is left after the checkpoint of a complete run
+      RecordingRegistrar again = new RecordingRegistrar();
+      RegisterImport resumed = new RegisterImport(again, 2, 1000);
+      assertTrue(resumed.run(file.getPath()));
+      assertTrue(again.accounts.isEmpty());
+      assertEquals(file.length(), resumed.getCheckpointOffset());
+
+      write(file, "account_id,public_key,info,sig_data\nu9,k,i,s\n");
+      file.setLastModified(file.lastModified() + 2000);
+      RecordingRegistrar changed = new RecordingRegistrar();
+      try {
+        new RegisterImport(changed, 2, 1000).run(file.getPath());
+        fail("a checkpoint of another file was used");
+      } catch (IOException e) {
+        assertTrue(changed.accounts.isEmpty());
+      }
+    } finally {
+      checkpoint.delete();
+      file.delete();
+      dir.delete();
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package org.fisco.bcos.asset.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+public class TransferNettingTest {
+
+  private static List<TransferNetting.Leg> net(String... transfers) {
+    List<String> froms = new ArrayList<String>();
+    List<String> tos = new ArrayList<String>();
+    List<BigInteger> amounts = new ArrayList<BigInteger>();
+    for (String transfer : transfers) {
+      String[] parts = transfer.split(" ");
+      froms.add(parts[0]);
+      tos.add(parts[1]);
+      amounts.add(new BigInteger(parts[2]));
+    }
+    return TransferNetting.net(froms, tos, amounts);
+  }
+
+  private static void assertLeg(TransferNetting.Leg leg, String from, String to, long amount) {
+    assertEquals(from, leg.from);
+    assertEquals(to, leg.to);
+    assertEquals(BigInteger.valueOf(amount), leg.amount);
+  }
+
+  private static void addDelta(Map<String, BigInteger> deltas, String account, BigInteger amount) {
+    BigInteger delta = deltas.get(account);
+    deltas.put(account, (delta == null ? BigInteger.ZERO : delta).add(amount));
+  }
+
+  @Test
+  public void singleTransferIsOneLeg() {
+    List<TransferNetting.Leg> legs = net("a b 5");
+    assertEquals(1, legs.size());
+    assertLeg(legs.get(0), "a", "b", 5);
+  }
+
+  @Test
+  public void opposingTransfersNetToTheDifference() {
+    List<TransferNetting.Leg> legs = net("a b 5", "b a 3");
+    assertEquals(1, legs.size());
+    assertLeg(legs.get(0), "a", "b", 2);
+  }
+
+  @Test
+  public void cancellingAccountsGetSelfLegs() {
+    List<TransferNetting.Leg> legs = net("a b 4", "b c 4", "c a 4");
+    assertEquals(3, legs.size());
+    assertLeg(legs.get(0), "a", "a", 0);
+    assertLeg(legs.get(1), "b", "b", 0);
+    assertLeg(legs.get(2), "c", "c", 0);
+  }
+
+  @Test
+  public void transferToItselfIsASelfLeg() {
+    List<TransferNetting.Leg> legs = net("a a 7");
+    assertEquals(1, legs.size());
+    assertLeg(legs.get(0), "a", "a", 0);
+  }
+
+  @Test
+  public void payersAndPayeesInTheOrderFirstSeen() {
+    List<TransferNetting.Leg> legs = net("a c 3", "b c 2", "a d 1");
+    assertEquals(3, legs.size());
+    assertLeg(legs.get(0), "a", "c", 4);
+    assertLeg(legs.get(1), "b", "c", 1);
+    assertLeg(legs.get(2), "b", "d", 1);
+  }
+
+  @Test
+  public void noTransfersNoLegs() {
+    assertEquals(0, net().size());
+  }
+
+  @Test
+  public void randomWindowsKeepTheDeltasWithFewerLegsThanAccounts() {
+    Random r = new Random(7);
+    for (int round = 0; round < 200; round++) {
+      List<String> froms = new ArrayList<String>();
+      List<String> tos = new ArrayList<String>();
+      List<BigInteger> amounts = new ArrayList<BigInteger>();
+      Map<String, BigInteger> expected = new HashMap<String, BigInteger>();
+      Set<String> accounts = new HashSet<String>();
+      int count = 1 + r.nextInt(50);
+      for (int i = 0; i < count; i++) {
+        String from = "user" + r.nextInt(12);
+        String to = "user" + r.nextInt(12);
+        BigInteger amount = BigInteger.valueOf(r.nextInt(100));
+        froms.add(from);
+        tos.add(to);
+        amounts.add(amount);
+        addDelta(expected, from, amount.negate());
+        addDelta(expected, to, amount);
+        accounts.addAll(Arrays.asList(from, to));
+      }
+
+      List<TransferNetting.Leg> legs = TransferNetting.net(froms, tos, amounts);
+      Map<String, BigInteger> actual = new HashMap<String, BigInteger>();
+      Set<String> covered = new HashSet<String>();
+      int selfLegs = 0;
+      for (TransferNetting.Leg leg : legs) {
+        assertTrue(leg.amount.signum() >= 0);
+        if (leg.from.equals(leg.to)) {
+          assertEquals(BigInteger.ZERO, leg.amount);
+          selfLegs++;
+        }
+        addDelta(actual, leg.from, leg.amount.negate());
+        addDelta(actual, leg.to, leg.amount);
+        covered.add(leg.from);
+        covered.add(leg.to);
+      }
+      assertEquals(expected, actual);
+      // every account is checked by some leg
+      assertEquals(accounts, covered);
+      // each transfer leg settles a payer or a payee completely, and the last settles both
+      int moved = accounts.size() - selfLegs;
+      assertTrue(legs.size() - selfLegs <= Math.max(0, moved - 1));
+    }
+  }
+}
@@ -0,0 +1,19 @@
+pragma solidity >=0.4.24 <0.6.11;
+
+/*
+    各合约的事件: 单独放在未开启ABIEncoderV2的文件中。
+    开启ABIEncoderV2时编译器不接受string类型的indexed参数, 而account_id等字段的topic
+    (keccak256)是事件订阅和布隆过滤所依赖的, 因此由合约继承这些事件, 保持事件签名和topic不变。
+*/
+contract AssetEvents {
+    event RegisterEvent(int256 ret, string indexed account, uint256 indexed asset_value);
+    event TransferEvent(int256 ret, string indexed from_account, string indexed to_account, uint256 indexed amount);
+}
+
+contract AuthenticationEvents {
+    event RegisterEvent(int256 ret, string indexed account_id, string  public_key, string  user_info, string  sig_data);
+}
+
+contract AuthorizationEvents {
+    event RegisterEvent(int256 ret, string indexed account_id, string  public_key, string  resource_data, string  sig_data);
+}